@@ -0,0 +1,19 @@
+-- Adds the client event id used to deduplicate retried game stat writes.
+--
+-- Only needed for databases that were not created by Hibernate after this change,
+-- i.e. not with ddl-auto=create-drop. Run it once, with the application stopped:
+--
+--   psql -d tournaments -f devops/sql/game-stat-event-id.sql
+--
+-- Existing rows keep a null event id; Postgres allows any number of nulls in a
+-- unique column, so only new writes that carry an id are constrained.
+
+BEGIN;
+
+ALTER TABLE game_stat ADD COLUMN IF NOT EXISTS event_id uuid;
+-- the name must match GameStat.EVENT_ID_CONSTRAINT, which maps a duplicate to 409;
+-- game_stat_event_id_key is the name an earlier version of this script used
+ALTER TABLE game_stat DROP CONSTRAINT IF EXISTS game_stat_event_id_key;
+ALTER TABLE game_stat ADD CONSTRAINT uk_game_stat_event_id UNIQUE (event_id);
+
+COMMIT;
@@ -0,0 +1,44 @@
+-- Switches the id sequences of an existing database from increment 1 to the
+-- blocks of 50 that the entities now allocate (pooled-lo optimizer).
+--
+-- Only needed for databases that were not created by Hibernate after this change,
+-- i.e. not with ddl-auto=create-drop. Run it once, with the application stopped:
+--
+--   psql -d tournaments -f devops/sql/pooled-sequences.sql
+--
+-- Each sequence is first moved to at least the highest id in use, so the next
+-- block of 50 it hands out starts above every existing row.
+
+BEGIN;
+
+SELECT setval('app_user_sequence', GREATEST((SELECT COALESCE(MAX(id), 0) FROM app_user), (SELECT last_value FROM app_user_sequence)));
+ALTER SEQUENCE app_user_sequence INCREMENT BY 50;
+
+SELECT setval('team_sequence', GREATEST((SELECT COALESCE(MAX(id), 0) FROM team), (SELECT last_value FROM team_sequence)));
+ALTER SEQUENCE team_sequence INCREMENT BY 50;
+
+SELECT setval('league_sequence', GREATEST((SELECT COALESCE(MAX(id), 0) FROM league), (SELECT last_value FROM league_sequence)));
+ALTER SEQUENCE league_sequence INCREMENT BY 50;
+
+SELECT setval('game_sequence', GREATEST((SELECT COALESCE(MAX(id), 0) FROM game), (SELECT last_value FROM game_sequence)));
+ALTER SEQUENCE game_sequence INCREMENT BY 50;
+
+SELECT setval('game_stat_sequence', GREATEST((SELECT COALESCE(MAX(id), 0) FROM game_stat), (SELECT last_value FROM game_stat_sequence)));
+ALTER SEQUENCE game_stat_sequence INCREMENT BY 50;
+
+SELECT setval('team_invite_sequence', GREATEST((SELECT COALESCE(MAX(id), 0) FROM team_invite), (SELECT last_value FROM team_invite_sequence)));
+ALTER SEQUENCE team_invite_sequence INCREMENT BY 50;
+
+SELECT setval('application_sequence', GREATEST((SELECT COALESCE(MAX(id), 0) FROM application), (SELECT last_value FROM application_sequence)));
+ALTER SEQUENCE application_sequence INCREMENT BY 50;
+
+SELECT setval('confirmation_token_sequence', GREATEST((SELECT COALESCE(MAX(id), 0) FROM confirmation_token), (SELECT last_value FROM confirmation_token_sequence)));
+ALTER SEQUENCE confirmation_token_sequence INCREMENT BY 50;
+
+SELECT setval('refresh_token_sequence', GREATEST((SELECT COALESCE(MAX(id), 0) FROM refresh_token), (SELECT last_value FROM refresh_token_sequence)));
+ALTER SEQUENCE refresh_token_sequence INCREMENT BY 50;
+
+SELECT setval('reset_token_sequence', GREATEST((SELECT COALESCE(MAX(id), 0) FROM reset_token), (SELECT last_value FROM reset_token_sequence)));
+ALTER SEQUENCE reset_token_sequence INCREMENT BY 50;
+
+COMMIT;
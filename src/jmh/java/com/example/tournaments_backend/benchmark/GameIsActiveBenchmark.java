@@ -0,0 +1,40 @@
+package com.example.tournaments_backend.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.tournaments_backend.game.Game;
+
+/**
+ * Game.isActive() runs on every game stat write, single or bulk.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameIsActiveBenchmark {
+    private Game game;
+
+    @Setup
+    public void setup() {
+        game = new Game(LocalDateTime.now().minusHours(1), "Field 1", 90);
+    }
+
+    @Benchmark
+    public boolean isActive() {
+        return game.isActive();
+    }
+}
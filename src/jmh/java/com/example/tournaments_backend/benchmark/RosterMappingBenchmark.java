@@ -0,0 +1,73 @@
+package com.example.tournaments_backend.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerDTO;
+import com.example.tournaments_backend.player.Position;
+import com.example.tournaments_backend.team.Team;
+import com.example.tournaments_backend.team.TeamDTO;
+
+/**
+ * Entity to DTO mapping of a team with a large roster.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RosterMappingBenchmark {
+    @Param({"25", "500"})
+    private int rosterSize;
+
+    private Team team;
+    private List<Player> players;
+
+    @Setup
+    public void setup() {
+        Player owner = new Player("Owner", "Doe", "owner@test.com", "password", AppUserRole.PLAYER, Position.GOAL_KEEPER);
+        owner.setId(1L);
+        team = new Team("Team");
+        team.setId(1L);
+        team.setOwner(owner);
+        players = new ArrayList<>();
+        for (int i = 0; i < rosterSize; i++) {
+            Player player = new Player("First" + i, "Last" + i, "player" + i + "@test.com", "password", AppUserRole.PLAYER, Position.STRIKER);
+            player.setId(i + 2L);
+            team.addPlayer(player);
+            players.add(player);
+        }
+        for (int i = 0; i < 3; i++) {
+            League league = new League("League " + i, null, 10);
+            league.setId(i + 1L);
+            league.addTeam(team);
+        }
+    }
+
+    @Benchmark
+    public TeamDTO teamDTO() {
+        return new TeamDTO(team);
+    }
+
+    @Benchmark
+    public List<PlayerDTO> playerDTOs() {
+        return PlayerDTO.convert(players);
+    }
+}
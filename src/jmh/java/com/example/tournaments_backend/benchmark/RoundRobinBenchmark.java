@@ -0,0 +1,35 @@
+package com.example.tournaments_backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.tournaments_backend.fixture.RoundRobin;
+
+/**
+ * Double round-robin pairings, from a typical 20-team league up to 1,000 teams (999,000 games).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoundRobinBenchmark {
+    @Param({"20", "1000"})
+    private int teams;
+
+    @Benchmark
+    public RoundRobin generate() {
+        return RoundRobin.generate(teams, 2);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.tournaments_backend.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.season_stats.SeasonGames;
+import com.example.tournaments_backend.season_stats.SeasonStatsAggregator;
+
+/**
+ * Season stats aggregation over 10M synthetic stat rows, in one aggregator and split
+ * into partitions merged at the end as SeasonStatsService does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Benchmark)
+public class SeasonStatsBenchmark {
+    private static final int EVENTS = 10_000_000;
+    private static final int GAMES = 20_000;
+    private static final int TEAMS = 2_000;
+    private static final int PLAYERS = 40_000;
+    private static final int LEAGUES = 50;
+
+    @Param({"1", "4", "8"})
+    private int partitions;
+
+    private SeasonGames seasonGames;
+    private long[] playerIds;
+    private long[] gameIds;
+    private int[] types;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        seasonGames = new SeasonGames(GAMES, PLAYERS);
+        for (int game = 1; game <= GAMES; game++) {
+            long home = random.nextInt(TEAMS) + 1;
+            long away = home % TEAMS + 1;
+            seasonGames.addGame(game, random.nextInt(LEAGUES) + 1, home, away);
+        }
+        for (int player = 1; player <= PLAYERS; player++) {
+            seasonGames.addRosterEntry(player % TEAMS + 1, player);
+        }
+        playerIds = new long[EVENTS];
+        gameIds = new long[EVENTS];
+        types = new int[EVENTS];
+        int typeCount = GameStatType.values().length;
+        for (int i = 0; i < EVENTS; i++) {
+            playerIds[i] = random.nextInt(PLAYERS) + 1;
+            gameIds[i] = random.nextInt(GAMES) + 1;
+            types[i] = random.nextInt(typeCount);
+        }
+    }
+
+    @Benchmark
+    public SeasonStatsAggregator aggregate() {
+        int step = (EVENTS + partitions - 1) / partitions;
+        return IntStream.range(0, partitions)
+            .parallel()
+            .mapToObj(partition -> aggregateRange(partition * step, Math.min((partition + 1) * step, EVENTS)))
+            .reduce(SeasonStatsAggregator::merge)
+            .orElseThrow();
+    }
+
+    private SeasonStatsAggregator aggregateRange(int from, int to) {
+        SeasonStatsAggregator aggregator = new SeasonStatsAggregator(seasonGames, PLAYERS);
+        for (int i = from; i < to; i++) {
+            aggregator.accept(playerIds[i], gameIds[i], types[i]);
+        }
+        return aggregator;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.tournaments_backend.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.tournaments_backend.swiss.SwissPairing;
+import com.example.tournaments_backend.swiss.SwissRound;
+
+/**
+ * Pairing the next Swiss round after a number of played rounds with random results,
+ * for an open event of 5,000 teams.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SwissPairingBenchmark {
+    @Param({"5000"})
+    private int teams;
+
+    @Param({"0", "8"})
+    private int playedRounds;
+
+    private SwissPairing pairing;
+
+    @Setup
+    public void setUp() {
+        pairing = new SwissPairing(teams);
+        Random random = new Random(42);
+        for (int round = 0; round < playedRounds; round++) {
+            SwissRound swissRound = pairing.pairRound(Long.MAX_VALUE);
+            for (int game = 0; game < swissRound.getGameCount(); game++) {
+                int result = random.nextInt(3);
+                pairing.addGame(swissRound.homeTeam(game), swissRound.awayTeam(game),
+                    result == 0 ? 3 : result == 1 ? 1 : 0, result == 2 ? 3 : result == 1 ? 1 : 0);
+            }
+        }
+    }
+
+    @Benchmark
+    public SwissRound pairRound() {
+        return pairing.pairRound(Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.tournaments_backend.benchmark;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.game_stat.GameStat;
+import com.example.tournaments_backend.game_stat.GameStatDedupIndex;
+import com.example.tournaments_backend.game_stat.GameStatRepository;
+import com.example.tournaments_backend.game_stat.GameStatService;
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.game_stat.GameStatUpdateRequest;
+import com.example.tournaments_backend.game_stat.GameStatUpdateResponse;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerRepository;
+import com.example.tournaments_backend.player.Position;
+import com.example.tournaments_backend.team.Team;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * In-JVM cost of a bulk game stat update: validation, snapshots, events and the response
+ * mapping. Repositories are stub-only mocks, which do not record invocations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UpdateGameStatsBenchmark {
+    @Param({"10", "200"})
+    private int batchSize;
+
+    private GameStatService gameStatService;
+    private List<GameStatUpdateRequest> requests;
+
+    @Setup
+    public void setup() {
+        League league = new League("League", null, 10);
+        league.setId(1L);
+        Team homeTeam = new Team("Home");
+        homeTeam.setId(1L);
+        Team awayTeam = new Team("Away");
+        awayTeam.setId(2L);
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("America/Los_Angeles")).toLocalDateTime();
+        // stays active for the whole run
+        Game game = new Game(now.minusHours(1), "Field 1", 24 * 60);
+        game.setId(1L);
+        game.setLeague(league);
+        game.setHomeTeam(homeTeam);
+        game.setAwayTeam(awayTeam);
+
+        Player homePlayer = new Player("Home", "Player", "home@test.com", "password", AppUserRole.PLAYER, Position.STRIKER);
+        homePlayer.setId(1L);
+        homeTeam.addPlayer(homePlayer);
+        Player awayPlayer = new Player("Away", "Player", "away@test.com", "password", AppUserRole.PLAYER, Position.STRIKER);
+        awayPlayer.setId(2L);
+        awayTeam.addPlayer(awayPlayer);
+
+        List<GameStat> gameStats = new ArrayList<>();
+        requests = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            Player player = i % 2 == 0 ? homePlayer : awayPlayer;
+            GameStat gameStat = new GameStat(GameStatType.GOAL, now);
+            gameStat.setId(i + 1L);
+            gameStat.setGame(game);
+            gameStat.setPlayer(player);
+            gameStats.add(gameStat);
+            requests.add(new GameStatUpdateRequest(gameStat.getId(), game.getId(), player.getId(), GameStatType.YELLOW_CARD, now));
+        }
+
+        GameStatRepository gameStatRepository = mock(GameStatRepository.class, withSettings().stubOnly());
+        GameRepository gameRepository = mock(GameRepository.class, withSettings().stubOnly());
+        PlayerRepository playerRepository = mock(PlayerRepository.class, withSettings().stubOnly());
+        when(gameStatRepository.findAllById(any())).thenReturn(gameStats);
+        when(gameStatRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(gameRepository.findAllById(any())).thenReturn(List.of(game));
+        when(playerRepository.findWithTeamsByIdIn(any())).thenReturn(List.of(homePlayer, awayPlayer));
+        gameStatService = new GameStatService(gameStatRepository, gameRepository, playerRepository, event -> {}, new GameStatDedupIndex(600_000, 50_000),
+            mock(EntityManager.class, withSettings().stubOnly()),
+            mock(PlatformTransactionManager.class, withSettings().stubOnly()));
+    }
+
+    @Benchmark
+    public GameStatUpdateResponse updateGameStats() {
+        return gameStatService.updateGameStats(requests);
+    }
+}
@@ -6,13 +6,17 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import com.example.tournaments_backend.auth.tokens.confirmationToken.ConfirmationToken;
 import com.example.tournaments_backend.auth.tokens.refreshToken.RefreshToken;
+import com.example.tournaments_backend.cache.CacheRegions;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -32,6 +36,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.APP_USER)
 @Table(name = "app_user")
 @Getter
 @Setter
@@ -43,7 +49,7 @@ public class AppUser implements UserDetails {
     @SequenceGenerator(
         name="app_user_sequence",
         sequenceName="app_user_sequence",
-        allocationSize = 1
+        allocationSize = 50
     )
     @GeneratedValue(
         strategy = GenerationType.SEQUENCE,
@@ -1,6 +1,7 @@
 package com.example.tournaments_backend.app_user;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -14,15 +15,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import com.example.tournaments_backend.pagination.CursorPage;
+
 @RestController
 @RequestMapping(path="/api/v1/users")
 @Tag(name = "User Management", description = "API endpoints for managing users")
@@ -55,15 +60,18 @@ public class AppUserController {
         return ResponseEntity.ok(resBody);
     }
 
-    @Operation(summary = "Get all users", description = "Returns a list of all users in the system")
+    @Operation(summary = "Get users", description = "Returns a page of the users in the system ordered by id")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved list of users", 
-                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = AppUser.class))),
+                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - limit is not valid"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated")
     })
     @GetMapping
-    public List<AppUser> getPersons() {
-        return appUserService.getAppUsers();
+    public CursorPage<AppUser> getPersons(
+        @Parameter(description = "Page size, at most " + CursorPage.MAX_LIMIT) @RequestParam(name = "limit", defaultValue = CursorPage.DEFAULT_LIMIT) int limit,
+        @Parameter(description = "Cursor from the previous page") @RequestParam("after") Optional<Long> after) {
+        return appUserService.getAppUsers(limit, after);
     }
 
     @Operation(summary = "Add a new user", description = "Creates a new user in the system")
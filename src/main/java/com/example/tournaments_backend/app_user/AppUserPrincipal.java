@@ -0,0 +1,21 @@
+package com.example.tournaments_backend.app_user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * What ownership and role checks need to know about the caller, without loading the user.
+ */
+@Getter
+@AllArgsConstructor
+public class AppUserPrincipal {
+    private final Long id;
+    private final String email;
+    private final AppUserRole role;
+    // whether the user is also a Player, so it can own and join teams
+    private final boolean player;
+
+    public boolean isAdmin() {
+        return role == AppUserRole.ADMIN;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.tournaments_backend.app_user;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Resolves the subject of a request's JWT to an AppUserPrincipal, from a bounded cache
+ * whose entries expire ttlMs after they were loaded.
+ *
+ * A principal read inside a transaction is only cached once that transaction commits, so
+ * a sign-up that rolls back is never cached. Changes to a user evict it when they are made
+ * and again when their transaction completes; a load that overlapped an eviction is not
+ * cached, so it cannot put the old principal back.
+ */
+@Service
+public class AppUserPrincipalService {
+    private final AppUserRepository appUserRepository;
+    private final Cache<String, AppUserPrincipal> principals;
+    // bumped by every eviction
+    private final AtomicLong evictions = new AtomicLong();
+
+    public AppUserPrincipalService(
+        AppUserRepository appUserRepository,
+        @Value("${app-user.principal-cache.max-size:10000}") long maxSize,
+        @Value("${app-user.principal-cache.ttl-ms:300000}") long ttlMs)
+    {
+        this.appUserRepository = appUserRepository;
+        this.principals = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofMillis(ttlMs))
+            .build();
+    }
+
+    public AppUserPrincipal getPrincipal(Authentication authentication) throws UsernameNotFoundException {
+        return findPrincipal(authentication)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found."));
+    }
+
+    /**
+     * Empty if the user was deleted after the token was issued.
+     */
+    public Optional<AppUserPrincipal> findPrincipal(Authentication authentication) {
+        String email = authentication.getName();
+        AppUserPrincipal principal = principals.getIfPresent(email);
+        if (principal != null) {
+            return Optional.of(principal);
+        }
+        long evictionsBeforeLoad = evictions.get();
+        Optional<AppUserPrincipal> loaded = appUserRepository.findPrincipalByEmail(email);
+        loaded.ifPresent(found -> cacheOnCommit(found, evictionsBeforeLoad));
+        return loaded;
+    }
+
+    /**
+     * Whether the caller is the user with this id, for ownership checks.
+     */
+    public boolean isCaller(Authentication authentication, Long userId) {
+        return findPrincipal(authentication)
+                .map(principal -> principal.getId().equals(userId))
+                .orElse(false);
+    }
+
+    /**
+     * Call whenever a user is changed or deleted. Users are evicted by id, since an update
+     * may change the email the principal is cached under.
+     */
+    public void evict(Long userId) {
+        evictNow(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    private void cacheOnCommit(AppUserPrincipal principal, long evictionsBeforeLoad) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache(principal, evictionsBeforeLoad);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache(principal, evictionsBeforeLoad);
+            }
+        });
+    }
+
+    private void cache(AppUserPrincipal principal, long evictionsBeforeLoad) {
+        principals.asMap().computeIfAbsent(principal.getEmail(), email ->
+            evictions.get() == evictionsBeforeLoad ? principal : null);
+    }
+
+    private void evictNow(Long userId) {
+        evictions.incrementAndGet();
+        principals.asMap().values().removeIf(principal -> principal.getId().equals(userId));
+    }
+}
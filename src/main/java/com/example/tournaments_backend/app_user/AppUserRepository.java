@@ -1,14 +1,25 @@
 package com.example.tournaments_backend.app_user;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 @Transactional
 public interface AppUserRepository extends JpaRepository<AppUser, Long> {
     Optional<AppUser> findAppUserByEmail(String email);
+
+    @Query("SELECT new com.example.tournaments_backend.app_user.AppUserPrincipal(" +
+           "u.id, u.email, u.appUserRole, CASE WHEN TYPE(u) = Player THEN true ELSE false END) " +
+           "FROM AppUser u WHERE u.email = :email")
+    Optional<AppUserPrincipal> findPrincipalByEmail(@Param("email") String email);
+
+    List<AppUser> findByIdGreaterThanOrderByIdAsc(Long after, Pageable pageable);
 }
@@ -14,6 +14,8 @@ import com.example.tournaments_backend.auth.tokens.resetToken.ResetToken;
 import com.example.tournaments_backend.auth.tokens.resetToken.ResetTokenService;
 import com.example.tournaments_backend.exception.ClientErrorKey;
 import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.leaderboard.LeaderboardService;
+import com.example.tournaments_backend.pagination.CursorPage;
 import com.example.tournaments_backend.player.Player;
 import com.example.tournaments_backend.player.PlayerService;
 
@@ -34,9 +36,12 @@ public class AppUserService implements UserDetailsService {
     private final PlayerService playerService;
     private final ConfirmationTokenService confirmationTokenService;
     private final ResetTokenService resetTokenService;
+    private final AppUserPrincipalService appUserPrincipalService;
+    private final LeaderboardService leaderboardService;
 
-    public List<AppUser> getAppUsers() {
-        return appUserRepository.findAll();
+    public CursorPage<AppUser> getAppUsers(int limit, Optional<Long> after) throws ServiceException {
+        List<AppUser> appUsers = appUserRepository.findByIdGreaterThanOrderByIdAsc(CursorPage.after(after), CursorPage.request(limit));
+        return CursorPage.of(appUsers, limit, AppUser::getId);
     }
 
     public AppUser getAppUserByEmail(String email) throws UsernameNotFoundException {
@@ -61,6 +66,8 @@ public class AppUserService implements UserDetailsService {
                 "User with " + userId + " does not exists");
         }
         appUserRepository.deleteById(userId);
+        appUserPrincipalService.evict(userId);
+        leaderboardService.evictPlayerName(userId);
     }
 
     public void updateUser(Long userId, AppUser updatedAppUser) {
@@ -72,6 +79,8 @@ public class AppUserService implements UserDetailsService {
         AppUser updatePerson = optionalAppUser.get();
         updatePerson.setLastName(updatedAppUser.getLastName());
         appUserRepository.save(updatePerson);
+        appUserPrincipalService.evict(userId);
+        leaderboardService.evictPlayerName(userId);
     }
 
     @Override
@@ -148,6 +157,7 @@ public class AppUserService implements UserDetailsService {
                     new UsernameNotFoundException(String.format(USER_NOT_FOUND_MSG, email)));
         user.setEnabled(true);
         appUserRepository.save(user);
+        appUserPrincipalService.evict(user.getId());
     }
 
     public void saveNewPassword(String email, String password) {
@@ -158,5 +168,6 @@ public class AppUserService implements UserDetailsService {
         String encodedPassword = bCryptPasswordEncoder.encode(password);
         user.setPassword(encodedPassword);
         appUserRepository.save(user);
+        appUserPrincipalService.evict(user.getId());
     }
 }
@@ -26,7 +26,7 @@ public class ConfirmationToken {
     @SequenceGenerator(
         name="confirmation_token_sequence",
         sequenceName="confirmation_token_sequence",
-        allocationSize = 1
+        allocationSize = 50
     )
     @GeneratedValue(
         strategy = GenerationType.SEQUENCE,
@@ -24,7 +24,7 @@ public class RefreshToken {
     @SequenceGenerator(
         name="refresh_token_sequence",
         sequenceName="refresh_token_sequence",
-        allocationSize = 1
+        allocationSize = 50
     )
     @GeneratedValue(
         strategy = GenerationType.SEQUENCE,
@@ -25,7 +25,7 @@ public class ResetToken {
     @SequenceGenerator(
         name="reset_token_sequence",
         sequenceName="reset_token_sequence",
-        allocationSize = 1
+        allocationSize = 50
     )
     @GeneratedValue(
         strategy = GenerationType.SEQUENCE,
@@ -0,0 +1,65 @@
+package com.example.tournaments_backend.bracket;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A knockout competition played as a league's games. The whole bracket is one row: its
+ * teams, winners and games are packed into a BracketTree, so rendering it needs no joins.
+ * Games are only created once both of their teams are known, at firstRoundDateTime plus
+ * daysBetweenRounds per round.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+public class Bracket {
+    @Id
+    @SequenceGenerator(
+        name="bracket_sequence",
+        sequenceName="bracket_sequence",
+        allocationSize = 50
+    )
+    @GeneratedValue(
+        strategy = GenerationType.SEQUENCE,
+        generator = "bracket_sequence"
+    )
+    private Long id;
+    // not a foreign key, so deleting the league is not blocked; brackets of deleted leagues stop advancing
+    @Column(nullable = false, unique = true)
+    private Long leagueId;
+    @Column(nullable = false)
+    private Integer size;
+    @Column(nullable = false)
+    private byte[] tree;
+    @Column(nullable = false)
+    private boolean completed;
+    @Column(nullable = false)
+    private LocalDateTime firstRoundDateTime;
+    @Column(nullable = false)
+    private Integer daysBetweenRounds;
+    @Column(nullable = false)
+    private String[] venues;
+    @Column(name = "duration_in_minutes", nullable = false)
+    private Integer durationInMinutes;
+    @Column(nullable = false)
+    private Integer breakInMinutes;
+
+    public Bracket(Long leagueId, BracketRequest request) {
+        this.leagueId = leagueId;
+        this.firstRoundDateTime = request.getFirstRoundDateTime();
+        this.daysBetweenRounds = request.getDaysBetweenRounds();
+        this.venues = request.getVenues().toArray(String[]::new);
+        this.durationInMinutes = request.getDurationInMinutes();
+        this.breakInMinutes = request.getBreakInMinutes();
+    }
+}
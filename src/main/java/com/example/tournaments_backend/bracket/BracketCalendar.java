@@ -0,0 +1,52 @@
+package com.example.tournaments_backend.bracket;
+
+import java.time.LocalDateTime;
+
+/**
+ * When and where each match of a bracket is played. Round r starts on the first round's
+ * day plus r * daysBetweenRounds, and its matches fill the venues in waves that start
+ * durationInMinutes + breakInMinutes apart from the first kick-off time. Waves that do
+ * not start before midnight carry over to the next day, so the large early rounds of a
+ * big cup may take several days.
+ */
+class BracketCalendar {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final LocalDateTime firstRoundDateTime;
+    private final int daysBetweenRounds;
+    private final int slotMinutes;
+    private final String[] venues;
+    private final int wavesPerDay;
+
+    BracketCalendar(LocalDateTime firstRoundDateTime, int daysBetweenRounds, int slotMinutes, String[] venues) {
+        this.firstRoundDateTime = firstRoundDateTime;
+        this.daysBetweenRounds = daysBetweenRounds;
+        this.slotMinutes = slotMinutes;
+        this.venues = venues;
+        int kickOffMinute = firstRoundDateTime.toLocalTime().toSecondOfDay() / 60;
+        this.wavesPerDay = (MINUTES_PER_DAY - 1 - kickOffMinute) / slotMinutes + 1;
+    }
+
+    BracketCalendar(Bracket bracket) {
+        this(bracket.getFirstRoundDateTime(), bracket.getDaysBetweenRounds(),
+            bracket.getDurationInMinutes() + bracket.getBreakInMinutes(), bracket.getVenues());
+    }
+
+    /**
+     * The number of days a round with this many matches is played over.
+     */
+    int daysPerRound(int matches) {
+        int waves = (matches + venues.length - 1) / venues.length;
+        return (waves + wavesPerDay - 1) / wavesPerDay;
+    }
+
+    LocalDateTime kickOff(int round, int matchInRound) {
+        int wave = matchInRound / venues.length;
+        long day = (long) round * daysBetweenRounds + wave / wavesPerDay;
+        return firstRoundDateTime.plusDays(day).plusMinutes((long) (wave % wavesPerDay) * slotMinutes);
+    }
+
+    String venue(int round, int matchInRound) {
+        return venues[(matchInRound + round) % venues.length];
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.tournaments_backend.bracket;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+import com.example.tournaments_backend.exception.ServiceException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping(path="/api/v1/brackets")
+@Tag(name = "Bracket Management", description = "API endpoints for knockout brackets")
+public class BracketController {
+    private final BracketService bracketService;
+
+    @Autowired
+    public BracketController(BracketService bracketService) {
+        this.bracketService = bracketService;
+    }
+
+    @Operation(summary = "Create a knockout bracket", description = "Seeds the league's teams into a single-elimination bracket, giving byes to the top seeds, and creates the first round's games. Later rounds are created as their teams become known.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully created the bracket", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = BracketDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - request is not valid, a seeded team is not in the league, or the first round does not fit before the second",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden - client does not have admin role",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Not found - league with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "409", description = "Conflict - league already has games or a bracket",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @PostMapping
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<BracketDTO> createBracket(@Valid @RequestBody BracketRequest bracketRequest) throws ServiceException {
+        return ResponseEntity.ok(bracketService.createBracket(bracketRequest));
+    }
+
+    @Operation(summary = "Get a bracket", description = "Returns every match of the bracket, first round first, with its teams, game and winner")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved the bracket", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = BracketDTO.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Not found - bracket with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @GetMapping("{bracketId}")
+    public ResponseEntity<BracketDTO> getBracket(
+        @Parameter(description = "The bracket id", required = true) @PathVariable("bracketId") Long bracketId) throws ServiceException
+    {
+        return ResponseEntity.ok(bracketService.getBracket(bracketId));
+    }
+
+    @Operation(summary = "Advance a bracket", description = "Moves the winners of ended games up the bracket and creates the games that are now known, without waiting for the next scheduled run")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully advanced the bracket", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = BracketDTO.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden - client does not have admin role",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Not found - bracket with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @PostMapping("{bracketId}/advance")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<BracketDTO> advanceBracket(
+        @Parameter(description = "The bracket id", required = true) @PathVariable("bracketId") Long bracketId) throws ServiceException
+    {
+        return ResponseEntity.ok(bracketService.advanceBracket(bracketId));
+    }
+
+    @Operation(summary = "Decide a match", description = "Sets the winner of an ended match that finished level, then advances the bracket")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully decided the match", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = BracketDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - match is not in the bracket, has not been played yet, or the team does not play it",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden - client does not have admin role",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Not found - bracket with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "409", description = "Conflict - match already has a winner",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @PostMapping("{bracketId}/matches/{match}/winner")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<BracketDTO> decideMatch(
+        @Parameter(description = "The bracket id", required = true) @PathVariable("bracketId") Long bracketId,
+        @Parameter(description = "The match number; 1 is the final", required = true) @PathVariable("match") int match,
+        @Parameter(description = "The winning team id", required = true) @RequestParam("teamId") Long teamId) throws ServiceException
+    {
+        return ResponseEntity.ok(bracketService.decideMatch(bracketId, match, teamId));
+    }
+}
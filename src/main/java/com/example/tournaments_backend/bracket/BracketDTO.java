@@ -0,0 +1,19 @@
+package com.example.tournaments_backend.bracket;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BracketDTO {
+    private final Long id;
+    private final Long leagueId;
+    private final int size;
+    private final int rounds;
+    private final boolean completed;
+    private final Long championTeamId;
+    // first round first, the final last
+    private final List<BracketMatchDTO> matches;
+}
@@ -0,0 +1,14 @@
+package com.example.tournaments_backend.bracket;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BracketGameRow {
+    private final Long gameId;
+    private final LocalDateTime gameDateTime;
+    private final Integer durationInMinutes;
+}
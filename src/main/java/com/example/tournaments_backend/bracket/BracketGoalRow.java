@@ -0,0 +1,16 @@
+package com.example.tournaments_backend.bracket;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The goals a player scored in a game; BracketService credits them to the home or away
+ * team through the player's rosters.
+ */
+@Getter
+@AllArgsConstructor
+public class BracketGoalRow {
+    private final Long gameId;
+    private final Long playerId;
+    private final Long goals;
+}
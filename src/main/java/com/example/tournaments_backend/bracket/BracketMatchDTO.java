@@ -0,0 +1,19 @@
+package com.example.tournaments_backend.bracket;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One match of a bracket. Team ids are null until decided, gameId until both teams are known.
+ */
+@Getter
+@AllArgsConstructor
+public class BracketMatchDTO {
+    private final int match;
+    private final int round;
+    private final Long homeTeamId;
+    private final Long awayTeamId;
+    private final Long gameId;
+    private final Long winnerTeamId;
+    private final boolean bye;
+}
@@ -0,0 +1,43 @@
+package com.example.tournaments_backend.bracket;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.standings.RosterRow;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface BracketRepository extends JpaRepository<Bracket, Long> {
+    boolean existsByLeagueId(Long leagueId);
+
+    // the scheduled advance and an admin deciding a draw may rewrite the same tree
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Bracket b WHERE b.id = :bracketId")
+    Optional<Bracket> findForUpdateById(@Param("bracketId") Long bracketId);
+
+    @Query("SELECT b.id FROM Bracket b WHERE b.completed = false AND " +
+           "EXISTS (SELECT l.id FROM League l WHERE l.id = b.leagueId) ORDER BY b.id")
+    List<Long> findOpenBracketIds();
+
+    @Query("SELECT new com.example.tournaments_backend.bracket.BracketGameRow(g.id, g.gameDateTime, g.durationInMinutes) " +
+           "FROM Game g WHERE g.id IN :gameIds")
+    List<BracketGameRow> findGameRowsByIds(@Param("gameIds") Collection<Long> gameIds);
+
+    @Query("SELECT new com.example.tournaments_backend.bracket.BracketGoalRow(gs.game.id, gs.player.id, COUNT(gs)) " +
+           "FROM GameStat gs WHERE gs.game.id IN :gameIds AND gs.type = :type " +
+           "GROUP BY gs.game.id, gs.player.id")
+    List<BracketGoalRow> findGoalRowsByGameIds(@Param("gameIds") Collection<Long> gameIds, @Param("type") GameStatType type);
+
+    @Query("SELECT new com.example.tournaments_backend.standings.RosterRow(t.id, p.id) " +
+           "FROM Player p JOIN p.teams t WHERE t.id IN :teamIds")
+    List<RosterRow> findRosterRowsByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+}
@@ -0,0 +1,42 @@
+package com.example.tournaments_backend.bracket;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class BracketRequest {
+    @NotNull
+    private Long leagueId;
+    // best seed first; the league's other teams follow by id. Null or empty seeds by id only.
+    private List<@NotNull Long> seededTeamIds;
+    // first kick-off of the first round
+    @NotNull
+    private LocalDateTime firstRoundDateTime;
+    @NotNull
+    @Min(value = 1, message = "Rounds must be at least 1 day apart.")
+    @Max(value = 60, message = "Rounds must be at most 60 days apart.")
+    private Integer daysBetweenRounds;
+    // game addresses, used in turn
+    @NotEmpty
+    private List<@NotNull @Size(min = 2, max = 255, message = "Venue address must be between 2 and 255 characters.") String> venues;
+    @NotNull
+    @Min(value = 20, message = "Game duration must be at least 20 minutes.")
+    @Max(value = 90, message = "Game duration must be at most 90 minutes.")
+    private Integer durationInMinutes;
+    // between two games at the same venue
+    @NotNull
+    @Min(value = 0, message = "Break must not be negative.")
+    @Max(value = 240, message = "Break must be at most 240 minutes.")
+    private Integer breakInMinutes;
+}
@@ -0,0 +1,375 @@
+package com.example.tournaments_backend.bracket;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.game_stat.GameStatSnapshot;
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.league.LeagueChangedEvent;
+import com.example.tournaments_backend.league.LeagueRepository;
+import com.example.tournaments_backend.scheduling.SchedulingService;
+import com.example.tournaments_backend.standings.RosterRow;
+import com.example.tournaments_backend.team.Team;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Runs knockout competitions on top of a league's games. Creating a bracket seeds the
+ * league's teams and schedules the first round; from then on each advance reads the
+ * results of the ended games in three queries, moves the winners up the tree and creates
+ * the games of the matches whose teams have just become known, reserving their slots with
+ * SchedulingService. A goal counts for the home or away team the scorer is rostered on, as
+ * in the standings. A draw is left for an admin to decide, since games have no extra time
+ * or penalties. The scheduled run advances each bracket in its own transaction, so one
+ * failing bracket does not hold the others back.
+ */
+@Service
+public class BracketService {
+    private final static Logger LOGGER = LoggerFactory.getLogger(BracketService.class);
+    private static final ZoneId GAME_ZONE = ZoneId.of("America/Los_Angeles");
+
+    private final BracketRepository bracketRepository;
+    private final LeagueRepository leagueRepository;
+    private final GameRepository gameRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulingService schedulingService;
+    private final TransactionTemplate bracketTransaction;
+
+    public BracketService(
+        BracketRepository bracketRepository,
+        LeagueRepository leagueRepository,
+        GameRepository gameRepository,
+        EntityManager entityManager,
+        ApplicationEventPublisher eventPublisher,
+        SchedulingService schedulingService,
+        PlatformTransactionManager transactionManager)
+    {
+        this.bracketRepository = bracketRepository;
+        this.leagueRepository = leagueRepository;
+        this.gameRepository = gameRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.schedulingService = schedulingService;
+        this.bracketTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional
+    public BracketDTO createBracket(BracketRequest request) throws ServiceException {
+        Long leagueId = request.getLeagueId();
+        League league = leagueRepository
+                .findById(leagueId)
+                .orElseThrow(() -> new ServiceException(
+                    HttpStatus.NOT_FOUND,
+                    ClientErrorKey.LEAGUE_NOT_FOUND,
+                    "League",
+                    "League with id = " + leagueId + " not found"
+                ));
+        if (gameRepository.existsByLeagueId(leagueId) || bracketRepository.existsByLeagueId(leagueId)) {
+            throw new ServiceException(
+                HttpStatus.CONFLICT,
+                ClientErrorKey.LEAGUE_ALREADY_SCHEDULED,
+                "League",
+                "League with id = " + leagueId + " already has games or a bracket"
+            );
+        }
+        // ordered by id so unseeded teams always get the same places
+        List<Long> teamIds = league.getTeams().stream()
+                .map(Team::getId)
+                .sorted(Comparator.naturalOrder())
+                .toList();
+        if (teamIds.size() < 2 || teamIds.size() > BracketTree.MAX_SIZE) {
+            throw validationFailed("A bracket needs between 2 and " + BracketTree.MAX_SIZE + " teams, but the league has " + teamIds.size());
+        }
+        BracketTree tree = BracketTree.seed(seedOrder(teamIds, request.getSeededTeamIds()));
+
+        Bracket bracket = new Bracket(leagueId, request);
+        bracket.setSize(tree.getSize());
+        BracketCalendar calendar = new BracketCalendar(bracket);
+        int firstRoundDays = calendar.daysPerRound(tree.getSize() / 2);
+        if (tree.getRoundCount() > 1 && firstRoundDays > request.getDaysBetweenRounds()) {
+            throw validationFailed("The first round takes " + firstRoundDays + " days at " + request.getVenues().size()
+                + " venues, but rounds are " + request.getDaysBetweenRounds() + " days apart; add venues or space the rounds out");
+        }
+        bracket.setTree(tree.encode());
+        bracketRepository.save(bracket);
+        advance(bracket, tree);
+        return toDTO(bracket, tree);
+    }
+
+    public BracketDTO getBracket(Long bracketId) throws ServiceException {
+        Bracket bracket = bracketRepository
+                .findById(bracketId)
+                .orElseThrow(() -> bracketNotFound(bracketId));
+        return toDTO(bracket, BracketTree.decode(bracket.getTree()));
+    }
+
+    /**
+     * Advances the bracket right away instead of waiting for the next scheduled run.
+     */
+    @Transactional
+    public BracketDTO advanceBracket(Long bracketId) throws ServiceException {
+        Bracket bracket = bracketRepository
+                .findForUpdateById(bracketId)
+                .orElseThrow(() -> bracketNotFound(bracketId));
+        BracketTree tree = BracketTree.decode(bracket.getTree());
+        advance(bracket, tree);
+        return toDTO(bracket, tree);
+    }
+
+    /**
+     * Sets the winner of an ended match that the goals did not decide, then advances the bracket.
+     */
+    @Transactional
+    public BracketDTO decideMatch(Long bracketId, int match, Long teamId) throws ServiceException {
+        Bracket bracket = bracketRepository
+                .findForUpdateById(bracketId)
+                .orElseThrow(() -> bracketNotFound(bracketId));
+        BracketTree tree = BracketTree.decode(bracket.getTree());
+        if (match < 1 || match > tree.getMatchCount()) {
+            throw validationFailed("Match must be between 1 and " + tree.getMatchCount());
+        }
+        if (tree.getWinnerTeamId(match) != BracketTree.NONE) {
+            throw new ServiceException(
+                HttpStatus.CONFLICT,
+                ClientErrorKey.BRACKET_MATCH_DECIDED,
+                "Bracket",
+                "Match " + match + " already has a winner"
+            );
+        }
+        long gameId = tree.getGameId(match);
+        List<BracketGameRow> games = gameId != BracketTree.NONE
+                ? bracketRepository.findGameRowsByIds(List.of(gameId))
+                : List.of();
+        if (games.isEmpty() || !hasEnded(games.get(0), now())) {
+            throw new ServiceException(
+                HttpStatus.BAD_REQUEST,
+                ClientErrorKey.GAME_NOT_ENDED,
+                "Game",
+                "Match " + match + " has not been played yet."
+            );
+        }
+        if (teamId != tree.getHomeTeamId(match) && teamId != tree.getAwayTeamId(match)) {
+            throw validationFailed("Team with id = " + teamId + " does not play match " + match);
+        }
+        tree.setWinner(match, teamId);
+        advance(bracket, tree);
+        return toDTO(bracket, tree);
+    }
+
+    @Scheduled(fixedDelayString = "${bracket.advance-interval-ms:60000}")
+    public void advanceOpenBrackets() {
+        for (Long bracketId : bracketRepository.findOpenBracketIds()) {
+            try {
+                bracketTransaction.executeWithoutResult(status ->
+                    bracketRepository.findForUpdateById(bracketId).ifPresent(bracket ->
+                        advance(bracket, BracketTree.decode(bracket.getTree()))));
+            }
+            catch (RuntimeException e) {
+                // e.g. a new game clashing with another booking; retried on the next run
+                LOGGER.warn("Advancing bracket {} failed", bracketId, e);
+            }
+        }
+    }
+
+    /**
+     * One pass from the first round up to the final. Children have higher numbers than
+     * their match, so a winner found in this pass is seen by the next round in the same pass.
+     */
+    private void advance(Bracket bracket, BracketTree tree) throws ServiceException {
+        LocalDateTime now = now();
+        Map<Long, Integer> matchByGameId = new HashMap<>();
+        Set<Long> teamIds = new HashSet<>();
+        for (int match = 1; match <= tree.getMatchCount(); match++) {
+            if (tree.getWinnerTeamId(match) == BracketTree.NONE && tree.getGameId(match) != BracketTree.NONE) {
+                matchByGameId.put(tree.getGameId(match), match);
+                teamIds.add(tree.getHomeTeamId(match));
+                teamIds.add(tree.getAwayTeamId(match));
+            }
+        }
+        Map<Long, BracketGameRow> games = new HashMap<>();
+        Map<Long, Map<Long, Long>> goals = new HashMap<>();
+        if (!matchByGameId.isEmpty()) {
+            for (BracketGameRow row : bracketRepository.findGameRowsByIds(matchByGameId.keySet())) {
+                games.put(row.getGameId(), row);
+            }
+            Map<Long, Set<Long>> teamIdsByPlayerId = new HashMap<>();
+            for (RosterRow row : bracketRepository.findRosterRowsByTeamIds(teamIds)) {
+                teamIdsByPlayerId.computeIfAbsent(row.getPlayerId(), id -> new HashSet<>()).add(row.getTeamId());
+            }
+            for (BracketGoalRow row : bracketRepository.findGoalRowsByGameIds(matchByGameId.keySet(), GameStatType.GOAL)) {
+                int match = matchByGameId.get(row.getGameId());
+                // a player rostered on both teams scores for one of them, never for both
+                Long teamId = GameStatSnapshot.resolveTeamId(
+                    teamIdsByPlayerId.getOrDefault(row.getPlayerId(), Set.of()),
+                    tree.getHomeTeamId(match),
+                    tree.getAwayTeamId(match)
+                );
+                if (teamId != null) {
+                    goals.computeIfAbsent(row.getGameId(), gameId -> new HashMap<>()).merge(teamId, row.getGoals(), Long::sum);
+                }
+            }
+        }
+
+        BracketCalendar calendar = new BracketCalendar(bracket);
+        List<Game> newGames = new ArrayList<>();
+        List<Integer> newGameMatches = new ArrayList<>();
+        for (int match = tree.getMatchCount(); match >= 1; match--) {
+            if (tree.getWinnerTeamId(match) != BracketTree.NONE) {
+                continue;
+            }
+            long homeTeamId = tree.getHomeTeamId(match);
+            long awayTeamId = tree.getAwayTeamId(match);
+            if (tree.isBye(match)) {
+                tree.setWinner(match, homeTeamId != BracketTree.NONE ? homeTeamId : awayTeamId);
+                continue;
+            }
+            if (homeTeamId == BracketTree.NONE || awayTeamId == BracketTree.NONE) {
+                continue;
+            }
+            BracketGameRow game = games.get(tree.getGameId(match));
+            if (game == null) {
+                // not created yet, or deleted by an admin, so it is played again
+                newGames.add(newGame(bracket, tree, calendar, match, now));
+                newGameMatches.add(match);
+                continue;
+            }
+            if (!hasEnded(game, now)) {
+                continue;
+            }
+            Map<Long, Long> gameGoals = goals.getOrDefault(game.getGameId(), Map.of());
+            long homeGoals = gameGoals.getOrDefault(homeTeamId, 0L);
+            long awayGoals = gameGoals.getOrDefault(awayTeamId, 0L);
+            if (homeGoals != awayGoals) {
+                tree.setWinner(match, homeGoals > awayGoals ? homeTeamId : awayTeamId);
+            }
+        }
+
+        if (!newGames.isEmpty()) {
+            // sequence ids are assigned on save, before the batched inserts are flushed
+            gameRepository.saveAll(newGames);
+            schedulingService.reserveAll(newGames);
+            for (int i = 0; i < newGames.size(); i++) {
+                tree.setGameId(newGameMatches.get(i), newGames.get(i).getId());
+            }
+            eventPublisher.publishEvent(new LeagueChangedEvent(bracket.getLeagueId()));
+            LOGGER.info("Created {} games for bracket {}", newGames.size(), bracket.getId());
+        }
+        bracket.setTree(tree.encode());
+        bracket.setCompleted(tree.getChampionTeamId() != BracketTree.NONE);
+    }
+
+    private Game newGame(Bracket bracket, BracketTree tree, BracketCalendar calendar, int match, LocalDateTime now) {
+        int round = tree.round(match);
+        int matchInRound = match - tree.firstMatch(round);
+        LocalDateTime kickOff = calendar.kickOff(round, matchInRound);
+        if (kickOff.isBefore(now)) {
+            // a round held up by an undecided draw is played on the first day its slot is still ahead
+            kickOff = kickOff.plusDays(ChronoUnit.DAYS.between(kickOff, now) + 1);
+        }
+        Game game = new Game(kickOff, calendar.venue(round, matchInRound), bracket.getDurationInMinutes());
+        game.setLeague(entityManager.getReference(League.class, bracket.getLeagueId()));
+        game.setHomeTeam(entityManager.getReference(Team.class, tree.getHomeTeamId(match)));
+        game.setAwayTeam(entityManager.getReference(Team.class, tree.getAwayTeamId(match)));
+        return game;
+    }
+
+    private static List<Long> seedOrder(List<Long> teamIds, List<Long> seededTeamIds) throws ServiceException {
+        Set<Long> seeds = new LinkedHashSet<>();
+        if (seededTeamIds != null) {
+            Set<Long> leagueTeamIds = Set.copyOf(teamIds);
+            for (Long teamId : seededTeamIds) {
+                if (!leagueTeamIds.contains(teamId)) {
+                    throw validationFailed("Seeded team with id = " + teamId + " is not in the league");
+                }
+                if (!seeds.add(teamId)) {
+                    throw validationFailed("Team with id = " + teamId + " is seeded more than once");
+                }
+            }
+        }
+        seeds.addAll(teamIds);
+        return new ArrayList<>(seeds);
+    }
+
+    private static BracketDTO toDTO(Bracket bracket, BracketTree tree) {
+        List<BracketMatchDTO> matches = new ArrayList<>(tree.getMatchCount());
+        for (int round = 0; round < tree.getRoundCount(); round++) {
+            int first = tree.firstMatch(round);
+            for (int match = first; match < 2 * first; match++) {
+                matches.add(new BracketMatchDTO(
+                    match,
+                    round,
+                    idOrNull(tree.getHomeTeamId(match)),
+                    idOrNull(tree.getAwayTeamId(match)),
+                    idOrNull(tree.getGameId(match)),
+                    idOrNull(tree.getWinnerTeamId(match)),
+                    tree.isBye(match)
+                ));
+            }
+        }
+        return new BracketDTO(
+            bracket.getId(),
+            bracket.getLeagueId(),
+            tree.getSize(),
+            tree.getRoundCount(),
+            bracket.isCompleted(),
+            idOrNull(tree.getChampionTeamId()),
+            matches
+        );
+    }
+
+    private static Long idOrNull(long id) {
+        return id != BracketTree.NONE ? id : null;
+    }
+
+    private static boolean hasEnded(BracketGameRow game, LocalDateTime now) {
+        return !now.isBefore(game.getGameDateTime().plusMinutes(game.getDurationInMinutes()));
+    }
+
+    private static ServiceException bracketNotFound(Long bracketId) {
+        return new ServiceException(
+            HttpStatus.NOT_FOUND,
+            ClientErrorKey.BRACKET_NOT_FOUND,
+            "Bracket",
+            "Bracket with id = " + bracketId + " not found"
+        );
+    }
+
+    private static ServiceException validationFailed(String message) {
+        return new ServiceException(
+            HttpStatus.BAD_REQUEST,
+            ClientErrorKey.VALIDATION_FAILED,
+            "Bracket",
+            message
+        );
+    }
+
+    private static LocalDateTime now() {
+        return ZonedDateTime.now(GAME_ZONE).toLocalDateTime();
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.tournaments_backend.bracket;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+/**
+ * A single-elimination bracket held as an implicit binary tree in two arrays, heap style:
+ * match 1 is the final, the two matches feeding match m are 2m and 2m + 1, and the
+ * leaves size..2size - 1 are the seeded entrants. teamIds holds the team at each node,
+ * so the winner of match m is teamIds[m] and its home and away teams are the winners of
+ * its two children; 0 means not decided yet, or a bye at a leaf. gameIds holds the game
+ * created for each match, 0 until both its teams are known.
+ *
+ * Rounds count up from the first round, so round(m) is 0 for matches size / 2..size - 1
+ * and roundCount - 1 for the final.
+ *
+ * Encoded layout: a version byte and the size, then the team column for nodes 1..2size - 1
+ * as varints, then the game column for matches 1..size - 1 as zigzag varint deltas, since
+ * the games of a round are created together and get consecutive ids. A 4,096-team bracket
+ * takes about 30 KB.
+ */
+public final class BracketTree {
+    public static final long NONE = 0L;
+    public static final int MAX_SIZE = 1 << 13;
+    private static final byte VERSION = 1;
+
+    private final int size;
+    private final long[] teamIds;
+    private final long[] gameIds;
+
+    private BracketTree(int size, long[] teamIds, long[] gameIds) {
+        this.size = size;
+        this.teamIds = teamIds;
+        this.gameIds = gameIds;
+    }
+
+    /**
+     * The number of leaves of a bracket for this many teams, the next power of two.
+     */
+    public static int sizeFor(int teamCount) {
+        if (teamCount < 2) {
+            throw new IllegalArgumentException("A bracket needs at least 2 teams");
+        }
+        if (teamCount > MAX_SIZE) {
+            throw new IllegalArgumentException("A bracket holds at most " + MAX_SIZE + " teams");
+        }
+        return Integer.highestOneBit(teamCount - 1) << 1;
+    }
+
+    /**
+     * Places the teams in the standard seeding order, so seeds s and size + 1 - s meet in
+     * the first round and the top two seeds can only meet in the final. Missing seeds are
+     * byes, which therefore go to the top seeds.
+     *
+     * @param seededTeamIds team ids, best seed first
+     */
+    public static BracketTree seed(List<Long> seededTeamIds) {
+        int size = sizeFor(seededTeamIds.size());
+        int[] order = { 1 };
+        while (order.length < size) {
+            // every seed s is joined by its first-round opponent 2 * length + 1 - s
+            int[] next = new int[order.length * 2];
+            for (int i = 0; i < order.length; i++) {
+                next[2 * i] = order[i];
+                next[2 * i + 1] = 2 * order.length + 1 - order[i];
+            }
+            order = next;
+        }
+        long[] teamIds = new long[2 * size];
+        for (int slot = 0; slot < size; slot++) {
+            int seed = order[slot];
+            teamIds[size + slot] = seed <= seededTeamIds.size() ? seededTeamIds.get(seed - 1) : NONE;
+        }
+        return new BracketTree(size, teamIds, new long[size]);
+    }
+
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + size * 12);
+        out.write(VERSION);
+        writeVarLong(out, size);
+        for (int node = 1; node < 2 * size; node++) {
+            writeVarLong(out, teamIds[node]);
+        }
+        long previous = 0L;
+        for (int match = 1; match < size; match++) {
+            writeVarLong(out, zigzag(gameIds[match] - previous));
+            previous = gameIds[match];
+        }
+        return out.toByteArray();
+    }
+
+    public static BracketTree decode(byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] != VERSION) {
+            throw new IllegalStateException("Unknown bracket tree version");
+        }
+        Reader reader = new Reader(bytes, 1);
+        int size = (int) reader.readVarLong();
+        long[] teamIds = new long[2 * size];
+        for (int node = 1; node < 2 * size; node++) {
+            teamIds[node] = reader.readVarLong();
+        }
+        long[] gameIds = new long[size];
+        long previous = 0L;
+        for (int match = 1; match < size; match++) {
+            previous += unzigzag(reader.readVarLong());
+            gameIds[match] = previous;
+        }
+        return new BracketTree(size, teamIds, gameIds);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMatchCount() {
+        return size - 1;
+    }
+
+    public int getRoundCount() {
+        return Integer.numberOfTrailingZeros(size);
+    }
+
+    public int round(int match) {
+        checkMatch(match);
+        return getRoundCount() - 1 - (31 - Integer.numberOfLeadingZeros(match));
+    }
+
+    /**
+     * The lowest match number of a round; its matches are firstMatch..2 * firstMatch - 1.
+     */
+    public int firstMatch(int round) {
+        return size >> (round + 1);
+    }
+
+    public long getHomeTeamId(int match) {
+        checkMatch(match);
+        return teamIds[2 * match];
+    }
+
+    public long getAwayTeamId(int match) {
+        checkMatch(match);
+        return teamIds[2 * match + 1];
+    }
+
+    public long getWinnerTeamId(int match) {
+        checkMatch(match);
+        return teamIds[match];
+    }
+
+    public long getGameId(int match) {
+        checkMatch(match);
+        return gameIds[match];
+    }
+
+    public long getChampionTeamId() {
+        return teamIds[1];
+    }
+
+    /**
+     * A first-round match with only one team, which goes through without playing.
+     */
+    public boolean isBye(int match) {
+        checkMatch(match);
+        return 2 * match >= size && (teamIds[2 * match] == NONE) != (teamIds[2 * match + 1] == NONE);
+    }
+
+    public void setWinner(int match, long teamId) {
+        checkMatch(match);
+        if (teamId == NONE || (teamId != teamIds[2 * match] && teamId != teamIds[2 * match + 1])) {
+            throw new IllegalArgumentException("Team " + teamId + " does not play match " + match);
+        }
+        teamIds[match] = teamId;
+    }
+
+    public void setGameId(int match, long gameId) {
+        checkMatch(match);
+        gameIds[match] = gameId;
+    }
+
+    private void checkMatch(int match) {
+        if (match < 1 || match >= size) {
+            throw new IllegalArgumentException("Match " + match + " is not in a bracket of " + size + " teams");
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        long readVarLong() {
+            long value = 0L;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
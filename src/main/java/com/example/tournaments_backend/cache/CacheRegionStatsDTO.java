@@ -0,0 +1,17 @@
+package com.example.tournaments_backend.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CacheRegionStatsDTO {
+    private final String region;
+    private final long hits;
+    private final long misses;
+    private final long puts;
+    // hits / (hits + misses), or 0 before the first lookup
+    private final double hitRatio;
+    // estimated, and may still count expired entries
+    private final long entries;
+}
@@ -0,0 +1,34 @@
+package com.example.tournaments_backend.cache;
+
+import java.util.List;
+
+/**
+ * Names of the Hibernate second-level cache regions. Cached entities and collections name
+ * their region in @Cache, and SecondLevelCacheConfig creates a Caffeine cache for each one;
+ * a region without a cache fails startup.
+ */
+public final class CacheRegions {
+    public static final String LEAGUE = "league";
+    public static final String LEAGUE_TEAMS = "league.teams";
+    public static final String TEAM = "team";
+    public static final String TEAM_PLAYERS = "team.players";
+    public static final String TEAM_LEAGUES = "team.leagues";
+    // players are cached in their root entity's region
+    public static final String APP_USER = "app_user";
+    public static final String PLAYER_TEAMS = "player.teams";
+    public static final String GAME = "game";
+    // Hibernate's default names for the query cache regions
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    // every region whose entries are bounded in number and age
+    public static final List<String> BOUNDED = List.of(
+        LEAGUE, LEAGUE_TEAMS, TEAM, TEAM_PLAYERS, TEAM_LEAGUES, APP_USER, PLAYER_TEAMS, GAME, QUERY_RESULTS
+    );
+
+    // collections backed by the league_team and team_player join tables
+    public static final List<String> MEMBERSHIPS = List.of(LEAGUE_TEAMS, TEAM_LEAGUES, TEAM_PLAYERS, PLAYER_TEAMS);
+
+    private CacheRegions() {
+    }
+}
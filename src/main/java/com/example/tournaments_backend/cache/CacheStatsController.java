@@ -0,0 +1,44 @@
+package com.example.tournaments_backend.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping(path="/api/v1/cache-stats")
+@Tag(name = "Cache stats", description = "API endpoints for second-level cache metrics")
+public class CacheStatsController {
+    private final SecondLevelCacheService secondLevelCacheService;
+
+    @Autowired
+    public CacheStatsController(SecondLevelCacheService secondLevelCacheService) {
+        this.secondLevelCacheService = secondLevelCacheService;
+    }
+
+    @Operation(summary = "Get cache stats", description = "Returns the hits, misses, puts and estimated entries of every second-level cache region, including the query cache, since startup")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved cache stats", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CacheStatsDTO.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden - client does not have admin role",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @GetMapping
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<CacheStatsDTO> getCacheStats() {
+        return ResponseEntity.ok(secondLevelCacheService.getCacheStats());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.tournaments_backend.cache;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CacheStatsDTO {
+    // hits, misses and puts are only counted while Hibernate statistics are enabled
+    private final boolean statisticsEnabled;
+    private final List<CacheRegionStatsDTO> regions;
+}
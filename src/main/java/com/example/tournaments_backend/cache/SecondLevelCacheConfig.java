@@ -0,0 +1,49 @@
+package com.example.tournaments_backend.cache;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Backs Hibernate's second-level and query caches with in-process Caffeine caches, one per
+ * region in CacheRegions. Each region keeps at most maxEntries entries and drops an entry
+ * ttlMs after it was written, so rows changed outside the application are seen again
+ * within ttlMs.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public CacheManager secondLevelCacheManager(
+        @Value("${second-level-cache.max-entries:10000}") long maxEntries,
+        @Value("${second-level-cache.ttl-ms:600000}") long ttlMs)
+    {
+        // a provider of its own, so each application context starts with empty caches
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        for (String region : CacheRegions.BOUNDED) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(ttlMs)));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+        // cached query results are checked against these timestamps, so they must not be dropped first
+        cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS, new CaffeineConfiguration<Object, Object>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.tournaments_backend.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Reports the second-level cache's hits and misses per region, and evicts what Hibernate
+ * cannot see change. Writes made through Hibernate keep the cache current on their own.
+ */
+@Service
+public class SecondLevelCacheService {
+    private final SessionFactory sessionFactory;
+    private final CacheManager cacheManager;
+
+    public SecondLevelCacheService(EntityManagerFactory entityManagerFactory, CacheManager secondLevelCacheManager) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.cacheManager = secondLevelCacheManager;
+    }
+
+    /**
+     * Counts are since startup.
+     */
+    public CacheStatsDTO getCacheStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<CacheRegionStatsDTO> regions = new ArrayList<>(CacheRegions.BOUNDED.size());
+        for (String region : CacheRegions.BOUNDED) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            long hits = regionStatistics == null ? 0 : regionStatistics.getHitCount();
+            long misses = regionStatistics == null ? 0 : regionStatistics.getMissCount();
+            long puts = regionStatistics == null ? 0 : regionStatistics.getPutCount();
+            long entries = cacheManager.getCache(region)
+                .unwrap(com.github.benmanes.caffeine.cache.Cache.class)
+                .estimatedSize();
+            regions.add(new CacheRegionStatsDTO(
+                region,
+                hits,
+                misses,
+                puts,
+                hits + misses == 0 ? 0 : (double) hits / (hits + misses),
+                entries
+            ));
+        }
+        return new CacheStatsDTO(statistics.isStatisticsEnabled(), regions);
+    }
+
+    /**
+     * For writes to the league_team and team_player join tables that bypass Hibernate.
+     * The membership collections are evicted once the current transaction has completed,
+     * so a concurrent read cannot cache the old rows again before the new ones are visible.
+     */
+    public void evictMembershipsAfterTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictMemberships();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evictMemberships();
+            }
+        });
+    }
+
+    private void evictMemberships() {
+        for (String region : CacheRegions.MEMBERSHIPS) {
+            sessionFactory.getCache().evictRegion(region);
+        }
+    }
+}
@@ -28,5 +28,16 @@ public enum ClientErrorKey {
     PASSWORD_ALREADY_RESET,
     NOT_TEAM_OWNER,
     GAME_INACTIVE,
-    VALIDATION_FAILED
+    VALIDATION_FAILED,
+    STREAM_CAPACITY_EXCEEDED,
+    DUPLICATE_GAME_STAT_EVENT,
+    WRITE_BUFFER_FULL,
+    GAME_NOT_ENDED,
+    STANDINGS_REBUILD_IN_PROGRESS,
+    STANDINGS_REBUILD_NOT_FOUND,
+    LEAGUE_ALREADY_SCHEDULED,
+    SCHEDULE_CONFLICT,
+    BRACKET_NOT_FOUND,
+    BRACKET_MATCH_DECIDED,
+    SWISS_ROUND_IN_PROGRESS
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.example.tournaments_backend.fixture;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * When and where each game of a round-robin is played. Rounds are spread evenly over the
+ * league's days, at most one round per day, so no team plays twice on the same day. The
+ * games of a round fill the venues in waves that start durationInMinutes + breakInMinutes
+ * apart, so no venue hosts two games at once. The venue order shifts every round, so
+ * teams do not keep getting the same venue.
+ */
+class FixtureCalendar {
+    private final LocalDate startDate;
+    private final int days;
+    private final int roundCount;
+    private final LocalTime kickOffTime;
+    private final int slotMinutes;
+    private final List<String> venues;
+
+    FixtureCalendar(LocalDate startDate, int days, int roundCount, LocalTime kickOffTime, int slotMinutes, List<String> venues) {
+        this.startDate = startDate;
+        this.days = days;
+        this.roundCount = roundCount;
+        this.kickOffTime = kickOffTime;
+        this.slotMinutes = slotMinutes;
+        this.venues = venues;
+    }
+
+    int wavesPerRound(int gamesPerRound) {
+        return (gamesPerRound + venues.size() - 1) / venues.size();
+    }
+
+    LocalDateTime kickOff(int round, int gameInRound) {
+        long day = (long) round * days / roundCount;
+        int wave = gameInRound / venues.size();
+        return LocalDateTime.of(startDate.plusDays(day), kickOffTime).plusMinutes((long) wave * slotMinutes);
+    }
+
+    String venue(int round, int gameInRound) {
+        return venues.get((gameInRound + round) % venues.size());
+    }
+}
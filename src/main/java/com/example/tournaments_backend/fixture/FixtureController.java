@@ -0,0 +1,58 @@
+package com.example.tournaments_backend.fixture;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+import com.example.tournaments_backend.exception.ServiceException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping(path="/api/v1/leagues")
+@Tag(name = "League Management", description = "API endpoints for managing leagues")
+public class FixtureController {
+    private final FixtureService fixtureService;
+
+    @Autowired
+    public FixtureController(FixtureService fixtureService) {
+        this.fixtureService = fixtureService;
+    }
+
+    @Operation(summary = "Generate a league's fixtures", description = "Creates a single or double round-robin schedule for the league's teams over its duration, alternating home and away and spreading games over the given venues")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully created the fixtures", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = FixtureScheduleDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - request is not valid, or the schedule does not fit in the league's duration",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden - client does not have admin role",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Not found - league with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "409", description = "Conflict - league already has games",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @PostMapping("{leagueId}/fixtures")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<FixtureScheduleDTO> generateFixtures(
+        @Parameter(description = "The league id", required = true) @PathVariable("leagueId") Long leagueId,
+        @Valid @RequestBody FixtureRequest fixtureRequest) throws ServiceException
+    {
+        return ResponseEntity.ok(fixtureService.generateFixtures(leagueId, fixtureRequest));
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.tournaments_backend.fixture;
+
+public enum FixtureFormat {
+    SINGLE_ROUND_ROBIN(1),
+    DOUBLE_ROUND_ROBIN(2);
+
+    // how many times every pair of teams meets
+    private final int cycles;
+
+    FixtureFormat(int cycles) {
+        this.cycles = cycles;
+    }
+
+    public int getCycles() {
+        return cycles;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.tournaments_backend.fixture;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class FixtureRequest {
+    @NotNull
+    private FixtureFormat format;
+    // game addresses, used in turn
+    @NotEmpty
+    private List<@NotNull @Size(min = 2, max = 255, message = "Venue address must be between 2 and 255 characters.") String> venues;
+    // first kick-off of each round day
+    @NotNull
+    private LocalTime kickOffTime;
+    @NotNull
+    @Min(value = 20, message = "Game duration must be at least 20 minutes.")
+    @Max(value = 90, message = "Game duration must be at most 90 minutes.")
+    private Integer durationInMinutes;
+    // between two games at the same venue
+    @NotNull
+    @Min(value = 0, message = "Break must not be negative.")
+    @Max(value = 240, message = "Break must be at most 240 minutes.")
+    private Integer breakInMinutes;
+}
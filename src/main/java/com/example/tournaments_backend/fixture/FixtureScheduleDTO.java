@@ -0,0 +1,17 @@
+package com.example.tournaments_backend.fixture;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FixtureScheduleDTO {
+    private final Long leagueId;
+    private final FixtureFormat format;
+    private final int rounds;
+    private final int games;
+    private final LocalDateTime firstGameDateTime;
+    private final LocalDateTime lastGameDateTime;
+}
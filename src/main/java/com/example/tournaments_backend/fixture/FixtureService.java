@@ -0,0 +1,131 @@
+package com.example.tournaments_backend.fixture;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.league.LeagueChangedEvent;
+import com.example.tournaments_backend.league.LeagueRepository;
+import com.example.tournaments_backend.scheduling.SchedulingService;
+import com.example.tournaments_backend.team.Team;
+
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+
+/**
+ * Builds a league's whole schedule from its teams, start date and duration, instead of
+ * adding games one at a time. All games are saved in one transaction through Hibernate's
+ * JDBC batching, and their slots are reserved with SchedulingService in the same transaction.
+ */
+@Service
+@AllArgsConstructor
+public class FixtureService {
+    private static final int WRITE_CHUNK_SIZE = 1_000;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final LeagueRepository leagueRepository;
+    private final GameRepository gameRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulingService schedulingService;
+
+    @Transactional
+    public FixtureScheduleDTO generateFixtures(Long leagueId, FixtureRequest request) throws ServiceException {
+        League league = leagueRepository
+                .findById(leagueId)
+                .orElseThrow(() -> new ServiceException(
+                    HttpStatus.NOT_FOUND, 
+                    ClientErrorKey.LEAGUE_NOT_FOUND, 
+                    "League", 
+                    "League with id = " + leagueId + " not found"
+                ));
+        if (gameRepository.existsByLeagueId(leagueId)) {
+            throw new ServiceException(
+                HttpStatus.CONFLICT,
+                ClientErrorKey.LEAGUE_ALREADY_SCHEDULED,
+                "League",
+                "League with id = " + leagueId + " already has games"
+            );
+        }
+        // ordered by id so the same league always gets the same schedule
+        List<Long> teamIds = league.getTeams().stream()
+                .map(Team::getId)
+                .sorted(Comparator.naturalOrder())
+                .toList();
+        if (teamIds.size() < 2) {
+            throw validationFailed("League needs at least 2 teams to be scheduled");
+        }
+
+        RoundRobin roundRobin = RoundRobin.generate(teamIds.size(), request.getFormat().getCycles());
+        int days = league.getDurationInWeeks() * 7;
+        if (roundRobin.getRoundCount() > days) {
+            throw validationFailed("A " + request.getFormat() + " of " + teamIds.size() + " teams has "
+                + roundRobin.getRoundCount() + " rounds, but the league only has " + days + " days");
+        }
+        int slotMinutes = request.getDurationInMinutes() + request.getBreakInMinutes();
+        FixtureCalendar calendar = new FixtureCalendar(league.getStartDate(), days, roundRobin.getRoundCount(),
+            request.getKickOffTime(), slotMinutes, request.getVenues());
+        int waves = calendar.wavesPerRound(roundRobin.getGamesPerRound());
+        if (request.getKickOffTime().toSecondOfDay() / 60 + (waves - 1) * slotMinutes >= MINUTES_PER_DAY) {
+            throw validationFailed(waves + " waves of games do not fit in a day from " + request.getKickOffTime()
+                + "; add venues or start earlier");
+        }
+
+        saveGames(leagueId, teamIds, roundRobin, calendar, request.getDurationInMinutes());
+        eventPublisher.publishEvent(new LeagueChangedEvent(leagueId));
+
+        int lastGame = roundRobin.getGameCount() - 1;
+        return new FixtureScheduleDTO(
+            leagueId,
+            request.getFormat(),
+            roundRobin.getRoundCount(),
+            roundRobin.getGameCount(),
+            calendar.kickOff(0, 0),
+            calendar.kickOff(roundRobin.round(lastGame), lastGame % roundRobin.getGamesPerRound())
+        );
+    }
+
+    private void saveGames(Long leagueId, List<Long> teamIds, RoundRobin roundRobin, FixtureCalendar calendar, int durationInMinutes) throws ServiceException {
+        List<Game> chunk = new ArrayList<>(WRITE_CHUNK_SIZE);
+        for (int game = 0; game < roundRobin.getGameCount(); game++) {
+            int round = roundRobin.round(game);
+            int gameInRound = game % roundRobin.getGamesPerRound();
+            LocalDateTime kickOff = calendar.kickOff(round, gameInRound);
+            Game fixture = new Game(kickOff, calendar.venue(round, gameInRound), durationInMinutes);
+            fixture.setLeague(entityManager.getReference(League.class, leagueId));
+            fixture.setHomeTeam(entityManager.getReference(Team.class, teamIds.get(roundRobin.homeTeam(game))));
+            fixture.setAwayTeam(entityManager.getReference(Team.class, teamIds.get(roundRobin.awayTeam(game))));
+            chunk.add(fixture);
+            if (chunk.size() == WRITE_CHUNK_SIZE) {
+                gameRepository.saveAll(chunk);
+                schedulingService.reserveAll(chunk);
+                // keeps the persistence context small for large leagues
+                entityManager.flush();
+                entityManager.clear();
+                chunk.clear();
+            }
+        }
+        gameRepository.saveAll(chunk);
+        schedulingService.reserveAll(chunk);
+    }
+
+    private static ServiceException validationFailed(String message) {
+        return new ServiceException(
+            HttpStatus.BAD_REQUEST,
+            ClientErrorKey.VALIDATION_FAILED,
+            "League",
+            message
+        );
+    }
+}
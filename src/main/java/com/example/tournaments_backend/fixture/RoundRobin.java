@@ -0,0 +1,104 @@
+package com.example.tournaments_backend.fixture;
+
+/**
+ * Round-robin pairings by the circle method: one team stays fixed while the others
+ * rotate, so every team meets every other team once per cycle and plays once per round.
+ * With an odd number of teams a bye is added and its games are dropped.
+ *
+ * Home and away follow the canonical 1-factorization, which alternates for every team
+ * except at n - 2 breaks in total, the fewest possible. In a double round-robin the
+ * second cycle repeats the first with home and away swapped.
+ *
+ * Teams are indices 0..teamCount - 1 and games are stored round by round in two int
+ * arrays, so a 1,000-team double round-robin (999,000 games) is built in milliseconds.
+ */
+public final class RoundRobin {
+    private final int teamCount;
+    private final int roundCount;
+    private final int gamesPerRound;
+    private final int[] homeTeams;
+    private final int[] awayTeams;
+
+    private RoundRobin(int teamCount, int roundCount, int gamesPerRound) {
+        this.teamCount = teamCount;
+        this.roundCount = roundCount;
+        this.gamesPerRound = gamesPerRound;
+        this.homeTeams = new int[roundCount * gamesPerRound];
+        this.awayTeams = new int[roundCount * gamesPerRound];
+    }
+
+    /**
+     * @param cycles 1 for a single round-robin, 2 for a double round-robin
+     */
+    public static RoundRobin generate(int teamCount, int cycles) {
+        if (teamCount < 2) {
+            throw new IllegalArgumentException("A round-robin needs at least 2 teams");
+        }
+        if (cycles < 1) {
+            throw new IllegalArgumentException("cycles must be at least 1");
+        }
+        // with an odd count the fixed index is the bye, so its games are left out
+        int n = teamCount % 2 == 0 ? teamCount : teamCount + 1;
+        int fixed = n - 1;
+        int roundsPerCycle = n - 1;
+        RoundRobin schedule = new RoundRobin(teamCount, roundsPerCycle * cycles, teamCount / 2);
+
+        int game = 0;
+        for (int round = 0; round < roundsPerCycle; round++) {
+            if (fixed < teamCount) {
+                // the fixed team's opponent alternates between home and away
+                game = schedule.add(game, round % 2 == 0 ? round : fixed, round % 2 == 0 ? fixed : round);
+            }
+            for (int k = 1; k < n / 2; k++) {
+                int up = (round + k) % roundsPerCycle;
+                int down = (round - k + roundsPerCycle) % roundsPerCycle;
+                game = k % 2 == 0 ? schedule.add(game, up, down) : schedule.add(game, down, up);
+            }
+        }
+        int firstCycleGames = game;
+        for (int cycle = 1; cycle < cycles; cycle++) {
+            // odd cycles swap home and away
+            boolean swap = cycle % 2 == 1;
+            for (int i = 0; i < firstCycleGames; i++) {
+                schedule.homeTeams[game] = swap ? schedule.awayTeams[i] : schedule.homeTeams[i];
+                schedule.awayTeams[game] = swap ? schedule.homeTeams[i] : schedule.awayTeams[i];
+                game++;
+            }
+        }
+        return schedule;
+    }
+
+    private int add(int game, int home, int away) {
+        homeTeams[game] = home;
+        awayTeams[game] = away;
+        return game + 1;
+    }
+
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    public int getGamesPerRound() {
+        return gamesPerRound;
+    }
+
+    public int getGameCount() {
+        return homeTeams.length;
+    }
+
+    public int round(int game) {
+        return game / gamesPerRound;
+    }
+
+    public int homeTeam(int game) {
+        return homeTeams[game];
+    }
+
+    public int awayTeam(int game) {
+        return awayTeams[game];
+    }
+}
@@ -5,12 +5,17 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.example.tournaments_backend.cache.CacheRegions;
 import com.example.tournaments_backend.game_stat.GameStat;
 import com.example.tournaments_backend.league.League;
 import com.example.tournaments_backend.team.Team;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -27,6 +32,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GAME)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,7 +42,7 @@ public class Game {
     @SequenceGenerator(
         name="game_sequence",
         sequenceName="game_sequence",
-        allocationSize = 1
+        allocationSize = 50
     )
     @GeneratedValue(
         strategy = GenerationType.SEQUENCE,
@@ -90,4 +97,9 @@ public class Game {
         LocalDateTime currentTime = sanFranciscoZonedTime.toLocalDateTime();
         return currentTime.isAfter(gameStartTime) && currentTime.isBefore(gameEndTime);
     }
+
+    public boolean hasEnded(LocalDateTime currentTime) {
+        LocalDateTime gameEndTime = getGameDateTime().plusMinutes(getDurationInMinutes());
+        return !currentTime.isBefore(gameEndTime);
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.tournaments_backend.game;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published when a game is added, deleted, or its schedule, teams or league change,
+ * so in-memory views derived from the game can be dropped after commit.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class GameChangedEvent {
+    private final Long gameId;
+    // league the game belongs to after the change (before it, for deletes)
+    private final Long leagueId;
+}
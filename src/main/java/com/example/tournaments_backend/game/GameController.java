@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.example.tournaments_backend.exception.ErrorDetails;
 import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.pagination.CursorPage;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -47,6 +48,8 @@ public class GameController {
         @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
         @ApiResponse(responseCode = "404", description = "Not found - team or league with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "409", description = "Conflict - venue or a team is already booked at that time",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
     })
     @PostMapping
@@ -56,21 +59,26 @@ public class GameController {
         return ResponseEntity.ok().body(gameDTO);
     }
 
-    @Operation(summary = "Get games", description = "Returns all games or by leagueId. If the leagueId is invalid an empty list is returned.")
+    @Operation(summary = "Get games", description = "Returns a page of games, all or by leagueId, ordered by id. If the leagueId is invalid an empty page is returned.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved games", 
-            content = @Content(mediaType = "application/json", schema = @Schema(implementation = GameDTO.class))),
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - limit is not valid",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
     })
     @GetMapping
-    public ResponseEntity<List<GameDTO>> getGames(
+    public ResponseEntity<CursorPage<GameDTO>> getGames(
         @Parameter(description = "The league id") 
-        @RequestParam("leagueId") Optional<Long> optionalLeagueId) throws ServiceException
+        @RequestParam("leagueId") Optional<Long> optionalLeagueId,
+        @Parameter(description = "Page size, at most " + CursorPage.MAX_LIMIT)
+        @RequestParam(name = "limit", defaultValue = CursorPage.DEFAULT_LIMIT) int limit,
+        @Parameter(description = "Cursor from the previous page")
+        @RequestParam("after") Optional<Long> after) throws ServiceException
     {
-        List<Game> games = gameService.getGames(optionalLeagueId);
-        List<GameDTO> gameDTOs = GameDTO.convertGames(games);
-        return ResponseEntity.ok(gameDTOs);
+        CursorPage<Game> games = gameService.getGames(optionalLeagueId, limit, after);
+        return ResponseEntity.ok(games.map(GameDTO::new));
     }
 
     @Operation(summary = "Get a game", description = "Returns a game by ID")
@@ -118,6 +126,8 @@ public class GameController {
         @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
         @ApiResponse(responseCode = "404", description = "Not found - game, team, or league with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "409", description = "Conflict - venue or a team is already booked at that time",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
     })
     @PutMapping("{gameId}")
@@ -1,10 +1,20 @@
 package com.example.tournaments_backend.game;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface GameRepository extends JpaRepository<Game, Long> {
     List<Game> findByLeagueId(Long leagueId);
+
+    boolean existsByLeagueId(Long leagueId);
+
+    @EntityGraph(attributePaths = {"league", "homeTeam", "awayTeam"})
+    List<Game> findByIdGreaterThanOrderByIdAsc(Long after, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"league", "homeTeam", "awayTeam"})
+    List<Game> findByLeagueIdAndIdGreaterThanOrderByIdAsc(Long leagueId, Long after, Pageable pageable);
 }
@@ -3,6 +3,8 @@ package com.example.tournaments_backend.game;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,6 +13,8 @@ import com.example.tournaments_backend.exception.ClientErrorKey;
 import com.example.tournaments_backend.exception.ServiceException;
 import com.example.tournaments_backend.league.League;
 import com.example.tournaments_backend.league.LeagueRepository;
+import com.example.tournaments_backend.pagination.CursorPage;
+import com.example.tournaments_backend.scheduling.SchedulingService;
 import com.example.tournaments_backend.team.Team;
 import com.example.tournaments_backend.team.TeamRepository;
 
@@ -22,6 +26,8 @@ public class GameService {
     private final GameRepository gameRepository;
     private final TeamRepository teamRepository;
     private final LeagueRepository leagueRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulingService schedulingService;
 
     @Transactional
     public Game addGame(GameRequest gameRequest) throws ServiceException {
@@ -58,15 +64,19 @@ public class GameService {
         game.setHomeTeam(homeTeam);
         game.setAwayTeam(awayTeam);
         game.setLeague(league);
-        return gameRepository.save(game);
+        Game savedGame = gameRepository.save(game);
+        // throws if the venue or a team is already booked, which rolls the save back
+        schedulingService.reserve(savedGame);
+        eventPublisher.publishEvent(new GameChangedEvent(savedGame.getId(), leagueId));
+        return savedGame;
     }
 
-    public List<Game> getGames(Optional<Long> optionalLeagueId) throws ServiceException {
-        if (optionalLeagueId.isPresent()) {
-            Long leagueId = optionalLeagueId.get();
-            return gameRepository.findByLeagueId(leagueId);
-        }
-        return gameRepository.findAll();
+    public CursorPage<Game> getGames(Optional<Long> optionalLeagueId, int limit, Optional<Long> after) throws ServiceException {
+        Pageable pageable = CursorPage.request(limit);
+        List<Game> games = optionalLeagueId.isPresent()
+                ? gameRepository.findByLeagueIdAndIdGreaterThanOrderByIdAsc(optionalLeagueId.get(), CursorPage.after(after), pageable)
+                : gameRepository.findByIdGreaterThanOrderByIdAsc(CursorPage.after(after), pageable);
+        return CursorPage.of(games, limit, Game::getId);
     }
 
     public Game getGameById(Long gameId) throws ServiceException {
@@ -84,7 +94,9 @@ public class GameService {
     @Transactional
     public Game deleteGameById(Long gameId) throws ServiceException {
         Game game = getGameById(gameId);
+        Long leagueId = game.getLeague().getId();
         gameRepository.deleteById(gameId);
+        eventPublisher.publishEvent(new GameChangedEvent(gameId, leagueId));
         return game;
     }
 
@@ -128,6 +140,9 @@ public class GameService {
         gameInDB.setHomeTeam(homeTeam);
         gameInDB.setAwayTeam(awayTeam);
         gameInDB.setLeague(league);
-        return gameRepository.save(gameInDB);
+        Game savedGame = gameRepository.save(gameInDB);
+        schedulingService.reserve(savedGame);
+        eventPublisher.publishEvent(new GameChangedEvent(gameId, leagueId));
+        return savedGame;
     }
 }
\ No newline at end of file
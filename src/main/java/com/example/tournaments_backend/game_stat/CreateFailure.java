@@ -0,0 +1,12 @@
+package com.example.tournaments_backend.game_stat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class CreateFailure {
+    // position of the failed item in the request list
+    private final int index;
+    private final String message;
+}
@@ -1,11 +1,13 @@
 package com.example.tournaments_backend.game_stat;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import com.example.tournaments_backend.game.Game;
 import com.example.tournaments_backend.player.Player;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -16,20 +18,25 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = GameStat.EVENT_ID_CONSTRAINT, columnNames = "event_id"))
 @Getter
 @Setter
 @NoArgsConstructor
 public class GameStat {
+    public static final String EVENT_ID_CONSTRAINT = "uk_game_stat_event_id";
+
     @Id
     @SequenceGenerator(
         name="game_stat_sequence",
         sequenceName="game_stat_sequence",
-        allocationSize = 1
+        allocationSize = 50
     )
     @GeneratedValue(
         strategy = GenerationType.SEQUENCE,
@@ -39,6 +46,8 @@ public class GameStat {
     @Enumerated(EnumType.STRING)
     private GameStatType type;
     private LocalDateTime createdAt;
+    @Column(updatable = false)
+    private UUID eventId;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "game_id", nullable = false)
@@ -58,5 +67,6 @@ public class GameStat {
     public GameStat(GameStatRequest request) {
         this.type = request.getType();
         this.createdAt = request.getCreatedAt();
+        this.eventId = request.getEventId();
     }
 }
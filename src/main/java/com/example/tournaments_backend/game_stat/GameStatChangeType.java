@@ -0,0 +1,5 @@
+package com.example.tournaments_backend.game_stat;
+
+public enum GameStatChangeType {
+    CREATED, UPDATED, DELETED
+}
@@ -18,6 +18,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 
 import com.example.tournaments_backend.exception.ErrorDetails;
 import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.pagination.CursorPage;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -39,7 +40,7 @@ public class GameStatController {
         this.gameStatService = gameStatService;
     }
 
-    @Operation(summary = "Create a game stat", description = "Returns the game stat created")
+    @Operation(summary = "Create a game stat", description = "Returns the game stat created, or the original one when eventId was already used")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully created a game stat", 
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = GameStatDTO.class))),
@@ -48,32 +49,55 @@ public class GameStatController {
         @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
         @ApiResponse(responseCode = "404", description = "Not found - game or player with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "409", description = "Conflict - a game stat with the same eventId already exists",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
     })
     @PostMapping
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     public ResponseEntity<GameStatDTO> addGameStat(@RequestBody @Valid GameStatRequest request) {
-        GameStat gameStat = gameStatService.addGameStat(request);
-        GameStatDTO gameStatDTO = new GameStatDTO(gameStat);
+        GameStatDTO gameStatDTO = gameStatService.addGameStat(request);
         return ResponseEntity.ok().body(gameStatDTO);
     }
 
-    @Operation(summary = "Get game stats", description = "Returns all game stats or by gameId")
+    @Operation(summary = "Create game stats", description = "Creates up to " + GameStatService.MAX_BULK_SIZE + " game stats and returns the created ones and the failed items by index")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully processed game stats", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = GameStatCreateResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - too many game stats or a game stat is not valid",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "409", description = "Conflict - a game stat with the same eventId already exists",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @PostMapping("/batchCreate")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<GameStatCreateResponse> addGameStats(@RequestBody @Valid List<GameStatRequest> gameStatsToCreate) throws ServiceException
+    {
+        GameStatCreateResponse createResponse = gameStatService.addGameStats(gameStatsToCreate);
+        return ResponseEntity.ok(createResponse);
+    }
+
+    @Operation(summary = "Get game stats", description = "Returns a page of game stats, all or by gameId, ordered by id")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved stats", 
-            content = @Content(mediaType = "application/json", schema = @Schema(implementation = GameStatDTO.class))),
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - limit is not valid",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
         @ApiResponse(responseCode = "404", description = "Not found - game with given ID not found",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
     })
     @GetMapping
-    public ResponseEntity<List<GameStatDTO>> getGameStats(
-        @Parameter(description = "The game id") @RequestParam("gameId") Optional<Long> optionalGameId) throws ServiceException
+    public ResponseEntity<CursorPage<GameStatDTO>> getGameStats(
+        @Parameter(description = "The game id") @RequestParam("gameId") Optional<Long> optionalGameId,
+        @Parameter(description = "Page size, at most " + CursorPage.MAX_LIMIT) @RequestParam(name = "limit", defaultValue = CursorPage.DEFAULT_LIMIT) int limit,
+        @Parameter(description = "Cursor from the previous page") @RequestParam("after") Optional<Long> after) throws ServiceException
     {
-        List<GameStat> gameStats = gameStatService.getGameStatsByGameId(optionalGameId);
-        List<GameStatDTO> gameStatDTOs = GameStatDTO.convert(gameStats);
-        return ResponseEntity.ok(gameStatDTOs);
+        CursorPage<GameStat> gameStats = gameStatService.getGameStatsByGameId(optionalGameId, limit, after);
+        return ResponseEntity.ok(gameStats.map(GameStatDTO::new));
     }
 
     @Operation(summary = "Delete a game stat", description = "Returns the deleted game stat by ID")
@@ -0,0 +1,17 @@
+package com.example.tournaments_backend.game_stat;
+
+import java.util.List;
+
+import lombok.Getter;
+
+@Getter
+public class GameStatCreateResponse {
+    // in request order, without the items that failed, replays carry the original game stat
+    private final List<GameStatDTO> successfulCreates;
+    private final List<CreateFailure> failures;
+
+    public GameStatCreateResponse(List<GameStatDTO> successfulCreates, List<CreateFailure> failures) {
+        this.successfulCreates = successfulCreates;
+        this.failures = failures;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.tournaments_backend.game_stat;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Recently committed game stats keyed by the client event id, so a retried request
+ * gets the original response back without touching the database. Entries expire after
+ * the window and the oldest are dropped once the index is full; anything older is still
+ * rejected by the unique constraint on game_stat.event_id.
+ */
+@Component
+public class GameStatDedupIndex {
+    private final long windowMillis;
+    private final int maxEntries;
+    // insertion order is commit order, so the eldest entry is always the first to expire
+    private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>();
+
+    public GameStatDedupIndex(
+        @Value("${game-stat.dedup.window-ms:600000}") long windowMillis,
+        @Value("${game-stat.dedup.max-entries:50000}") int maxEntries)
+    {
+        this.windowMillis = windowMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    public GameStatDTO find(UUID eventId) {
+        return find(eventId, System.currentTimeMillis());
+    }
+
+    /**
+     * Records the game stat once the current transaction commits, so a rolled back
+     * insert never answers a retry.
+     */
+    public void recordAfterCommit(UUID eventId, GameStatDTO gameStat) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(eventId, gameStat, System.currentTimeMillis());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(eventId, gameStat, System.currentTimeMillis());
+            }
+        });
+    }
+
+    synchronized GameStatDTO find(UUID eventId, long now) {
+        if (eventId == null) return null;
+        evictExpired(now);
+        Entry entry = entries.get(eventId);
+        return entry != null ? entry.gameStat() : null;
+    }
+
+    synchronized void record(UUID eventId, GameStatDTO gameStat, long now) {
+        if (eventId == null) return;
+        evictExpired(now);
+        // first commit wins, a re-insert would also move the entry to the back of the queue
+        entries.putIfAbsent(eventId, new Entry(gameStat, now));
+        if (entries.size() > maxEntries) {
+            Iterator<UUID> eldest = entries.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<UUID, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().getValue().recordedAt() < windowMillis) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    private record Entry(GameStatDTO gameStat, long recordedAt) {}
+}
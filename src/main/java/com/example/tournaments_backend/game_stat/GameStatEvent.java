@@ -0,0 +1,30 @@
+package com.example.tournaments_backend.game_stat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by GameStatService for every game stat mutation.
+ * previous is null for CREATED, current is null for DELETED.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class GameStatEvent {
+    private final GameStatChangeType changeType;
+    private final GameStatSnapshot previous;
+    private final GameStatSnapshot current;
+
+    public static GameStatEvent created(GameStatSnapshot current) {
+        return new GameStatEvent(GameStatChangeType.CREATED, null, current);
+    }
+
+    public static GameStatEvent updated(GameStatSnapshot previous, GameStatSnapshot current) {
+        return new GameStatEvent(GameStatChangeType.UPDATED, previous, current);
+    }
+
+    public static GameStatEvent deleted(GameStatSnapshot previous) {
+        return new GameStatEvent(GameStatChangeType.DELETED, previous, null);
+    }
+}
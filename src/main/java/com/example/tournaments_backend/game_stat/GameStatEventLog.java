@@ -0,0 +1,164 @@
+package com.example.tournaments_backend.game_stat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Sequential log of every committed game stat change, kept on local disk in memory-mapped
+ * segments (see GameStatLogCodec for the record format). A segment that is full is left
+ * as is and the next record starts a new one. Mappings are forced to disk on a timer;
+ * the log is derived data, so a crash can lose at most the last interval, never Postgres rows.
+ *
+ * getTimeline() reads only the records of one game, through an in-memory index of where
+ * each game's records are, kept on append and rebuilt from the segments on startup. A
+ * timeline covers the game's whole history, so segments are kept rather than pruned.
+ */
+@Component
+@ConditionalOnProperty(name = "game-stat.event-log.enabled", havingValue = "true")
+public class GameStatEventLog {
+    private final static Logger LOGGER = LoggerFactory.getLogger(GameStatEventLog.class);
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final List<GameStatLogSegment> segments = new CopyOnWriteArrayList<>();
+    // game id -> (segment index << 32 | position) of each record that touches the game, guarded by this
+    private final Map<Long, RecordLocations> locationsByGameId = new HashMap<>();
+    private long lastSequence;
+
+    public GameStatEventLog(
+        @Value("${game-stat.event-log.dir:data/game-stat-log}") Path directory,
+        @Value("${game-stat.event-log.segment-bytes:67108864}") int segmentBytes) throws IOException
+    {
+        this.directory = directory;
+        this.segmentBytes = Math.max(segmentBytes, GameStatLogCodec.MAX_RECORD_BYTES);
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            // zero-padded names sort in sequence order
+            for (Path path : files.filter(GameStatLogSegment::isSegment).sorted().toList()) {
+                segments.add(GameStatLogSegment.open(path));
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.add(GameStatLogSegment.create(directory, 1L, this.segmentBytes));
+        }
+        for (int i = 0; i < segments.size(); i++) {
+            int segmentIndex = i;
+            segments.get(i).forEachAt((record, position) -> index(record.getEvent(), segmentIndex, position));
+        }
+        this.lastSequence = activeSegment().getLastSequence();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onGameStatEvent(GameStatEvent event) {
+        long sequence = lastSequence + 1;
+        try {
+            GameStatLogSegment active = activeSegment();
+            int position = active.append(sequence, event);
+            if (position < 0) {
+                active.force();
+                active = GameStatLogSegment.create(directory, sequence, segmentBytes);
+                segments.add(active);
+                position = active.append(sequence, event);
+            }
+            lastSequence = sequence;
+            index(event, segments.size() - 1, position);
+        }
+        catch (IOException e) {
+            LOGGER.error("Appending game stat event {} to the event log failed", sequence, e);
+        }
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Every change to the game's stats in the order it was committed. A stat moved to
+     * another game shows up as deleted in the game it left.
+     */
+    public List<GameStatLogEntryDTO> getTimeline(Long gameId) {
+        long[] locations;
+        synchronized (this) {
+            RecordLocations recordLocations = locationsByGameId.get(gameId);
+            locations = recordLocations == null ? new long[0] : recordLocations.toArray();
+        }
+        List<GameStatLogSegment> snapshot = List.copyOf(segments);
+        List<GameStatLogEntryDTO> timeline = new ArrayList<>(locations.length);
+        for (long location : locations) {
+            GameStatLogRecord record = snapshot.get((int) (location >>> 32)).read((int) location);
+            GameStatEvent event = record.getEvent();
+            GameStatSnapshot current = event.getCurrent();
+            if (current != null && current.getGameId().equals(gameId)) {
+                timeline.add(GameStatLogEntryDTO.of(record.getSequence(), event.getChangeType(), current));
+            }
+            else {
+                timeline.add(GameStatLogEntryDTO.of(record.getSequence(), GameStatChangeType.DELETED, event.getPrevious()));
+            }
+        }
+        return timeline;
+    }
+
+    @Scheduled(fixedDelayString = "${game-stat.event-log.force-ms:1000}")
+    public void force() {
+        activeSegment().force();
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        for (GameStatLogSegment segment : segments) {
+            segment.close();
+        }
+    }
+
+    private GameStatLogSegment activeSegment() {
+        return segments.get(segments.size() - 1);
+    }
+
+    // caller holds the lock, or is the constructor
+    private void index(GameStatEvent event, int segmentIndex, int position) {
+        long location = (long) segmentIndex << 32 | position;
+        GameStatSnapshot previous = event.getPrevious();
+        GameStatSnapshot current = event.getCurrent();
+        if (current != null) {
+            locationsByGameId.computeIfAbsent(current.getGameId(), id -> new RecordLocations()).add(location);
+        }
+        // a stat moved to another game also belongs to the timeline of the game it left
+        if (previous != null && (current == null || !previous.getGameId().equals(current.getGameId()))) {
+            locationsByGameId.computeIfAbsent(previous.getGameId(), id -> new RecordLocations()).add(location);
+        }
+    }
+
+    private static class RecordLocations {
+        private long[] locations = new long[4];
+        private int size;
+
+        void add(long location) {
+            if (size == locations.length) {
+                locations = Arrays.copyOf(locations, size * 2);
+            }
+            locations[size++] = location;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(locations, size);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.tournaments_backend.game_stat;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping(path="/api/v1/games")
+@ConditionalOnProperty(name = "game-stat.event-log.enabled", havingValue = "true")
+@Tag(name = "Game Stat Log", description = "API endpoints for the game stat event log")
+public class GameStatEventLogController {
+    private final GameStatEventLog gameStatEventLog;
+
+    @Autowired
+    public GameStatEventLogController(GameStatEventLog gameStatEventLog) {
+        this.gameStatEventLog = gameStatEventLog;
+    }
+
+    @Operation(summary = "Get a game's timeline", description = "Returns every logged change to the game's stats in commit order, read from the local event log")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved timeline", 
+            content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = GameStatLogEntryDTO.class)))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @GetMapping("{gameId}/timeline")
+    public ResponseEntity<List<GameStatLogEntryDTO>> getTimeline(
+        @Parameter(description = "The game id", required = true) @PathVariable("gameId") Long gameId)
+    {
+        return ResponseEntity.ok(gameStatEventLog.getTimeline(gameId));
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.tournaments_backend.game_stat;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary format of the game stat event log. A record is
+ *
+ *   int length | int crc32c | long sequence | byte changeType | byte flags | snapshot{0,2}
+ *
+ * where length and the checksum cover everything after the header, flags says which of
+ * previous and current follow, and a snapshot is seven longs of ids (0 for a null team),
+ * a byte for the type and the createdAt as epoch seconds plus nanos. Enums are stored by
+ * ordinal, so new GameStatType and GameStatChangeType values must be added at the end.
+ */
+final class GameStatLogCodec {
+    static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int SNAPSHOT_BYTES = 7 * Long.BYTES + 1 + Long.BYTES + Integer.BYTES;
+    private static final int FIXED_PAYLOAD_BYTES = Long.BYTES + 2;
+    static final int MAX_RECORD_BYTES = HEADER_BYTES + FIXED_PAYLOAD_BYTES + 2 * SNAPSHOT_BYTES;
+
+    private static final byte HAS_PREVIOUS = 1;
+    private static final byte HAS_CURRENT = 2;
+    private static final long NO_CREATED_AT = Long.MIN_VALUE;
+    private static final GameStatChangeType[] CHANGE_TYPES = GameStatChangeType.values();
+    private static final GameStatType[] TYPES = GameStatType.values();
+
+    private GameStatLogCodec() {}
+
+    static int encodedSize(GameStatEvent event) {
+        int snapshots = (event.getPrevious() != null ? 1 : 0) + (event.getCurrent() != null ? 1 : 0);
+        return HEADER_BYTES + FIXED_PAYLOAD_BYTES + snapshots * SNAPSHOT_BYTES;
+    }
+
+    /**
+     * Writes the record at the buffer's position and moves the position past it.
+     * The caller checks that encodedSize(event) bytes remain.
+     */
+    static void encode(ByteBuffer buffer, long sequence, GameStatEvent event) {
+        int start = buffer.position();
+        int payloadStart = start + HEADER_BYTES;
+        byte flags = (byte) ((event.getPrevious() != null ? HAS_PREVIOUS : 0) | (event.getCurrent() != null ? HAS_CURRENT : 0));
+        buffer.position(payloadStart);
+        buffer.putLong(sequence);
+        buffer.put((byte) event.getChangeType().ordinal());
+        buffer.put(flags);
+        if (event.getPrevious() != null) {
+            putSnapshot(buffer, event.getPrevious());
+        }
+        if (event.getCurrent() != null) {
+            putSnapshot(buffer, event.getCurrent());
+        }
+
+        int length = buffer.position() - payloadStart;
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(payloadStart, length));
+        buffer.putInt(start + Integer.BYTES, (int) crc.getValue());
+        buffer.putInt(start, length);
+    }
+
+    /**
+     * Reads the record at the buffer's position and moves the position past it. Returns
+     * null, without moving, at the end of the written data: a zero length, or a record that
+     * is cut off or fails its checksum because the process died while writing it.
+     */
+    static GameStatLogRecord decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_BYTES) {
+            return null;
+        }
+        int length = buffer.getInt(start);
+        if (length < FIXED_PAYLOAD_BYTES || length > MAX_RECORD_BYTES - HEADER_BYTES || buffer.remaining() < HEADER_BYTES + length) {
+            return null;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start + HEADER_BYTES, length));
+        if ((int) crc.getValue() != buffer.getInt(start + Integer.BYTES)) {
+            return null;
+        }
+
+        buffer.position(start + HEADER_BYTES);
+        long sequence = buffer.getLong();
+        GameStatChangeType changeType = CHANGE_TYPES[buffer.get()];
+        byte flags = buffer.get();
+        GameStatSnapshot previous = (flags & HAS_PREVIOUS) != 0 ? getSnapshot(buffer) : null;
+        GameStatSnapshot current = (flags & HAS_CURRENT) != 0 ? getSnapshot(buffer) : null;
+        return new GameStatLogRecord(sequence, new GameStatEvent(changeType, previous, current));
+    }
+
+    private static void putSnapshot(ByteBuffer buffer, GameStatSnapshot snapshot) {
+        buffer.putLong(snapshot.getId());
+        buffer.putLong(snapshot.getGameId());
+        buffer.putLong(snapshot.getLeagueId());
+        buffer.putLong(snapshot.getHomeTeamId());
+        buffer.putLong(snapshot.getAwayTeamId());
+        buffer.putLong(snapshot.getPlayerId());
+        buffer.putLong(snapshot.getTeamId() != null ? snapshot.getTeamId() : 0L);
+        buffer.put((byte) snapshot.getType().ordinal());
+        LocalDateTime createdAt = snapshot.getCreatedAt();
+        buffer.putLong(createdAt != null ? createdAt.toEpochSecond(ZoneOffset.UTC) : NO_CREATED_AT);
+        buffer.putInt(createdAt != null ? createdAt.getNano() : 0);
+    }
+
+    private static GameStatSnapshot getSnapshot(ByteBuffer buffer) {
+        long id = buffer.getLong();
+        long gameId = buffer.getLong();
+        long leagueId = buffer.getLong();
+        long homeTeamId = buffer.getLong();
+        long awayTeamId = buffer.getLong();
+        long playerId = buffer.getLong();
+        long teamId = buffer.getLong();
+        GameStatType type = TYPES[buffer.get()];
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        return new GameStatSnapshot(
+            id,
+            gameId,
+            leagueId,
+            homeTeamId,
+            awayTeamId,
+            playerId,
+            teamId != 0L ? teamId : null,
+            type,
+            epochSecond != NO_CREATED_AT ? LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC) : null
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.tournaments_backend.game_stat;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One change in a game's timeline. Stat fields are null for DELETED entries.
+ */
+@Getter
+@AllArgsConstructor
+public class GameStatLogEntryDTO {
+    private final long sequence;
+    private final Long gameId;
+    private final GameStatChangeType changeType;
+    private final Long gameStatId;
+    private final GameStatType type;
+    private final Long playerId;
+    private final Long teamId;
+    private final LocalDateTime createdAt;
+
+    public static GameStatLogEntryDTO of(long sequence, GameStatChangeType changeType, GameStatSnapshot snapshot) {
+        if (changeType == GameStatChangeType.DELETED) {
+            return new GameStatLogEntryDTO(sequence, snapshot.getGameId(), changeType, snapshot.getId(), null, null, null, null);
+        }
+        return new GameStatLogEntryDTO(
+            sequence,
+            snapshot.getGameId(),
+            changeType,
+            snapshot.getId(),
+            snapshot.getType(),
+            snapshot.getPlayerId(),
+            snapshot.getTeamId(),
+            snapshot.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.tournaments_backend.game_stat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A game stat event read back from the event log, with its position in the log.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class GameStatLogRecord {
+    private final long sequence;
+    private final GameStatEvent event;
+}
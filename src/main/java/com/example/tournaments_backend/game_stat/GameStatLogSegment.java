@@ -0,0 +1,120 @@
+package com.example.tournaments_backend.game_stat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * One preallocated, memory-mapped file of the event log, named after the sequence of its
+ * first record. Appends are serialized by GameStatEventLog; readers decode straight from
+ * the mapping up to the last complete record, so they never copy or block the writer.
+ */
+class GameStatLogSegment implements Closeable {
+    private static final String SUFFIX = ".log";
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    // end of the last complete record, published to readers after the record is written
+    private volatile int writePosition;
+    private long lastSequence;
+
+    private GameStatLogSegment(long firstSequence, FileChannel channel, int size) throws IOException {
+        this.channel = channel;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        this.lastSequence = firstSequence - 1;
+    }
+
+    static GameStatLogSegment create(Path directory, long firstSequence, int size) throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(fileName(firstSequence)),
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new GameStatLogSegment(firstSequence, channel, size);
+    }
+
+    /**
+     * Maps an existing segment and finds the end of its data. Whatever follows the last
+     * valid record is a write cut short by a crash and is zeroed so it cannot be mistaken
+     * for data once new records are appended in front of it.
+     */
+    static GameStatLogSegment open(Path path) throws IOException {
+        String name = path.getFileName().toString();
+        long firstSequence = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        GameStatLogSegment segment = new GameStatLogSegment(firstSequence, channel, (int) channel.size());
+
+        ByteBuffer view = segment.buffer.duplicate().position(0);
+        GameStatLogRecord record;
+        while ((record = GameStatLogCodec.decode(view)) != null) {
+            segment.lastSequence = record.getSequence();
+        }
+        int end = view.position();
+        int tornEnd = Math.min(segment.buffer.capacity(), end + GameStatLogCodec.MAX_RECORD_BYTES);
+        for (int i = end; i < tornEnd; i++) {
+            segment.buffer.put(i, (byte) 0);
+        }
+        segment.writePosition = end;
+        return segment;
+    }
+
+    static boolean isSegment(Path path) {
+        return path.getFileName().toString().endsWith(SUFFIX);
+    }
+
+    long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Returns the position of the new record, or -1, writing nothing, when the record
+     * does not fit in what is left.
+     */
+    int append(long sequence, GameStatEvent event) {
+        if (buffer.capacity() - writePosition < GameStatLogCodec.encodedSize(event)) {
+            return -1;
+        }
+        int position = writePosition;
+        ByteBuffer view = buffer.duplicate().position(position);
+        GameStatLogCodec.encode(view, sequence, event);
+        lastSequence = sequence;
+        writePosition = view.position();
+        return position;
+    }
+
+    /**
+     * Decodes the record at a position returned by append or visited by forEachAt.
+     */
+    GameStatLogRecord read(int position) {
+        return GameStatLogCodec.decode(buffer.asReadOnlyBuffer().position(position).limit(writePosition));
+    }
+
+    /**
+     * Passes every record with its position to the consumer, e.g. to index the segment.
+     */
+    void forEachAt(ObjIntConsumer<GameStatLogRecord> consumer) {
+        ByteBuffer view = buffer.asReadOnlyBuffer().position(0).limit(writePosition);
+        int position = 0;
+        GameStatLogRecord record;
+        while ((record = GameStatLogCodec.decode(view)) != null) {
+            consumer.accept(record, position);
+            position = view.position();
+        }
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private static String fileName(long firstSequence) {
+        return String.format("%020d%s", firstSequence, SUFFIX);
+    }
+}
@@ -1,11 +1,24 @@
 package com.example.tournaments_backend.game_stat;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface GameStatRepository extends JpaRepository<GameStat, Long> {
     List<GameStat> findByGame_Id(Long gameId);
+
+    @EntityGraph(attributePaths = {"game", "player"})
+    List<GameStat> findByIdGreaterThanOrderByIdAsc(Long after, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"game", "player"})
+    List<GameStat> findByGame_IdAndIdGreaterThanOrderByIdAsc(Long gameId, Long after, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"game", "player"})
+    List<GameStat> findByEventIdIn(Collection<UUID> eventIds);
 }
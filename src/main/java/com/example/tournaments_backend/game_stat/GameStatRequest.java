@@ -1,6 +1,7 @@
 package com.example.tournaments_backend.game_stat;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -19,4 +20,6 @@ public class GameStatRequest {
     private final GameStatType type;
     @NotNull
     private final LocalDateTime createdAt;
+    // generated by the client once per event and reused on retries, optional for older clients
+    private final UUID eventId;
 }
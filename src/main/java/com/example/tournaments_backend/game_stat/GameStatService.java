@@ -1,38 +1,122 @@
 package com.example.tournaments_backend.game_stat;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.tournaments_backend.exception.ServiceException;
 import com.example.tournaments_backend.exception.ClientErrorKey;
 import com.example.tournaments_backend.game.Game;
 import com.example.tournaments_backend.player.Player;
 import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.pagination.CursorPage;
 import com.example.tournaments_backend.player.PlayerRepository;
 
-import lombok.AllArgsConstructor;
+import jakarta.persistence.EntityManager;
 
+/**
+ * Writes that carry a client event id insert straight away and rely on the unique
+ * constraint on game_stat.event_id. Only when it is violated, i.e. a retry raced the
+ * original request or outlived the dedup index, is the stored game stat looked up and
+ * returned as the replay. The insert runs in its own transaction so the lookup can follow
+ * the rolled back one; inside a caller's transaction, which Postgres aborts on the
+ * violation, the duplicate is reported as a 409 instead.
+ */
 @Service
-@AllArgsConstructor
 public class GameStatService {
+    public static final int MAX_BULK_SIZE = 5_000;
+
     private final GameStatRepository gameStatRepository;
     private final GameRepository gameRepository;
     private final PlayerRepository playerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GameStatDedupIndex dedupIndex;
+    private final EntityManager entityManager;
+    private final TransactionTemplate writeTransaction;
 
-    @Transactional
-    public GameStat addGameStat(GameStatRequest gameStatRequest) throws ServiceException {
+    public GameStatService(
+        GameStatRepository gameStatRepository,
+        GameRepository gameRepository,
+        PlayerRepository playerRepository,
+        ApplicationEventPublisher eventPublisher,
+        GameStatDedupIndex dedupIndex,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager)
+    {
+        this.gameStatRepository = gameStatRepository;
+        this.gameRepository = gameRepository;
+        this.playerRepository = playerRepository;
+        this.eventPublisher = eventPublisher;
+        this.dedupIndex = dedupIndex;
+        this.entityManager = entityManager;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public GameStatDTO addGameStat(GameStatRequest gameStatRequest) throws ServiceException {
+        // a retry of a recently committed event gets the original game stat back
+        GameStatDTO replayed = dedupIndex.find(gameStatRequest.getEventId());
+        if (replayed != null) {
+            return replayed;
+        }
+
+        boolean callerTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        try {
+            return writeTransaction.execute(status -> insertGameStat(gameStatRequest));
+        }
+        catch (ServiceException e) {
+            if (callerTransaction || e.getErrorKey() != ClientErrorKey.DUPLICATE_GAME_STAT_EVENT) {
+                throw e;
+            }
+            UUID eventId = gameStatRequest.getEventId();
+            GameStatDTO stored = findStored(List.of(eventId)).get(eventId);
+            if (stored == null) {
+                throw e;
+            }
+            return stored;
+        }
+    }
+
+    /**
+     * The checks addGameStat runs before inserting, for callers that store the game stat
+     * later, like the write-behind buffer. Games and players are in the second-level cache,
+     * so this rarely costs a query.
+     */
+    public void validateGameStat(GameStatRequest gameStatRequest) throws ServiceException {
+        findActiveGame(gameStatRequest.getGameId());
+        findPlayer(gameStatRequest.getPlayerId());
+    }
+
+    private GameStatDTO insertGameStat(GameStatRequest gameStatRequest) throws ServiceException {
         GameStat gameStat = new GameStat(gameStatRequest);
-        Long gameId = gameStatRequest.getGameId();
-        
+        gameStat.setGame(findActiveGame(gameStatRequest.getGameId()));
+        gameStat.setPlayer(findPlayer(gameStatRequest.getPlayerId()));
+        GameStat gameStatInDB = saveAllOrThrowDuplicate(List.of(gameStat)).get(0);
+        GameStatDTO gameStatDTO = new GameStatDTO(gameStatInDB);
+        dedupIndex.recordAfterCommit(gameStatInDB.getEventId(), gameStatDTO);
+        eventPublisher.publishEvent(GameStatEvent.created(GameStatSnapshot.of(gameStatInDB)));
+        return gameStatDTO;
+    }
+
+    private Game findActiveGame(Long gameId) throws ServiceException {
         // 1. Check if Game exists
         Game game = gameRepository
                 .findById(gameId)
@@ -54,11 +138,12 @@ public class GameStatService {
                 "Game is inactive."
             );
         }
+        return game;
+    }
 
+    private Player findPlayer(Long playerId) throws ServiceException {
         // 3. Check if Player exists
-        Long playerId = gameStatRequest.getPlayerId();
-        Player player =
-            playerRepository
+        return playerRepository
                 .findById(playerId)
                 .orElseThrow(() -> new ServiceException(
                     HttpStatus.NOT_FOUND, 
@@ -66,33 +151,210 @@ public class GameStatService {
                     "Player", 
                     "Player with id = " + playerId + " not found"
                 ));
-        gameStat.setGame(game);
-        gameStat.setPlayer(player);   
-        return gameStatRepository.save(gameStat); 
+    }
+
+    /**
+     * Creates many game stats at once, e.g. when a scorekeeper device comes back online.
+     * Games and players are looked up in one query each, and each game is checked for
+     * isActive() once. Invalid items are reported by index instead of failing the batch.
+     * Items whose event id was already committed, or repeats an earlier item of the same
+     * batch, come back as the original game stat so replays after a reconnect are cheap.
+     * If the insert hits an event id the dedup index did not know, the stored game stats
+     * are loaded and the batch is written again with them as replays.
+     */
+    public GameStatCreateResponse addGameStats(List<GameStatRequest> gameStatRequests) throws ServiceException {
+        if (gameStatRequests.size() > MAX_BULK_SIZE) {
+            throw new ServiceException(
+                HttpStatus.BAD_REQUEST,
+                ClientErrorKey.VALIDATION_FAILED,
+                "Game stat",
+                "At most " + MAX_BULK_SIZE + " game stats can be created per request."
+            );
+        }
+        boolean callerTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        Map<UUID, GameStatDTO> stored = new HashMap<>();
+        while (true) {
+            try {
+                return writeTransaction.execute(status -> insertGameStats(gameStatRequests, stored));
+            }
+            catch (ServiceException e) {
+                if (callerTransaction || e.getErrorKey() != ClientErrorKey.DUPLICATE_GAME_STAT_EVENT) {
+                    throw e;
+                }
+                Set<UUID> unknownEventIds = gameStatRequests.stream()
+                        .map(GameStatRequest::getEventId)
+                        .filter(eventId -> eventId != null && !stored.containsKey(eventId))
+                        .collect(Collectors.toSet());
+                int knownCount = stored.size();
+                stored.putAll(findStored(unknownEventIds));
+                // every attempt replays at least one more event id, so this ends
+                if (stored.size() == knownCount) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private GameStatCreateResponse insertGameStats(List<GameStatRequest> gameStatRequests, Map<UUID, GameStatDTO> stored) {
+        Set<Long> gameIds = gameStatRequests.stream()
+                .map(GameStatRequest::getGameId)
+                .collect(Collectors.toSet());
+        Set<Long> playerIds = gameStatRequests.stream()
+                .map(GameStatRequest::getPlayerId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Game> gamesMap = gameRepository.findAllById(gameIds).stream()
+                .collect(Collectors.toMap(Game::getId, Function.identity()));
+        Map<Long, Player> playersMap = playerRepository.findWithTeamsByIdIn(playerIds).stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+        Map<Long, Boolean> activeGames = gamesMap.values().stream()
+                .collect(Collectors.toMap(Game::getId, Game::isActive));
+
+        List<GameStat> newGameStats = new ArrayList<>();
+        List<CreateFailure> failures = new ArrayList<>();
+        // per request index: the game stat to insert, or the one committed earlier for its event id
+        GameStat[] createdByIndex = new GameStat[gameStatRequests.size()];
+        GameStatDTO[] replayedByIndex = new GameStatDTO[gameStatRequests.size()];
+        Map<UUID, GameStat> createdByEventId = new HashMap<>();
+        for (int i = 0; i < gameStatRequests.size(); i++) {
+            GameStatRequest request = gameStatRequests.get(i);
+            UUID eventId = request.getEventId();
+            if (eventId != null) {
+                replayedByIndex[i] = stored.containsKey(eventId) ? stored.get(eventId) : dedupIndex.find(eventId);
+                createdByIndex[i] = createdByEventId.get(eventId);
+                if (replayedByIndex[i] != null || createdByIndex[i] != null) {
+                    continue;
+                }
+            }
+
+            Long gameId = request.getGameId();
+            Game game = gamesMap.get(gameId);
+            if (game == null) {
+                failures.add(new CreateFailure(i, "Game with ID " + gameId + " not found."));
+                continue;
+            }
+
+            if (!activeGames.get(gameId)) {
+                failures.add(new CreateFailure(i, "Game with ID " + gameId + " is inactive."));
+                continue;
+            }
+
+            Long playerId = request.getPlayerId();
+            Player player = playersMap.get(playerId);
+            if (player == null) {
+                failures.add(new CreateFailure(i, "Player with ID " + playerId + " not found."));
+                continue;
+            }
+
+            GameStat gameStat = new GameStat(request);
+            gameStat.setGame(game);
+            gameStat.setPlayer(player);
+            newGameStats.add(gameStat);
+            createdByIndex[i] = gameStat;
+            if (eventId != null) {
+                createdByEventId.put(eventId, gameStat);
+            }
+        }
+
+        saveAllOrThrowDuplicate(newGameStats);
+        Map<GameStat, GameStatDTO> createdDTOs = new IdentityHashMap<>();
+        for (GameStat gameStat : newGameStats) {
+            GameStatDTO gameStatDTO = new GameStatDTO(gameStat);
+            createdDTOs.put(gameStat, gameStatDTO);
+            dedupIndex.recordAfterCommit(gameStat.getEventId(), gameStatDTO);
+            eventPublisher.publishEvent(GameStatEvent.created(GameStatSnapshot.of(gameStat)));
+        }
+
+        List<GameStatDTO> successfulCreates = new ArrayList<>();
+        for (int i = 0; i < gameStatRequests.size(); i++) {
+            if (replayedByIndex[i] != null) {
+                successfulCreates.add(replayedByIndex[i]);
+            }
+            else if (createdByIndex[i] != null) {
+                successfulCreates.add(createdDTOs.get(createdByIndex[i]));
+            }
+        }
+        return new GameStatCreateResponse(successfulCreates, failures);
+    }
+
+    /**
+     * The stored game stats for the event ids, which are also put in the dedup index
+     * so further retries are answered without a lookup.
+     */
+    private Map<UUID, GameStatDTO> findStored(Collection<UUID> eventIds) {
+        Map<UUID, GameStatDTO> stored = new HashMap<>();
+        if (eventIds.isEmpty()) {
+            return stored;
+        }
+        for (GameStat gameStat : gameStatRepository.findByEventIdIn(eventIds)) {
+            GameStatDTO gameStatDTO = new GameStatDTO(gameStat);
+            stored.put(gameStat.getEventId(), gameStatDTO);
+            dedupIndex.recordAfterCommit(gameStat.getEventId(), gameStatDTO);
+        }
+        return stored;
+    }
+
+    /**
+     * Inserts and flushes, so a duplicate event id is reported as a conflict here
+     * instead of as a failed commit.
+     */
+    private List<GameStat> saveAllOrThrowDuplicate(List<GameStat> gameStats) throws ServiceException {
+        try {
+            List<GameStat> saved = gameStatRepository.saveAll(gameStats);
+            gameStatRepository.flush();
+            return saved;
+        }
+        catch (DataIntegrityViolationException e) {
+            if (!violates(e, GameStat.EVENT_ID_CONSTRAINT)) {
+                throw e;
+            }
+            // rolled back with the transaction, so they must not be flushed again
+            gameStats.forEach(entityManager::detach);
+            throw duplicateEventId();
+        }
+    }
+
+    private static boolean violates(DataIntegrityViolationException e, String constraintName) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return constraintName.equalsIgnoreCase(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
+
+    private static ServiceException duplicateEventId() {
+        return new ServiceException(
+            HttpStatus.CONFLICT,
+            ClientErrorKey.DUPLICATE_GAME_STAT_EVENT,
+            "Game stat",
+            "A game stat with the same event id already exists."
+        );
     }
 
     @Transactional
-    public List<GameStat> getGameStatsByGameId(Optional<Long> optionalGameId) throws ServiceException {
+    public CursorPage<GameStat> getGameStatsByGameId(Optional<Long> optionalGameId, int limit, Optional<Long> after) throws ServiceException {
+        Pageable pageable = CursorPage.request(limit);
         List<GameStat> gameStats;
         
         if (optionalGameId.isPresent()) {
             Long gameId = optionalGameId.get();
             // Check if Game exists
-            gameRepository
-                .findById(gameId)
-                .orElseThrow(() -> new ServiceException(
+            if (!gameRepository.existsById(gameId)) {
+                throw new ServiceException(
                     HttpStatus.NOT_FOUND, 
                     ClientErrorKey.GAME_NOT_FOUND, // Using generic key for resource not found
                     "Game", 
                     "Game with id = " + gameId + " not found"
-                ));
-            gameStats = gameStatRepository.findByGame_Id(gameId);
+                );
+            }
+            gameStats = gameStatRepository.findByGame_IdAndIdGreaterThanOrderByIdAsc(gameId, CursorPage.after(after), pageable);
         } 
         else {
-            gameStats = gameStatRepository.findAll();
+            gameStats = gameStatRepository.findByIdGreaterThanOrderByIdAsc(CursorPage.after(after), pageable);
         }
         
-        return gameStats;
+        return CursorPage.of(gameStats, limit, GameStat::getId);
     }
 
     @Transactional
@@ -130,7 +392,9 @@ public class GameStatService {
             );
         }
 
+        GameStatSnapshot previous = GameStatSnapshot.of(gameStat);
         gameStatRepository.deleteById(id);
+        eventPublisher.publishEvent(GameStatEvent.deleted(previous));
 
         return gameStat;
     }
@@ -180,11 +444,14 @@ public class GameStatService {
                     "Player", 
                     "Player with id = " + playerId + " not found"
                 ));
+        GameStatSnapshot previous = GameStatSnapshot.of(gameStat);
         gameStat.setGame(game);
         gameStat.setPlayer(player);
         gameStat.setType(gameStatRequest.getType());
         gameStat.setCreatedAt(gameStatRequest.getCreatedAt());
-        return gameStatRepository.save(gameStat);
+        GameStat gameStatInDB = gameStatRepository.save(gameStat);
+        eventPublisher.publishEvent(GameStatEvent.updated(previous, GameStatSnapshot.of(gameStatInDB)));
+        return gameStatInDB;
     }
 
     @Transactional
@@ -202,12 +469,13 @@ public class GameStatService {
         List<GameStat> existingGameStats = gameStatRepository.findAllById(gameStatIds);
         Map<Long, Game> gamesMap = gameRepository.findAllById(gameIds).stream()
                 .collect(Collectors.toMap(Game::getId, Function.identity()));
-        Map<Long, Player> playersMap = playerRepository.findAllById(playerIds).stream()
+        Map<Long, Player> playersMap = playerRepository.findWithTeamsByIdIn(playerIds).stream()
                 .collect(Collectors.toMap(Player::getId, Function.identity()));
         Map<Long, GameStat> existingGameStatsMap = existingGameStats.stream()
                 .collect(Collectors.toMap(GameStat::getId, Function.identity()));
 
         List<GameStat> updatedGameStats = new ArrayList<>();
+        List<GameStatSnapshot> previousSnapshots = new ArrayList<>();
         List<Failure> failures = new ArrayList<>();
         for (GameStatUpdateRequest request : gameStatsToUpdate) {
             Long gameStatId = request.getId();
@@ -239,6 +507,7 @@ public class GameStatService {
                 continue;
             }
 
+            previousSnapshots.add(GameStatSnapshot.of(gameStat));
             gameStat.setGame(game);
             gameStat.setPlayer(player);
             gameStat.setType(request.getType());
@@ -246,6 +515,10 @@ public class GameStatService {
         }
 
         List<GameStat> successfulUpdates = gameStatRepository.saveAll(updatedGameStats);
+        for (int i = 0; i < successfulUpdates.size(); i++) {
+            GameStatSnapshot current = GameStatSnapshot.of(successfulUpdates.get(i));
+            eventPublisher.publishEvent(GameStatEvent.updated(previousSnapshots.get(i), current));
+        }
         GameStatUpdateResponse response = new GameStatUpdateResponse(successfulUpdates, failures);
         return response;
     }
@@ -0,0 +1,58 @@
+package com.example.tournaments_backend.game_stat;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.team.Team;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Detached, immutable copy of a GameStat taken inside the writing transaction,
+ * so listeners can consume it after commit without touching the persistence context.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class GameStatSnapshot {
+    private final Long id;
+    private final Long gameId;
+    private final Long leagueId;
+    private final Long homeTeamId;
+    private final Long awayTeamId;
+    private final Long playerId;
+    // team of the player in this game (home or away), null if the player is on neither roster
+    private final Long teamId;
+    private final GameStatType type;
+    private final LocalDateTime createdAt;
+
+    public static GameStatSnapshot of(GameStat gameStat) {
+        Game game = gameStat.getGame();
+        Long homeTeamId = game.getHomeTeam().getId();
+        Long awayTeamId = game.getAwayTeam().getId();
+        Set<Long> playerTeamIds = gameStat.getPlayer().getTeams().stream()
+                .map(Team::getId)
+                .collect(Collectors.toSet());
+        return new GameStatSnapshot(
+            gameStat.getId(),
+            game.getId(),
+            game.getLeague().getId(),
+            homeTeamId,
+            awayTeamId,
+            gameStat.getPlayer().getId(),
+            resolveTeamId(playerTeamIds, homeTeamId, awayTeamId),
+            gameStat.getType(),
+            gameStat.getCreatedAt()
+        );
+    }
+
+    public static Long resolveTeamId(Set<Long> playerTeamIds, Long homeTeamId, Long awayTeamId) {
+        if (playerTeamIds.contains(homeTeamId)) return homeTeamId;
+        if (playerTeamIds.contains(awayTeamId)) return awayTeamId;
+        return null;
+    }
+}
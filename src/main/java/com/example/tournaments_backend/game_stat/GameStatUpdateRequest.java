@@ -12,8 +12,9 @@ public class GameStatUpdateRequest extends GameStatRequest {
     @NotNull
     private final Long id;
 
+    // updates are keyed by id and not deduplicated, so they carry no event id
     public GameStatUpdateRequest(Long id, Long gameId, Long playerId, GameStatType type, LocalDateTime createAt) {
-        super(gameId, playerId, type, createAt);
+        super(gameId, playerId, type, createAt, null);
         this.id = id;
     }
 }
@@ -0,0 +1,17 @@
+package com.example.tournaments_backend.game_stat_archive;
+
+import java.time.LocalDateTime;
+
+import com.example.tournaments_backend.game_stat.GameStatType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ArchivedGameStatDTO {
+    private final Long id;
+    private final GameStatType type;
+    private final Long playerId;
+    private final LocalDateTime createdAt;
+}
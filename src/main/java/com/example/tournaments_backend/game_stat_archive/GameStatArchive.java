@@ -0,0 +1,30 @@
+package com.example.tournaments_backend.game_stat_archive;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * The stats of an ended game packed into one GameStatBlock, so its history is read
+ * with a single row instead of one entity per stat. The game_stat rows stay the source
+ * of truth; an archive is dropped whenever the game or its stats change.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameStatArchive {
+    @Id
+    private Long gameId;
+    @Column(nullable = false)
+    private Integer statCount;
+    @Column(nullable = false)
+    private byte[] block;
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
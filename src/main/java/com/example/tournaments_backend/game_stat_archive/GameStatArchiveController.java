@@ -0,0 +1,55 @@
+package com.example.tournaments_backend.game_stat_archive;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.pagination.CursorPage;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping(path="/api/v1/games")
+@Tag(name = "Game History", description = "API endpoints for the stats of ended games")
+public class GameStatArchiveController {
+    private final GameStatArchiveService gameStatArchiveService;
+
+    @Autowired
+    public GameStatArchiveController(GameStatArchiveService gameStatArchiveService) {
+        this.gameStatArchiveService = gameStatArchiveService;
+    }
+
+    @Operation(summary = "Get an ended game's stats", description = "Returns a page of the game's stats ordered by id, read from the game's archive when there is one")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved stats", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - limit is not valid or game has not ended",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Not found - game with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @GetMapping("{gameId}/history")
+    public ResponseEntity<CursorPage<ArchivedGameStatDTO>> getGameHistory(
+        @Parameter(description = "The game id", required = true) @PathVariable("gameId") Long gameId,
+        @Parameter(description = "Page size, at most " + CursorPage.MAX_LIMIT) @RequestParam(name = "limit", defaultValue = CursorPage.DEFAULT_LIMIT) int limit,
+        @Parameter(description = "Cursor from the previous page") @RequestParam("after") Optional<Long> after) throws ServiceException
+    {
+        return ResponseEntity.ok(gameStatArchiveService.getGameHistory(gameId, limit, after));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.tournaments_backend.game_stat_archive;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GameStatArchiveRepository extends JpaRepository<GameStatArchive, Long> {
+    @Query("SELECT new com.example.tournaments_backend.game_stat_archive.ArchivedGameStatRow(s.id, s.type, s.player.id, s.createdAt) " +
+           "FROM GameStat s WHERE s.game.id = :gameId ORDER BY s.id")
+    List<ArchivedGameStatRow> findRowsByGameId(@Param("gameId") Long gameId);
+
+    @Query("SELECT new com.example.tournaments_backend.game_stat_archive.ArchivedGameStatRow(s.id, s.type, s.player.id, s.createdAt) " +
+           "FROM GameStat s WHERE s.game.id = :gameId AND s.id > :after ORDER BY s.id")
+    List<ArchivedGameStatRow> findRowsByGameIdAfter(@Param("gameId") Long gameId, @Param("after") Long after, Pageable pageable);
+
+    @Query(value = "SELECT g.id FROM game g WHERE " +
+           "g.game_date_time + (g.duration_in_minutes * INTERVAL '1 minute') <= :now AND " +
+           "NOT EXISTS (SELECT 1 FROM game_stat_archive a WHERE a.game_id = g.id) " +
+           "ORDER BY g.id", nativeQuery = true)
+    List<Long> findEndedGameIdsWithoutArchive(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO game_stat_archive (game_id, stat_count, block, archived_at) " +
+           "VALUES (:gameId, :statCount, :block, :archivedAt) ON CONFLICT (game_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(
+        @Param("gameId") Long gameId,
+        @Param("statCount") int statCount,
+        @Param("block") byte[] block,
+        @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query("DELETE FROM GameStatArchive a WHERE a.gameId IN :gameIds")
+    int deleteByGameIdIn(@Param("gameIds") Collection<Long> gameIds);
+}
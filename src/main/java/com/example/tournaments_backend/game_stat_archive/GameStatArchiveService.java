@@ -0,0 +1,139 @@
+package com.example.tournaments_backend.game_stat_archive;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameChangedEvent;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.game_stat.GameStatEvent;
+import com.example.tournaments_backend.game_stat.GameStatSnapshot;
+import com.example.tournaments_backend.pagination.CursorPage;
+
+@Service
+public class GameStatArchiveService {
+    private static final ZoneId GAME_ZONE = ZoneId.of("America/Los_Angeles");
+
+    private final GameStatArchiveRepository gameStatArchiveRepository;
+    private final GameRepository gameRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public GameStatArchiveService(
+        GameStatArchiveRepository gameStatArchiveRepository,
+        GameRepository gameRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${game-stat.archive.batch-size:500}") int batchSize)
+    {
+        this.gameStatArchiveRepository = gameStatArchiveRepository;
+        this.gameRepository = gameRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * A page of an ended game's stats, decoded from its archive. A game that ended
+     * since the last archiving run is read from its game_stat rows until it is archived.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ArchivedGameStatDTO> getGameHistory(Long gameId, int limit, Optional<Long> after) throws ServiceException {
+        Pageable pageable = CursorPage.request(limit);
+        Optional<GameStatArchive> archive = gameStatArchiveRepository.findById(gameId);
+        if (archive.isEmpty()) {
+            findEndedGame(gameId);
+            List<ArchivedGameStatDTO> rows = gameStatArchiveRepository
+                    .findRowsByGameIdAfter(gameId, CursorPage.after(after), pageable).stream()
+                    .map(row -> new ArchivedGameStatDTO(row.getId(), row.getType(), row.getPlayerId(), row.getCreatedAt()))
+                    .toList();
+            return CursorPage.of(rows, limit, ArchivedGameStatDTO::getId);
+        }
+
+        GameStatBlock block = GameStatBlock.decode(archive.get().getBlock());
+        int from = block.indexAfter(CursorPage.after(after));
+        int to = Math.min(block.size(), from + pageable.getPageSize());
+        List<ArchivedGameStatDTO> rows = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            rows.add(new ArchivedGameStatDTO(block.getId(i), block.getType(i), block.getPlayerId(i), block.getCreatedAt(i)));
+        }
+        return CursorPage.of(rows, limit, ArchivedGameStatDTO::getId);
+    }
+
+    /**
+     * Archives up to batch-size ended games, each in its own transaction so a large run
+     * holds no locks for long and a failing game does not undo the others.
+     */
+    @Scheduled(fixedDelayString = "${game-stat.archive.interval-ms:600000}")
+    public void archiveEndedGames() {
+        List<Long> gameIds = gameStatArchiveRepository.findEndedGameIdsWithoutArchive(now(), PageRequest.ofSize(batchSize));
+        for (Long gameId : gameIds) {
+            transactionTemplate.executeWithoutResult(status -> archive(gameId));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onGameChanged(GameChangedEvent event) {
+        // a rescheduled game may be live again, a deleted one has nothing left to archive
+        gameStatArchiveRepository.deleteByGameIdIn(List.of(event.getGameId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onGameStatEvent(GameStatEvent event) {
+        // stats can only be written to live games, so the one archived game that can change
+        // is the game a stat is moved out of
+        GameStatSnapshot previous = event.getPrevious();
+        GameStatSnapshot current = event.getCurrent();
+        if (previous != null && current != null && !previous.getGameId().equals(current.getGameId())) {
+            gameStatArchiveRepository.deleteByGameIdIn(List.of(previous.getGameId()));
+        }
+    }
+
+    private Game findEndedGame(Long gameId) throws ServiceException {
+        Game game = gameRepository
+                .findById(gameId)
+                .orElseThrow(() -> new ServiceException(
+                    HttpStatus.NOT_FOUND, 
+                    ClientErrorKey.GAME_NOT_FOUND, 
+                    "Game", 
+                    "Game with id = " + gameId + " not found"
+                ));
+        if (!game.hasEnded(now())) {
+            throw new ServiceException(
+                HttpStatus.BAD_REQUEST,
+                ClientErrorKey.GAME_NOT_ENDED,
+                "Game",
+                "Game has not ended."
+            );
+        }
+        return game;
+    }
+
+    private void archive(Long gameId) {
+        List<ArchivedGameStatRow> rows = gameStatArchiveRepository.findRowsByGameId(gameId);
+        // a game archived concurrently, e.g. by another instance, is left as it is
+        gameStatArchiveRepository.insertIfAbsent(gameId, rows.size(), GameStatBlock.encode(rows), now());
+    }
+
+    private static LocalDateTime now() {
+        return ZonedDateTime.now(GAME_ZONE).toLocalDateTime();
+    }
+}
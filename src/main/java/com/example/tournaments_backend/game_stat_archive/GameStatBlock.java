@@ -0,0 +1,156 @@
+package com.example.tournaments_backend.game_stat_archive;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.tournaments_backend.game_stat.GameStatType;
+
+/**
+ * A game's stats decoded into one primitive array per column, ordered by id.
+ *
+ * Encoded layout: a version byte and the count, then the id column, the type column,
+ * the player id column and the createdAt column, each complete before the next starts.
+ * Ids, player ids and createdAt (epoch seconds) are stored as zigzag varint deltas from
+ * the previous row, so a stat usually takes under ten bytes; types are one ordinal byte
+ * each, so new GameStatType values must be added at the end.
+ */
+public class GameStatBlock {
+    private static final byte VERSION = 1;
+    private static final long NO_CREATED_AT = Long.MIN_VALUE;
+    private static final GameStatType[] TYPES = GameStatType.values();
+
+    private final long[] ids;
+    private final byte[] types;
+    private final long[] playerIds;
+    private final long[] createdAt;
+
+    private GameStatBlock(long[] ids, byte[] types, long[] playerIds, long[] createdAt) {
+        this.ids = ids;
+        this.types = types;
+        this.playerIds = playerIds;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * @param rows the game's stats ordered by id
+     */
+    public static byte[] encode(List<ArchivedGameStatRow> rows) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + rows.size() * 10);
+        out.write(VERSION);
+        writeVarLong(out, rows.size());
+        long previous = 0L;
+        for (ArchivedGameStatRow row : rows) {
+            writeVarLong(out, zigzag(row.getId() - previous));
+            previous = row.getId();
+        }
+        for (ArchivedGameStatRow row : rows) {
+            out.write(row.getType().ordinal());
+        }
+        previous = 0L;
+        for (ArchivedGameStatRow row : rows) {
+            writeVarLong(out, zigzag(row.getPlayerId() - previous));
+            previous = row.getPlayerId();
+        }
+        previous = 0L;
+        for (ArchivedGameStatRow row : rows) {
+            long seconds = row.getCreatedAt() != null ? row.getCreatedAt().toEpochSecond(ZoneOffset.UTC) : NO_CREATED_AT;
+            writeVarLong(out, zigzag(seconds - previous));
+            previous = seconds;
+        }
+        return out.toByteArray();
+    }
+
+    public static GameStatBlock decode(byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] != VERSION) {
+            throw new IllegalStateException("Unknown game stat block version");
+        }
+        Reader reader = new Reader(bytes, 1);
+        int count = (int) reader.readVarLong();
+        long[] ids = reader.readDeltas(count);
+        byte[] types = Arrays.copyOfRange(bytes, reader.position, reader.position + count);
+        reader.position += count;
+        long[] playerIds = reader.readDeltas(count);
+        long[] createdAt = reader.readDeltas(count);
+        return new GameStatBlock(ids, types, playerIds, createdAt);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Index of the first stat with an id greater than the given one.
+     */
+    public int indexAfter(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    public long getId(int index) {
+        return ids[index];
+    }
+
+    public GameStatType getType(int index) {
+        return TYPES[types[index]];
+    }
+
+    public long getPlayerId(int index) {
+        return playerIds[index];
+    }
+
+    public LocalDateTime getCreatedAt(int index) {
+        long seconds = createdAt[index];
+        return seconds != NO_CREATED_AT ? LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC) : null;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        long readVarLong() {
+            long value = 0L;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        long[] readDeltas(int count) {
+            long[] values = new long[count];
+            long previous = 0L;
+            for (int i = 0; i < count; i++) {
+                previous += unzigzag(readVarLong());
+                values[i] = previous;
+            }
+            return values;
+        }
+    }
+}
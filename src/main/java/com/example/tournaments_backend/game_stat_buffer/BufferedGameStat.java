@@ -0,0 +1,18 @@
+package com.example.tournaments_backend.game_stat_buffer;
+
+import com.example.tournaments_backend.game_stat.GameStatRequest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A game stat accepted by the write-behind buffer, in the order it was acknowledged.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class BufferedGameStat {
+    private final long sequence;
+    private final GameStatRequest request;
+}
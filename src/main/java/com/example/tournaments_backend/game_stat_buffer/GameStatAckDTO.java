@@ -0,0 +1,16 @@
+package com.example.tournaments_backend.game_stat_buffer;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GameStatAckDTO {
+    private final long sequence;
+    // the client's event id, or the one assigned by the server when the request had none
+    private final UUID eventId;
+    // every sequence up to this one is stored in game_stat
+    private final long committedSequence;
+}
@@ -0,0 +1,292 @@
+package com.example.tournaments_backend.game_stat_buffer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game_stat.CreateFailure;
+import com.example.tournaments_backend.game_stat.GameStatCreateResponse;
+import com.example.tournaments_backend.game_stat.GameStatRequest;
+import com.example.tournaments_backend.game_stat.GameStatService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind mode for game stats. Requests get the same game and player checks as
+ * the synchronous path, so a bad one is rejected with a 4xx instead of being dropped
+ * by the writer later. Accepted requests are journaled, queued and acknowledged with
+ * a sequence number right away; a single writer thread stores
+ * whatever is queued in one transaction per batch (group commit) through
+ * GameStatService.addGameStats. Producers wait up to the offer timeout for room
+ * and get a 503 after that, so a slow database pushes back on clients instead of
+ * growing the heap.
+ *
+ * Every event gets an event id before it is journaled, so a batch replayed after a
+ * crash between its commit and its checkpoint is deduplicated by game_stat.event_id.
+ *
+ * A batch that keeps failing with a non-transient error is retried max-attempts times,
+ * then split in halves so the poison entry is isolated and moved to the journal's
+ * dead-letter file while the rest of the batch is stored. Transient database errors
+ * (connection lost, lock timeouts) are retried until the database is back.
+ */
+@Component
+@ConditionalOnProperty(name = "game-stat.write-behind.enabled", havingValue = "true")
+public class GameStatBuffer {
+    private final static Logger LOGGER = LoggerFactory.getLogger(GameStatBuffer.class);
+
+    private final GameStatService gameStatService;
+    private final GameStatBufferJournal journal;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+    private final long retryMillis;
+    private final int maxAttempts;
+    private final BlockingQueue<BufferedGameStat> queue = new LinkedBlockingQueue<>();
+    // one permit per event that is accepted but not yet committed
+    private final Semaphore capacity;
+    private final Object appendLock = new Object();
+    private final Thread writer;
+    private long acceptedSequence;
+    private volatile long committedSequence;
+    // only written by the writer thread
+    private volatile long deadLettered;
+    private volatile boolean running = true;
+
+    public GameStatBuffer(
+        GameStatService gameStatService,
+        ObjectMapper objectMapper,
+        @Value("${game-stat.write-behind.journal-dir:data/game-stat-buffer}") Path journalDir,
+        @Value("${game-stat.write-behind.capacity:10000}") int capacity,
+        @Value("${game-stat.write-behind.batch-size:500}") int batchSize,
+        @Value("${game-stat.write-behind.offer-timeout-ms:100}") long offerTimeoutMillis,
+        @Value("${game-stat.write-behind.retry-ms:1000}") long retryMillis,
+        @Value("${game-stat.write-behind.max-attempts:3}") int maxAttempts,
+        @Value("${game-stat.write-behind.segment-bytes:16777216}") long segmentBytes) throws IOException
+    {
+        this.gameStatService = gameStatService;
+        this.journal = new GameStatBufferJournal(journalDir, objectMapper, segmentBytes);
+        this.batchSize = Math.min(batchSize, GameStatService.MAX_BULK_SIZE);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.retryMillis = retryMillis;
+        this.maxAttempts = maxAttempts;
+
+        // events acknowledged before a restart go first, even past capacity
+        List<BufferedGameStat> pending = journal.readPending();
+        journal.rewrite(pending);
+        this.committedSequence = journal.readCheckpoint();
+        this.acceptedSequence = pending.isEmpty() ? committedSequence : pending.get(pending.size() - 1).getSequence();
+        this.queue.addAll(pending);
+        this.capacity = new Semaphore(capacity - pending.size());
+        if (!pending.isEmpty()) {
+            LOGGER.info("Replaying {} buffered game stats after sequence {}", pending.size(), committedSequence);
+        }
+
+        this.writer = Thread.ofPlatform().name("game-stat-writer").daemon().start(this::drain);
+    }
+
+    public GameStatAckDTO accept(GameStatRequest request) throws ServiceException {
+        gameStatService.validateGameStat(request);
+
+        boolean acquired;
+        try {
+            acquired = capacity.tryAcquire(offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw new ServiceException(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                ClientErrorKey.WRITE_BUFFER_FULL,
+                "Game stat",
+                "Too many game stats waiting to be stored, retry later"
+            );
+        }
+
+        UUID eventId = request.getEventId() != null ? request.getEventId() : UUID.randomUUID();
+        GameStatRequest withEventId = new GameStatRequest(
+            request.getGameId(), request.getPlayerId(), request.getType(), request.getCreatedAt(), eventId);
+        BufferedGameStat entry;
+        synchronized (appendLock) {
+            entry = new BufferedGameStat(acceptedSequence + 1, withEventId);
+            try {
+                journal.append(entry);
+            }
+            catch (IOException e) {
+                capacity.release();
+                throw new UncheckedIOException(e);
+            }
+            acceptedSequence = entry.getSequence();
+            queue.add(entry);
+        }
+        // outside the append lock, so concurrent requests share one fsync
+        try {
+            journal.force(entry.getSequence());
+        }
+        catch (IOException e) {
+            // the entry is queued and will be stored, the client may resend it with the same event id
+            throw new UncheckedIOException(e);
+        }
+        return new GameStatAckDTO(entry.getSequence(), eventId, committedSequence);
+    }
+
+    public GameStatBufferStatusDTO getStatus() {
+        synchronized (appendLock) {
+            return new GameStatBufferStatusDTO(acceptedSequence, committedSequence, queue.size(), deadLettered);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException, InterruptedException {
+        // whatever is still queued stays in the journal and is replayed on the next start
+        running = false;
+        writer.interrupt();
+        writer.join();
+        journal.close();
+    }
+
+    private void drain() {
+        List<BufferedGameStat> batch = new ArrayList<>(batchSize);
+        try {
+            while (running) {
+                BufferedGameStat first = queue.poll(retryMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                commit(batch);
+                batch.clear();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void commit(List<BufferedGameStat> batch) throws InterruptedException {
+        store(batch, maxAttempts);
+
+        long lastSequence = batch.get(batch.size() - 1).getSequence();
+        committedSequence = lastSequence;
+        capacity.release(batch.size());
+        synchronized (appendLock) {
+            try {
+                journal.checkpoint(lastSequence);
+                journal.prune(lastSequence);
+            }
+            catch (IOException e) {
+                // the batch is stored, a replay of it is absorbed by the event ids
+                LOGGER.warn("Checkpoint of buffered game stats at sequence {} failed", lastSequence, e);
+            }
+        }
+    }
+
+    /**
+     * Stores the batch, or splits it once it has failed attempts times; halves get a
+     * single attempt each, down to the one entry that is dead-lettered.
+     */
+    private void store(List<BufferedGameStat> batch, int attempts) throws InterruptedException {
+        int failures = 0;
+        while (true) {
+            try {
+                write(batch);
+                return;
+            }
+            catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    LOGGER.error("Storing {} buffered game stats failed, retrying", batch.size(), e);
+                }
+                else if (++failures < attempts) {
+                    LOGGER.error("Storing {} buffered game stats failed, attempt {} of {}", batch.size(), failures, attempts, e);
+                }
+                else if (batch.size() > 1) {
+                    LOGGER.warn("Splitting {} buffered game stats to find the one that cannot be stored", batch.size());
+                    int half = batch.size() / 2;
+                    store(batch.subList(0, half), 1);
+                    store(batch.subList(half, batch.size()), 1);
+                    return;
+                }
+                else {
+                    deadLetter(batch.get(0), e);
+                    return;
+                }
+                Thread.sleep(retryMillis);
+            }
+        }
+    }
+
+    private void write(List<BufferedGameStat> batch) {
+        List<GameStatRequest> requests = batch.stream()
+                .map(BufferedGameStat::getRequest)
+                .toList();
+        try {
+            GameStatCreateResponse response = gameStatService.addGameStats(requests);
+            for (CreateFailure failure : response.getFailures()) {
+                LOGGER.warn("Dropped buffered game stat {}: {}", batch.get(failure.getIndex()).getSequence(), failure.getMessage());
+            }
+        }
+        catch (ServiceException e) {
+            if (e.getErrorKey() != ClientErrorKey.DUPLICATE_GAME_STAT_EVENT) {
+                throw e;
+            }
+            // part of the batch was stored before a crash, store the rest one by one
+            for (BufferedGameStat entry : batch) {
+                try {
+                    gameStatService.addGameStat(entry.getRequest());
+                }
+                catch (ServiceException ex) {
+                    if (ex.getErrorKey() == ClientErrorKey.DUPLICATE_GAME_STAT_EVENT) {
+                        LOGGER.info("Buffered game stat {} was already stored: {}", entry.getSequence(), ex.getMessage());
+                    }
+                    else {
+                        LOGGER.warn("Dropped buffered game stat {}: {}", entry.getSequence(), ex.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    private void deadLetter(BufferedGameStat entry, RuntimeException cause) {
+        GameStatRequest request = entry.getRequest();
+        // the details are logged too, in case the dead-letter file cannot be written either
+        LOGGER.error("Moved buffered game stat {} to the dead-letter file: gameId={}, playerId={}, type={}, createdAt={}, eventId={}",
+            entry.getSequence(), request.getGameId(), request.getPlayerId(), request.getType(), request.getCreatedAt(),
+            request.getEventId(), cause);
+        try {
+            journal.deadLetter(entry);
+        }
+        catch (IOException e) {
+            LOGGER.error("Writing buffered game stat {} to the dead-letter file failed", entry.getSequence(), e);
+        }
+        deadLettered++;
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+            || e instanceof RecoverableDataAccessException
+            || e instanceof DataAccessResourceFailureException
+            || e instanceof CannotCreateTransactionException;
+    }
+}
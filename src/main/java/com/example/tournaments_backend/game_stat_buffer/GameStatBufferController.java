@@ -0,0 +1,70 @@
+package com.example.tournaments_backend.game_stat_buffer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game_stat.GameStatRequest;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping(path="/api/v1/gamestats/buffer")
+@ConditionalOnProperty(name = "game-stat.write-behind.enabled", havingValue = "true")
+@Tag(name = "Game Stat Buffer", description = "API endpoints for write-behind game stat ingestion")
+public class GameStatBufferController {
+    private final GameStatBuffer gameStatBuffer;
+
+    @Autowired
+    public GameStatBufferController(GameStatBuffer gameStatBuffer) {
+        this.gameStatBuffer = gameStatBuffer;
+    }
+
+    @Operation(summary = "Buffer a game stat", description = "Journals the game stat and returns its sequence number before it is stored")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Accepted - game stat will be stored in sequence order", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = GameStatAckDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - game stat is not valid or game is inactive",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Not found - game or player not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "503", description = "Service unavailable - buffer is full, retry later",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @PostMapping
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<GameStatAckDTO> addGameStat(@RequestBody @Valid GameStatRequest request) throws ServiceException {
+        GameStatAckDTO ack = gameStatBuffer.accept(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ack);
+    }
+
+    @Operation(summary = "Get buffer status", description = "Returns the last accepted and the last stored sequence numbers")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved buffer status", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = GameStatBufferStatusDTO.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @GetMapping
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<GameStatBufferStatusDTO> getStatus() {
+        return ResponseEntity.ok(gameStatBuffer.getStatus());
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.tournaments_backend.game_stat_buffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Append-only segment files of the game stats accepted by the buffer, one JSON line
+ * each, plus a checkpoint file holding the last sequence stored in game_stat. A segment
+ * is named after the first sequence in it and a new one is started once the current one
+ * reaches segmentBytes, so segments whose entries are all checkpointed can be deleted
+ * while the buffer keeps accepting.
+ * Every append is forced to disk before the client gets its acknowledgement, so
+ * after a crash the entries past the checkpoint are exactly the ones to replay.
+ * Entries that could not be stored at all go to a dead-letter file.
+ * Not thread safe apart from force, GameStatBuffer serializes appends and pruning.
+ */
+class GameStatBufferJournal implements Closeable {
+    private static final String SEGMENT_PREFIX = "game-stats-";
+    private static final String SEGMENT_SUFFIX = ".ndjson";
+    private static final String CHECKPOINT_FILE = "game-stats.checkpoint";
+    private static final String DEAD_LETTER_FILE = "game-stats.dead-letter.ndjson";
+
+    private final Path directory;
+    private final Path checkpointPath;
+    private final Path deadLetterPath;
+    private final long segmentBytes;
+    private final ObjectMapper objectMapper;
+    private final Object forceLock = new Object();
+    // first sequence of each segment, the last one is the one appended to
+    private final NavigableMap<Long, Path> segments = new TreeMap<>();
+    // swapped under forceLock, null until the first append
+    private FileChannel channel;
+    private volatile long appendedSequence;
+    // guarded by forceLock
+    private long forcedSequence;
+
+    GameStatBufferJournal(Path directory, ObjectMapper objectMapper, long segmentBytes) throws IOException {
+        Files.createDirectories(directory);
+        this.directory = directory;
+        this.checkpointPath = directory.resolve(CHECKPOINT_FILE);
+        this.deadLetterPath = directory.resolve(DEAD_LETTER_FILE);
+        this.segmentBytes = segmentBytes;
+        this.objectMapper = objectMapper;
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                String name = file.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    segments.put(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())), file);
+                }
+            });
+        }
+        if (!segments.isEmpty()) {
+            this.channel = open(segments.lastEntry().getValue());
+        }
+    }
+
+    long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointPath)) {
+            return 0L;
+        }
+        return Long.parseLong(Files.readString(checkpointPath).trim());
+    }
+
+    /**
+     * Entries past the checkpoint, in sequence order. A torn line at the tail, left by a
+     * crash in the middle of an append that was never acknowledged, is dropped. Entries
+     * seen in an earlier segment are skipped, in case a crash interrupted rewrite.
+     */
+    List<BufferedGameStat> readPending() throws IOException {
+        long lastSequence = readCheckpoint();
+        List<BufferedGameStat> pending = new ArrayList<>();
+        for (Path segment : segments.values()) {
+            for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                BufferedGameStat entry;
+                try {
+                    entry = objectMapper.readValue(line, BufferedGameStat.class);
+                }
+                catch (JsonProcessingException e) {
+                    return pending;
+                }
+                if (entry.getSequence() > lastSequence) {
+                    pending.add(entry);
+                    lastSequence = entry.getSequence();
+                }
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Writes the entry without forcing it to disk; see force. Starts a new segment
+     * first if the current one is full.
+     */
+    void append(BufferedGameStat entry) throws IOException {
+        if (channel == null || channel.size() >= segmentBytes) {
+            roll(entry.getSequence());
+        }
+        byte[] line = (objectMapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        appendedSequence = entry.getSequence();
+    }
+
+    /**
+     * Forces the journal to disk up to at least the given sequence. Callers that arrive
+     * while a force is running wait for it, and the first of them forces everything
+     * appended by then, so a burst of appends shares one fsync (group commit).
+     */
+    void force(long sequence) throws IOException {
+        synchronized (forceLock) {
+            if (forcedSequence >= sequence) {
+                return;
+            }
+            long appended = appendedSequence;
+            channel.force(false);
+            forcedSequence = appended;
+        }
+    }
+
+    void deadLetter(BufferedGameStat entry) throws IOException {
+        Files.writeString(deadLetterPath, objectMapper.writeValueAsString(entry) + "\n", StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+    }
+
+    void checkpoint(long sequence) throws IOException {
+        Path tmp = checkpointPath.resolveSibling(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(tmp, Long.toString(sequence), StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.SYNC);
+        Files.move(tmp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Deletes the segments whose entries are all at or before the checkpoint. The
+     * segment being appended to stays until the next one is started.
+     */
+    void prune(long checkpoint) throws IOException {
+        // a segment ends right before the first sequence of the next one
+        while (segments.size() > 1 && segments.higherKey(segments.firstKey()) - 1 <= checkpoint) {
+            Files.deleteIfExists(segments.pollFirstEntry().getValue());
+        }
+    }
+
+    /**
+     * Replaces the journal with the given entries, e.g. the pending ones at startup, which
+     * also drops a torn tail. The entries go to one segment through a temporary file, and
+     * the old segments are deleted only after it is in place, so a crash keeps them all.
+     */
+    void rewrite(List<BufferedGameStat> entries) throws IOException {
+        Map<Long, Path> old = new TreeMap<>(segments);
+        if (channel != null) {
+            closeChannel();
+        }
+        segments.clear();
+        if (!entries.isEmpty()) {
+            Path tmp = directory.resolve(SEGMENT_PREFIX + "rewrite.tmp");
+            StringBuilder lines = new StringBuilder();
+            for (BufferedGameStat entry : entries) {
+                lines.append(objectMapper.writeValueAsString(entry)).append('\n');
+            }
+            Files.writeString(tmp, lines, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.SYNC);
+            long first = entries.get(0).getSequence();
+            Path segment = segmentPath(first);
+            Files.move(tmp, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            segments.put(first, segment);
+            old.remove(first);
+            channel = open(segment);
+        }
+        for (Path segment : old.values()) {
+            Files.deleteIfExists(segment);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void roll(long firstSequence) throws IOException {
+        synchronized (forceLock) {
+            if (channel != null) {
+                // the old segment must be on disk before acknowledgements move past it
+                channel.force(false);
+                forcedSequence = appendedSequence;
+                channel.close();
+            }
+            Path segment = segmentPath(firstSequence);
+            segments.put(firstSequence, segment);
+            channel = open(segment);
+        }
+    }
+
+    private void closeChannel() throws IOException {
+        synchronized (forceLock) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private Path segmentPath(long firstSequence) {
+        return directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+    }
+
+    private static FileChannel open(Path segment) throws IOException {
+        return FileChannel.open(segment,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
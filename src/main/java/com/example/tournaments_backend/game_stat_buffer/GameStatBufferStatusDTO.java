@@ -0,0 +1,13 @@
+package com.example.tournaments_backend.game_stat_buffer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GameStatBufferStatusDTO {
+    private final long acceptedSequence;
+    private final long committedSequence;
+    private final int pending;
+    private final long deadLettered;
+}
@@ -0,0 +1,127 @@
+package com.example.tournaments_backend.game_stream;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+/**
+ * Event history and subscribers of a single game.
+ * Event ids have the form {@code <epoch>-<sequence>}: the epoch identifies this
+ * in-memory stream, so a client resuming against a restarted node (or a stream
+ * that was dropped while idle) gets a reset instead of silently missing events.
+ * The last historySize events are retained for resuming.
+ */
+class GameStream {
+    private final Long gameId;
+    private final long epoch;
+    private final int historySize;
+    private final Deque<GameStreamMessage> history = new ArrayDeque<>();
+    private final Set<GameStreamSubscriber> subscribers = new HashSet<>();
+    private long lastSequence;
+    private long lastActivityMillis;
+
+    GameStream(Long gameId, int historySize, long nowMillis) {
+        this.gameId = gameId;
+        this.epoch = nowMillis;
+        this.historySize = historySize;
+        this.lastActivityMillis = nowMillis;
+    }
+
+    String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * Creates the next message from its sequence, appends it to the history and fans it out.
+     * @return subscribers whose buffer was full; they are no longer subscribed
+     */
+    synchronized List<GameStreamSubscriber> publish(LongFunction<GameStreamMessage> messageFactory, long nowMillis) {
+        GameStreamMessage message = messageFactory.apply(lastSequence + 1);
+        lastSequence = message.getSequence();
+        lastActivityMillis = nowMillis;
+        history.addLast(message);
+        if (history.size() > historySize) {
+            history.removeFirst();
+        }
+        return fanOut(message);
+    }
+
+    synchronized List<GameStreamSubscriber> heartbeat() {
+        return fanOut(GameStreamMessage.HEARTBEAT);
+    }
+
+    /**
+     * Registers the subscriber and queues the events it missed after lastEventId.
+     * If those events are no longer retained, a reset event is queued instead so the
+     * client reloads the full game state.
+     */
+    synchronized void subscribe(GameStreamSubscriber subscriber, String lastEventId, long nowMillis) {
+        lastActivityMillis = nowMillis;
+        if (lastEventId != null) {
+            long lastSeen = parseSequence(lastEventId);
+            long oldestRetained = history.isEmpty() ? lastSequence + 1 : history.peekFirst().getSequence();
+            boolean resumable = lastSeen >= oldestRetained - 1
+                    && lastSeen <= lastSequence
+                    && lastSequence - lastSeen <= subscriber.remainingCapacity();
+            if (resumable) {
+                for (GameStreamMessage message : history) {
+                    if (message.getSequence() > lastSeen) {
+                        subscriber.offer(message);
+                    }
+                }
+            }
+            else {
+                subscriber.offer(resetMessage());
+            }
+        }
+        subscribers.add(subscriber);
+    }
+
+    synchronized void unsubscribe(GameStreamSubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    synchronized int subscriberCount() {
+        return subscribers.size();
+    }
+
+    synchronized boolean isIdle(long nowMillis, long idleMillis) {
+        return subscribers.isEmpty() && nowMillis - lastActivityMillis >= idleMillis;
+    }
+
+    /**
+     * @return the sequence of an event id issued by this stream, or -1 if it was issued elsewhere
+     */
+    private long parseSequence(String eventId) {
+        int separator = eventId.indexOf('-');
+        if (separator < 0) return -1;
+        try {
+            long eventEpoch = Long.parseLong(eventId.substring(0, separator));
+            long sequence = Long.parseLong(eventId.substring(separator + 1));
+            return eventEpoch == epoch && sequence >= 0 ? sequence : -1;
+        }
+        catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private GameStreamMessage resetMessage() {
+        String json = "{\"gameId\":" + gameId + ",\"lastEventId\":\"" + eventId(lastSequence) + "\"}";
+        return new GameStreamMessage(lastSequence, eventId(lastSequence), GameStreamMessage.RESET, json);
+    }
+
+    private List<GameStreamSubscriber> fanOut(GameStreamMessage message) {
+        List<GameStreamSubscriber> evicted = new ArrayList<>();
+        for (GameStreamSubscriber subscriber : subscribers) {
+            if (!subscriber.offer(message)) {
+                evicted.add(subscriber);
+            }
+        }
+        subscribers.removeAll(evicted);
+        return evicted;
+    }
+}
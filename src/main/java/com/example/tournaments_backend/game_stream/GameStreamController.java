@@ -0,0 +1,60 @@
+package com.example.tournaments_backend.game_stream;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+import com.example.tournaments_backend.exception.ServiceException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping(path="/api/v1/games")
+@Tag(name = "Game Stream", description = "API endpoints for streaming game events")
+public class GameStreamController {
+    private final GameStreamService gameStreamService;
+
+    @Autowired
+    public GameStreamController(GameStreamService gameStreamService) {
+        this.gameStreamService = gameStreamService;
+    }
+
+    @Operation(
+        summary = "Stream a game's stat changes", 
+        description = "Server-sent events for every game stat created, updated or deleted in the game. " +
+                      "Reconnect with Last-Event-ID to resume; a 'reset' event means the missed events are gone and the client should reload the game stats."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully subscribed", 
+            content = @Content(mediaType = "text/event-stream", schema = @Schema(implementation = GameStreamEventDTO.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Not found - game with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "503", description = "Unavailable - too many subscribers on this node",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @GetMapping("{gameId}/events")
+    public SseEmitter streamGameEvents(
+        @Parameter(description = "The game id", required = true) @PathVariable("gameId") Long gameId,
+        @Parameter(description = "Id of the last event received") @RequestHeader(name = "Last-Event-ID", required = false) Optional<String> lastEventIdHeader,
+        @Parameter(description = "Id of the last event received, for clients that cannot set headers") @RequestParam(name = "lastEventId", required = false) Optional<String> lastEventIdParam) throws ServiceException
+    {
+        String lastEventId = lastEventIdHeader.or(() -> lastEventIdParam).orElse(null);
+        return gameStreamService.subscribe(gameId, lastEventId);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.tournaments_backend.game_stream;
+
+import java.time.LocalDateTime;
+
+import com.example.tournaments_backend.game_stat.GameStatChangeType;
+import com.example.tournaments_backend.game_stat.GameStatSnapshot;
+import com.example.tournaments_backend.game_stat.GameStatType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Payload of a game stream event. Stat fields are null for DELETED events.
+ */
+@Getter
+@AllArgsConstructor
+public class GameStreamEventDTO {
+    private final long eventId;
+    private final Long gameId;
+    private final GameStatChangeType changeType;
+    private final Long gameStatId;
+    private final GameStatType type;
+    private final Long playerId;
+    private final Long teamId;
+    private final LocalDateTime createdAt;
+
+    public static GameStreamEventDTO of(long eventId, GameStatChangeType changeType, GameStatSnapshot snapshot) {
+        if (changeType == GameStatChangeType.DELETED) {
+            return new GameStreamEventDTO(eventId, snapshot.getGameId(), changeType, snapshot.getId(), null, null, null, null);
+        }
+        return new GameStreamEventDTO(
+            eventId,
+            snapshot.getGameId(),
+            changeType,
+            snapshot.getId(),
+            snapshot.getType(),
+            snapshot.getPlayerId(),
+            snapshot.getTeamId(),
+            snapshot.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.tournaments_backend.game_stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A server-sent event whose payload was serialized once, so fan-out to many
+ * subscribers does not re-serialize it per connection.
+ */
+@Getter
+@AllArgsConstructor
+class GameStreamMessage {
+    static final String RESET = "reset";
+    static final GameStreamMessage HEARTBEAT = new GameStreamMessage(0, null, null, null);
+
+    private final long sequence;
+    // sent as the SSE id and echoed back by the client as Last-Event-ID
+    private final String eventId;
+    private final String name;
+    private final String json;
+
+    SseEventBuilder toEvent() {
+        if (this == HEARTBEAT) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        return SseEmitter.event()
+                .id(eventId)
+                .name(name)
+                .data(json);
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.tournaments_backend.game_stream;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.game_stat.GameStatChangeType;
+import com.example.tournaments_backend.game_stat.GameStatEvent;
+import com.example.tournaments_backend.game_stat.GameStatSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes committed game stat changes to SSE subscribers of each game.
+ * Writes to clients happen on virtual threads, one drain task per subscriber,
+ * so a single node can hold many idle connections cheaply.
+ */
+@Service
+public class GameStreamService {
+    private final GameRepository gameRepository;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int historySize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long idleMillis;
+    private final ConcurrentMap<Long, GameStream> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public GameStreamService(
+        GameRepository gameRepository,
+        ObjectMapper objectMapper,
+        @Value("${game-stream.buffer-size:256}") int bufferSize,
+        @Value("${game-stream.history-size:256}") int historySize,
+        @Value("${game-stream.max-subscribers:50000}") int maxSubscribers,
+        @Value("${game-stream.timeout-ms:1800000}") long timeoutMillis,
+        @Value("${game-stream.idle-ms:600000}") long idleMillis)
+    {
+        this.gameRepository = gameRepository;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.historySize = historySize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeoutMillis;
+        this.idleMillis = idleMillis;
+    }
+
+    public SseEmitter subscribe(Long gameId, String lastEventId) throws ServiceException {
+        if (!gameRepository.existsById(gameId)) {
+            throw new ServiceException(
+                HttpStatus.NOT_FOUND, 
+                ClientErrorKey.GAME_NOT_FOUND, 
+                "Game", 
+                "Game with id = " + gameId + " not found"
+            );
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceException(
+                HttpStatus.SERVICE_UNAVAILABLE, 
+                ClientErrorKey.STREAM_CAPACITY_EXCEEDED, 
+                "Game stream", 
+                "Too many concurrent game stream subscribers, retry later"
+            );
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        GameStreamSubscriber subscriber = new GameStreamSubscriber(gameId, emitter, bufferSize, senders);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        long now = System.currentTimeMillis();
+        streams.compute(gameId, (id, stream) -> {
+            GameStream gameStream = stream != null ? stream : new GameStream(id, historySize, now);
+            gameStream.subscribe(subscriber, lastEventId, now);
+            return gameStream;
+        });
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameStatEvent(GameStatEvent event) {
+        GameStatSnapshot previous = event.getPrevious();
+        GameStatSnapshot current = event.getCurrent();
+        // a stat moved to another game is a delete for the game it left
+        if (previous != null && current != null && !previous.getGameId().equals(current.getGameId())) {
+            publish(GameStatChangeType.DELETED, previous);
+        }
+        if (current != null) {
+            publish(event.getChangeType(), current);
+        }
+        else {
+            publish(GameStatChangeType.DELETED, previous);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${game-stream.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        long now = System.currentTimeMillis();
+        for (Long gameId : streams.keySet()) {
+            streams.computeIfPresent(gameId, (id, stream) -> {
+                if (stream.isIdle(now, idleMillis)) {
+                    return null;
+                }
+                evict(stream.heartbeat());
+                return stream;
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    private void publish(GameStatChangeType changeType, GameStatSnapshot snapshot) {
+        long now = System.currentTimeMillis();
+        Long gameId = snapshot.getGameId();
+        // history is kept even without subscribers, so clients that drop mid-game can resume
+        streams.compute(gameId, (id, stream) -> {
+            GameStream gameStream = stream != null ? stream : new GameStream(id, historySize, now);
+            evict(gameStream.publish(sequence -> {
+                GameStreamEventDTO dto = GameStreamEventDTO.of(sequence, changeType, snapshot);
+                return new GameStreamMessage(sequence, gameStream.eventId(sequence), changeType.name(), toJson(dto));
+            }, now));
+            return gameStream;
+        });
+    }
+
+    private void unsubscribe(GameStreamSubscriber subscriber) {
+        subscriber.close();
+        if (!subscriber.release()) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        GameStream stream = streams.get(subscriber.getGameId());
+        if (stream != null) {
+            stream.unsubscribe(subscriber);
+        }
+    }
+
+    private void evict(List<GameStreamSubscriber> slowSubscribers) {
+        for (GameStreamSubscriber subscriber : slowSubscribers) {
+            subscriber.close();
+            if (subscriber.release()) {
+                subscriberCount.decrementAndGet();
+                // completing lets the client reconnect with Last-Event-ID and catch up from history
+                senders.execute(subscriber.getEmitter()::complete);
+            }
+        }
+    }
+
+    private String toJson(GameStreamEventDTO dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        }
+        catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize game stream event", e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.tournaments_backend.game_stream;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.Getter;
+
+/**
+ * One SSE connection. Messages are queued in a bounded buffer and written by a
+ * single drain task at a time, so publishers never block on a slow socket.
+ * When the buffer is full the subscriber is evicted and the client is expected
+ * to reconnect with Last-Event-ID.
+ */
+class GameStreamSubscriber {
+    @Getter
+    private final Long gameId;
+    @Getter
+    private final SseEmitter emitter;
+    private final BlockingQueue<GameStreamMessage> buffer;
+    private final Executor executor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    GameStreamSubscriber(Long gameId, SseEmitter emitter, int bufferSize, Executor executor) {
+        this.gameId = gameId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.executor = executor;
+    }
+
+    /**
+     * @return false if the buffer is full or the subscriber is closed
+     */
+    boolean offer(GameStreamMessage message) {
+        if (closed.get() || !buffer.offer(message)) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    int remainingCapacity() {
+        return buffer.remainingCapacity();
+    }
+
+    void close() {
+        closed.set(true);
+        buffer.clear();
+    }
+
+    /**
+     * Marks the subscriber as removed from the service's bookkeeping.
+     * @return true only for the first caller
+     */
+    boolean release() {
+        return released.compareAndSet(false, true);
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            GameStreamMessage message;
+            while (!closed.get() && (message = buffer.poll()) != null) {
+                emitter.send(message.toEvent());
+            }
+        }
+        catch (Exception e) {
+            // client went away; the emitter callbacks (or the next heartbeat) release it
+            close();
+            emitter.completeWithError(e);
+        }
+        finally {
+            draining.set(false);
+        }
+        // a message may have been queued after the last poll but before draining was reset
+        if (!closed.get() && !buffer.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.tournaments_backend.leaderboard;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game_stat.GameStatType;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping(path="/api/v1/leagues")
+@Tag(name = "Leaderboards", description = "API endpoints for league leaderboards")
+public class LeaderboardController {
+    private final LeaderboardService leaderboardService;
+
+    @Autowired
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    @Operation(summary = "Get a league leaderboard", description = "Returns the top players of a league by goals, yellow cards or red cards, and optionally the rank of one player")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved leaderboard", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = LeaderboardDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - type or limit is not valid",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Not found - league with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @GetMapping("{leagueId}/leaderboards")
+    public ResponseEntity<LeaderboardDTO> getLeaderboard(
+        @Parameter(description = "The league id", required = true) @PathVariable("leagueId") Long leagueId,
+        @Parameter(description = "The stat to rank by", required = true) @RequestParam("type") GameStatType type,
+        @Parameter(description = "Number of players to return, at most " + LeaderboardService.MAX_LIMIT) @RequestParam(name = "limit", defaultValue = "10") int limit,
+        @Parameter(description = "A player whose rank should also be returned") @RequestParam("playerId") Optional<Long> playerId) throws ServiceException
+    {
+        LeaderboardDTO leaderboardDTO = leaderboardService.getLeaderboard(leagueId, type, limit, playerId.orElse(null));
+        return ResponseEntity.ok(leaderboardDTO);
+    }
+}
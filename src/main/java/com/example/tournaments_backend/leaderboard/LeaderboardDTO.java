@@ -0,0 +1,18 @@
+package com.example.tournaments_backend.leaderboard;
+
+import java.util.List;
+
+import com.example.tournaments_backend.game_stat.GameStatType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LeaderboardDTO {
+    private final Long leagueId;
+    private final GameStatType type;
+    private final List<LeaderboardEntryDTO> entries;
+    // rank of the requested player, null if none was requested or the player has no stats of this type
+    private final LeaderboardEntryDTO player;
+}
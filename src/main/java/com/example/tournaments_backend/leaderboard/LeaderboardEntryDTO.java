@@ -0,0 +1,14 @@
+package com.example.tournaments_backend.leaderboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LeaderboardEntryDTO {
+    private final int rank;
+    private final Long playerId;
+    private final String firstName;
+    private final String lastName;
+    private final int count;
+}
@@ -0,0 +1,21 @@
+package com.example.tournaments_backend.leaderboard;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.tournaments_backend.game_stat.GameStat;
+
+@Repository
+public interface LeaderboardRepository extends org.springframework.data.repository.Repository<GameStat, Long> {
+    @Query("SELECT new com.example.tournaments_backend.leaderboard.LeaderboardStatRow(gs.id, gs.game.id, gs.player.id, gs.type) " +
+           "FROM GameStat gs WHERE gs.game.league.id = :leagueId")
+    List<LeaderboardStatRow> findStatRowsByLeagueId(@Param("leagueId") Long leagueId);
+
+    @Query("SELECT new com.example.tournaments_backend.leaderboard.PlayerNameRow(p.id, p.firstName, p.lastName) " +
+           "FROM Player p WHERE p.id IN :playerIds")
+    List<PlayerNameRow> findPlayerNamesByIds(@Param("playerIds") Collection<Long> playerIds);
+}
@@ -0,0 +1,174 @@
+package com.example.tournaments_backend.leaderboard;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.GameChangedEvent;
+import com.example.tournaments_backend.game_stat.GameStatEvent;
+import com.example.tournaments_backend.game_stat.GameStatSnapshot;
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.leaderboard.LeagueLeaderboards.Ranking;
+import com.example.tournaments_backend.leaderboard.RankedIndex.RankedEntry;
+import com.example.tournaments_backend.league.LeagueChangedEvent;
+import com.example.tournaments_backend.league.LeagueRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+    public static final int MAX_LIMIT = 100;
+    private static final int MAX_PLAYER_NAMES = 10_000;
+    // bounds how long a rename made outside PlayerService and AppUserService shows the old name
+    private static final Duration PLAYER_NAME_TTL = Duration.ofMinutes(10);
+
+    private final LeagueRepository leagueRepository;
+    private final LeaderboardRepository leaderboardRepository;
+    private final ConcurrentMap<Long, LeagueLeaderboards> leaderboardsByLeague = new ConcurrentHashMap<>();
+    // league of every game with stats in a loaded leaderboard, so a changed game finds its league without a scan
+    private final ConcurrentMap<Long, Long> leagueIdByGameId = new ConcurrentHashMap<>();
+    private final Cache<Long, PlayerNameRow> playerNames = Caffeine.newBuilder()
+        .maximumSize(MAX_PLAYER_NAMES)
+        .expireAfterWrite(PLAYER_NAME_TTL)
+        .build();
+
+    public LeaderboardDTO getLeaderboard(Long leagueId, GameStatType type, int limit, Long playerId) throws ServiceException {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ServiceException(
+                HttpStatus.BAD_REQUEST, 
+                ClientErrorKey.VALIDATION_FAILED, 
+                "Leaderboard", 
+                "limit must be between 1 and " + MAX_LIMIT
+            );
+        }
+        // loaded inside computeIfAbsent so stat events for this league wait for the load (see onGameStatEvent)
+        LeagueLeaderboards leaderboards = leaderboardsByLeague.computeIfAbsent(leagueId, this::loadLeaderboards);
+        Ranking ranking = leaderboards.rank(type, limit, playerId);
+
+        Map<Long, PlayerNameRow> names = findNames(ranking);
+        List<LeaderboardEntryDTO> entries = new ArrayList<>(ranking.top().size());
+        for (RankedEntry entry : ranking.top()) {
+            entries.add(toDTO(entry, names));
+        }
+        LeaderboardEntryDTO player = ranking.player() == null ? null : toDTO(ranking.player(), names);
+        return new LeaderboardDTO(leagueId, type, entries, player);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameStatEvent(GameStatEvent event) {
+        GameStatSnapshot previous = event.getPrevious();
+        if (previous != null) {
+            leaderboardsByLeague.computeIfPresent(previous.getLeagueId(), (id, leaderboards) -> {
+                leaderboards.removeStat(previous.getId());
+                return leaderboards;
+            });
+        }
+
+        GameStatSnapshot current = event.getCurrent();
+        if (current != null) {
+            leaderboardsByLeague.computeIfPresent(current.getLeagueId(), (id, leaderboards) -> {
+                leaderboards.putStat(current.getId(), current.getPlayerId(), current.getType());
+                leagueIdByGameId.put(current.getGameId(), id);
+                return leaderboards;
+            });
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        // a deleted game takes its stats with it, and a moved game moves them to another league
+        if (event.getLeagueId() != null) {
+            evictLeague(event.getLeagueId());
+        }
+        Long previousLeagueId = leagueIdByGameId.get(event.getGameId());
+        if (previousLeagueId != null) {
+            evictLeague(previousLeagueId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLeagueChanged(LeagueChangedEvent event) {
+        evictLeague(event.getLeagueId());
+    }
+
+    /**
+     * Drops a player's cached name, now and again after the current transaction
+     * completes, so a read in between cannot keep the old name.
+     */
+    public void evictPlayerName(Long playerId) {
+        playerNames.invalidate(playerId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    playerNames.invalidate(playerId);
+                }
+            });
+        }
+    }
+
+    private void evictLeague(Long leagueId) {
+        if (leaderboardsByLeague.remove(leagueId) != null) {
+            leagueIdByGameId.values().removeIf(leagueId::equals);
+        }
+    }
+
+    private LeagueLeaderboards loadLeaderboards(Long leagueId) throws ServiceException {
+        if (!leagueRepository.existsById(leagueId)) {
+            throw new ServiceException(
+                HttpStatus.NOT_FOUND, 
+                ClientErrorKey.LEAGUE_NOT_FOUND, 
+                "League", 
+                "League with id = " + leagueId + " not found"
+            );
+        }
+        LeagueLeaderboards leaderboards = new LeagueLeaderboards();
+        for (LeaderboardStatRow row : leaderboardRepository.findStatRowsByLeagueId(leagueId)) {
+            leaderboards.putStat(row.getId(), row.getPlayerId(), row.getType());
+            leagueIdByGameId.put(row.getGameId(), leagueId);
+        }
+        return leaderboards;
+    }
+
+    private Map<Long, PlayerNameRow> findNames(Ranking ranking) {
+        Set<Long> playerIds = new HashSet<>();
+        for (RankedEntry entry : ranking.top()) {
+            playerIds.add(entry.playerId());
+        }
+        if (ranking.player() != null) {
+            playerIds.add(ranking.player().playerId());
+        }
+        // names missing from the cache are loaded in one query
+        return playerNames.getAll(playerIds, missing -> leaderboardRepository.findPlayerNamesByIds(List.copyOf(missing)).stream()
+            .collect(Collectors.toMap(PlayerNameRow::getPlayerId, Function.identity())));
+    }
+
+    private static LeaderboardEntryDTO toDTO(RankedEntry entry, Map<Long, PlayerNameRow> names) {
+        PlayerNameRow name = names.get(entry.playerId());
+        return new LeaderboardEntryDTO(
+            entry.rank(),
+            entry.playerId(),
+            name == null ? null : name.getFirstName(),
+            name == null ? null : name.getLastName(),
+            entry.count()
+        );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.example.tournaments_backend.leaderboard;
+
+import com.example.tournaments_backend.game_stat.GameStatType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LeaderboardStatRow {
+    private final Long id;
+    private final Long gameId;
+    private final Long playerId;
+    private final GameStatType type;
+}
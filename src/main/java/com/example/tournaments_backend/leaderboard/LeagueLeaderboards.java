@@ -0,0 +1,51 @@
+package com.example.tournaments_backend.leaderboard;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.leaderboard.RankedIndex.RankedEntry;
+
+/**
+ * One ranked index per stat type for a league. Stats are keyed by id,
+ * so replaying a change is a no-op.
+ */
+class LeagueLeaderboards {
+    private final Map<GameStatType, RankedIndex> indexes = new EnumMap<>(GameStatType.class);
+    private final Map<Long, StatEntry> stats = new HashMap<>();
+
+    LeagueLeaderboards() {
+        for (GameStatType type : GameStatType.values()) {
+            indexes.put(type, new RankedIndex());
+        }
+    }
+
+    synchronized void putStat(Long gameStatId, Long playerId, GameStatType type) {
+        StatEntry old = stats.put(gameStatId, new StatEntry(playerId, type));
+        if (old != null) {
+            indexes.get(old.type()).increment(old.playerId(), -1);
+        }
+        indexes.get(type).increment(playerId, 1);
+    }
+
+    synchronized void removeStat(Long gameStatId) {
+        StatEntry old = stats.remove(gameStatId);
+        if (old != null) {
+            indexes.get(old.type()).increment(old.playerId(), -1);
+        }
+    }
+
+    /**
+     * @param playerId player to rank, may be null
+     */
+    synchronized Ranking rank(GameStatType type, int limit, Long playerId) {
+        RankedIndex index = indexes.get(type);
+        return new Ranking(index.top(limit), playerId == null ? null : index.rankOf(playerId));
+    }
+
+    record Ranking(List<RankedEntry> top, RankedEntry player) {}
+
+    private record StatEntry(Long playerId, GameStatType type) {}
+}
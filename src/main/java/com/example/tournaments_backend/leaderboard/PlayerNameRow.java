@@ -0,0 +1,12 @@
+package com.example.tournaments_backend.leaderboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PlayerNameRow {
+    private final Long playerId;
+    private final String firstName;
+    private final String lastName;
+}
@@ -0,0 +1,106 @@
+package com.example.tournaments_backend.leaderboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Players ranked by a count, highest first, with standard competition ranking
+ * (players with equal counts share a rank). Players are bucketed by count in a
+ * sorted map for top-N, and a Fenwick tree over counts answers "how many players
+ * rank above count c", so both queries run in logarithmic time.
+ * Not thread-safe; callers synchronize.
+ */
+class RankedIndex {
+    private final Map<Long, Integer> counts = new HashMap<>();
+    private final NavigableMap<Integer, TreeSet<Long>> playersByCount = new TreeMap<>();
+    // playersAtCount[c] (1-based) = number of players whose count is c
+    private long[] fenwick = new long[16];
+
+    void increment(Long playerId, int delta) {
+        int oldCount = counts.getOrDefault(playerId, 0);
+        int newCount = Math.max(0, oldCount + delta);
+        if (oldCount == newCount) return;
+
+        if (oldCount > 0) {
+            TreeSet<Long> bucket = playersByCount.get(oldCount);
+            bucket.remove(playerId);
+            if (bucket.isEmpty()) playersByCount.remove(oldCount);
+            fenwickAdd(oldCount, -1);
+        }
+        if (newCount > 0) {
+            // update the tree first: growing it rebuilds from the buckets, which must not hold the player yet
+            fenwickAdd(newCount, 1);
+            counts.put(playerId, newCount);
+            playersByCount.computeIfAbsent(newCount, c -> new TreeSet<>()).add(playerId);
+        }
+        else {
+            counts.remove(playerId);
+        }
+    }
+
+    int size() {
+        return counts.size();
+    }
+
+    /**
+     * @return the first limit players, ties ordered by player id
+     */
+    List<RankedEntry> top(int limit) {
+        List<RankedEntry> entries = new ArrayList<>(Math.min(limit, counts.size()));
+        int rank = 1;
+        for (Map.Entry<Integer, TreeSet<Long>> bucket : playersByCount.descendingMap().entrySet()) {
+            for (Long playerId : bucket.getValue()) {
+                if (entries.size() == limit) return entries;
+                entries.add(new RankedEntry(playerId, bucket.getKey(), rank));
+            }
+            rank += bucket.getValue().size();
+        }
+        return entries;
+    }
+
+    /**
+     * @return the player's entry, or null if the player has no count
+     */
+    RankedEntry rankOf(Long playerId) {
+        Integer count = counts.get(playerId);
+        if (count == null) return null;
+        long above = counts.size() - fenwickPrefix(count);
+        return new RankedEntry(playerId, count, (int) above + 1);
+    }
+
+    private void fenwickAdd(int count, int delta) {
+        if (count >= fenwick.length) {
+            grow(count);
+        }
+        for (int i = count; i < fenwick.length; i += i & -i) {
+            fenwick[i] += delta;
+        }
+    }
+
+    private long fenwickPrefix(int count) {
+        long sum = 0;
+        for (int i = Math.min(count, fenwick.length - 1); i > 0; i -= i & -i) {
+            sum += fenwick[i];
+        }
+        return sum;
+    }
+
+    private void grow(int count) {
+        int length = fenwick.length;
+        while (length <= count) length *= 2;
+        fenwick = new long[length];
+        for (Map.Entry<Integer, TreeSet<Long>> bucket : playersByCount.entrySet()) {
+            int size = bucket.getValue().size();
+            for (int i = bucket.getKey(); i < length; i += i & -i) {
+                fenwick[i] += size;
+            }
+        }
+    }
+
+    record RankedEntry(Long playerId, int count, int rank) {}
+}
@@ -1,9 +1,14 @@
 package com.example.tournaments_backend.league;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.example.tournaments_backend.cache.CacheRegions;
 import com.example.tournaments_backend.game.Game;
 import com.example.tournaments_backend.team.Team;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -29,6 +34,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LEAGUE)
 @Getter
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -38,7 +45,7 @@ public class League {
     @SequenceGenerator(
         name="league_sequence",
         sequenceName="league_sequence",
-        allocationSize = 1
+        allocationSize = 50
     )
     @GeneratedValue(
         strategy = GenerationType.SEQUENCE,
@@ -59,6 +66,7 @@ public class League {
         joinColumns = @JoinColumn(name = "league_id"),
         inverseJoinColumns = @JoinColumn(name = "team_id")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LEAGUE_TEAMS)
     private Set<Team> teams = new HashSet<>();
     @OneToMany(mappedBy = "league", cascade = CascadeType.ALL)
     @JsonManagedReference
@@ -0,0 +1,16 @@
+package com.example.tournaments_backend.league;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published when teams join or leave a league, when games are added to it in bulk,
+ * or when it is deleted, so in-memory views derived from the league can be dropped after commit.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class LeagueChangedEvent {
+    private final Long leagueId;
+}
@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.example.tournaments_backend.exception.ErrorDetails;
 import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.pagination.CursorPage;
 import com.example.tournaments_backend.league_application.Application;
 import com.example.tournaments_backend.league_application.ApplicationDTO;
 import com.example.tournaments_backend.league_application.ApplicationService;
@@ -81,24 +82,27 @@ public class LeagueController {
         return ResponseEntity.ok().body(leagueDTO);
     }
 
-    @Operation(summary = "Get all the leagues", description = "Returns all the leagues")
+    @Operation(summary = "Get the leagues", description = "Returns a page of leagues ordered by id. Pass nextCursor as after to get the next page.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved leagues", 
-            content = @Content(mediaType = "application/json", schema = @Schema(implementation = LeagueDTO.class))),
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - limit is not valid",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
     })
     @GetMapping
-    public ResponseEntity<List<LeagueDTO>> getLeagues(
+    public ResponseEntity<CursorPage<LeagueDTO>> getLeagues(
         @Parameter(description = "status can be: NOT_STARTED, IN_PROGRESS, or ENDED")
-        @RequestParam("status") Optional<LeagueStatus> optionalStatus
-    )
+        @RequestParam("status") Optional<LeagueStatus> optionalStatus,
+        @Parameter(description = "Page size, at most " + CursorPage.MAX_LIMIT)
+        @RequestParam(name = "limit", defaultValue = CursorPage.DEFAULT_LIMIT) int limit,
+        @Parameter(description = "Cursor from the previous page")
+        @RequestParam("after") Optional<Long> after
+    ) throws ServiceException
     {
-        List<League> leagues = optionalStatus.isPresent()
-                ? leagueService.getLeagues(optionalStatus.get())
-                : leagueService.getLeagues();
-        List<LeagueDTO> leagueDTOs = LeagueDTO.convertLeagues(leagues);
-        return ResponseEntity.ok().body(leagueDTOs);
+        CursorPage<League> leagues = leagueService.getLeagues(optionalStatus, limit, after);
+        return ResponseEntity.ok().body(leagues.map(LeagueDTO::new));
     }
 
     @Operation(summary = "Get a league", description = "Returns a league by ID")
@@ -1,30 +1,47 @@
 package com.example.tournaments_backend.league;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+
 
 @Repository
 public interface LeagueRepository extends JpaRepository<League, Long> {
-    @EntityGraph(attributePaths = {"teams", "teams.players"})
-    @NonNull
-    List<League> findAll();
+    // two requests pairing the same Swiss league would both see the same last round
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM League l WHERE l.id = :leagueId")
+    Optional<League> findForUpdateById(@Param("leagueId") Long leagueId);
+
+    // Keyset pagination: a page of ids first, then the leagues with their teams,
+    // so the collection fetch is not paginated in memory.
+    @Query("SELECT l.id FROM League l WHERE l.id > :after ORDER BY l.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Pageable pageable);
 
-    List<League> findByStartDateAfter(LocalDate date);
+    @Query("SELECT l.id FROM League l WHERE l.startDate > :today AND l.id > :after ORDER BY l.id")
+    List<Long> findNotStartedIdsAfter(@Param("today") LocalDate today, @Param("after") Long after, Pageable pageable);
 
-    @Query(value ="SELECT * FROM league l WHERE " +
+    @Query(value ="SELECT l.id FROM league l WHERE " +
            "l.start_date <= :today AND " +
-           ":today <= l.start_date + (l.duration_in_weeks * INTERVAL '1 week')", nativeQuery = true)
-    List<League> findInProgressLeagues(@Param("today") LocalDate today);
+           ":today <= l.start_date + (l.duration_in_weeks * INTERVAL '1 week') AND " +
+           "l.id > :after ORDER BY l.id", nativeQuery = true)
+    List<Long> findInProgressIdsAfter(@Param("today") LocalDate today, @Param("after") Long after, Pageable pageable);
 
-    @Query(value = "SELECT * FROM league l WHERE " +
-           ":today > l.start_date + (l.duration_in_weeks * INTERVAL '1 week')", nativeQuery = true)
-    List<League> findEndedLeagues(@Param("today") LocalDate today);
+    @Query(value = "SELECT l.id FROM league l WHERE " +
+           ":today > l.start_date + (l.duration_in_weeks * INTERVAL '1 week') AND " +
+           "l.id > :after ORDER BY l.id", nativeQuery = true)
+    List<Long> findEndedIdsAfter(@Param("today") LocalDate today, @Param("after") Long after, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"teams", "teams.players"})
+    List<League> findByIdInOrderByIdAsc(Collection<Long> ids);
 }
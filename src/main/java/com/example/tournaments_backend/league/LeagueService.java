@@ -2,13 +2,17 @@ package com.example.tournaments_backend.league;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.tournaments_backend.exception.ClientErrorKey;
 import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.pagination.CursorPage;
 import com.example.tournaments_backend.team.Team;
 import com.example.tournaments_backend.team.TeamService;
 
@@ -19,6 +23,7 @@ import lombok.AllArgsConstructor;
 public class LeagueService {
     private final TeamService teamService;
     private final LeagueRepository leagueRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public League addLeague(LeagueRequest leagueRequest) {
         League league = new League(leagueRequest);
@@ -39,21 +44,28 @@ public class LeagueService {
         Team team = teamService.getTeamById(teamId);
         league.addTeam(team);
         League leagueInDB = leagueRepository.save(league);
+        eventPublisher.publishEvent(new LeagueChangedEvent(leagueId));
         return leagueInDB;
     }
     
-    public List<League> getLeagues() {
-        return leagueRepository.findAll();
-    }
-
-    public List<League> getLeagues(LeagueStatus status) {
+    public CursorPage<League> getLeagues(Optional<LeagueStatus> optionalStatus, int limit, Optional<Long> after) throws ServiceException {
+        Pageable pageable = CursorPage.request(limit);
+        Long afterId = CursorPage.after(after);
         LocalDate today = LocalDate.now();
-        switch (status) {
-            case NOT_STARTED: return leagueRepository.findByStartDateAfter(today);
-            case IN_PROGRESS: return leagueRepository.findInProgressLeagues(today);
-            case ENDED:       return leagueRepository.findEndedLeagues(today);
-            default:          return List.of();
+        List<Long> ids;
+        if (optionalStatus.isEmpty()) {
+            ids = leagueRepository.findIdsAfter(afterId, pageable);
         }
+        else {
+            switch (optionalStatus.get()) {
+                case NOT_STARTED: ids = leagueRepository.findNotStartedIdsAfter(today, afterId, pageable); break;
+                case IN_PROGRESS: ids = leagueRepository.findInProgressIdsAfter(today, afterId, pageable); break;
+                case ENDED:       ids = leagueRepository.findEndedIdsAfter(today, afterId, pageable); break;
+                default:          ids = List.of();
+            }
+        }
+        List<League> leagues = ids.isEmpty() ? List.of() : leagueRepository.findByIdInOrderByIdAsc(ids);
+        return CursorPage.of(leagues, limit, League::getId);
     }
 
     public League getLeagueById(Long id) throws ServiceException {
@@ -71,7 +83,12 @@ public class LeagueService {
     @Transactional    
     public League deleteLeagueById(Long id) throws ServiceException {
         League deletedLeague = getLeagueById(id);
+        // keeps the teams' cached leagues current
+        for (Team team : deletedLeague.getTeams()) {
+            team.getLeagues().remove(deletedLeague);
+        }
         leagueRepository.deleteById(id);
+        eventPublisher.publishEvent(new LeagueChangedEvent(id));
         return deletedLeague;
     }
 
@@ -30,7 +30,7 @@ public class Application {
     @SequenceGenerator(
         name="application_sequence",
         sequenceName="application_sequence",
-        allocationSize = 1
+        allocationSize = 50
     )
     @GeneratedValue(
         strategy = GenerationType.SEQUENCE,
@@ -9,6 +9,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.tournaments_backend.app_user.AppUserPrincipalService;
 import com.example.tournaments_backend.exception.ClientErrorKey;
 import com.example.tournaments_backend.exception.ServiceException;
 import com.example.tournaments_backend.league.JoinLeagueRequest;
@@ -25,6 +26,7 @@ public class ApplicationService {
     private final ApplicationRepository applicationRepository;
     private final TeamRepository teamRepository;
     private final LeagueRepository leagueRepository;
+    private final AppUserPrincipalService appUserPrincipalService;
 
     @Transactional
     public Application addApplication(
@@ -42,10 +44,8 @@ public class ApplicationService {
                             "Team with id = " + teamId + " not found."
                         ));
         
-        String currentUserEmail = authentication.getName();
-        String ownerEmail = team.getOwner().getEmail();
         // check if current user owns the team
-        if (!currentUserEmail.equals(ownerEmail)) {
+        if (!appUserPrincipalService.isCaller(authentication, team.getOwner().getId())) {
             throw new ServiceException(
                 HttpStatus.FORBIDDEN, 
                 ClientErrorKey.NOT_TEAM_OWNER, 
@@ -122,9 +122,7 @@ public class ApplicationService {
                             "Team with id = " + teamId + " not found."
                         ));
             // check if client owns the team they want to retrieve the applications for
-            String currentUserEmail = authentication.getName();
-            String ownerEmail = team.getOwner().getEmail();
-            if (!currentUserEmail.equals(ownerEmail)) {
+            if (!appUserPrincipalService.isCaller(authentication, team.getOwner().getId())) {
                 throw new ServiceException(
                     HttpStatus.FORBIDDEN, 
                     ClientErrorKey.NOT_TEAM_OWNER, 
@@ -0,0 +1,67 @@
+package com.example.tournaments_backend.league_export;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Every section starts with its own header row. The first column holds the record kind,
+ * so sections can be told apart when the file is read back as one table.
+ */
+class CsvExportWriter implements LeagueExportWriter {
+    private final Writer writer;
+    private LeagueExportSection section;
+
+    CsvExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void startSection(LeagueExportSection section) throws IOException {
+        this.section = section;
+        writer.write("record");
+        for (String field : section.getFields()) {
+            writer.write(',');
+            writer.write(field);
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void writeRecord(Object... values) throws IOException {
+        writer.write(section.getRecord());
+        for (Object value : values) {
+            writer.write(',');
+            if (value != null) {
+                writeField(value.toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    // RFC 4180: quote fields with separators, quotes or line breaks, doubling inner quotes
+    private void writeField(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
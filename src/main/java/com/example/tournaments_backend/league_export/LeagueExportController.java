@@ -0,0 +1,81 @@
+package com.example.tournaments_backend.league_export;
+
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+import com.example.tournaments_backend.exception.ServiceException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping(path="/api/v1/leagues")
+@Tag(name = "League Export", description = "API endpoints for downloading a league's data")
+public class LeagueExportController {
+    private final LeagueExportService leagueExportService;
+
+    @Autowired
+    public LeagueExportController(LeagueExportService leagueExportService) {
+        this.leagueExportService = leagueExportService;
+    }
+
+    @Operation(summary = "Export a league", description = "Streams the league's teams, rosters, games and game stats as NDJSON or CSV. The response is chunked, and gzip-compressed when the client accepts gzip")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully started the export", 
+            content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+        @ApiResponse(responseCode = "400", description = "Invalid - format is not valid",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Not found - league with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @GetMapping("{leagueId}/export")
+    public ResponseEntity<StreamingResponseBody> exportLeague(
+        @Parameter(description = "The league id", required = true) @PathVariable("leagueId") Long leagueId,
+        @Parameter(description = "NDJSON or CSV") @RequestParam(name = "format", defaultValue = "NDJSON") LeagueExportFormat format,
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) throws ServiceException
+    {
+        leagueExportService.checkLeagueExists(leagueId);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                // finish() writes the gzip trailer without closing the response stream
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                leagueExportService.export(leagueId, format, gzipOut);
+                gzipOut.finish();
+            }
+            else {
+                leagueExportService.export(leagueId, format, out);
+            }
+        };
+
+        // no Content-Length, so the response is sent chunked as it is written
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getMediaType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"league-" + leagueId + "." + format.getExtension() + "\"")
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.tournaments_backend.league_export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The kinds of records in an export, in the order they are written, with their fields.
+ */
+@Getter
+@AllArgsConstructor
+public enum LeagueExportSection {
+    LEAGUE("league", new String[] { "id", "name", "startDate", "durationInWeeks" }),
+    TEAM("team", new String[] { "id", "name" }),
+    ROSTER("roster", new String[] { "teamId", "playerId", "firstName", "lastName", "position" }),
+    GAME("game", new String[] { "id", "homeTeamId", "awayTeamId", "gameDateTime", "address", "durationInMinutes" }),
+    GAME_STAT("gameStat", new String[] { "id", "gameId", "playerId", "type", "createdAt" });
+
+    private final String record;
+    private final String[] fields;
+}
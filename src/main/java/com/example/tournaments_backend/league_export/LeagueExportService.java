@@ -0,0 +1,166 @@
+package com.example.tournaments_backend.league_export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.league.LeagueRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes a league's teams, rosters, games and game stats to a stream as they are read.
+ * Every section is one forward-only query read in fetch-size chunks, and each row goes
+ * straight to the writer, so memory use does not grow with the size of the league.
+ * All queries run in one read-only repeatable-read transaction, so the sections are
+ * consistent with each other.
+ */
+@Service
+public class LeagueExportService {
+    private static final String LEAGUE_SQL =
+        "SELECT l.id, l.name, l.start_date, l.duration_in_weeks FROM league l WHERE l.id = ?";
+    private static final String TEAMS_SQL =
+        "SELECT t.id, t.name FROM team t JOIN league_team lt ON lt.team_id = t.id " +
+        "WHERE lt.league_id = ? ORDER BY t.id";
+    private static final String ROSTERS_SQL =
+        "SELECT tp.team_id, p.player_id, u.first_name, u.last_name, p.position FROM league_team lt " +
+        "JOIN team_player tp ON tp.team_id = lt.team_id " +
+        "JOIN player p ON p.player_id = tp.player_id " +
+        "JOIN app_user u ON u.id = p.player_id " +
+        "WHERE lt.league_id = ? ORDER BY tp.team_id, p.player_id";
+    private static final String GAMES_SQL =
+        "SELECT g.id, g.home_team_id, g.away_team_id, g.game_date_time, g.address, g.duration_in_minutes " +
+        "FROM game g WHERE g.league_id = ? ORDER BY g.id";
+    private static final String GAME_STATS_SQL =
+        "SELECT s.id, s.game_id, s.player_id, s.type, s.created_at FROM game_stat s " +
+        "JOIN game g ON g.id = s.game_id WHERE g.league_id = ? ORDER BY s.id";
+
+    private final LeagueRepository leagueRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate snapshotTransaction;
+    private final int fetchSize;
+
+    public LeagueExportService(
+        LeagueRepository leagueRepository,
+        JdbcTemplate jdbcTemplate,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager,
+        @Value("${league-export.fetch-size:1000}") int fetchSize)
+    {
+        this.leagueRepository = leagueRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        // Postgres only streams with a fetch size inside a transaction
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Checked before the response starts, since errors cannot change the status afterwards.
+     */
+    public void checkLeagueExists(Long leagueId) throws ServiceException {
+        if (!leagueRepository.existsById(leagueId)) {
+            throw new ServiceException(
+                HttpStatus.NOT_FOUND,
+                ClientErrorKey.LEAGUE_NOT_FOUND,
+                "League",
+                "League with id = " + leagueId + " not found"
+            );
+        }
+    }
+
+    public void export(Long leagueId, LeagueExportFormat format, OutputStream out) throws IOException {
+        LeagueExportWriter writer;
+        if (format == LeagueExportFormat.NDJSON) {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            // each record ends with its own line break instead of the default space between root values
+            generator.setRootValueSeparator(null);
+            // the caller owns the stream, e.g. to finish a gzip trailer after the export
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer = new NdjsonExportWriter(generator);
+        }
+        else {
+            writer = new CsvExportWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        }
+
+        try {
+            snapshotTransaction.executeWithoutResult(status -> {
+                exportSection(writer, LeagueExportSection.LEAGUE, LEAGUE_SQL, leagueId, rs -> new Object[] {
+                    rs.getLong(1), rs.getString(2), rs.getObject(3, LocalDate.class), integer(rs, 4)
+                });
+                exportSection(writer, LeagueExportSection.TEAM, TEAMS_SQL, leagueId, rs -> new Object[] {
+                    rs.getLong(1), rs.getString(2)
+                });
+                exportSection(writer, LeagueExportSection.ROSTER, ROSTERS_SQL, leagueId, rs -> new Object[] {
+                    rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getString(4), rs.getString(5)
+                });
+                exportSection(writer, LeagueExportSection.GAME, GAMES_SQL, leagueId, rs -> new Object[] {
+                    rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getObject(4, LocalDateTime.class), rs.getString(5), integer(rs, 6)
+                });
+                exportSection(writer, LeagueExportSection.GAME_STAT, GAME_STATS_SQL, leagueId, rs -> new Object[] {
+                    rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getString(4), rs.getObject(5, LocalDateTime.class)
+                });
+            });
+            writer.flush();
+        }
+        catch (UncheckedIOException e) {
+            // the client went away mid-download
+            throw e.getCause();
+        }
+    }
+
+    private void exportSection(LeagueExportWriter writer, LeagueExportSection section, String sql, Long leagueId, RowReader reader) {
+        try {
+            writer.startSection(section);
+            jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(sql);
+                    statement.setFetchSize(fetchSize);
+                    statement.setLong(1, leagueId);
+                    return statement;
+                },
+                rs -> {
+                    try {
+                        writer.writeRecord(reader.read(rs));
+                    }
+                    catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Integer integer(ResultSet rs, int column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    @FunctionalInterface
+    private interface RowReader {
+        Object[] read(ResultSet rs) throws SQLException;
+    }
+}
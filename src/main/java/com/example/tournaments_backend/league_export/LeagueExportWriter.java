@@ -0,0 +1,15 @@
+package com.example.tournaments_backend.league_export;
+
+import java.io.IOException;
+
+/**
+ * Writes export records straight to the response as they are read. Values are strings,
+ * numbers or null, one per field of the section, in field order.
+ */
+interface LeagueExportWriter {
+    void startSection(LeagueExportSection section) throws IOException;
+
+    void writeRecord(Object... values) throws IOException;
+
+    void flush() throws IOException;
+}
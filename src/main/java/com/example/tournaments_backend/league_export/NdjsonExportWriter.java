@@ -0,0 +1,53 @@
+package com.example.tournaments_backend.league_export;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * One JSON object per line, tagged with its record kind, e.g.
+ * {"record":"team","id":1,"name":"Team A"}.
+ */
+class NdjsonExportWriter implements LeagueExportWriter {
+    private final JsonGenerator generator;
+    private LeagueExportSection section;
+
+    NdjsonExportWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    public void startSection(LeagueExportSection section) {
+        this.section = section;
+    }
+
+    @Override
+    public void writeRecord(Object... values) throws IOException {
+        String[] fields = section.getFields();
+        generator.writeStartObject();
+        generator.writeStringField("record", section.getRecord());
+        for (int i = 0; i < fields.length; i++) {
+            generator.writeFieldName(fields[i]);
+            Object value = values[i];
+            if (value == null) {
+                generator.writeNull();
+            }
+            else if (value instanceof Long number) {
+                generator.writeNumber(number);
+            }
+            else if (value instanceof Integer number) {
+                generator.writeNumber(number);
+            }
+            else {
+                generator.writeString(value.toString());
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.tournaments_backend.league_import;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV as written by the league export: a header row whose first column is "record"
+ * names the columns of the rows after it, until the next header row. The first column
+ * of every other row holds its record kind. Quoted fields follow RFC 4180 and may span lines.
+ */
+class CsvImportReader implements ImportRowReader {
+    private static final String RECORD_COLUMN = "record";
+
+    private final BufferedReader reader;
+    private List<String> columns;
+    private long lineNumber;
+
+    CsvImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        while (true) {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            long startLine = lineNumber;
+            List<String> values = parseRecord(line, startLine);
+            if (values.get(0).equals(RECORD_COLUMN)) {
+                columns = values;
+                continue;
+            }
+            if (columns == null) {
+                throw new ImportParseException(startLine, "Row comes before any header row");
+            }
+            if (values.size() != columns.size()) {
+                throw new ImportParseException(startLine,
+                    "Row has " + values.size() + " fields but its header has " + columns.size());
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 1; i < values.size(); i++) {
+                fields.put(columns.get(i), values.get(i));
+            }
+            return new ImportRow(startLine, values.get(0), fields);
+        }
+    }
+
+    private List<String> parseRecord(String line, long startLine) throws IOException {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    values.add(value.toString());
+                    return values;
+                }
+                // a quoted field continues on the next line
+                line = reader.readLine();
+                if (line == null) {
+                    throw new ImportParseException(startLine, "Quoted field is not closed");
+                }
+                lineNumber++;
+                value.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                }
+                else if (i < line.length() && line.charAt(i) == '"') {
+                    value.append('"');
+                    i++;
+                }
+                else {
+                    quoted = false;
+                }
+            }
+            else if (c == '"') {
+                quoted = true;
+            }
+            else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            }
+            else {
+                value.append(c);
+            }
+        }
+    }
+}
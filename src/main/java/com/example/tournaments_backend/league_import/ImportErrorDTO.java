@@ -0,0 +1,14 @@
+package com.example.tournaments_backend.league_import;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportErrorDTO {
+    // line of the file the record starts on
+    private final long line;
+    // null if the record kind could not be read
+    private final String record;
+    private final String message;
+}
@@ -0,0 +1,17 @@
+package com.example.tournaments_backend.league_import;
+
+/**
+ * A record that could not be parsed at all. Reported as a row error like failed validation.
+ */
+class ImportParseException extends RuntimeException {
+    private final long line;
+
+    ImportParseException(long line, String message) {
+        super(message);
+        this.line = line;
+    }
+
+    long getLine() {
+        return line;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.tournaments_backend.league_import;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One parsed record of an import file, before validation. Values are kept as text;
+ * blank values read as null.
+ */
+@Getter
+@AllArgsConstructor
+class ImportRow {
+    private final long line;
+    private final String record;
+    private final Map<String, String> fields;
+
+    String get(String field) {
+        String value = fields.get(field);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
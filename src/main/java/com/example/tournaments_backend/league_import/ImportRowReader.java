@@ -0,0 +1,14 @@
+package com.example.tournaments_backend.league_import;
+
+import java.io.IOException;
+
+/**
+ * Reads an import file one record at a time, so the file is never held in memory.
+ */
+interface ImportRowReader {
+    /**
+     * The next record, or null at the end of the file. A record that cannot be parsed
+     * throws ImportParseException; reading can continue with the following record.
+     */
+    ImportRow next() throws IOException;
+}
@@ -0,0 +1,179 @@
+package com.example.tournaments_backend.league_import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.tournaments_backend.player.Position;
+
+/**
+ * Validated records of an import file grouped by kind, plus the errors of the rows that
+ * failed. Only checks each row on its own; references between rows and to existing data
+ * are resolved by LeagueImportService once the whole file has been read.
+ */
+class ImportStaging {
+    private final int maxReportedErrors;
+    final List<StagedPlayer> players = new ArrayList<>();
+    final List<StagedTeam> teams = new ArrayList<>();
+    final List<StagedRosterEntry> rosterEntries = new ArrayList<>();
+    final List<StagedLeague> leagues = new ArrayList<>();
+    final List<StagedLeagueTeam> leagueTeams = new ArrayList<>();
+    final List<StagedGame> games = new ArrayList<>();
+    private final List<ImportErrorDTO> errors = new ArrayList<>();
+    private long errorCount;
+    private long rowsRead;
+
+    ImportStaging(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    record StagedPlayer(long line, String email, String firstName, String lastName, Position position) {}
+    record StagedTeam(long line, String name, String ownerEmail) {}
+    record StagedRosterEntry(long line, String teamName, String playerEmail) {}
+    record StagedLeague(long line, String name, LocalDate startDate, int durationInWeeks) {}
+    record StagedLeagueTeam(long line, String leagueName, String teamName) {}
+    record StagedGame(long line, String leagueName, String homeTeamName, String awayTeamName,
+                      LocalDateTime gameDateTime, String address, int durationInMinutes) {}
+
+    void stage(ImportRow row) {
+        rowsRead++;
+        try {
+            switch (row.getRecord()) {
+                case "player" -> players.add(new StagedPlayer(
+                    row.getLine(),
+                    email(row, "email"),
+                    required(row, "firstName"),
+                    required(row, "lastName"),
+                    position(row)));
+                case "team" -> teams.add(new StagedTeam(
+                    row.getLine(),
+                    required(row, "name"),
+                    email(row, "ownerEmail")));
+                case "roster" -> rosterEntries.add(new StagedRosterEntry(
+                    row.getLine(),
+                    required(row, "teamName"),
+                    email(row, "playerEmail")));
+                case "league" -> leagues.add(new StagedLeague(
+                    row.getLine(),
+                    required(row, "name"),
+                    date(row, "startDate"),
+                    positive(row, "durationInWeeks")));
+                case "leagueTeam" -> leagueTeams.add(new StagedLeagueTeam(
+                    row.getLine(),
+                    required(row, "leagueName"),
+                    required(row, "teamName")));
+                case "game" -> {
+                    String homeTeamName = required(row, "homeTeamName");
+                    String awayTeamName = required(row, "awayTeamName");
+                    if (homeTeamName.equals(awayTeamName)) {
+                        throw new IllegalArgumentException("homeTeamName and awayTeamName must be different teams");
+                    }
+                    games.add(new StagedGame(
+                        row.getLine(),
+                        required(row, "leagueName"),
+                        homeTeamName,
+                        awayTeamName,
+                        dateTime(row, "gameDateTime"),
+                        required(row, "address"),
+                        positive(row, "durationInMinutes")));
+                }
+                default -> throw new IllegalArgumentException("Unknown record kind " + row.getRecord());
+            }
+        }
+        catch (IllegalArgumentException e) {
+            reject(row.getLine(), row.getRecord(), e.getMessage());
+        }
+    }
+
+    void reject(long line, String record, String message) {
+        errorCount++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new ImportErrorDTO(line, record, message));
+        }
+    }
+
+    /**
+     * Counts a line that could not be parsed into a record.
+     */
+    void rejectUnreadable(ImportParseException e) {
+        rowsRead++;
+        reject(e.getLine(), null, e.getMessage());
+    }
+
+    long getRowsRead() {
+        return rowsRead;
+    }
+
+    long getErrorCount() {
+        return errorCount;
+    }
+
+    List<ImportErrorDTO> getErrors() {
+        return errors;
+    }
+
+    private static String required(ImportRow row, String field) {
+        String value = row.get(field);
+        if (value == null) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return value;
+    }
+
+    private static String email(ImportRow row, String field) {
+        String value = required(row, field);
+        if (!value.contains("@")) {
+            throw new IllegalArgumentException(field + " is not a valid email");
+        }
+        return value;
+    }
+
+    private static Position position(ImportRow row) {
+        String value = row.get("position");
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Position.valueOf(value);
+        }
+        catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("position " + value + " is not valid");
+        }
+    }
+
+    private static int positive(ImportRow row, String field) {
+        String value = required(row, field);
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        }
+        catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException(field + " must be a positive whole number");
+    }
+
+    private static LocalDate date(ImportRow row, String field) {
+        String value = required(row, field);
+        try {
+            return LocalDate.parse(value);
+        }
+        catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(field + " must be a date like 2025-06-01");
+        }
+    }
+
+    private static LocalDateTime dateTime(ImportRow row, String field) {
+        String value = required(row, field);
+        try {
+            return LocalDateTime.parse(value);
+        }
+        catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(field + " must be a date and time like 2025-06-07T10:00");
+        }
+    }
+}
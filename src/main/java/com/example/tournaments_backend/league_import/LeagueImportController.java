@@ -0,0 +1,67 @@
+package com.example.tournaments_backend.league_import;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.league_export.LeagueExportFormat;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping(path="/api/v1/imports")
+@Tag(name = "League Import", description = "API endpoints for bulk loading players, teams, leagues and games")
+public class LeagueImportController {
+    private final LeagueImportService leagueImportService;
+
+    @Autowired
+    public LeagueImportController(LeagueImportService leagueImportService) {
+        this.leagueImportService = leagueImportService;
+    }
+
+    @Operation(summary = "Import a file", description = "Reads players, teams, rosters, leagues, league teams and games from an NDJSON or CSV request body. Rows that fail validation are reported and skipped; the rest are imported. The body may be gzip-compressed")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully imported the valid rows", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = LeagueImportReportDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - format is not valid or the file has too many rows",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden - client does not have admin role",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @PostMapping
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<LeagueImportReportDTO> importFile(
+        @Parameter(description = "NDJSON or CSV") @RequestParam(name = "format", defaultValue = "NDJSON") LeagueExportFormat format,
+        @Parameter(description = "Only validate the file and report what would be imported") @RequestParam(name = "dryRun", defaultValue = "false") boolean dryRun,
+        @RequestHeader(name = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+        HttpServletRequest request) throws IOException, ServiceException
+    {
+        // read straight from the request so the file is never held in memory as a whole
+        InputStream in = request.getInputStream();
+        if ("gzip".equalsIgnoreCase(contentEncoding)) {
+            in = new GZIPInputStream(in, 8192);
+        }
+        return ResponseEntity.ok(leagueImportService.importFile(in, format, dryRun));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.tournaments_backend.league_import;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LeagueImportReportDTO {
+    private final boolean dryRun;
+    private final long rowsRead;
+    // rows written, or that would be written on a dry run
+    private final int players;
+    private final int teams;
+    private final int rosterEntries;
+    private final int leagues;
+    private final int leagueTeams;
+    private final int games;
+    private final long errorCount;
+    // the first errors only, see LeagueImportService.MAX_REPORTED_ERRORS
+    private final List<ImportErrorDTO> errors;
+}
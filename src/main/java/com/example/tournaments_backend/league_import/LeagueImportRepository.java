@@ -0,0 +1,34 @@
+package com.example.tournaments_backend.league_import;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.tournaments_backend.league.League;
+
+/**
+ * Batched lookups of existing rows by the natural keys an import file uses.
+ * Callers keep each collection under a few thousand keys.
+ */
+@Repository
+public interface LeagueImportRepository extends org.springframework.data.repository.Repository<League, Long> {
+    // any user, since a new player cannot reuse an admin's email either
+    @Query("SELECT new com.example.tournaments_backend.league_import.NaturalKeyRow(u.id, u.email) " +
+           "FROM AppUser u WHERE u.email IN :emails")
+    List<NaturalKeyRow> findUserKeysByEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT new com.example.tournaments_backend.league_import.NaturalKeyRow(p.id, p.email) " +
+           "FROM Player p WHERE p.email IN :emails")
+    List<NaturalKeyRow> findPlayerKeysByEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT new com.example.tournaments_backend.league_import.NaturalKeyRow(t.id, t.name) " +
+           "FROM Team t WHERE t.name IN :names")
+    List<NaturalKeyRow> findTeamKeysByNames(@Param("names") Collection<String> names);
+
+    @Query("SELECT new com.example.tournaments_backend.league_import.NaturalKeyRow(l.id, l.name) " +
+           "FROM League l WHERE l.name IN :names")
+    List<NaturalKeyRow> findLeagueKeysByNames(@Param("names") Collection<String> names);
+}
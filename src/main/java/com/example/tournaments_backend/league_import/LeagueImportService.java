@@ -0,0 +1,523 @@
+package com.example.tournaments_backend.league_import;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.cache.SecondLevelCacheService;
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.league.LeagueChangedEvent;
+import com.example.tournaments_backend.league.LeagueRepository;
+import com.example.tournaments_backend.league_export.LeagueExportFormat;
+import com.example.tournaments_backend.league_import.ImportStaging.StagedGame;
+import com.example.tournaments_backend.league_import.ImportStaging.StagedLeague;
+import com.example.tournaments_backend.league_import.ImportStaging.StagedLeagueTeam;
+import com.example.tournaments_backend.league_import.ImportStaging.StagedPlayer;
+import com.example.tournaments_backend.league_import.ImportStaging.StagedRosterEntry;
+import com.example.tournaments_backend.league_import.ImportStaging.StagedTeam;
+import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerRepository;
+import com.example.tournaments_backend.scheduling.ScheduleBookingRow;
+import com.example.tournaments_backend.scheduling.ScheduleConflictDTO;
+import com.example.tournaments_backend.scheduling.ScheduleConflictType;
+import com.example.tournaments_backend.scheduling.SchedulingService;
+import com.example.tournaments_backend.team.Team;
+import com.example.tournaments_backend.team.TeamRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Creates players, teams, leagues, memberships and games from one NDJSON or CSV file.
+ *
+ * The file is read one record at a time and every record is validated on its own
+ * (ImportStaging). Records then refer to each other, and to existing rows, by natural
+ * key: player email, team name and league name. Keys not created by the file are looked
+ * up in batches. A record that fails either step is reported with its line and left out,
+ * along with the records that depend on it; the rest of the file is still imported.
+ *
+ * Entities are inserted through Hibernate's JDBC batching in chunks, flushing and
+ * clearing the persistence context after each one; roster and league memberships go
+ * straight to their join tables with JdbcTemplate.batchUpdate. Games are checked for
+ * venue and team clashes with SchedulingService while references are resolved, so a dry
+ * run reports them too, and a clashing game is left out like any other bad record. The
+ * rest are reserved chunk by chunk; only a clash with a game booked by another request in
+ * the meantime still fails the whole import with 409.
+ */
+@Service
+public class LeagueImportService {
+    public static final int MAX_REPORTED_ERRORS = 1_000;
+    private static final int LOOKUP_BATCH_SIZE = 1_000;
+    private static final int WRITE_CHUNK_SIZE = 1_000;
+
+    private final LeagueImportRepository leagueImportRepository;
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final LeagueRepository leagueRepository;
+    private final GameRepository gameRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final SecondLevelCacheService secondLevelCacheService;
+    private final SchedulingService schedulingService;
+    private final int maxRows;
+
+    public LeagueImportService(
+        LeagueImportRepository leagueImportRepository,
+        PlayerRepository playerRepository,
+        TeamRepository teamRepository,
+        LeagueRepository leagueRepository,
+        GameRepository gameRepository,
+        JdbcTemplate jdbcTemplate,
+        EntityManager entityManager,
+        ApplicationEventPublisher eventPublisher,
+        ObjectMapper objectMapper,
+        SecondLevelCacheService secondLevelCacheService,
+        SchedulingService schedulingService,
+        @Value("${league-import.max-rows:500000}") int maxRows)
+    {
+        this.leagueImportRepository = leagueImportRepository;
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.leagueRepository = leagueRepository;
+        this.gameRepository = gameRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.secondLevelCacheService = secondLevelCacheService;
+        this.schedulingService = schedulingService;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * @param dryRun only validate and resolve, and report what would be written
+     */
+    @Transactional
+    public LeagueImportReportDTO importFile(InputStream in, LeagueExportFormat format, boolean dryRun) throws IOException, ServiceException {
+        ImportStaging staging = stage(in, format);
+
+        Map<String, StagedPlayer> newPlayers = acceptPlayers(staging);
+        KeyResolver players = new KeyResolver("Player", newPlayers.keySet(), leagueImportRepository::findPlayerKeysByEmails);
+        Map<String, StagedTeam> newTeams = acceptNamed(staging, staging.teams, StagedTeam::name, StagedTeam::line, "team",
+            leagueImportRepository::findTeamKeysByNames, "Team");
+        Map<String, StagedLeague> newLeagues = acceptNamed(staging, staging.leagues, StagedLeague::name, StagedLeague::line, "league",
+            leagueImportRepository::findLeagueKeysByNames, "League");
+
+        // owners first, since a team left out takes its roster, memberships and games with it
+        players.lookUp(staging.teams.stream().map(StagedTeam::ownerEmail).toList());
+        newTeams.values().removeIf(team -> rejectUnresolved(staging, team.line(), "team", players.problem(team.ownerEmail())));
+        KeyResolver teams = new KeyResolver("Team", newTeams.keySet(), leagueImportRepository::findTeamKeysByNames);
+        KeyResolver leagues = new KeyResolver("League", newLeagues.keySet(), leagueImportRepository::findLeagueKeysByNames);
+
+        players.lookUp(staging.rosterEntries.stream().map(StagedRosterEntry::playerEmail).toList());
+        teams.lookUp(staging.rosterEntries.stream().map(StagedRosterEntry::teamName).toList());
+        teams.lookUp(staging.leagueTeams.stream().map(StagedLeagueTeam::teamName).toList());
+        teams.lookUp(staging.games.stream().flatMap(game -> Stream.of(game.homeTeamName(), game.awayTeamName())).toList());
+        leagues.lookUp(staging.leagueTeams.stream().map(StagedLeagueTeam::leagueName).toList());
+        leagues.lookUp(staging.games.stream().map(StagedGame::leagueName).toList());
+
+        List<StagedRosterEntry> rosterEntries = staging.rosterEntries.stream()
+            .filter(entry -> !rejectUnresolved(staging, entry.line(), "roster", teams.problem(entry.teamName()), players.problem(entry.playerEmail())))
+            .toList();
+        List<StagedLeagueTeam> leagueTeams = staging.leagueTeams.stream()
+            .filter(entry -> !rejectUnresolved(staging, entry.line(), "leagueTeam", leagues.problem(entry.leagueName()), teams.problem(entry.teamName())))
+            .toList();
+        List<StagedGame> games = rejectClashes(staging, staging.games.stream()
+            .filter(game -> !rejectUnresolved(staging, game.line(), "game", leagues.problem(game.leagueName()),
+                teams.problem(game.homeTeamName()), teams.problem(game.awayTeamName())))
+            .toList(), teams);
+
+        int rosterCount = rosterEntries.size();
+        int leagueTeamCount = leagueTeams.size();
+        if (!dryRun) {
+            players.assignIds(savePlayers(newPlayers.values()));
+            teams.assignIds(saveTeams(newTeams.values(), players));
+            leagues.assignIds(saveLeagues(newLeagues.values()));
+            Set<Long> changedLeagueIds = saveGames(games, leagues, teams);
+            entityManager.flush();
+            rosterCount = insertRosterEntries(newTeams.values(), rosterEntries, teams, players);
+            leagueTeamCount = insertLeagueTeams(leagueTeams, leagues, teams, changedLeagueIds);
+            changedLeagueIds.forEach(leagueId -> eventPublisher.publishEvent(new LeagueChangedEvent(leagueId)));
+        }
+
+        return new LeagueImportReportDTO(
+            dryRun,
+            staging.getRowsRead(),
+            newPlayers.size(),
+            newTeams.size(),
+            rosterCount,
+            newLeagues.size(),
+            leagueTeamCount,
+            games.size(),
+            staging.getErrorCount(),
+            staging.getErrors()
+        );
+    }
+
+    private ImportStaging stage(InputStream in, LeagueExportFormat format) throws IOException, ServiceException {
+        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        ImportRowReader reader = format == LeagueExportFormat.NDJSON
+            ? new NdjsonImportReader(bufferedReader, objectMapper.getFactory())
+            : new CsvImportReader(bufferedReader);
+        ImportStaging staging = new ImportStaging(MAX_REPORTED_ERRORS);
+        while (true) {
+            ImportRow row;
+            try {
+                row = reader.next();
+            }
+            catch (ImportParseException e) {
+                checkRowLimit(staging);
+                staging.rejectUnreadable(e);
+                continue;
+            }
+            if (row == null) {
+                return staging;
+            }
+            checkRowLimit(staging);
+            staging.stage(row);
+        }
+    }
+
+    // called for each record read, before it is counted, so a file of exactly maxRows records passes
+    private void checkRowLimit(ImportStaging staging) throws ServiceException {
+        if (staging.getRowsRead() == maxRows) {
+            throw new ServiceException(
+                HttpStatus.BAD_REQUEST,
+                ClientErrorKey.VALIDATION_FAILED,
+                "Import",
+                "Import files can have at most " + maxRows + " records"
+            );
+        }
+    }
+
+    /**
+     * New players by email, leaving out emails repeated in the file or already taken.
+     */
+    private Map<String, StagedPlayer> acceptPlayers(ImportStaging staging) {
+        Map<String, StagedPlayer> accepted = new LinkedHashMap<>();
+        for (StagedPlayer player : staging.players) {
+            StagedPlayer first = accepted.putIfAbsent(player.email(), player);
+            if (first != null) {
+                staging.reject(player.line(), "player", "email " + player.email() + " is already used on line " + first.line());
+            }
+        }
+        for (String email : lookUp(accepted.keySet(), leagueImportRepository::findUserKeysByEmails).keySet()) {
+            StagedPlayer player = accepted.remove(email);
+            staging.reject(player.line(), "player", "A user with email " + email + " already exists");
+        }
+        return accepted;
+    }
+
+    /**
+     * New teams or leagues by name, leaving out names repeated in the file or already taken.
+     */
+    private <T> Map<String, T> acceptNamed(
+        ImportStaging staging,
+        List<T> rows,
+        Function<T, String> nameOf,
+        Function<T, Long> lineOf,
+        String record,
+        Function<Collection<String>, List<NaturalKeyRow>> query,
+        String resourceName)
+    {
+        Map<String, T> accepted = new LinkedHashMap<>();
+        for (T row : rows) {
+            T first = accepted.putIfAbsent(nameOf.apply(row), row);
+            if (first != null) {
+                staging.reject(lineOf.apply(row), record, "name " + nameOf.apply(row) + " is already used on line " + lineOf.apply(first));
+            }
+        }
+        for (String name : lookUp(accepted.keySet(), query).keySet()) {
+            T row = accepted.remove(name);
+            staging.reject(lineOf.apply(row), record, resourceName + " named " + name + " already exists");
+        }
+        return accepted;
+    }
+
+    // returns true, after reporting the first problem, if any reference could not be resolved
+    private static boolean rejectUnresolved(ImportStaging staging, long line, String record, String... problems) {
+        for (String problem : problems) {
+            if (problem != null) {
+                staging.reject(line, record, problem);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Leaves out the games that clash with a booked game or with an earlier game of the
+     * file, reporting each one. Teams created by the file get negative placeholder ids.
+     */
+    private List<StagedGame> rejectClashes(ImportStaging staging, List<StagedGame> games, KeyResolver teams) {
+        Map<String, Long> newTeamIds = new HashMap<>();
+        Function<String, Long> teamId = name -> {
+            Long id = teams.existingId(name);
+            return id != null ? id : newTeamIds.computeIfAbsent(name, key -> -(newTeamIds.size() + 1L));
+        };
+        List<ScheduleBookingRow> rows = new ArrayList<>(games.size());
+        for (int i = 0; i < games.size(); i++) {
+            StagedGame game = games.get(i);
+            rows.add(new ScheduleBookingRow(placeholderGameId(i), null, game.address(), teamId.apply(game.homeTeamName()),
+                teamId.apply(game.awayTeamName()), game.gameDateTime(), game.durationInMinutes()));
+        }
+        Map<Long, ScheduleConflictDTO> conflicts = schedulingService.findConflicts(rows);
+        if (conflicts.isEmpty()) {
+            return games;
+        }
+
+        List<StagedGame> accepted = new ArrayList<>(games.size() - conflicts.size());
+        for (int i = 0; i < games.size(); i++) {
+            StagedGame game = games.get(i);
+            ScheduleConflictDTO conflict = conflicts.get(placeholderGameId(i));
+            if (conflict == null) {
+                accepted.add(game);
+                continue;
+            }
+            Long otherId = conflict.getConflictingGameId();
+            String other = otherId < 0
+                ? "the game on line " + games.get((int) (-otherId - 2)).line()
+                : "game " + otherId;
+            String teamName = rows.get(i).getHomeTeamId().equals(conflict.getTeamId()) ? game.homeTeamName() : game.awayTeamName();
+            staging.reject(game.line(), "game", conflict.getType() == ScheduleConflictType.VENUE
+                ? game.address() + " is booked for " + other + " at that time"
+                : "Team " + teamName + " plays " + other + " at that time");
+        }
+        return accepted;
+    }
+
+    // -1 is taken, SchedulingService uses it for a single unsaved game
+    private static long placeholderGameId(int index) {
+        return -(index + 2L);
+    }
+
+    private Map<String, Long> savePlayers(Collection<StagedPlayer> stagedPlayers) {
+        // imported players have no password and stay disabled until they confirm their email
+        // through the sign-up confirmation flow (resend) and set a password with forgot-password
+        return saveInChunks(stagedPlayers, StagedPlayer::email,
+            staged -> new Player(staged.firstName(), staged.lastName(), staged.email(), null, AppUserRole.PLAYER, staged.position()),
+            chunk -> playerRepository.saveAll(chunk), Player::getId);
+    }
+
+    private Map<String, Long> saveTeams(Collection<StagedTeam> stagedTeams, KeyResolver players) {
+        return saveInChunks(stagedTeams, StagedTeam::name,
+            staged -> {
+                Team team = new Team(staged.name());
+                team.setOwner(entityManager.getReference(Player.class, players.id(staged.ownerEmail())));
+                return team;
+            },
+            chunk -> teamRepository.saveAll(chunk), Team::getId);
+    }
+
+    private Map<String, Long> saveLeagues(Collection<StagedLeague> stagedLeagues) {
+        return saveInChunks(stagedLeagues, StagedLeague::name,
+            staged -> League.builder()
+                .name(staged.name())
+                .startDate(staged.startDate())
+                .durationInWeeks(staged.durationInWeeks())
+                .build(),
+            chunk -> leagueRepository.saveAll(chunk), League::getId);
+    }
+
+    /**
+     * Returns the ids of the leagues that got games.
+     */
+    private Set<Long> saveGames(List<StagedGame> stagedGames, KeyResolver leagues, KeyResolver teams) throws ServiceException {
+        Set<Long> leagueIds = new LinkedHashSet<>();
+        List<Game> chunk = new ArrayList<>(WRITE_CHUNK_SIZE);
+        for (StagedGame staged : stagedGames) {
+            Long leagueId = leagues.id(staged.leagueName());
+            Game game = new Game(staged.gameDateTime(), staged.address(), staged.durationInMinutes());
+            game.setLeague(entityManager.getReference(League.class, leagueId));
+            game.setHomeTeam(entityManager.getReference(Team.class, teams.id(staged.homeTeamName())));
+            game.setAwayTeam(entityManager.getReference(Team.class, teams.id(staged.awayTeamName())));
+            chunk.add(game);
+            leagueIds.add(leagueId);
+            if (chunk.size() == WRITE_CHUNK_SIZE) {
+                gameRepository.saveAll(chunk);
+                schedulingService.reserveAll(chunk);
+                flushAndClear();
+                chunk.clear();
+            }
+        }
+        gameRepository.saveAll(chunk);
+        schedulingService.reserveAll(chunk);
+        return leagueIds;
+    }
+
+    private <S, E> Map<String, Long> saveInChunks(
+        Collection<S> staged,
+        Function<S, String> keyOf,
+        Function<S, E> toEntity,
+        Function<List<E>, List<E>> saveAll,
+        Function<E, Long> idOf)
+    {
+        Map<String, Long> ids = new HashMap<>();
+        List<S> stagedChunk = new ArrayList<>(WRITE_CHUNK_SIZE);
+        List<E> chunk = new ArrayList<>(WRITE_CHUNK_SIZE);
+        for (S row : staged) {
+            stagedChunk.add(row);
+            chunk.add(toEntity.apply(row));
+            if (chunk.size() == WRITE_CHUNK_SIZE) {
+                saveChunk(stagedChunk, chunk, keyOf, saveAll, idOf, ids);
+            }
+        }
+        saveChunk(stagedChunk, chunk, keyOf, saveAll, idOf, ids);
+        return ids;
+    }
+
+    private <S, E> void saveChunk(
+        List<S> stagedChunk,
+        List<E> chunk,
+        Function<S, String> keyOf,
+        Function<List<E>, List<E>> saveAll,
+        Function<E, Long> idOf,
+        Map<String, Long> ids)
+    {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<E> saved = saveAll.apply(chunk);
+        for (int i = 0; i < saved.size(); i++) {
+            ids.put(keyOf.apply(stagedChunk.get(i)), idOf.apply(saved.get(i)));
+        }
+        // keeps the persistence context small; only the ids are needed from here on
+        flushAndClear();
+        stagedChunk.clear();
+        chunk.clear();
+    }
+
+    /**
+     * Team owners are on their team's roster, as when a team is created through the API.
+     * Returns the number of distinct roster entries from the file.
+     */
+    private int insertRosterEntries(Collection<StagedTeam> newTeams, List<StagedRosterEntry> rosterEntries, KeyResolver teams, KeyResolver players) {
+        Set<List<Long>> pairs = new LinkedHashSet<>();
+        for (StagedRosterEntry entry : rosterEntries) {
+            pairs.add(List.of(teams.id(entry.teamName()), players.id(entry.playerEmail())));
+        }
+        int rosterCount = pairs.size();
+        for (StagedTeam team : newTeams) {
+            pairs.add(List.of(teams.id(team.name()), players.id(team.ownerEmail())));
+        }
+        insertPairs("INSERT INTO team_player (team_id, player_id) VALUES (?, ?) ON CONFLICT DO NOTHING", pairs);
+        return rosterCount;
+    }
+
+    private int insertLeagueTeams(List<StagedLeagueTeam> leagueTeams, KeyResolver leagues, KeyResolver teams, Set<Long> changedLeagueIds) {
+        Set<List<Long>> pairs = new LinkedHashSet<>();
+        for (StagedLeagueTeam entry : leagueTeams) {
+            Long leagueId = leagues.id(entry.leagueName());
+            pairs.add(List.of(leagueId, teams.id(entry.teamName())));
+            changedLeagueIds.add(leagueId);
+        }
+        insertPairs("INSERT INTO league_team (league_id, team_id) VALUES (?, ?) ON CONFLICT DO NOTHING", pairs);
+        return pairs.size();
+    }
+
+    // memberships that already exist are left as they are
+    private void insertPairs(String sql, Set<List<Long>> pairs) {
+        jdbcTemplate.batchUpdate(sql, pairs, WRITE_CHUNK_SIZE, (statement, pair) -> {
+            statement.setLong(1, pair.get(0));
+            statement.setLong(2, pair.get(1));
+        });
+        // Hibernate does not see these rows, so cached rosters and league teams would go stale
+        secondLevelCacheService.evictMembershipsAfterTransaction();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static Map<String, List<Long>> lookUp(Collection<String> keys, Function<Collection<String>, List<NaturalKeyRow>> query) {
+        Map<String, List<Long>> ids = new HashMap<>();
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        for (int from = 0; from < distinct.size(); from += LOOKUP_BATCH_SIZE) {
+            List<String> batch = distinct.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, distinct.size()));
+            for (NaturalKeyRow row : query.apply(batch)) {
+                ids.computeIfAbsent(row.getKey(), key -> new ArrayList<>(1)).add(row.getId());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Maps the natural keys of one kind of row to ids: rows created by the file first,
+     * then existing rows looked up in batches. Keys shared by several existing rows are
+     * ambiguous and cannot be referred to.
+     */
+    private static class KeyResolver {
+        private final String resourceName;
+        private final Set<String> newKeys;
+        private final Function<Collection<String>, List<NaturalKeyRow>> query;
+        private final Map<String, List<Long>> existing = new HashMap<>();
+        private final Map<String, Long> newIds = new HashMap<>();
+
+        KeyResolver(String resourceName, Set<String> newKeys, Function<Collection<String>, List<NaturalKeyRow>> query) {
+            this.resourceName = resourceName;
+            this.newKeys = newKeys;
+            this.query = query;
+        }
+
+        void lookUp(Collection<String> keys) {
+            Set<String> missing = new LinkedHashSet<>();
+            for (String key : keys) {
+                if (!newKeys.contains(key) && !existing.containsKey(key)) missing.add(key);
+            }
+            for (String key : missing) {
+                existing.put(key, List.of());
+            }
+            existing.putAll(LeagueImportService.lookUp(missing, query));
+        }
+
+        // null if the key can be resolved
+        String problem(String key) {
+            if (newKeys.contains(key)) return null;
+            List<Long> ids = existing.getOrDefault(key, List.of());
+            if (ids.isEmpty()) return resourceName + " " + key + " not found";
+            if (ids.size() > 1) return resourceName + " " + key + " matches " + ids.size() + " existing rows";
+            return null;
+        }
+
+        // null for keys created by the file, which have no id before it is written
+        Long existingId(String key) {
+            return newKeys.contains(key) ? null : existing.get(key).get(0);
+        }
+
+        void assignIds(Map<String, Long> ids) {
+            newIds.putAll(ids);
+        }
+
+        Long id(String key) {
+            Long id = newIds.get(key);
+            return id != null ? id : existing.get(key).get(0);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.tournaments_backend.league_import;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * An existing row's id with the natural key the import refers to it by.
+ */
+@Getter
+@AllArgsConstructor
+public class NaturalKeyRow {
+    private final Long id;
+    private final String key;
+}
@@ -0,0 +1,61 @@
+package com.example.tournaments_backend.league_import;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * One flat JSON object per line with a "record" field, as written by the league export.
+ * Lines are parsed one at a time, so a malformed line is reported and the next one is read.
+ */
+class NdjsonImportReader implements ImportRowReader {
+    private final BufferedReader reader;
+    private final JsonFactory jsonFactory;
+    private long lineNumber;
+
+    NdjsonImportReader(BufferedReader reader, JsonFactory jsonFactory) {
+        this.reader = reader;
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        Map<String, String> fields = new HashMap<>();
+        try (JsonParser parser = jsonFactory.createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ImportParseException(lineNumber, "Line is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                    throw new ImportParseException(lineNumber, "Field " + field + " must be a string or a number");
+                }
+                fields.put(field, value == JsonToken.VALUE_NULL ? null : parser.getText());
+            }
+        }
+        catch (JsonProcessingException e) {
+            throw new ImportParseException(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        String record = fields.remove("record");
+        if (record == null) {
+            throw new ImportParseException(lineNumber, "Record kind is missing");
+        }
+        return new ImportRow(lineNumber, record, fields);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.tournaments_backend.pagination;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One page of a keyset (id-ordered) listing. Pass nextCursor back as the
+ * {@code after} parameter to get the next page; it is null on the last page.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+    public static final String DEFAULT_LIMIT = "20";
+    public static final int MAX_LIMIT = 100;
+
+    private final List<T> items;
+    private final int limit;
+    private final Long nextCursor;
+
+    /**
+     * Pageable for the repository query: one row more than the limit is fetched
+     * to tell whether another page exists, without a count query.
+     */
+    public static Pageable request(int limit) throws ServiceException {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ServiceException(
+                HttpStatus.BAD_REQUEST, 
+                ClientErrorKey.VALIDATION_FAILED, 
+                "Page", 
+                "limit must be between 1 and " + MAX_LIMIT
+            );
+        }
+        return PageRequest.ofSize(limit + 1);
+    }
+
+    public static Long after(Optional<Long> after) {
+        return after.orElse(0L);
+    }
+
+    /**
+     * @param rows rows fetched with {@link #request(int)}, ordered by id
+     */
+    public static <E> CursorPage<E> of(List<E> rows, int limit, Function<E, Long> idOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, limit, null);
+        }
+        List<E> items = List.copyOf(rows.subList(0, limit));
+        return new CursorPage<>(items, limit, idOf.apply(items.get(limit - 1)));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), limit, nextCursor);
+    }
+}
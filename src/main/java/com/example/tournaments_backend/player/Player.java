@@ -3,8 +3,12 @@ package com.example.tournaments_backend.player;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.example.tournaments_backend.app_user.AppUser;
 import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.cache.CacheRegions;
 import com.example.tournaments_backend.game_stat.GameStat;
 import com.example.tournaments_backend.team.Team;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -40,6 +44,7 @@ public class Player extends AppUser {
         inverseJoinColumns = @JoinColumn(name = "team_id")
     )
     @JsonIgnore
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PLAYER_TEAMS)
     private Set<Team> teams = new HashSet<>();
     @OneToMany(mappedBy = "player", cascade = CascadeType.ALL)
     @JsonManagedReference
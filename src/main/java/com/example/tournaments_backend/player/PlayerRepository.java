@@ -1,13 +1,30 @@
 package com.example.tournaments_backend.player;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, Long> {
     List<Player> findAllByEmailIn(List<String> emails);
+    // the player id comes from the query cache, the player from the entity cache
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Player> findByEmail(String email);
+
+    @Query("SELECT p.id FROM Player p JOIN p.teams t WHERE t.id = :teamId")
+    List<Long> findIdsByTeamId(@Param("teamId") Long teamId);
+
+    // teams are needed to snapshot the stats of each player
+    @EntityGraph(attributePaths = {"teams"})
+    List<Player> findWithTeamsByIdIn(Collection<Long> ids);
 }
@@ -8,13 +8,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.AllArgsConstructor;
 
+import com.example.tournaments_backend.app_user.AppUserPrincipalService;
 import com.example.tournaments_backend.exception.ClientErrorKey;
 import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.leaderboard.LeaderboardService;
+import com.example.tournaments_backend.team.Team;
 
 @Service
 @AllArgsConstructor
 public class PlayerService {
     private final PlayerRepository playerRepository;
+    private final AppUserPrincipalService appUserPrincipalService;
+    private final LeaderboardService leaderboardService;
 
     public Player save(Player player) {
         return playerRepository.save(player);
@@ -57,8 +62,17 @@ public class PlayerService {
         return player;
     }
 
+    @Transactional
     public void deletePlayerById(Long id) {
-        playerRepository.deleteById(id);
+        playerRepository.findById(id).ifPresent(player -> {
+            // keeps the teams' cached players current
+            for (Team team : player.getTeams()) {
+                team.getPlayers().remove(player);
+            }
+            playerRepository.delete(player);
+        });
+        appUserPrincipalService.evict(id);
+        leaderboardService.evictPlayerName(id);
     }
 
     @Transactional
@@ -78,6 +92,9 @@ public class PlayerService {
         player.setEmail(updatedPlayer.getEmail());
         player.setPosition(updatedPlayer.getPosition());
         Player playerInDB = playerRepository.save(player);
+        // the principal is cached under the old email
+        appUserPrincipalService.evict(id);
+        leaderboardService.evictPlayerName(id);
         PlayerDTO playerDTO = new PlayerDTO(playerInDB);
         return playerDTO;
     }
@@ -0,0 +1,102 @@
+package com.example.tournaments_backend.scheduling;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+/**
+ * One interval tree per venue and one per team. A game books its venue and both teams
+ * from its start until start + durationInMinutes. Not thread-safe.
+ */
+final class BookingIndex {
+    // id of a game that is being checked before it is saved
+    static final long NO_GAME = -1;
+
+    // times in minutes since the epoch, in the games' local time
+    record Booking(long gameId, Long leagueId, String address, long homeTeamId, long awayTeamId, long start, long end) {}
+
+    private final Map<String, IntervalTree> venues = new TreeMap<>();
+    private final Map<Long, IntervalTree> teams = new HashMap<>();
+
+    void add(Booking booking) {
+        venues.computeIfAbsent(booking.address(), address -> new IntervalTree()).insert(booking.start(), booking.end(), booking.gameId());
+        teams.computeIfAbsent(booking.homeTeamId(), teamId -> new IntervalTree()).insert(booking.start(), booking.end(), booking.gameId());
+        if (booking.awayTeamId() != booking.homeTeamId()) {
+            teams.computeIfAbsent(booking.awayTeamId(), teamId -> new IntervalTree()).insert(booking.start(), booking.end(), booking.gameId());
+        }
+    }
+
+    void remove(Booking booking) {
+        remove(venues, booking.address(), booking);
+        remove(teams, booking.homeTeamId(), booking);
+        remove(teams, booking.awayTeamId(), booking);
+    }
+
+    void clear() {
+        venues.clear();
+        teams.clear();
+    }
+
+    Set<String> addresses() {
+        return venues.keySet();
+    }
+
+    /**
+     * Adds the bookings that clash with the given one, other than itself, whose game id
+     * passes include.
+     */
+    void collectConflicts(Booking booking, LongPredicate include, List<ScheduleConflictDTO> conflicts) {
+        Long gameId = booking.gameId() == NO_GAME ? null : booking.gameId();
+        forEachOverlap(venues.get(booking.address()), booking, include, other ->
+            conflicts.add(new ScheduleConflictDTO(gameId, other, ScheduleConflictType.VENUE, booking.address(), null)));
+        forEachOverlap(teams.get(booking.homeTeamId()), booking, include, other ->
+            conflicts.add(new ScheduleConflictDTO(gameId, other, ScheduleConflictType.TEAM, null, booking.homeTeamId())));
+        if (booking.awayTeamId() != booking.homeTeamId()) {
+            forEachOverlap(teams.get(booking.awayTeamId()), booking, include, other ->
+                conflicts.add(new ScheduleConflictDTO(gameId, other, ScheduleConflictType.TEAM, null, booking.awayTeamId())));
+        }
+    }
+
+    /**
+     * The latest end among the bookings that clash with the given one, or Long.MIN_VALUE
+     * if it is free.
+     */
+    long latestConflictEnd(Booking booking) {
+        long latest = latestOverlapEnd(venues.get(booking.address()), booking);
+        latest = Math.max(latest, latestOverlapEnd(teams.get(booking.homeTeamId()), booking));
+        return Math.max(latest, latestOverlapEnd(teams.get(booking.awayTeamId()), booking));
+    }
+
+    boolean isVenueFree(String address, Booking booking) {
+        return latestOverlapEnd(venues.get(address), booking) == Long.MIN_VALUE;
+    }
+
+    boolean areTeamsFree(Booking booking) {
+        return latestOverlapEnd(teams.get(booking.homeTeamId()), booking) == Long.MIN_VALUE
+            && latestOverlapEnd(teams.get(booking.awayTeamId()), booking) == Long.MIN_VALUE;
+    }
+
+    private static void forEachOverlap(IntervalTree tree, Booking booking, LongPredicate include, LongConsumer action) {
+        if (tree != null) {
+            tree.forEachOverlap(booking.start(), booking.end(), booking.gameId(), id -> {
+                if (include.test(id)) action.accept(id);
+            });
+        }
+    }
+
+    private static long latestOverlapEnd(IntervalTree tree, Booking booking) {
+        return tree == null ? Long.MIN_VALUE : tree.latestOverlapEnd(booking.start(), booking.end(), booking.gameId());
+    }
+
+    // drops trees that become empty, so venues that are no longer used stop being suggested
+    private static <K> void remove(Map<K, IntervalTree> trees, K key, Booking booking) {
+        IntervalTree tree = trees.get(key);
+        if (tree != null && tree.remove(booking.start(), booking.gameId()) && tree.size() == 0) {
+            trees.remove(key);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.tournaments_backend.scheduling;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * The bookings of one venue or team: an AVL tree ordered by start time, where every node
+ * also keeps the latest end in its subtree. Subtrees that end before a query starts are
+ * skipped, so finding the bookings that overlap [start, end) takes O(log n + k).
+ * Times are minutes; bookings are identified by game id.
+ *
+ * Not thread-safe; SchedulingService guards every tree with its lock.
+ */
+final class IntervalTree {
+    private static final class Node {
+        private final long start;
+        private final long end;
+        private final long id;
+        private long maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long start, long end, long id) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.maxEnd = end;
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    void insert(long start, long end, long id) {
+        root = insert(root, new Node(start, end, id));
+        size++;
+    }
+
+    /**
+     * @return false if there is no booking with this start and id
+     */
+    boolean remove(long start, long id) {
+        int before = size;
+        root = remove(root, start, id);
+        return size < before;
+    }
+
+    /**
+     * Calls action with the id of every booking overlapping [start, end) except excludeId.
+     */
+    void forEachOverlap(long start, long end, long excludeId, LongConsumer action) {
+        forEachOverlap(root, start, end, excludeId, node -> action.accept(node.id));
+    }
+
+    /**
+     * The latest end among the bookings overlapping [start, end) except excludeId, or
+     * Long.MIN_VALUE if there are none: the earliest a booking blocked here could start.
+     */
+    long latestOverlapEnd(long start, long end, long excludeId) {
+        long[] latest = {Long.MIN_VALUE};
+        forEachOverlap(root, start, end, excludeId, node -> latest[0] = Math.max(latest[0], node.end));
+        return latest[0];
+    }
+
+    private static void forEachOverlap(Node node, long start, long end, long excludeId, Consumer<Node> action) {
+        while (node != null && node.maxEnd > start) {
+            forEachOverlap(node.left, start, end, excludeId, action);
+            if (node.start >= end) {
+                // everything to the right starts even later
+                return;
+            }
+            if (node.end > start && node.id != excludeId) {
+                action.accept(node);
+            }
+            node = node.right;
+        }
+    }
+
+    private static int compare(long start, long id, Node node) {
+        int byStart = Long.compare(start, node.start);
+        return byStart != 0 ? byStart : Long.compare(id, node.id);
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.start, added.id, node) < 0) {
+            node.left = insert(node.left, added);
+        }
+        else {
+            node.right = insert(node.right, added);
+        }
+        return balance(node);
+    }
+
+    private Node remove(Node node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, start, id);
+        }
+        else if (cmp > 0) {
+            node.right = remove(node.right, start, id);
+        }
+        else {
+            size--;
+            if (node.left == null) return node.right;
+            if (node.right == null) return node.left;
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return balance(node);
+    }
+
+    private static Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return balance(node);
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        if (node.right != null) maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        node.maxEnd = maxEnd;
+    }
+
+    private static Node balance(Node node) {
+        update(node);
+        int skew = height(node.left) - height(node.right);
+        if (skew > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (skew < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+}
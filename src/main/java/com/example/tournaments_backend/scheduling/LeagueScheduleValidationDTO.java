@@ -0,0 +1,15 @@
+package com.example.tournaments_backend.scheduling;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LeagueScheduleValidationDTO {
+    private final Long leagueId;
+    private final int gamesChecked;
+    // each clashing pair of games once per venue or team
+    private final List<ScheduleConflictDTO> conflicts;
+}
@@ -0,0 +1,18 @@
+package com.example.tournaments_backend.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ScheduleAvailabilityDTO {
+    private final boolean available;
+    private final List<ScheduleConflictDTO> conflicts;
+    // the earliest later start times at the same venue when both teams are free too
+    private final List<LocalDateTime> suggestedStartTimes;
+    // known venues that are free at the requested time, if both teams are
+    private final List<String> alternativeAddresses;
+}
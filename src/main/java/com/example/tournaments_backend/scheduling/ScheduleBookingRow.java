@@ -0,0 +1,21 @@
+package com.example.tournaments_backend.scheduling;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The parts of a game that book its venue and teams.
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleBookingRow {
+    private final Long gameId;
+    private final Long leagueId;
+    private final String address;
+    private final Long homeTeamId;
+    private final Long awayTeamId;
+    private final LocalDateTime gameDateTime;
+    private final Integer durationInMinutes;
+}
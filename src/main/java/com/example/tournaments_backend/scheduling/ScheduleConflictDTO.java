@@ -0,0 +1,17 @@
+package com.example.tournaments_backend.scheduling;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ScheduleConflictDTO {
+    // null when checking a game that is not saved yet
+    private final Long gameId;
+    private final Long conflictingGameId;
+    private final ScheduleConflictType type;
+    // set for VENUE conflicts
+    private final String address;
+    // set for TEAM conflicts
+    private final Long teamId;
+}
@@ -0,0 +1,8 @@
+package com.example.tournaments_backend.scheduling;
+
+public enum ScheduleConflictType {
+    // the venue hosts another game at the same time
+    VENUE,
+    // a team plays another game at the same time
+    TEAM
+}
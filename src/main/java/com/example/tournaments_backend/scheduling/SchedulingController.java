@@ -0,0 +1,76 @@
+package com.example.tournaments_backend.scheduling;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+import com.example.tournaments_backend.exception.ServiceException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping(path="/api/v1/schedule")
+@Tag(name = "Scheduling", description = "API endpoints for checking game schedules for clashes")
+public class SchedulingController {
+    private final SchedulingService schedulingService;
+
+    @Autowired
+    public SchedulingController(SchedulingService schedulingService) {
+        this.schedulingService = schedulingService;
+    }
+
+    @Operation(summary = "Check a slot", description = "Returns the games that clash with a game at the given venue and time, and when it clashes, later free start times at the venue and other free venues")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully checked the slot", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ScheduleAvailabilityDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - parameters are not valid",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @GetMapping("availability")
+    public ResponseEntity<ScheduleAvailabilityDTO> checkAvailability(
+        @Parameter(description = "The game being moved, if any") @RequestParam(name = "gameId", required = false) Long gameId,
+        @Parameter(description = "The venue", required = true) @RequestParam(name = "address") String address,
+        @Parameter(description = "The home team id", required = true) @RequestParam(name = "homeTeamId") Long homeTeamId,
+        @Parameter(description = "The away team id", required = true) @RequestParam(name = "awayTeamId") Long awayTeamId,
+        @Parameter(description = "The start, e.g. 2025-06-30T10:00:00", required = true) 
+        @RequestParam(name = "gameDateTime") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime gameDateTime,
+        @Parameter(description = "Between 20 and 90 minutes") 
+        @RequestParam(name = "durationInMinutes", defaultValue = "90") int durationInMinutes) throws ServiceException
+    {
+        return ResponseEntity.ok(
+            schedulingService.checkAvailability(gameId, address, homeTeamId, awayTeamId, gameDateTime, durationInMinutes)
+        );
+    }
+
+    @Operation(summary = "Validate a league's schedule", description = "Returns every venue or team clash between the league's games, and with upcoming games of other leagues")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully validated the schedule", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = LeagueScheduleValidationDTO.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Not found - league with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @GetMapping("leagues/{leagueId}/conflicts")
+    public ResponseEntity<LeagueScheduleValidationDTO> validateLeague(
+        @Parameter(description = "The league id", required = true) @PathVariable("leagueId") Long leagueId) throws ServiceException
+    {
+        return ResponseEntity.ok(schedulingService.validateLeague(leagueId));
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.tournaments_backend.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.tournaments_backend.game.Game;
+
+@Repository
+public interface SchedulingRepository extends org.springframework.data.repository.Repository<Game, Long> {
+    @Query("SELECT new com.example.tournaments_backend.scheduling.ScheduleBookingRow(" +
+           "g.id, g.league.id, g.address, g.homeTeam.id, g.awayTeam.id, g.gameDateTime, g.durationInMinutes) " +
+           "FROM Game g WHERE g.gameDateTime >= :from")
+    List<ScheduleBookingRow> findBookingRowsFrom(@Param("from") LocalDateTime from);
+
+    @Query("SELECT new com.example.tournaments_backend.scheduling.ScheduleBookingRow(" +
+           "g.id, g.league.id, g.address, g.homeTeam.id, g.awayTeam.id, g.gameDateTime, g.durationInMinutes) " +
+           "FROM Game g WHERE g.id = :gameId")
+    Optional<ScheduleBookingRow> findBookingRowById(@Param("gameId") Long gameId);
+
+    @Query("SELECT new com.example.tournaments_backend.scheduling.ScheduleBookingRow(" +
+           "g.id, g.league.id, g.address, g.homeTeam.id, g.awayTeam.id, g.gameDateTime, g.durationInMinutes) " +
+           "FROM Game g WHERE g.league.id = :leagueId ORDER BY g.gameDateTime, g.id")
+    List<ScheduleBookingRow> findBookingRowsByLeagueId(@Param("leagueId") Long leagueId);
+}
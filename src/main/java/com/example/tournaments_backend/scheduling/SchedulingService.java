@@ -0,0 +1,408 @@
+package com.example.tournaments_backend.scheduling;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameChangedEvent;
+import com.example.tournaments_backend.league.LeagueChangedEvent;
+import com.example.tournaments_backend.league.LeagueRepository;
+import com.example.tournaments_backend.scheduling.BookingIndex.Booking;
+
+/**
+ * Keeps every upcoming game's venue and team bookings in interval trees (BookingIndex),
+ * so a new or moved game is checked for clashes in O(log n) instead of scanning games.
+ *
+ * The index is loaded from the game table on startup. Every path that creates or moves games
+ * (GameService, fixtures, imports, brackets, Swiss rounds) reserves their slots inside its
+ * transaction, under the write lock, so two requests cannot book the same slot; the reservation
+ * is undone if the transaction rolls back. Deletes are picked up from GameChangedEvent and
+ * LeagueChangedEvent after commit; those reloads skip games another transaction still has booked.
+ */
+@Service
+public class SchedulingService {
+    private final static Logger LOGGER = LoggerFactory.getLogger(SchedulingService.class);
+    private static final ZoneId GAME_ZONE = ZoneId.of("America/Los_Angeles");
+    // new games must start in the future, so games that ended before this cannot clash with them
+    private static final long HISTORY_MINUTES = 24 * 60;
+    private static final int MAX_SUGGESTIONS = 3;
+    // same bounds as GameRequest
+    private static final int MIN_DURATION = 20;
+    private static final int MAX_DURATION = 90;
+    private static final long SUGGESTION_HORIZON_MINUTES = 14 * 24 * 60;
+
+    private final SchedulingRepository schedulingRepository;
+    private final LeagueRepository leagueRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Booking> bookings = new HashMap<>();
+    private final BookingIndex index = new BookingIndex();
+    // game id -> number of open transactions that have booked it
+    private final Map<Long, Integer> inFlight = new HashMap<>();
+
+    public SchedulingService(SchedulingRepository schedulingRepository, LeagueRepository leagueRepository) {
+        this.schedulingRepository = schedulingRepository;
+        this.leagueRepository = leagueRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long from = minutes(now()) - HISTORY_MINUTES;
+        List<ScheduleBookingRow> rows = schedulingRepository.findBookingRowsFrom(dateTime(from));
+        lock.writeLock().lock();
+        try {
+            bookings.clear();
+            index.clear();
+            for (ScheduleBookingRow row : rows) {
+                put(toBooking(row));
+            }
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+        LOGGER.info("Loaded {} game bookings", rows.size());
+    }
+
+    /**
+     * Books the venue and teams of a saved game, replacing its previous booking.
+     * Must be called inside the transaction that saves the game.
+     */
+    public void reserve(Game game) throws ServiceException {
+        reserveAll(List.of(game));
+    }
+
+    /**
+     * Books a batch of saved games, checking each one against the index and against the
+     * games before it in the batch. Nothing is booked if any game clashes.
+     * Must be called inside the transaction that saves the games.
+     */
+    public void reserveAll(List<Game> games) throws ServiceException {
+        long from = minutes(now()) - HISTORY_MINUTES;
+        List<Booking> reserved = new ArrayList<>(games.size());
+        List<Booking> previous = new ArrayList<>(games.size());
+        lock.writeLock().lock();
+        try {
+            List<ScheduleConflictDTO> conflicts = new ArrayList<>();
+            for (Game game : games) {
+                Booking booking = toBooking(game);
+                // past games are not indexed, same as on startup
+                if (booking.end() < from) continue;
+                index.collectConflicts(booking, id -> true, conflicts);
+                if (!conflicts.isEmpty()) {
+                    for (int i = reserved.size() - 1; i >= 0; i--) {
+                        restore(reserved.get(i), previous.get(i));
+                        unmark(reserved.get(i).gameId());
+                    }
+                    throw new ServiceException(
+                        HttpStatus.CONFLICT,
+                        ClientErrorKey.SCHEDULE_CONFLICT,
+                        "Game",
+                        describe(conflicts.get(0))
+                    );
+                }
+                previous.add(put(booking));
+                reserved.add(booking);
+                inFlight.merge(booking.gameId(), 1, Integer::sum);
+            }
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+
+        if (reserved.isEmpty()) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    release(reserved, previous, status != STATUS_COMMITTED);
+                }
+            });
+        }
+        else {
+            release(reserved, previous, false);
+        }
+    }
+
+    /**
+     * Checks a batch of games that are not saved yet against the index and against the
+     * earlier games of the batch that fit, without booking anything, e.g. to report clashes
+     * per record before an import writes anything. The rows' game ids only have to be unique
+     * within the batch; unsaved teams can use negative ids. Returns the first conflict of
+     * each game that clashes, by game id.
+     */
+    public Map<Long, ScheduleConflictDTO> findConflicts(List<ScheduleBookingRow> games) {
+        long from = minutes(now()) - HISTORY_MINUTES;
+        BookingIndex batchIndex = new BookingIndex();
+        Map<Long, ScheduleConflictDTO> firstConflicts = new HashMap<>();
+        List<ScheduleConflictDTO> conflicts = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (ScheduleBookingRow game : games) {
+                Booking booking = toBooking(game);
+                // past games are not indexed, same as in reserveAll
+                if (booking.end() < from) continue;
+                conflicts.clear();
+                index.collectConflicts(booking, id -> true, conflicts);
+                batchIndex.collectConflicts(booking, id -> true, conflicts);
+                if (conflicts.isEmpty()) {
+                    batchIndex.add(booking);
+                }
+                else {
+                    firstConflicts.put(game.getGameId(), conflicts.get(0));
+                }
+            }
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+        return firstConflicts;
+    }
+
+    /**
+     * @param gameId the game being moved, or null for a new game
+     */
+    public ScheduleAvailabilityDTO checkAvailability(
+        Long gameId,
+        String address,
+        Long homeTeamId,
+        Long awayTeamId,
+        LocalDateTime gameDateTime,
+        int durationInMinutes) throws ServiceException
+    {
+        if (durationInMinutes < MIN_DURATION || durationInMinutes > MAX_DURATION) {
+            throw new ServiceException(
+                HttpStatus.BAD_REQUEST,
+                ClientErrorKey.VALIDATION_FAILED,
+                "Game",
+                "durationInMinutes must be between " + MIN_DURATION + " and " + MAX_DURATION
+            );
+        }
+        long start = minutes(gameDateTime);
+        Booking requested = new Booking(gameId == null ? BookingIndex.NO_GAME : gameId, null,
+            address, homeTeamId, awayTeamId, start, start + durationInMinutes);
+        List<ScheduleConflictDTO> conflicts = new ArrayList<>();
+        List<LocalDateTime> suggestedStartTimes = new ArrayList<>();
+        List<String> alternativeAddresses = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            index.collectConflicts(requested, id -> true, conflicts);
+            if (!conflicts.isEmpty()) {
+                // jump past whatever blocks the slot until enough free slots are found
+                long candidate = start;
+                while (suggestedStartTimes.size() < MAX_SUGGESTIONS && candidate < start + SUGGESTION_HORIZON_MINUTES) {
+                    Booking slot = at(requested, address, candidate);
+                    long blockedUntil = index.latestConflictEnd(slot);
+                    if (blockedUntil == Long.MIN_VALUE) {
+                        suggestedStartTimes.add(dateTime(candidate));
+                        candidate += durationInMinutes;
+                    }
+                    else {
+                        candidate = blockedUntil;
+                    }
+                }
+                if (index.areTeamsFree(requested)) {
+                    for (String otherAddress : index.addresses()) {
+                        if (alternativeAddresses.size() == MAX_SUGGESTIONS) break;
+                        if (!otherAddress.equals(address) && index.isVenueFree(otherAddress, requested)) {
+                            alternativeAddresses.add(otherAddress);
+                        }
+                    }
+                }
+            }
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+        return new ScheduleAvailabilityDTO(conflicts.isEmpty(), conflicts, suggestedStartTimes, alternativeAddresses);
+    }
+
+    /**
+     * Checks every game of a league, past ones included, against the league's other games
+     * and against the upcoming games of other leagues.
+     */
+    public LeagueScheduleValidationDTO validateLeague(Long leagueId) throws ServiceException {
+        if (!leagueRepository.existsById(leagueId)) {
+            throw new ServiceException(
+                HttpStatus.NOT_FOUND,
+                ClientErrorKey.LEAGUE_NOT_FOUND,
+                "League",
+                "League with id = " + leagueId + " not found"
+            );
+        }
+        List<Booking> leagueBookings = schedulingRepository.findBookingRowsByLeagueId(leagueId).stream()
+            .map(SchedulingService::toBooking)
+            .toList();
+        BookingIndex leagueIndex = new BookingIndex();
+        Set<Long> leagueGameIds = new HashSet<>();
+        for (Booking booking : leagueBookings) {
+            leagueIndex.add(booking);
+            leagueGameIds.add(booking.gameId());
+        }
+
+        List<ScheduleConflictDTO> conflicts = new ArrayList<>();
+        for (Booking booking : leagueBookings) {
+            // each pair within the league once
+            leagueIndex.collectConflicts(booking, id -> id > booking.gameId(), conflicts);
+        }
+        lock.readLock().lock();
+        try {
+            for (Booking booking : leagueBookings) {
+                // the index may hold an older copy of the league's own games
+                index.collectConflicts(booking, id -> !leagueGameIds.contains(id), conflicts);
+            }
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+        return new LeagueScheduleValidationDTO(leagueId, leagueBookings.size(), conflicts);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        ScheduleBookingRow row = schedulingRepository.findBookingRowById(event.getGameId()).orElse(null);
+        long from = minutes(now()) - HISTORY_MINUTES;
+        lock.writeLock().lock();
+        try {
+            // an open transaction has booked the game; it owns the booking until it completes
+            if (inFlight.containsKey(event.getGameId())) return;
+            Booking previous = bookings.remove(event.getGameId());
+            if (previous != null) {
+                index.remove(previous);
+            }
+            if (row != null) {
+                Booking booking = toBooking(row);
+                if (booking.end() >= from) {
+                    put(booking);
+                }
+            }
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLeagueChanged(LeagueChangedEvent event) {
+        List<ScheduleBookingRow> rows = schedulingRepository.findBookingRowsByLeagueId(event.getLeagueId());
+        long from = minutes(now()) - HISTORY_MINUTES;
+        lock.writeLock().lock();
+        try {
+            // covers deleted leagues and games added in bulk, but leaves bookings
+            // that open transactions hold on this league's games alone
+            bookings.values().removeIf(booking -> {
+                if (!event.getLeagueId().equals(booking.leagueId()) || inFlight.containsKey(booking.gameId())) return false;
+                index.remove(booking);
+                return true;
+            });
+            for (ScheduleBookingRow row : rows) {
+                Booking booking = toBooking(row);
+                if (booking.end() >= from && !inFlight.containsKey(booking.gameId())) {
+                    put(booking);
+                }
+            }
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // caller holds the write lock
+    private Booking put(Booking booking) {
+        Booking previous = bookings.put(booking.gameId(), booking);
+        if (previous != null) {
+            index.remove(previous);
+        }
+        index.add(booking);
+        return previous;
+    }
+
+    private void release(List<Booking> reserved, List<Booking> previous, boolean rolledBack) {
+        lock.writeLock().lock();
+        try {
+            for (int i = reserved.size() - 1; i >= 0; i--) {
+                Booking booking = reserved.get(i);
+                unmark(booking.gameId());
+                if (rolledBack) {
+                    restore(booking, previous.get(i));
+                }
+            }
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // caller holds the write lock
+    private void unmark(Long gameId) {
+        inFlight.computeIfPresent(gameId, (id, count) -> count == 1 ? null : count - 1);
+    }
+
+    // caller holds the write lock
+    private void restore(Booking booking, Booking previous) {
+        // unless something has already replaced it
+        if (bookings.get(booking.gameId()) == booking) {
+            bookings.remove(booking.gameId());
+            index.remove(booking);
+            if (previous != null) {
+                put(previous);
+            }
+        }
+    }
+
+    private static Booking at(Booking booking, String address, long start) {
+        return new Booking(booking.gameId(), booking.leagueId(), address, booking.homeTeamId(), booking.awayTeamId(),
+            start, start + booking.end() - booking.start());
+    }
+
+    private static Booking toBooking(Game game) {
+        long start = minutes(game.getGameDateTime());
+        return new Booking(game.getId(), game.getLeague().getId(), game.getAddress(), game.getHomeTeam().getId(),
+            game.getAwayTeam().getId(), start, start + game.getDurationInMinutes());
+    }
+
+    private static Booking toBooking(ScheduleBookingRow row) {
+        long start = minutes(row.getGameDateTime());
+        return new Booking(row.getGameId(), row.getLeagueId(), row.getAddress(), row.getHomeTeamId(), row.getAwayTeamId(),
+            start, start + row.getDurationInMinutes());
+    }
+
+    private static String describe(ScheduleConflictDTO conflict) {
+        return conflict.getType() == ScheduleConflictType.VENUE
+            ? conflict.getAddress() + " is booked for game " + conflict.getConflictingGameId() + " at that time"
+            : "Team with id = " + conflict.getTeamId() + " plays game " + conflict.getConflictingGameId() + " at that time";
+    }
+
+    private static long minutes(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static LocalDateTime dateTime(long minutes) {
+        return LocalDateTime.ofEpochSecond(minutes * 60, 0, ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime now() {
+        return ZonedDateTime.now(GAME_ZONE).toLocalDateTime();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.tournaments_backend.scoreboard;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game_stat.GameStatType;
+
+import lombok.Getter;
+
+/**
+ * In-memory score, card counts and event log of a single game.
+ * Events are keyed by game stat id, so applying the same event twice is a no-op.
+ */
+public class LiveScoreboard {
+    @Getter
+    private final Long gameId;
+    private final Long homeTeamId;
+    private final Long awayTeamId;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final Map<Long, ScoreboardEventDTO> events = new HashMap<>();
+    private final int[] homeTallies = new int[GameStatType.values().length];
+    private final int[] awayTallies = new int[GameStatType.values().length];
+    // rebuilt lazily after a write so concurrent readers share one immutable DTO
+    private volatile ScoreboardDTO cachedDTO;
+
+    public LiveScoreboard(Game game) {
+        this.gameId = game.getId();
+        this.homeTeamId = game.getHomeTeam().getId();
+        this.awayTeamId = game.getAwayTeam().getId();
+        this.startTime = game.getGameDateTime();
+        this.endTime = startTime.plusMinutes(game.getDurationInMinutes());
+    }
+
+    public boolean isLive(LocalDateTime now) {
+        return now.isAfter(startTime) && now.isBefore(endTime);
+    }
+
+    public synchronized void put(ScoreboardEventDTO event) {
+        ScoreboardEventDTO old = events.put(event.getId(), event);
+        if (old != null) {
+            tally(old, -1);
+        }
+        tally(event, 1);
+        cachedDTO = null;
+    }
+
+    public synchronized void remove(Long gameStatId) {
+        ScoreboardEventDTO old = events.remove(gameStatId);
+        if (old != null) {
+            tally(old, -1);
+            cachedDTO = null;
+        }
+    }
+
+    public ScoreboardDTO toDTO(LocalDateTime now) {
+        ScoreboardDTO dto = cachedDTO;
+        if (dto == null || dto.isLive() != isLive(now)) {
+            dto = buildDTO(now);
+        }
+        return dto;
+    }
+
+    private synchronized ScoreboardDTO buildDTO(LocalDateTime now) {
+        List<ScoreboardEventDTO> eventLog = events.values().stream()
+                .sorted(Comparator.comparing(ScoreboardEventDTO::getCreatedAt)
+                        .thenComparing(ScoreboardEventDTO::getId))
+                .toList();
+        int goal = GameStatType.GOAL.ordinal();
+        int yellow = GameStatType.YELLOW_CARD.ordinal();
+        int red = GameStatType.RED_CARD.ordinal();
+        ScoreboardDTO dto = new ScoreboardDTO(
+            gameId,
+            homeTeamId,
+            awayTeamId,
+            homeTallies[goal],
+            awayTallies[goal],
+            homeTallies[yellow],
+            awayTallies[yellow],
+            homeTallies[red],
+            awayTallies[red],
+            isLive(now),
+            eventLog
+        );
+        cachedDTO = dto;
+        return dto;
+    }
+
+    private void tally(ScoreboardEventDTO event, int delta) {
+        Long teamId = event.getTeamId();
+        if (teamId == null) return;
+        int ordinal = event.getType().ordinal();
+        if (teamId.equals(homeTeamId)) {
+            homeTallies[ordinal] += delta;
+        }
+        else if (teamId.equals(awayTeamId)) {
+            awayTallies[ordinal] += delta;
+        }
+    }
+}
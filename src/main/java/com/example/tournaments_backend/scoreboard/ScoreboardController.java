@@ -0,0 +1,48 @@
+package com.example.tournaments_backend.scoreboard;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+import com.example.tournaments_backend.exception.ServiceException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping(path="/api/v1/games")
+@Tag(name = "Scoreboard", description = "API endpoints for live game scoreboards")
+public class ScoreboardController {
+    private final ScoreboardService scoreboardService;
+
+    @Autowired
+    public ScoreboardController(ScoreboardService scoreboardService) {
+        this.scoreboardService = scoreboardService;
+    }
+
+    @Operation(summary = "Get a game's scoreboard", description = "Returns the score, card counts and event log of a game. Live games are served from memory.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved scoreboard", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ScoreboardDTO.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Not found - game with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @GetMapping("{gameId}/scoreboard")
+    public ResponseEntity<ScoreboardDTO> getScoreboard(
+        @Parameter(description = "The game id", required = true) @PathVariable("gameId") Long gameId) throws ServiceException
+    {
+        ScoreboardDTO scoreboardDTO = scoreboardService.getScoreboard(gameId);
+        return ResponseEntity.ok(scoreboardDTO);
+    }
+}
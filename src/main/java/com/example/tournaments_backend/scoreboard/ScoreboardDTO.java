@@ -0,0 +1,22 @@
+package com.example.tournaments_backend.scoreboard;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ScoreboardDTO {
+    private final Long gameId;
+    private final Long homeTeamId;
+    private final Long awayTeamId;
+    private final int homeScore;
+    private final int awayScore;
+    private final int homeYellowCards;
+    private final int awayYellowCards;
+    private final int homeRedCards;
+    private final int awayRedCards;
+    private final boolean live;
+    private final List<ScoreboardEventDTO> events;
+}
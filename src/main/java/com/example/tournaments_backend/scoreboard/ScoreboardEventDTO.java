@@ -0,0 +1,27 @@
+package com.example.tournaments_backend.scoreboard;
+
+import java.time.LocalDateTime;
+
+import com.example.tournaments_backend.game_stat.GameStatSnapshot;
+import com.example.tournaments_backend.game_stat.GameStatType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ScoreboardEventDTO {
+    private final Long id;
+    private final GameStatType type;
+    private final Long playerId;
+    private final Long teamId;
+    private final LocalDateTime createdAt;
+
+    public ScoreboardEventDTO(GameStatSnapshot snapshot) {
+        this.id = snapshot.getId();
+        this.type = snapshot.getType();
+        this.playerId = snapshot.getPlayerId();
+        this.teamId = snapshot.getTeamId();
+        this.createdAt = snapshot.getCreatedAt();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.tournaments_backend.scoreboard;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameChangedEvent;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.game_stat.GameStat;
+import com.example.tournaments_backend.game_stat.GameStatEvent;
+import com.example.tournaments_backend.game_stat.GameStatRepository;
+import com.example.tournaments_backend.game_stat.GameStatSnapshot;
+import com.example.tournaments_backend.player.PlayerRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ScoreboardService {
+    private static final ZoneId GAME_ZONE = ZoneId.of("America/Los_Angeles");
+
+    private final GameRepository gameRepository;
+    private final GameStatRepository gameStatRepository;
+    private final PlayerRepository playerRepository;
+    // only games that are live are kept here
+    private final ConcurrentMap<Long, LiveScoreboard> scoreboards = new ConcurrentHashMap<>();
+
+    public ScoreboardDTO getScoreboard(Long gameId) throws ServiceException {
+        LocalDateTime now = now();
+        LiveScoreboard scoreboard = scoreboards.get(gameId);
+        if (scoreboard != null) {
+            if (scoreboard.isLive(now)) {
+                return scoreboard.toDTO(now);
+            }
+            scoreboards.remove(gameId, scoreboard);
+        }
+
+        // Load inside computeIfAbsent so stat events for this game wait for the load to finish
+        // (see onGameStatEvent) instead of being lost between the query and the insert.
+        LiveScoreboard[] loaded = new LiveScoreboard[1];
+        scoreboard = scoreboards.computeIfAbsent(gameId, id -> {
+            loaded[0] = loadScoreboard(id);
+            return loaded[0].isLive(now) ? loaded[0] : null;
+        });
+        if (scoreboard == null) {
+            scoreboard = loaded[0];
+        }
+        return scoreboard.toDTO(now);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        scoreboards.remove(event.getGameId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameStatEvent(GameStatEvent event) {
+        GameStatSnapshot previous = event.getPrevious();
+        if (previous != null) {
+            scoreboards.computeIfPresent(previous.getGameId(), (id, scoreboard) -> {
+                scoreboard.remove(previous.getId());
+                return scoreboard;
+            });
+        }
+
+        GameStatSnapshot current = event.getCurrent();
+        if (current != null) {
+            scoreboards.computeIfPresent(current.getGameId(), (id, scoreboard) -> {
+                scoreboard.put(new ScoreboardEventDTO(current));
+                return scoreboard;
+            });
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictEndedGames() {
+        LocalDateTime now = now();
+        scoreboards.values().removeIf(scoreboard -> !scoreboard.isLive(now));
+    }
+
+    private LiveScoreboard loadScoreboard(Long gameId) throws ServiceException {
+        Game game = gameRepository
+                .findById(gameId)
+                .orElseThrow(() -> new ServiceException(
+                    HttpStatus.NOT_FOUND, 
+                    ClientErrorKey.GAME_NOT_FOUND, 
+                    "Game", 
+                    "Game with id = " + gameId + " not found"
+                ));
+        Long homeTeamId = game.getHomeTeam().getId();
+        Long awayTeamId = game.getAwayTeam().getId();
+        Set<Long> homePlayerIds = new HashSet<>(playerRepository.findIdsByTeamId(homeTeamId));
+        Set<Long> awayPlayerIds = new HashSet<>(playerRepository.findIdsByTeamId(awayTeamId));
+
+        LiveScoreboard scoreboard = new LiveScoreboard(game);
+        List<GameStat> gameStats = gameStatRepository.findByGame_Id(gameId);
+        for (GameStat gameStat : gameStats) {
+            Long playerId = gameStat.getPlayer().getId();
+            Long teamId = homePlayerIds.contains(playerId) ? homeTeamId
+                        : awayPlayerIds.contains(playerId) ? awayTeamId
+                        : null;
+            scoreboard.put(new ScoreboardEventDTO(
+                gameStat.getId(),
+                gameStat.getType(),
+                playerId,
+                teamId,
+                gameStat.getCreatedAt()
+            ));
+        }
+        return scoreboard;
+    }
+
+    private static LocalDateTime now() {
+        return ZonedDateTime.now(GAME_ZONE).toLocalDateTime();
+    }
+}
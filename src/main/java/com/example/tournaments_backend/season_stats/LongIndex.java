@@ -0,0 +1,100 @@
+package com.example.tournaments_backend.season_stats;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from long keys to dense int indexes 0..size()-1, handed out in
+ * insertion order, so per-key values can live in plain arrays indexed by it. Lookups
+ * and inserts do not allocate; the tables double when half full. Long.MIN_VALUE cannot
+ * be used as a key. Not thread safe.
+ */
+public final class LongIndex {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] indexes;
+    private long[] keysByIndex;
+    private int mask;
+    private int size;
+
+    public LongIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+        allocate(capacity);
+        this.keysByIndex = new long[Math.max(expectedSize, 8)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long keyAt(int index) {
+        return keysByIndex[index];
+    }
+
+    /**
+     * The key's index, or -1 if it was never added.
+     */
+    public int indexOf(long key) {
+        int slot = slot(key);
+        while (true) {
+            long current = keys[slot];
+            if (current == key) {
+                return indexes[slot];
+            }
+            if (current == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public int getOrAdd(long key) {
+        int slot = slot(key);
+        while (true) {
+            long current = keys[slot];
+            if (current == key) {
+                return indexes[slot];
+            }
+            if (current == EMPTY) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int index = size++;
+        keys[slot] = key;
+        indexes[slot] = index;
+        if (index == keysByIndex.length) {
+            keysByIndex = Arrays.copyOf(keysByIndex, index * 2);
+        }
+        keysByIndex[index] = key;
+        if (size * 2 > keys.length) {
+            rehash();
+        }
+        return index;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        indexes = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private void rehash() {
+        allocate(keys.length * 2);
+        for (int index = 0; index < size; index++) {
+            int slot = slot(keysByIndex[index]);
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = keysByIndex[index];
+            indexes[slot] = index;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.tournaments_backend.season_stats;
+
+import java.util.Arrays;
+
+/**
+ * Lookup tables the aggregation needs besides the stat rows: each game's league and
+ * teams, and each player's teams, all in primitive arrays. Filled once before
+ * aggregating and only read afterwards, so partitions can share it.
+ */
+public final class SeasonGames {
+    private static final long[] NO_TEAMS = new long[0];
+
+    private final LongIndex games;
+    private long[] leagueIds;
+    private long[] homeTeamIds;
+    private long[] awayTeamIds;
+    private final LongIndex players;
+    private long[][] teamsByPlayer;
+
+    public SeasonGames(int expectedGames, int expectedPlayers) {
+        this.games = new LongIndex(expectedGames);
+        this.leagueIds = new long[Math.max(expectedGames, 8)];
+        this.homeTeamIds = new long[leagueIds.length];
+        this.awayTeamIds = new long[leagueIds.length];
+        this.players = new LongIndex(expectedPlayers);
+        this.teamsByPlayer = new long[Math.max(expectedPlayers, 8)][];
+    }
+
+    public void addGame(long gameId, long leagueId, long homeTeamId, long awayTeamId) {
+        int index = games.getOrAdd(gameId);
+        if (index == leagueIds.length) {
+            leagueIds = Arrays.copyOf(leagueIds, index * 2);
+            homeTeamIds = Arrays.copyOf(homeTeamIds, index * 2);
+            awayTeamIds = Arrays.copyOf(awayTeamIds, index * 2);
+        }
+        leagueIds[index] = leagueId;
+        homeTeamIds[index] = homeTeamId;
+        awayTeamIds[index] = awayTeamId;
+    }
+
+    public void addRosterEntry(long teamId, long playerId) {
+        int index = players.getOrAdd(playerId);
+        if (index == teamsByPlayer.length) {
+            teamsByPlayer = Arrays.copyOf(teamsByPlayer, index * 2);
+        }
+        long[] teams = teamsByPlayer[index];
+        if (teams == null) {
+            teamsByPlayer[index] = new long[] { teamId };
+        }
+        else {
+            teams = Arrays.copyOf(teams, teams.length + 1);
+            teams[teams.length - 1] = teamId;
+            teamsByPlayer[index] = teams;
+        }
+    }
+
+    public int playerCount() {
+        return players.size();
+    }
+
+    int gameIndex(long gameId) {
+        return games.indexOf(gameId);
+    }
+
+    long leagueId(int gameIndex) {
+        return leagueIds[gameIndex];
+    }
+
+    /**
+     * The player's team in the game, home before away as in GameStatSnapshot.resolveTeamId,
+     * or 0 if the player is on neither roster.
+     */
+    long teamId(long playerId, int gameIndex) {
+        int index = players.indexOf(playerId);
+        long[] teams = index < 0 || teamsByPlayer[index] == null ? NO_TEAMS : teamsByPlayer[index];
+        long home = homeTeamIds[gameIndex];
+        long away = awayTeamIds[gameIndex];
+        for (long team : teams) {
+            if (team == home) return home;
+        }
+        for (long team : teams) {
+            if (team == away) return away;
+        }
+        return 0L;
+    }
+}
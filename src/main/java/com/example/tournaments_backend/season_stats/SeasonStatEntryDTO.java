@@ -0,0 +1,12 @@
+package com.example.tournaments_backend.season_stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SeasonStatEntryDTO {
+    // a player, team or league id depending on the list it is in
+    private final long id;
+    private final int count;
+}
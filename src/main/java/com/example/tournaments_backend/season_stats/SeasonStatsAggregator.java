@@ -0,0 +1,197 @@
+package com.example.tournaments_backend.season_stats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.example.tournaments_backend.game_stat.GameStatType;
+
+/**
+ * Counts game stats per player, team and league and type. Each level is a LongIndex
+ * from id to a dense index plus an int array with one counter per type at
+ * index * TYPES + type, so accept() does a few hash probes and increments and never
+ * allocates except when an array doubles.
+ *
+ * One aggregator per partition of the rows; merge() folds the partitions together.
+ * Not thread safe.
+ */
+public final class SeasonStatsAggregator {
+    static final int TYPES = GameStatType.values().length;
+
+    private final SeasonGames seasonGames;
+    private final LongIndex players;
+    private final LongIndex teams;
+    private final LongIndex leagues;
+    private int[] playerCounts;
+    private int[] teamCounts;
+    private int[] leagueCounts;
+    private long events;
+    // stats of games missing from seasonGames, e.g. added after it was loaded
+    private long skipped;
+
+    public SeasonStatsAggregator(SeasonGames seasonGames, int expectedPlayers) {
+        this.seasonGames = seasonGames;
+        this.players = new LongIndex(expectedPlayers);
+        this.teams = new LongIndex(Math.max(expectedPlayers / 10, 8));
+        this.leagues = new LongIndex(64);
+        this.playerCounts = new int[Math.max(expectedPlayers, 8) * TYPES];
+        this.teamCounts = new int[Math.max(expectedPlayers / 10, 8) * TYPES];
+        this.leagueCounts = new int[64 * TYPES];
+    }
+
+    public void accept(long playerId, long gameId, int typeOrdinal) {
+        int game = seasonGames.gameIndex(gameId);
+        if (game < 0) {
+            skipped++;
+            return;
+        }
+        events++;
+        playerCounts = increment(players, playerCounts, playerId, typeOrdinal, 1);
+        long teamId = seasonGames.teamId(playerId, game);
+        if (teamId != 0L) {
+            teamCounts = increment(teams, teamCounts, teamId, typeOrdinal, 1);
+        }
+        leagueCounts = increment(leagues, leagueCounts, seasonGames.leagueId(game), typeOrdinal, 1);
+    }
+
+    public SeasonStatsAggregator merge(SeasonStatsAggregator other) {
+        playerCounts = mergeLevel(players, playerCounts, other.players, other.playerCounts);
+        teamCounts = mergeLevel(teams, teamCounts, other.teams, other.teamCounts);
+        leagueCounts = mergeLevel(leagues, leagueCounts, other.leagues, other.leagueCounts);
+        events += other.events;
+        skipped += other.skipped;
+        return this;
+    }
+
+    public long getEvents() {
+        return events;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public int playerCount(long playerId, GameStatType type) {
+        return count(players, playerCounts, playerId, type);
+    }
+
+    public int teamCount(long teamId, GameStatType type) {
+        return count(teams, teamCounts, teamId, type);
+    }
+
+    public int leagueCount(long leagueId, GameStatType type) {
+        return count(leagues, leagueCounts, leagueId, type);
+    }
+
+    public List<SeasonStatEntryDTO> topPlayers(GameStatType type, int limit) {
+        return top(players, playerCounts, type, limit);
+    }
+
+    public List<SeasonStatEntryDTO> topTeams(GameStatType type, int limit) {
+        return top(teams, teamCounts, type, limit);
+    }
+
+    public List<SeasonStatEntryDTO> topLeagues(GameStatType type, int limit) {
+        return top(leagues, leagueCounts, type, limit);
+    }
+
+    private static int[] increment(LongIndex index, int[] counts, long key, int typeOrdinal, int amount) {
+        int offset = index.getOrAdd(key) * TYPES;
+        if (offset == counts.length) {
+            counts = Arrays.copyOf(counts, counts.length * 2);
+        }
+        counts[offset + typeOrdinal] += amount;
+        return counts;
+    }
+
+    private static int[] mergeLevel(LongIndex index, int[] counts, LongIndex otherIndex, int[] otherCounts) {
+        for (int i = 0; i < otherIndex.size(); i++) {
+            long key = otherIndex.keyAt(i);
+            for (int type = 0; type < TYPES; type++) {
+                int amount = otherCounts[i * TYPES + type];
+                if (amount != 0) {
+                    counts = increment(index, counts, key, type, amount);
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static int count(LongIndex index, int[] counts, long key, GameStatType type) {
+        int i = index.indexOf(key);
+        return i < 0 ? 0 : counts[i * TYPES + type.ordinal()];
+    }
+
+    /**
+     * Highest counts first, ties by id, using a bounded min-heap of indexes so only the
+     * result is allocated.
+     */
+    private static List<SeasonStatEntryDTO> top(LongIndex index, int[] counts, GameStatType type, int limit) {
+        int typeOrdinal = type.ordinal();
+        int[] heap = new int[Math.min(limit, index.size())];
+        int heapSize = 0;
+        for (int i = 0; i < index.size(); i++) {
+            if (counts[i * TYPES + typeOrdinal] == 0) {
+                continue;
+            }
+            if (heapSize < heap.length) {
+                heap[heapSize] = i;
+                siftUp(heap, heapSize++, index, counts, typeOrdinal);
+            }
+            else if (heap.length > 0 && ranksAbove(i, heap[0], index, counts, typeOrdinal)) {
+                heap[0] = i;
+                siftDown(heap, heapSize, index, counts, typeOrdinal);
+            }
+        }
+
+        List<SeasonStatEntryDTO> entries = new ArrayList<>(heapSize);
+        for (int i = heapSize - 1; i >= 0; i--) {
+            int top = heap[0];
+            entries.add(new SeasonStatEntryDTO(index.keyAt(top), counts[top * TYPES + typeOrdinal]));
+            heap[0] = heap[i];
+            siftDown(heap, i, index, counts, typeOrdinal);
+        }
+        Collections.reverse(entries);
+        return entries;
+    }
+
+    private static boolean ranksAbove(int a, int b, LongIndex index, int[] counts, int type) {
+        int countA = counts[a * TYPES + type];
+        int countB = counts[b * TYPES + type];
+        return countA != countB ? countA > countB : index.keyAt(a) < index.keyAt(b);
+    }
+
+    private static void siftUp(int[] heap, int position, LongIndex index, int[] counts, int type) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!ranksAbove(heap[parent], heap[position], index, counts, type)) {
+                return;
+            }
+            swap(heap, parent, position);
+            position = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, LongIndex index, int[] counts, int type) {
+        int position = 0;
+        while (true) {
+            int lowest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && ranksAbove(heap[lowest], heap[left], index, counts, type)) lowest = left;
+            if (right < size && ranksAbove(heap[lowest], heap[right], index, counts, type)) lowest = right;
+            if (lowest == position) {
+                return;
+            }
+            swap(heap, position, lowest);
+            position = lowest;
+        }
+    }
+
+    private static void swap(int[] heap, int a, int b) {
+        int tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.tournaments_backend.season_stats;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game_stat.GameStatType;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping(path="/api/v1/season-stats")
+@Tag(name = "Season stats", description = "API endpoints for stat totals across all leagues")
+public class SeasonStatsController {
+    private final SeasonStatsService seasonStatsService;
+
+    @Autowired
+    public SeasonStatsController(SeasonStatsService seasonStatsService) {
+        this.seasonStatsService = seasonStatsService;
+    }
+
+    @Operation(summary = "Get season stat totals", description = "Returns the players, teams and leagues with the most goals, yellow cards or red cards across all leagues. Totals are recomputed at most once per configured interval")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved season stats", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SeasonStatsDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - type or limit is not valid",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @GetMapping
+    public ResponseEntity<SeasonStatsDTO> getSeasonStats(
+        @Parameter(description = "The stat to rank by", required = true) @RequestParam("type") GameStatType type,
+        @Parameter(description = "Number of entries to return per list, at most " + SeasonStatsService.MAX_LIMIT) @RequestParam(name = "limit", defaultValue = "10") int limit) throws ServiceException
+    {
+        SeasonStatsDTO seasonStatsDTO = seasonStatsService.getSeasonStats(type, limit);
+        return ResponseEntity.ok(seasonStatsDTO);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.tournaments_backend.season_stats;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.tournaments_backend.game_stat.GameStatType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SeasonStatsDTO {
+    private final GameStatType type;
+    private final List<SeasonStatEntryDTO> players;
+    private final List<SeasonStatEntryDTO> teams;
+    private final List<SeasonStatEntryDTO> leagues;
+    // number of stats counted, of every type
+    private final long events;
+    private final LocalDateTime computedAt;
+}
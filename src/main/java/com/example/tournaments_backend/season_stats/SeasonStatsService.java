@@ -0,0 +1,226 @@
+package com.example.tournaments_backend.season_stats;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game_stat.GameStatType;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Stat counts across every league, per player, team and league, recomputed from the
+ * game_stat table at most once per ttl. The table is split into id ranges that are
+ * streamed in parallel, each into its own SeasonStatsAggregator, and merged at the end.
+ * Rows are read straight off the JDBC result set as longs and an int type ordinal, so
+ * no entity or row object is created per stat.
+ *
+ * Every partition holds a pooled connection while it streams, so at most max-connections
+ * partitions run at once, capped at half the Hikari pool to leave room for request
+ * traffic. Once a snapshot exists, a stale one keeps being served while a single request
+ * recomputes it.
+ */
+@Service
+public class SeasonStatsService {
+    private final static Logger LOGGER = LoggerFactory.getLogger(SeasonStatsService.class);
+    public static final int MAX_LIMIT = 100;
+    private static final ZoneId GAME_ZONE = ZoneId.of("America/Los_Angeles");
+    private static final String STAT_ROWS_SQL =
+        "SELECT s.player_id, s.game_id, " + typeOrdinalCase() + " FROM game_stat s WHERE s.id BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int partitions;
+    private final int parallelism;
+    private final int fetchSize;
+    private final long ttlMillis;
+    private final ExecutorService workers;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Snapshot snapshot;
+
+    public SeasonStatsService(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${season-stats.partitions:0}") int partitions,
+        @Value("${season-stats.fetch-size:10000}") int fetchSize,
+        @Value("${season-stats.ttl-ms:60000}") long ttlMillis,
+        @Value("${season-stats.max-connections:0}") int maxConnections,
+        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize)
+    {
+        this.jdbcTemplate = jdbcTemplate;
+        // Postgres only honours the fetch size, streaming rows instead of buffering the whole
+        // result, inside a transaction
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        int connectionLimit = Math.max(maximumPoolSize / 2, 1);
+        this.parallelism = maxConnections > 0 ? Math.min(maxConnections, connectionLimit) : connectionLimit;
+        this.partitions = partitions > 0 ? partitions : parallelism;
+        this.fetchSize = fetchSize;
+        this.ttlMillis = ttlMillis;
+        this.workers = Executors.newFixedThreadPool(Math.min(this.partitions, parallelism));
+    }
+
+    public SeasonStatsDTO getSeasonStats(GameStatType type, int limit) throws ServiceException {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ServiceException(
+                HttpStatus.BAD_REQUEST,
+                ClientErrorKey.VALIDATION_FAILED,
+                "Season stats",
+                "limit must be between 1 and " + MAX_LIMIT
+            );
+        }
+        Snapshot current = currentSnapshot();
+        SeasonStatsAggregator aggregator = current.aggregator();
+        return new SeasonStatsDTO(
+            type,
+            aggregator.topPlayers(type, limit),
+            aggregator.topTeams(type, limit),
+            aggregator.topLeagues(type, limit),
+            aggregator.getEvents(),
+            current.computedAt()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            if (isFresh(current) || !refreshing.compareAndSet(false, true)) {
+                return current;
+            }
+            try {
+                return refresh();
+            }
+            catch (RuntimeException e) {
+                LOGGER.warn("Recomputing season stats failed, serving the snapshot from {}", current.computedAt(), e);
+                return current;
+            }
+            finally {
+                refreshing.set(false);
+            }
+        }
+        synchronized (this) {
+            // the first snapshot has nothing stale to serve, so concurrent requests wait for it
+            current = snapshot;
+            return current != null ? current : refresh();
+        }
+    }
+
+    private Snapshot refresh() {
+        long start = System.nanoTime();
+        SeasonStatsAggregator aggregator = aggregate();
+        LOGGER.info("Aggregated {} game stats in {} partitions in {} ms",
+            aggregator.getEvents(), partitions, (System.nanoTime() - start) / 1_000_000L);
+        Snapshot refreshed = new Snapshot(aggregator, now(), start);
+        snapshot = refreshed;
+        return refreshed;
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return System.nanoTime() - current.computedAtNanos() < ttlMillis * 1_000_000L;
+    }
+
+    private SeasonStatsAggregator aggregate() {
+        SeasonGames seasonGames = loadSeasonGames();
+        long[] idRange = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(MIN(id), 0), COALESCE(MAX(id), -1) FROM game_stat",
+            (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) });
+        long minId = idRange[0];
+        long maxId = idRange[1];
+        int expectedPlayers = Math.max(seasonGames.playerCount(), 8);
+        if (maxId < minId) {
+            return new SeasonStatsAggregator(seasonGames, expectedPlayers);
+        }
+
+        long step = Math.max((maxId - minId + partitions) / partitions, 1L);
+        List<Callable<SeasonStatsAggregator>> tasks = new ArrayList<>(partitions);
+        for (long from = minId; from <= maxId; from += step) {
+            long to = Math.min(from + step - 1, maxId);
+            long partitionFrom = from;
+            tasks.add(() -> aggregateRange(seasonGames, expectedPlayers, partitionFrom, to));
+        }
+
+        SeasonStatsAggregator merged = null;
+        try {
+            for (Future<SeasonStatsAggregator> result : workers.invokeAll(tasks)) {
+                merged = merged == null ? result.get() : merged.merge(result.get());
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while aggregating season stats", e);
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException("Aggregating season stats failed", e.getCause());
+        }
+        return merged;
+    }
+
+    private SeasonStatsAggregator aggregateRange(SeasonGames seasonGames, int expectedPlayers, long fromId, long toId) {
+        SeasonStatsAggregator aggregator = new SeasonStatsAggregator(seasonGames, expectedPlayers);
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(STAT_ROWS_SQL);
+                statement.setFetchSize(fetchSize);
+                statement.setLong(1, fromId);
+                statement.setLong(2, toId);
+                return statement;
+            },
+            rs -> {
+                aggregator.accept(rs.getLong(1), rs.getLong(2), rs.getInt(3));
+            }));
+        return aggregator;
+    }
+
+    private SeasonGames loadSeasonGames() {
+        SeasonGames seasonGames = new SeasonGames(1024, 1024);
+        jdbcTemplate.query("SELECT g.id, g.league_id, g.home_team_id, g.away_team_id FROM game g",
+            rs -> {
+                seasonGames.addGame(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4));
+            });
+        jdbcTemplate.query("SELECT tp.team_id, tp.player_id FROM team_player tp",
+            rs -> {
+                seasonGames.addRosterEntry(rs.getLong(1), rs.getLong(2));
+            });
+        return seasonGames;
+    }
+
+    // maps the stored enum name to its ordinal in the query, so rows carry no strings
+    private static String typeOrdinalCase() {
+        StringBuilder sql = new StringBuilder("CASE s.type");
+        for (GameStatType type : GameStatType.values()) {
+            sql.append(" WHEN '").append(type.name()).append("' THEN ").append(type.ordinal());
+        }
+        return sql.append(" END").toString();
+    }
+
+    private static LocalDateTime now() {
+        return ZonedDateTime.now(GAME_ZONE).toLocalDateTime();
+    }
+
+    private record Snapshot(SeasonStatsAggregator aggregator, LocalDateTime computedAt, long computedAtNanos) {}
+}
@@ -30,6 +30,8 @@ import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
 
+import jakarta.servlet.DispatcherType;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -62,6 +64,10 @@ public class SecurityConfig {
 
         http
             .authorizeHttpRequests(authorize -> authorize
+                // SSE responses are completed on an async dispatch, which carries no bearer token;
+                // the request was already authorized when the stream was opened
+                .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                .permitAll()
                 .requestMatchers("/api/v*/auth/**", 
                                  "/swagger-ui.html", 
                                  "/swagger-ui/**", 
@@ -0,0 +1,164 @@
+package com.example.tournaments_backend.standings;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import com.example.tournaments_backend.game_stat.GameStatType;
+
+import lombok.Getter;
+
+/**
+ * Materialized standings table of one league, kept current by applying each
+ * game stat change as a delta instead of recomputing the table on read.
+ * A game counts towards played/W/D/L/points once it has kicked off; stats are
+ * keyed by id, so replaying a change is a no-op.
+ */
+public class LeagueStandings {
+    private static final Comparator<TeamStanding> TABLE_ORDER = Comparator
+            .comparingInt(TeamStanding::getPoints).reversed()
+            .thenComparing(Comparator.comparingInt(TeamStanding::getGoalDifference).reversed())
+            .thenComparing(Comparator.comparingInt(TeamStanding::getGoalsFor).reversed())
+            .thenComparing(TeamStanding::getTeamName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(TeamStanding::getTeamId);
+
+    @Getter
+    private final Long leagueId;
+    private final Map<Long, TeamStanding> teams = new HashMap<>();
+    private final Map<Long, GameResult> games = new HashMap<>();
+    private final Map<Long, StatEntry> stats = new HashMap<>();
+    private final PriorityQueue<GameResult> notStarted = new PriorityQueue<>(Comparator.comparing(GameResult::getStartTime));
+    // start time of the next game to kick off, read without locking on the fast path
+    private volatile LocalDateTime nextStartTime;
+    private volatile LeagueStandingsDTO cachedDTO;
+
+    public LeagueStandings(Long leagueId, List<StandingsTeamRow> teamRows, List<StandingsGameRow> gameRows) {
+        this.leagueId = leagueId;
+        for (StandingsTeamRow row : teamRows) {
+            teams.putIfAbsent(row.getTeamId(), new TeamStanding(row.getTeamId(), row.getTeamName()));
+        }
+        for (StandingsGameRow row : gameRows) {
+            GameResult game = new GameResult(row.getGameId(), row.getHomeTeamId(), row.getAwayTeamId(), row.getGameDateTime());
+            games.put(game.gameId, game);
+            notStarted.add(game);
+            team(game.homeTeamId);
+            team(game.awayTeamId);
+        }
+        updateNextStartTime();
+    }
+
+    public synchronized boolean containsGame(Long gameId) {
+        return games.containsKey(gameId);
+    }
+
+    /**
+     * Adds or replaces a stat.
+     * @return false if the stat's game is not part of these standings, which means they are stale
+     */
+    public synchronized boolean putStat(Long gameStatId, Long gameId, Long teamId, GameStatType type) {
+        GameResult game = games.get(gameId);
+        if (game == null) {
+            return false;
+        }
+        StatEntry old = stats.put(gameStatId, new StatEntry(gameId, teamId, type));
+        if (old != null) {
+            apply(old, -1);
+        }
+        apply(stats.get(gameStatId), 1);
+        cachedDTO = null;
+        return true;
+    }
+
+    public synchronized void removeStat(Long gameStatId) {
+        StatEntry old = stats.remove(gameStatId);
+        if (old != null) {
+            apply(old, -1);
+            cachedDTO = null;
+        }
+    }
+
+    public LeagueStandingsDTO toDTO(LocalDateTime now) {
+        LeagueStandingsDTO dto = cachedDTO;
+        LocalDateTime next = nextStartTime;
+        if (dto == null || (next != null && !now.isBefore(next))) {
+            dto = buildDTO(now);
+        }
+        return dto;
+    }
+
+    private synchronized LeagueStandingsDTO buildDTO(LocalDateTime now) {
+        startGames(now);
+        List<TeamStanding> table = new ArrayList<>(teams.values());
+        table.sort(TABLE_ORDER);
+        List<StandingDTO> standings = new ArrayList<>(table.size());
+        for (int i = 0; i < table.size(); i++) {
+            standings.add(table.get(i).toDTO(i + 1));
+        }
+        LeagueStandingsDTO dto = new LeagueStandingsDTO(leagueId, List.copyOf(standings));
+        cachedDTO = dto;
+        return dto;
+    }
+
+    private void startGames(LocalDateTime now) {
+        while (!notStarted.isEmpty() && !notStarted.peek().startTime.isAfter(now)) {
+            GameResult game = notStarted.poll();
+            game.started = true;
+            applyResult(game, 1);
+        }
+        updateNextStartTime();
+    }
+
+    private void updateNextStartTime() {
+        GameResult next = notStarted.peek();
+        nextStartTime = next == null ? null : next.startTime;
+    }
+
+    private void apply(StatEntry stat, int sign) {
+        if (stat.teamId() == null) return;
+        GameResult game = games.get(stat.gameId());
+        switch (stat.type()) {
+            case GOAL -> {
+                // goals change the result, so swap the game's old result for the new one
+                if (game.started) applyResult(game, -1);
+                if (stat.teamId().equals(game.homeTeamId)) game.homeGoals += sign;
+                else if (stat.teamId().equals(game.awayTeamId)) game.awayGoals += sign;
+                if (game.started) applyResult(game, 1);
+            }
+            case YELLOW_CARD -> team(stat.teamId()).addYellowCards(sign);
+            case RED_CARD -> team(stat.teamId()).addRedCards(sign);
+        }
+    }
+
+    private void applyResult(GameResult game, int sign) {
+        team(game.homeTeamId).applyResult(game.homeGoals, game.awayGoals, sign);
+        team(game.awayTeamId).applyResult(game.awayGoals, game.homeGoals, sign);
+    }
+
+    private TeamStanding team(Long teamId) {
+        return teams.computeIfAbsent(teamId, id -> new TeamStanding(id, null));
+    }
+
+    @Getter
+    private static class GameResult {
+        private final Long gameId;
+        private final Long homeTeamId;
+        private final Long awayTeamId;
+        private final LocalDateTime startTime;
+        private int homeGoals;
+        private int awayGoals;
+        private boolean started;
+
+        GameResult(Long gameId, Long homeTeamId, Long awayTeamId, LocalDateTime startTime) {
+            this.gameId = gameId;
+            this.homeTeamId = homeTeamId;
+            this.awayTeamId = awayTeamId;
+            this.startTime = startTime;
+        }
+    }
+
+    private record StatEntry(Long gameId, Long teamId, GameStatType type) {}
+}
@@ -0,0 +1,13 @@
+package com.example.tournaments_backend.standings;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LeagueStandingsDTO {
+    private final Long leagueId;
+    private final List<StandingDTO> standings;
+}
@@ -0,0 +1,22 @@
+package com.example.tournaments_backend.standings;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StandingDTO {
+    private final int rank;
+    private final Long teamId;
+    private final String teamName;
+    private final int played;
+    private final int wins;
+    private final int draws;
+    private final int losses;
+    private final int goalsFor;
+    private final int goalsAgainst;
+    private final int goalDifference;
+    private final int points;
+    private final int yellowCards;
+    private final int redCards;
+}
@@ -0,0 +1,48 @@
+package com.example.tournaments_backend.standings;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+import com.example.tournaments_backend.exception.ServiceException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping(path="/api/v1/leagues")
+@Tag(name = "Standings", description = "API endpoints for league standings")
+public class StandingsController {
+    private final StandingsService standingsService;
+
+    @Autowired
+    public StandingsController(StandingsService standingsService) {
+        this.standingsService = standingsService;
+    }
+
+    @Operation(summary = "Get a league's standings", description = "Returns the league table ordered by points, goal difference and goals scored")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved standings", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = LeagueStandingsDTO.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Not found - league with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @GetMapping("{leagueId}/standings")
+    public ResponseEntity<LeagueStandingsDTO> getStandings(
+        @Parameter(description = "The league id", required = true) @PathVariable("leagueId") Long leagueId) throws ServiceException
+    {
+        LeagueStandingsDTO standingsDTO = standingsService.getStandings(leagueId);
+        return ResponseEntity.ok(standingsDTO);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.tournaments_backend.standings;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StandingsGameRow {
+    private final Long gameId;
+    private final Long homeTeamId;
+    private final Long awayTeamId;
+    private final LocalDateTime gameDateTime;
+}
@@ -0,0 +1,67 @@
+package com.example.tournaments_backend.standings;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+import com.example.tournaments_backend.exception.ServiceException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping(path="/api/v1/standings/rebuild")
+@Tag(name = "Standings", description = "API endpoints for league standings")
+public class StandingsRebuildController {
+    private final StandingsRebuildService standingsRebuildService;
+
+    @Autowired
+    public StandingsRebuildController(StandingsRebuildService standingsRebuildService) {
+        this.standingsRebuildService = standingsRebuildService;
+    }
+
+    @Operation(summary = "Rebuild all standings", description = "Starts rebuilding the standings of every league in the background, e.g. after data corrections or bulk imports")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Accepted - rebuild started", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = StandingsRebuildStatusDTO.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden - client does not have admin role",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "409", description = "Conflict - a rebuild is already running",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @PostMapping
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<StandingsRebuildStatusDTO> startRebuild() throws ServiceException {
+        StandingsRebuildStatusDTO status = standingsRebuildService.startRebuild();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+    }
+
+    @Operation(summary = "Get rebuild progress", description = "Returns the progress, throughput and elapsed time of the last standings rebuild")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved rebuild status", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = StandingsRebuildStatusDTO.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden - client does not have admin role",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Not found - no rebuild has been started",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @GetMapping
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<StandingsRebuildStatusDTO> getStatus() throws ServiceException {
+        return ResponseEntity.ok(standingsRebuildService.getStatus());
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.tournaments_backend.standings;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Rebuilds the standings of every league at once, e.g. after data corrections or bulk
+ * imports. Leagues are split in halves down to one league per task on a fork-join pool;
+ * each league is read in its own read-only transaction with its stats streamed in
+ * fetch-size chunks. The finished standings replace the cached ones in one step (see
+ * StandingsService.replaceAll), so readers see either the old or the new set.
+ */
+@Service
+public class StandingsRebuildService {
+    private final static Logger LOGGER = LoggerFactory.getLogger(StandingsRebuildService.class);
+    private static final ZoneId GAME_ZONE = ZoneId.of("America/Los_Angeles");
+
+    private final StandingsService standingsService;
+    private final StandingsRepository standingsRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ForkJoinPool pool;
+    private volatile Rebuild current;
+
+    public StandingsRebuildService(
+        StandingsService standingsService,
+        StandingsRepository standingsRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${standings.rebuild.parallelism:0}") int parallelism,
+        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize)
+    {
+        this.standingsService = standingsService;
+        this.standingsRepository = standingsRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        ClassLoader classLoader = getClass().getClassLoader();
+        AtomicInteger threadCount = new AtomicInteger();
+        // every task holds a connection while it reads its league, so leave half the pool to requests
+        int connectionLimit = Math.max(maximumPoolSize / 2, 1);
+        this.pool = new ForkJoinPool(
+            parallelism > 0 ? Math.min(parallelism, connectionLimit) : connectionLimit,
+            forkJoinPool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                thread.setName("standings-rebuild-" + threadCount.incrementAndGet());
+                // entities and repositories are loaded by the application class loader
+                thread.setContextClassLoader(classLoader);
+                return thread;
+            },
+            null,
+            false);
+    }
+
+    public synchronized StandingsRebuildStatusDTO startRebuild() throws ServiceException {
+        if (current != null && current.finishedAt == null) {
+            throw new ServiceException(
+                HttpStatus.CONFLICT,
+                ClientErrorKey.STANDINGS_REBUILD_IN_PROGRESS,
+                "Standings rebuild",
+                "A standings rebuild is already running"
+            );
+        }
+        Rebuild rebuild = new Rebuild();
+        current = rebuild;
+        pool.execute(() -> run(rebuild));
+        return rebuild.toDTO();
+    }
+
+    public StandingsRebuildStatusDTO getStatus() throws ServiceException {
+        Rebuild rebuild = current;
+        if (rebuild == null) {
+            throw new ServiceException(
+                HttpStatus.NOT_FOUND,
+                ClientErrorKey.STANDINGS_REBUILD_NOT_FOUND,
+                "Standings rebuild",
+                "No standings rebuild has been started"
+            );
+        }
+        return rebuild.toDTO();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private void run(Rebuild rebuild) {
+        standingsService.beginRebuild();
+        boolean replaced = false;
+        String error = null;
+        try {
+            List<Long> leagueIds = readOnlyTransaction.execute(status -> standingsRepository.findLeagueIds());
+            rebuild.leagueCount = leagueIds.size();
+            ConcurrentMap<Long, LeagueStandings> rebuilt = new ConcurrentHashMap<>();
+            if (!leagueIds.isEmpty()) {
+                new LeagueTask(rebuild, leagueIds, rebuilt).invoke();
+            }
+            standingsService.replaceAll(rebuilt);
+            replaced = true;
+        }
+        catch (RuntimeException e) {
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            LOGGER.error("Standings rebuild failed", e);
+        }
+        finally {
+            // an Error skips the catch above, but must not leave the rebuild running
+            if (!replaced) {
+                standingsService.abortRebuild();
+                rebuild.finish(error != null ? error : "Standings rebuild stopped unexpectedly");
+            }
+            else {
+                rebuild.finish(null);
+            }
+        }
+        if (replaced) {
+            StandingsRebuildStatusDTO status = rebuild.toDTO();
+            LOGGER.info("Rebuilt standings of {} leagues from {} stats in {} ms ({} stats/s)",
+                status.getLeaguesRebuilt(), status.getStatsRead(), status.getElapsedMillis(), Math.round(status.getStatsPerSecond()));
+        }
+    }
+
+    private static LocalDateTime now() {
+        return ZonedDateTime.now(GAME_ZONE).toLocalDateTime();
+    }
+
+    /**
+     * Rebuilds leagueIds, splitting the list in halves until one league is left.
+     */
+    private class LeagueTask extends RecursiveAction {
+        private final Rebuild rebuild;
+        private final List<Long> leagueIds;
+        private final ConcurrentMap<Long, LeagueStandings> rebuilt;
+
+        LeagueTask(Rebuild rebuild, List<Long> leagueIds, ConcurrentMap<Long, LeagueStandings> rebuilt) {
+            this.rebuild = rebuild;
+            this.leagueIds = leagueIds;
+            this.rebuilt = rebuilt;
+        }
+
+        @Override
+        protected void compute() {
+            if (leagueIds.size() > 1) {
+                int middle = leagueIds.size() / 2;
+                invokeAll(
+                    new LeagueTask(rebuild, leagueIds.subList(0, middle), rebuilt),
+                    new LeagueTask(rebuild, leagueIds.subList(middle, leagueIds.size()), rebuilt));
+                return;
+            }
+            Long leagueId = leagueIds.get(0);
+            LeagueStandings standings = readOnlyTransaction.execute(
+                status -> standingsService.rebuildStandings(leagueId, rebuild.statsRead));
+            rebuilt.put(leagueId, standings);
+            rebuild.leaguesRebuilt.incrementAndGet();
+        }
+    }
+
+    private static class Rebuild {
+        private final long startNanos = System.nanoTime();
+        private final LocalDateTime startedAt = now();
+        private final AtomicInteger leaguesRebuilt = new AtomicInteger();
+        private final LongAdder statsRead = new LongAdder();
+        private volatile int leagueCount;
+        private volatile long elapsedNanos;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        void finish(String error) {
+            this.elapsedNanos = System.nanoTime() - startNanos;
+            this.error = error;
+            this.finishedAt = now();
+        }
+
+        StandingsRebuildStatusDTO toDTO() {
+            LocalDateTime finished = finishedAt;
+            long elapsed = finished != null ? elapsedNanos : System.nanoTime() - startNanos;
+            long stats = statsRead.sum();
+            StandingsRebuildState state = finished == null
+                ? StandingsRebuildState.RUNNING
+                : error == null ? StandingsRebuildState.COMPLETED : StandingsRebuildState.FAILED;
+            return new StandingsRebuildStatusDTO(
+                state,
+                leagueCount,
+                leaguesRebuilt.get(),
+                stats,
+                elapsed > 0 ? stats * 1_000_000_000.0 / elapsed : 0.0,
+                elapsed / 1_000_000L,
+                startedAt,
+                finished,
+                error
+            );
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.tournaments_backend.standings;
+
+public enum StandingsRebuildState {
+    RUNNING, COMPLETED, FAILED
+}
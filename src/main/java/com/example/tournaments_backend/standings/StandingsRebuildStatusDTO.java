@@ -0,0 +1,23 @@
+package com.example.tournaments_backend.standings;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StandingsRebuildStatusDTO {
+    private final StandingsRebuildState state;
+    // 0 until the league ids are loaded
+    private final int leagueCount;
+    private final int leaguesRebuilt;
+    private final long statsRead;
+    private final double statsPerSecond;
+    private final long elapsedMillis;
+    private final LocalDateTime startedAt;
+    // null while running
+    private final LocalDateTime finishedAt;
+    // null unless the rebuild failed
+    private final String error;
+}
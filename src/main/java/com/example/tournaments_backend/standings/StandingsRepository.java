@@ -0,0 +1,51 @@
+package com.example.tournaments_backend.standings;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.tournaments_backend.league.League;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Narrow projections used to build a league's standings in a few queries,
+ * without loading the Game/GameStat/Player entity graphs.
+ */
+@Repository
+public interface StandingsRepository extends org.springframework.data.repository.Repository<League, Long> {
+    @Query("SELECT new com.example.tournaments_backend.standings.StandingsTeamRow(t.id, t.name) " +
+           "FROM League l JOIN l.teams t WHERE l.id = :leagueId")
+    List<StandingsTeamRow> findTeamRowsByLeagueId(@Param("leagueId") Long leagueId);
+
+    @Query("SELECT new com.example.tournaments_backend.standings.StandingsTeamRow(t.id, t.name) " +
+           "FROM Team t WHERE t.id IN :teamIds")
+    List<StandingsTeamRow> findTeamRowsByIds(@Param("teamIds") Collection<Long> teamIds);
+
+    @Query("SELECT new com.example.tournaments_backend.standings.StandingsGameRow(g.id, g.homeTeam.id, g.awayTeam.id, g.gameDateTime) " +
+           "FROM Game g WHERE g.league.id = :leagueId")
+    List<StandingsGameRow> findGameRowsByLeagueId(@Param("leagueId") Long leagueId);
+
+    @Query("SELECT new com.example.tournaments_backend.standings.StandingsStatRow(gs.id, gs.game.id, gs.player.id, gs.type) " +
+           "FROM GameStat gs WHERE gs.game.league.id = :leagueId")
+    List<StandingsStatRow> findStatRowsByLeagueId(@Param("leagueId") Long leagueId);
+
+    // same rows read in fetch-size chunks; must be consumed and closed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.example.tournaments_backend.standings.StandingsStatRow(gs.id, gs.game.id, gs.player.id, gs.type) " +
+           "FROM GameStat gs WHERE gs.game.league.id = :leagueId")
+    Stream<StandingsStatRow> streamStatRowsByLeagueId(@Param("leagueId") Long leagueId);
+
+    @Query("SELECT new com.example.tournaments_backend.standings.RosterRow(t.id, p.id) " +
+           "FROM Player p JOIN p.teams t WHERE t.id IN :teamIds")
+    List<RosterRow> findRosterRowsByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
+    @Query("SELECT l.id FROM League l ORDER BY l.id")
+    List<Long> findLeagueIds();
+}
@@ -0,0 +1,227 @@
+package com.example.tournaments_backend.standings;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.GameChangedEvent;
+import com.example.tournaments_backend.game_stat.GameStatEvent;
+import com.example.tournaments_backend.game_stat.GameStatSnapshot;
+import com.example.tournaments_backend.league.LeagueChangedEvent;
+import com.example.tournaments_backend.league.LeagueRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class StandingsService {
+    private static final ZoneId GAME_ZONE = ZoneId.of("America/Los_Angeles");
+
+    private final LeagueRepository leagueRepository;
+    private final StandingsRepository standingsRepository;
+    // replaced as a whole by StandingsRebuildService (see replaceAll)
+    private volatile ConcurrentMap<Long, LeagueStandings> standingsByLeague = new ConcurrentHashMap<>();
+    // event listeners hold the read lock so replaceAll cannot swap the map between marking and applying a change
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    // leagues and games changed since the running rebuild started, null when none is running
+    private volatile RebuildChanges rebuildChanges;
+
+    public LeagueStandingsDTO getStandings(Long leagueId) throws ServiceException {
+        // loaded inside computeIfAbsent so stat events for this league wait for the load (see onGameStatEvent)
+        LeagueStandings standings = standingsByLeague.computeIfAbsent(leagueId, this::loadStandings);
+        return standings.toDTO(now());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameStatEvent(GameStatEvent event) {
+        GameStatSnapshot previous = event.getPrevious();
+        GameStatSnapshot current = event.getCurrent();
+        swapLock.readLock().lock();
+        try {
+            RebuildChanges changes = rebuildChanges;
+            if (changes != null) {
+                if (previous != null) changes.leagueIds().add(previous.getLeagueId());
+                if (current != null) changes.leagueIds().add(current.getLeagueId());
+            }
+
+            if (previous != null) {
+                standingsByLeague.computeIfPresent(previous.getLeagueId(), (id, standings) -> {
+                    standings.removeStat(previous.getId());
+                    return standings;
+                });
+            }
+            if (current != null) {
+                // unknown game means the standings missed a game change, so drop them and reload on next read
+                standingsByLeague.computeIfPresent(current.getLeagueId(), (id, standings) ->
+                    standings.putStat(current.getId(), current.getGameId(), current.getTeamId(), current.getType())
+                        ? standings
+                        : null
+                );
+            }
+        }
+        finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            RebuildChanges changes = rebuildChanges;
+            if (changes != null) {
+                if (event.getLeagueId() != null) changes.leagueIds().add(event.getLeagueId());
+                changes.gameIds().add(event.getGameId());
+            }
+
+            if (event.getLeagueId() != null) {
+                standingsByLeague.remove(event.getLeagueId());
+            }
+            // the game may have moved out of another league
+            standingsByLeague.values().removeIf(standings -> standings.containsGame(event.getGameId()));
+        }
+        finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLeagueChanged(LeagueChangedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            RebuildChanges changes = rebuildChanges;
+            if (changes != null) {
+                changes.leagueIds().add(event.getLeagueId());
+            }
+            standingsByLeague.remove(event.getLeagueId());
+        }
+        finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Starts recording which leagues change, so standings rebuilt from rows read before
+     * the change can be left out by replaceAll.
+     */
+    void beginRebuild() {
+        rebuildChanges = new RebuildChanges(ConcurrentHashMap.newKeySet(), ConcurrentHashMap.newKeySet());
+    }
+
+    void abortRebuild() {
+        rebuildChanges = null;
+    }
+
+    /**
+     * Swaps in the rebuilt standings in one step. Leagues changed since beginRebuild are
+     * left out and load again on their next read.
+     */
+    void replaceAll(Map<Long, LeagueStandings> rebuilt) {
+        swapLock.writeLock().lock();
+        try {
+            RebuildChanges changes = rebuildChanges;
+            ConcurrentMap<Long, LeagueStandings> standings = new ConcurrentHashMap<>(rebuilt);
+            if (changes != null) {
+                standings.keySet().removeAll(changes.leagueIds());
+                for (Long gameId : changes.gameIds()) {
+                    standings.values().removeIf(league -> league.containsGame(gameId));
+                }
+            }
+            standingsByLeague = standings;
+            rebuildChanges = null;
+        }
+        finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Builds a league's standings from the stat rows streamed in fetch-size chunks. Must run
+     * inside a transaction, which the stream needs; counts each row read in statsRead.
+     */
+    LeagueStandings rebuildStandings(Long leagueId, LongAdder statsRead) {
+        return buildStandings(leagueId, () -> standingsRepository.streamStatRowsByLeagueId(leagueId)
+            .peek(row -> statsRead.increment()));
+    }
+
+    private LeagueStandings loadStandings(Long leagueId) throws ServiceException {
+        if (!leagueRepository.existsById(leagueId)) {
+            throw new ServiceException(
+                HttpStatus.NOT_FOUND, 
+                ClientErrorKey.LEAGUE_NOT_FOUND, 
+                "League", 
+                "League with id = " + leagueId + " not found"
+            );
+        }
+
+        return buildStandings(leagueId, () -> standingsRepository.findStatRowsByLeagueId(leagueId).stream());
+    }
+
+    private LeagueStandings buildStandings(Long leagueId, Supplier<Stream<StandingsStatRow>> statRows) {
+        List<StandingsGameRow> gameRows = standingsRepository.findGameRowsByLeagueId(leagueId);
+        List<StandingsTeamRow> teamRows = standingsRepository.findTeamRowsByLeagueId(leagueId);
+        Set<Long> teamIds = new HashSet<>();
+        teamRows.forEach(row -> teamIds.add(row.getTeamId()));
+        Set<Long> gameTeamIds = new HashSet<>();
+        for (StandingsGameRow row : gameRows) {
+            gameTeamIds.add(row.getHomeTeamId());
+            gameTeamIds.add(row.getAwayTeamId());
+        }
+        // teams that played in the league but are no longer registered to it
+        gameTeamIds.removeAll(teamIds);
+        if (!gameTeamIds.isEmpty()) {
+            teamRows = new ArrayList<>(teamRows);
+            teamRows.addAll(standingsRepository.findTeamRowsByIds(gameTeamIds));
+        }
+        LeagueStandings standings = new LeagueStandings(leagueId, teamRows, gameRows);
+        if (gameRows.isEmpty()) {
+            return standings;
+        }
+
+        teamIds.addAll(gameTeamIds);
+        Map<Long, Set<Long>> teamIdsByPlayerId = new HashMap<>();
+        for (RosterRow row : standingsRepository.findRosterRowsByTeamIds(teamIds)) {
+            teamIdsByPlayerId.computeIfAbsent(row.getPlayerId(), id -> new HashSet<>()).add(row.getTeamId());
+        }
+        Map<Long, StandingsGameRow> gamesById = new HashMap<>();
+        gameRows.forEach(row -> gamesById.put(row.getGameId(), row));
+        try (Stream<StandingsStatRow> stats = statRows.get()) {
+            stats.forEach(stat -> {
+                StandingsGameRow game = gamesById.get(stat.getGameId());
+                if (game == null) return;
+                Long teamId = GameStatSnapshot.resolveTeamId(
+                    teamIdsByPlayerId.getOrDefault(stat.getPlayerId(), Set.of()),
+                    game.getHomeTeamId(),
+                    game.getAwayTeamId()
+                );
+                standings.putStat(stat.getId(), stat.getGameId(), teamId, stat.getType());
+            });
+        }
+        return standings;
+    }
+
+    private static LocalDateTime now() {
+        return ZonedDateTime.now(GAME_ZONE).toLocalDateTime();
+    }
+
+    private record RebuildChanges(Set<Long> leagueIds, Set<Long> gameIds) {}
+}
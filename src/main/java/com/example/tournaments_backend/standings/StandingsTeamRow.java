@@ -0,0 +1,11 @@
+package com.example.tournaments_backend.standings;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StandingsTeamRow {
+    private final Long teamId;
+    private final String teamName;
+}
@@ -0,0 +1,74 @@
+package com.example.tournaments_backend.standings;
+
+import lombok.Getter;
+
+/**
+ * Mutable standings row of one team, owned and guarded by its LeagueStandings.
+ */
+@Getter
+class TeamStanding {
+    static final int POINTS_PER_WIN = 3;
+    static final int POINTS_PER_DRAW = 1;
+
+    private final Long teamId;
+    private final String teamName;
+    private int played;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int goalsFor;
+    private int goalsAgainst;
+    private int yellowCards;
+    private int redCards;
+
+    TeamStanding(Long teamId, String teamName) {
+        this.teamId = teamId;
+        this.teamName = teamName;
+    }
+
+    /**
+     * Adds (sign = 1) or removes (sign = -1) the result of one game.
+     */
+    void applyResult(int scored, int conceded, int sign) {
+        played += sign;
+        goalsFor += sign * scored;
+        goalsAgainst += sign * conceded;
+        if (scored > conceded) wins += sign;
+        else if (scored == conceded) draws += sign;
+        else losses += sign;
+    }
+
+    void addYellowCards(int delta) {
+        yellowCards += delta;
+    }
+
+    void addRedCards(int delta) {
+        redCards += delta;
+    }
+
+    int getGoalDifference() {
+        return goalsFor - goalsAgainst;
+    }
+
+    int getPoints() {
+        return wins * POINTS_PER_WIN + draws * POINTS_PER_DRAW;
+    }
+
+    StandingDTO toDTO(int rank) {
+        return new StandingDTO(
+            rank,
+            teamId,
+            teamName,
+            played,
+            wins,
+            draws,
+            losses,
+            goalsFor,
+            goalsAgainst,
+            getGoalDifference(),
+            getPoints(),
+            yellowCards,
+            redCards
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.tournaments_backend.swiss;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * A team that sat out a Swiss round of a league. Byes have no game, so they are the one
+ * part of a Swiss league's history that the game table does not hold.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+public class SwissBye {
+    @Id
+    @SequenceGenerator(
+        name="swiss_bye_sequence",
+        sequenceName="swiss_bye_sequence",
+        allocationSize = 50
+    )
+    @GeneratedValue(
+        strategy = GenerationType.SEQUENCE,
+        generator = "swiss_bye_sequence"
+    )
+    private Long id;
+    @Column(nullable = false)
+    private Long leagueId;
+    @Column(nullable = false)
+    private Long teamId;
+    @Column(nullable = false)
+    private Integer round;
+
+    public SwissBye(Long leagueId, Long teamId, Integer round) {
+        this.leagueId = leagueId;
+        this.teamId = teamId;
+        this.round = round;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.tournaments_backend.swiss;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SwissByeRepository extends JpaRepository<SwissBye, Long> {
+    List<SwissBye> findByLeagueIdOrderByRound(Long leagueId);
+}
@@ -0,0 +1,58 @@
+package com.example.tournaments_backend.swiss;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournaments_backend.exception.ErrorDetails;
+import com.example.tournaments_backend.exception.ServiceException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping(path="/api/v1/leagues")
+@Tag(name = "League Management", description = "API endpoints for managing leagues")
+public class SwissController {
+    private final SwissService swissService;
+
+    @Autowired
+    public SwissController(SwissService swissService) {
+        this.swissService = swissService;
+    }
+
+    @Operation(summary = "Pair the next Swiss round", description = "Pairs the league's teams by points, avoiding rematches and balancing home and away games, and creates the round's games. The lowest ranked team without a bye sits out when the team count is odd.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully paired the round", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SwissRoundDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - request is not valid, or the round's games do not fit in a day",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden - client does not have admin role",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Not found - league with given ID not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "409", description = "Conflict - a game of the league has not ended, or the league is a knockout bracket",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+    })
+    @PostMapping("{leagueId}/swiss-rounds")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<SwissRoundDTO> pairNextRound(
+        @Parameter(description = "The league id", required = true) @PathVariable("leagueId") Long leagueId,
+        @Valid @RequestBody SwissRoundRequest swissRoundRequest) throws ServiceException
+    {
+        return ResponseEntity.ok(swissService.pairNextRound(leagueId, swissRoundRequest));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.tournaments_backend.swiss;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The goals a player scored in a game; SwissService credits them to the home or away
+ * team through the player's rosters.
+ */
+@Getter
+@AllArgsConstructor
+public class SwissGoalRow {
+    private final Long gameId;
+    private final Long playerId;
+    private final Long goals;
+}
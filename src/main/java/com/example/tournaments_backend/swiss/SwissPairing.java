@@ -0,0 +1,322 @@
+package com.example.tournaments_backend.swiss;
+
+import java.util.Arrays;
+
+import com.example.tournaments_backend.season_stats.LongIndex;
+
+/**
+ * Swiss-system pairing over a fixed field of teams 0..teamCount - 1. The history of
+ * earlier rounds is added game by game, then pairRound() ranks the field by points and
+ * pairs it by score group, Dutch style: within a group the top half meets the bottom
+ * half, and teams that cannot be paired in their group float down to the next one.
+ *
+ * Teams that have met are kept in a hashed set of packed index pairs, so checking a
+ * rematch is one probe. The unpaired teams form a doubly linked list that removals
+ * can be undone on, so a pairing that runs into a dead end backtracks to the last
+ * choice instead of starting over. Most rounds pair greedily in one pass; if the
+ * backtracking runs out of maxSteps, the rest of the field is paired greedily and
+ * rematches are allowed.
+ *
+ * With an odd field the lowest ranked team with the fewest byes sits out. Home goes to
+ * the team that has played fewer home than away games, then to the team that was away
+ * last, then to the higher ranked team.
+ */
+public final class SwissPairing {
+    public static final int NO_TEAM = -1;
+
+    private final int teamCount;
+    private final int[] points;
+    private final int[] homeBalance;
+    private final int[] lastGame;
+    private final int[] byes;
+    private final LongIndex playedPairs;
+    private int gameCount;
+
+    public SwissPairing(int teamCount) {
+        if (teamCount < 2) {
+            throw new IllegalArgumentException("A Swiss round needs at least 2 teams");
+        }
+        this.teamCount = teamCount;
+        this.points = new int[teamCount];
+        this.homeBalance = new int[teamCount];
+        // +1 home, -1 away, 0 no game yet
+        this.lastGame = new int[teamCount];
+        this.byes = new int[teamCount];
+        this.playedPairs = new LongIndex(teamCount * 4);
+    }
+
+    /**
+     * Adds an earlier game; games must be added in the order they were played.
+     */
+    public void addGame(int homeTeam, int awayTeam, int homePoints, int awayPoints) {
+        checkTeam(homeTeam);
+        checkTeam(awayTeam);
+        points[homeTeam] += homePoints;
+        points[awayTeam] += awayPoints;
+        homeBalance[homeTeam]++;
+        homeBalance[awayTeam]--;
+        lastGame[homeTeam] = 1;
+        lastGame[awayTeam] = -1;
+        playedPairs.getOrAdd(pairKey(homeTeam, awayTeam));
+        gameCount++;
+    }
+
+    public void addBye(int team, int byePoints) {
+        checkTeam(team);
+        points[team] += byePoints;
+        byes[team]++;
+    }
+
+    public boolean havePlayed(int a, int b) {
+        return playedPairs.indexOf(pairKey(a, b)) >= 0;
+    }
+
+    public int getPoints(int team) {
+        return points[team];
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * @param maxSteps how many steps through the unpaired teams the backtracking may take
+     *                 before it gives up on avoiding rematches; a greedy pass over n teams
+     *                 takes about n * n / 4
+     */
+    public SwissRound pairRound(long maxSteps) {
+        // best first, ties by index
+        Integer[] boxed = new Integer[teamCount];
+        for (int team = 0; team < teamCount; team++) {
+            boxed[team] = team;
+        }
+        Arrays.sort(boxed, (a, b) -> points[a] != points[b] ? Integer.compare(points[b], points[a]) : Integer.compare(a, b));
+        int[] ranking = new int[teamCount];
+        for (int i = 0; i < teamCount; i++) {
+            ranking[i] = boxed[i];
+        }
+
+        int byeTeam = NO_TEAM;
+        Field field = new Field(ranking);
+        if (teamCount % 2 == 1) {
+            int byePosition = teamCount - 1;
+            for (int position = teamCount - 1; position >= 0; position--) {
+                if (byes[ranking[position]] < byes[ranking[byePosition]]) {
+                    byePosition = position;
+                }
+            }
+            byeTeam = ranking[byePosition];
+            field.remove(byePosition);
+        }
+
+        int[] partners = new int[teamCount];
+        Arrays.fill(partners, NO_TEAM);
+        int rematches = 0;
+        if (!field.pairWithoutRematches(partners, maxSteps)) {
+            rematches = field.pairGreedily(partners);
+        }
+
+        int games = teamCount / 2;
+        int[] homeTeams = new int[games];
+        int[] awayTeams = new int[games];
+        int game = 0;
+        for (int position = 0; position < teamCount; position++) {
+            int partnerPosition = partners[position];
+            if (partnerPosition <= position) {
+                // the bye, or already added from the partner's side
+                continue;
+            }
+            int higher = ranking[position];
+            int lower = ranking[partnerPosition];
+            boolean higherAtHome = true;
+            if (homeBalance[higher] != homeBalance[lower]) {
+                higherAtHome = homeBalance[higher] < homeBalance[lower];
+            }
+            else if (lastGame[higher] != lastGame[lower]) {
+                higherAtHome = lastGame[higher] < lastGame[lower];
+            }
+            homeTeams[game] = higherAtHome ? higher : lower;
+            awayTeams[game] = higherAtHome ? lower : higher;
+            game++;
+        }
+        return new SwissRound(homeTeams, awayTeams, byeTeam, rematches);
+    }
+
+    private static long pairKey(int a, int b) {
+        return a < b ? ((long) a << 32) | b : ((long) b << 32) | a;
+    }
+
+    private void checkTeam(int team) {
+        if (team < 0 || team >= teamCount) {
+            throw new IllegalArgumentException("Team " + team + " is not in a field of " + teamCount);
+        }
+    }
+
+    /**
+     * The unpaired teams by ranking position, in a linked list whose removals can be undone.
+     */
+    private class Field {
+        private final int[] ranking;
+        private final int head;
+        private final int[] next;
+        private final int[] previous;
+
+        Field(int[] ranking) {
+            this.ranking = ranking;
+            this.head = ranking.length;
+            this.next = new int[ranking.length + 1];
+            this.previous = new int[ranking.length + 1];
+            for (int position = 0; position <= ranking.length; position++) {
+                next[position] = position + 1 > ranking.length ? 0 : position + 1;
+                previous[position] = position == 0 ? head : position - 1;
+            }
+        }
+
+        void remove(int position) {
+            next[previous[position]] = next[position];
+            previous[next[position]] = previous[position];
+        }
+
+        // only valid in the reverse order of the removals
+        void restore(int position) {
+            next[previous[position]] = position;
+            previous[next[position]] = position;
+        }
+
+        /**
+         * Depth-first search for a pairing without rematches. Each level pairs the best
+         * unpaired team, trying its opponents in Dutch order; a level with no opponent left
+         * undoes the level above it.
+         */
+        boolean pairWithoutRematches(int[] partners, long maxSteps) {
+            int levels = ranking.length / 2 + 1;
+            int[] tops = new int[levels];
+            int[] groupSizes = new int[levels];
+            int[] cursors = new int[levels];
+            int[] opponents = new int[levels];
+            long steps = 0;
+            int level = 0;
+            boolean entering = true;
+            while (true) {
+                if (entering) {
+                    if (next[head] == head) {
+                        for (int i = 0; i < level; i++) {
+                            partners[tops[i]] = opponents[i];
+                            partners[opponents[i]] = tops[i];
+                        }
+                        return true;
+                    }
+                    int top = next[head];
+                    remove(top);
+                    tops[level] = top;
+                    groupSizes[level] = groupSize(top);
+                    cursors[level] = 0;
+                    steps += groupSizes[level];
+                }
+                int top = tops[level];
+                int opponent = NO_TEAM;
+                while (steps < maxSteps) {
+                    int candidate = candidate(groupSizes[level], cursors[level]++);
+                    steps += cursors[level];
+                    if (candidate == NO_TEAM || !havePlayed(ranking[top], ranking[candidate])) {
+                        opponent = candidate;
+                        break;
+                    }
+                }
+                if (opponent == NO_TEAM && steps >= maxSteps) {
+                    // leave the field as it was before the search
+                    for (int i = level; i >= 0; i--) {
+                        if (i < level) {
+                            restore(opponents[i]);
+                        }
+                        restore(tops[i]);
+                    }
+                    return false;
+                }
+                if (opponent != NO_TEAM) {
+                    remove(opponent);
+                    opponents[level] = opponent;
+                    level++;
+                    entering = true;
+                    continue;
+                }
+                // dead end: give the level above its next opponent
+                restore(top);
+                if (level == 0) {
+                    return false;
+                }
+                level--;
+                restore(opponents[level]);
+                entering = false;
+            }
+        }
+
+        /**
+         * Pairs every unpaired team with its first opponent in Dutch order that it has not
+         * played, or with the first one if it has played them all.
+         * @return the number of rematches
+         */
+        int pairGreedily(int[] partners) {
+            int rematches = 0;
+            while (next[head] != head) {
+                int top = next[head];
+                remove(top);
+                int groupSize = groupSize(top);
+                int opponent = NO_TEAM;
+                for (int cursor = 0; ; cursor++) {
+                    int candidate = candidate(groupSize, cursor);
+                    if (candidate == NO_TEAM) {
+                        break;
+                    }
+                    if (!havePlayed(ranking[top], ranking[candidate])) {
+                        opponent = candidate;
+                        break;
+                    }
+                }
+                if (opponent == NO_TEAM) {
+                    opponent = candidate(groupSize, 0);
+                    rematches++;
+                }
+                remove(opponent);
+                partners[top] = opponent;
+                partners[opponent] = top;
+            }
+            return rematches;
+        }
+
+        /**
+         * The number of unpaired teams with the same points as the top team, after it was removed.
+         */
+        private int groupSize(int top) {
+            int size = 0;
+            int topPoints = points[ranking[top]];
+            for (int position = next[head]; position != head && points[ranking[position]] == topPoints; position = next[position]) {
+                size++;
+            }
+            return size;
+        }
+
+        /**
+         * The cursor-th opponent to try for the top team: the middle of its score group
+         * down, then the middle of the group up, then the teams below the group in order.
+         */
+        private int candidate(int groupSize, int cursor) {
+            int start = groupSize / 2;
+            int offset;
+            if (cursor < groupSize - start) {
+                offset = start + cursor;
+            }
+            else if (cursor < groupSize) {
+                offset = groupSize - 1 - cursor;
+            }
+            else {
+                offset = cursor;
+            }
+            int position = next[head];
+            for (int i = 0; i < offset && position != head; i++) {
+                position = next[position];
+            }
+            return position == head ? NO_TEAM : position;
+        }
+    }
+}
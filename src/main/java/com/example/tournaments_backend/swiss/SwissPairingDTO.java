@@ -0,0 +1,16 @@
+package com.example.tournaments_backend.swiss;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SwissPairingDTO {
+    private final Long gameId;
+    private final Long homeTeamId;
+    private final Long awayTeamId;
+    private final LocalDateTime gameDateTime;
+    private final String address;
+}
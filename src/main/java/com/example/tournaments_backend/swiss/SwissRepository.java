@@ -0,0 +1,34 @@
+package com.example.tournaments_backend.swiss;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.standings.RosterRow;
+
+/**
+ * The history a Swiss round is paired from, read as narrow projections in four queries.
+ */
+@Repository
+public interface SwissRepository extends org.springframework.data.repository.Repository<League, Long> {
+    @Query("SELECT t.id FROM League l JOIN l.teams t WHERE l.id = :leagueId ORDER BY t.id")
+    List<Long> findTeamIdsByLeagueId(@Param("leagueId") Long leagueId);
+
+    @Query("SELECT new com.example.tournaments_backend.swiss.SwissGameRow(" +
+           "g.id, g.homeTeam.id, g.awayTeam.id, g.gameDateTime, g.durationInMinutes) " +
+           "FROM Game g WHERE g.league.id = :leagueId ORDER BY g.gameDateTime, g.id")
+    List<SwissGameRow> findGameRowsByLeagueId(@Param("leagueId") Long leagueId);
+
+    @Query("SELECT new com.example.tournaments_backend.swiss.SwissGoalRow(gs.game.id, gs.player.id, COUNT(gs)) " +
+           "FROM GameStat gs WHERE gs.game.league.id = :leagueId AND gs.type = :type " +
+           "GROUP BY gs.game.id, gs.player.id")
+    List<SwissGoalRow> findGoalRowsByLeagueId(@Param("leagueId") Long leagueId, @Param("type") GameStatType type);
+
+    @Query("SELECT new com.example.tournaments_backend.standings.RosterRow(t.id, p.id) " +
+           "FROM League l JOIN l.teams t JOIN t.players p WHERE l.id = :leagueId")
+    List<RosterRow> findRosterRowsByLeagueId(@Param("leagueId") Long leagueId);
+}
@@ -0,0 +1,44 @@
+package com.example.tournaments_backend.swiss;
+
+/**
+ * The pairings of one Swiss round as team indexes, best ranked pairing first.
+ */
+public final class SwissRound {
+    private final int[] homeTeams;
+    private final int[] awayTeams;
+    private final int byeTeam;
+    private final int rematches;
+
+    SwissRound(int[] homeTeams, int[] awayTeams, int byeTeam, int rematches) {
+        this.homeTeams = homeTeams;
+        this.awayTeams = awayTeams;
+        this.byeTeam = byeTeam;
+        this.rematches = rematches;
+    }
+
+    public int getGameCount() {
+        return homeTeams.length;
+    }
+
+    public int homeTeam(int game) {
+        return homeTeams[game];
+    }
+
+    public int awayTeam(int game) {
+        return awayTeams[game];
+    }
+
+    /**
+     * The team that sits the round out, or SwissPairing.NO_TEAM with an even field.
+     */
+    public int getByeTeam() {
+        return byeTeam;
+    }
+
+    /**
+     * Pairings of teams that have met before, only made when no pairing without them was found.
+     */
+    public int getRematches() {
+        return rematches;
+    }
+}
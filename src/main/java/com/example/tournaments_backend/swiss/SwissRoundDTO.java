@@ -0,0 +1,18 @@
+package com.example.tournaments_backend.swiss;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SwissRoundDTO {
+    private final Long leagueId;
+    private final int round;
+    private final Long byeTeamId;
+    // pairings of teams that had already met, only made when there was no way around them
+    private final int rematches;
+    // best ranked pairing first
+    private final List<SwissPairingDTO> pairings;
+}
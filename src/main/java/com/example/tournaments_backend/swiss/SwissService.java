@@ -0,0 +1,235 @@
+package com.example.tournaments_backend.swiss;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.tournaments_backend.bracket.BracketRepository;
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.game_stat.GameStatSnapshot;
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.league.LeagueChangedEvent;
+import com.example.tournaments_backend.league.LeagueRepository;
+import com.example.tournaments_backend.scheduling.SchedulingService;
+import com.example.tournaments_backend.standings.RosterRow;
+import com.example.tournaments_backend.team.Team;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Pairs the next round of a Swiss-system league. The league's games, goals and byes are
+ * read in three queries and replayed into a SwissPairing, which pairs the round in
+ * memory; the round's games are then saved in one batch and their slots reserved with
+ * SchedulingService. Every game of the earlier
+ * rounds must have ended, since their results decide the score groups. The league row is
+ * locked while a round is paired, so concurrent requests cannot pair the same round twice.
+ */
+@Service
+public class SwissService {
+    private static final ZoneId GAME_ZONE = ZoneId.of("America/Los_Angeles");
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int POINTS_PER_WIN = 3;
+    private static final int POINTS_PER_DRAW = 1;
+
+    private final SwissRepository swissRepository;
+    private final SwissByeRepository swissByeRepository;
+    private final LeagueRepository leagueRepository;
+    private final BracketRepository bracketRepository;
+    private final GameRepository gameRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulingService schedulingService;
+    private final long maxPairingSteps;
+
+    public SwissService(
+        SwissRepository swissRepository,
+        SwissByeRepository swissByeRepository,
+        LeagueRepository leagueRepository,
+        BracketRepository bracketRepository,
+        GameRepository gameRepository,
+        EntityManager entityManager,
+        ApplicationEventPublisher eventPublisher,
+        SchedulingService schedulingService,
+        @Value("${swiss.max-pairing-steps:50000000}") long maxPairingSteps)
+    {
+        this.swissRepository = swissRepository;
+        this.swissByeRepository = swissByeRepository;
+        this.leagueRepository = leagueRepository;
+        this.bracketRepository = bracketRepository;
+        this.gameRepository = gameRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.schedulingService = schedulingService;
+        this.maxPairingSteps = maxPairingSteps;
+    }
+
+    @Transactional
+    public SwissRoundDTO pairNextRound(Long leagueId, SwissRoundRequest request) throws ServiceException {
+        // held until commit, so the next round is paired only after this one's games are saved
+        leagueRepository
+                .findForUpdateById(leagueId)
+                .orElseThrow(() -> new ServiceException(
+                    HttpStatus.NOT_FOUND,
+                    ClientErrorKey.LEAGUE_NOT_FOUND,
+                    "League",
+                    "League with id = " + leagueId + " not found"
+                ));
+        if (bracketRepository.existsByLeagueId(leagueId)) {
+            throw new ServiceException(
+                HttpStatus.CONFLICT,
+                ClientErrorKey.LEAGUE_ALREADY_SCHEDULED,
+                "League",
+                "League with id = " + leagueId + " is a knockout bracket"
+            );
+        }
+        List<Long> teamIds = swissRepository.findTeamIdsByLeagueId(leagueId);
+        if (teamIds.size() < 2) {
+            throw validationFailed("League needs at least 2 teams to be paired");
+        }
+        int slotMinutes = request.getDurationInMinutes() + request.getBreakInMinutes();
+        int waves = (teamIds.size() / 2 + request.getVenues().size() - 1) / request.getVenues().size();
+        if (request.getRoundDateTime().toLocalTime().toSecondOfDay() / 60 + (waves - 1) * slotMinutes >= MINUTES_PER_DAY) {
+            throw validationFailed(waves + " waves of games do not fit in a day from " + request.getRoundDateTime().toLocalTime()
+                + "; add venues or start earlier");
+        }
+
+        Map<Long, Integer> teamIndexes = new HashMap<>(teamIds.size() * 2);
+        for (int i = 0; i < teamIds.size(); i++) {
+            teamIndexes.put(teamIds.get(i), i);
+        }
+        SwissPairing pairing = new SwissPairing(teamIds.size());
+        int[] rounds = new int[teamIds.size()];
+        replayHistory(leagueId, teamIndexes, pairing, rounds);
+        int round = 1;
+        for (int played : rounds) {
+            round = Math.max(round, played + 1);
+        }
+
+        SwissRound swissRound = pairing.pairRound(maxPairingSteps);
+        List<Game> games = new ArrayList<>(swissRound.getGameCount());
+        for (int game = 0; game < swissRound.getGameCount(); game++) {
+            int wave = game / request.getVenues().size();
+            Game swissGame = new Game(
+                request.getRoundDateTime().plusMinutes((long) wave * slotMinutes),
+                request.getVenues().get(game % request.getVenues().size()),
+                request.getDurationInMinutes());
+            swissGame.setLeague(entityManager.getReference(League.class, leagueId));
+            swissGame.setHomeTeam(entityManager.getReference(Team.class, teamIds.get(swissRound.homeTeam(game))));
+            swissGame.setAwayTeam(entityManager.getReference(Team.class, teamIds.get(swissRound.awayTeam(game))));
+            games.add(swissGame);
+        }
+        gameRepository.saveAll(games);
+        schedulingService.reserveAll(games);
+        Long byeTeamId = null;
+        if (swissRound.getByeTeam() != SwissPairing.NO_TEAM) {
+            byeTeamId = teamIds.get(swissRound.getByeTeam());
+            swissByeRepository.save(new SwissBye(leagueId, byeTeamId, round));
+        }
+        eventPublisher.publishEvent(new LeagueChangedEvent(leagueId));
+
+        List<SwissPairingDTO> pairings = new ArrayList<>(games.size());
+        for (Game game : games) {
+            pairings.add(new SwissPairingDTO(
+                game.getId(),
+                game.getHomeTeam().getId(),
+                game.getAwayTeam().getId(),
+                game.getGameDateTime(),
+                game.getAddress()
+            ));
+        }
+        return new SwissRoundDTO(leagueId, round, byeTeamId, swissRound.getRematches(), pairings);
+    }
+
+    /**
+     * Adds the league's games and byes to the pairing and counts the rounds each team has had.
+     * Games of teams that have since left the league are skipped.
+     */
+    private void replayHistory(Long leagueId, Map<Long, Integer> teamIndexes, SwissPairing pairing, int[] rounds) throws ServiceException {
+        Map<Long, Set<Long>> teamIdsByPlayerId = new HashMap<>();
+        for (RosterRow row : swissRepository.findRosterRowsByLeagueId(leagueId)) {
+            teamIdsByPlayerId.computeIfAbsent(row.getPlayerId(), id -> new HashSet<>()).add(row.getTeamId());
+        }
+        Map<Long, List<SwissGoalRow>> goalRows = new HashMap<>();
+        for (SwissGoalRow row : swissRepository.findGoalRowsByLeagueId(leagueId, GameStatType.GOAL)) {
+            goalRows.computeIfAbsent(row.getGameId(), gameId -> new ArrayList<>()).add(row);
+        }
+        LocalDateTime now = now();
+        for (SwissGameRow game : swissRepository.findGameRowsByLeagueId(leagueId)) {
+            if (now.isBefore(game.getGameDateTime().plusMinutes(game.getDurationInMinutes()))) {
+                throw new ServiceException(
+                    HttpStatus.CONFLICT,
+                    ClientErrorKey.SWISS_ROUND_IN_PROGRESS,
+                    "League",
+                    "Game with id = " + game.getGameId() + " has not ended yet"
+                );
+            }
+            Integer home = teamIndexes.get(game.getHomeTeamId());
+            Integer away = teamIndexes.get(game.getAwayTeamId());
+            if (home == null || away == null) {
+                continue;
+            }
+            int homeGoals = 0;
+            int awayGoals = 0;
+            for (SwissGoalRow row : goalRows.getOrDefault(game.getGameId(), List.of())) {
+                // a player rostered on both teams scores for one of them, never for both
+                Long teamId = GameStatSnapshot.resolveTeamId(
+                    teamIdsByPlayerId.getOrDefault(row.getPlayerId(), Set.of()),
+                    game.getHomeTeamId(),
+                    game.getAwayTeamId()
+                );
+                if (game.getHomeTeamId().equals(teamId)) {
+                    homeGoals += row.getGoals().intValue();
+                }
+                else if (game.getAwayTeamId().equals(teamId)) {
+                    awayGoals += row.getGoals().intValue();
+                }
+            }
+            pairing.addGame(home, away, points(homeGoals, awayGoals), points(awayGoals, homeGoals));
+            rounds[home]++;
+            rounds[away]++;
+        }
+        for (SwissBye bye : swissByeRepository.findByLeagueIdOrderByRound(leagueId)) {
+            Integer team = teamIndexes.get(bye.getTeamId());
+            if (team != null) {
+                pairing.addBye(team, POINTS_PER_WIN);
+                rounds[team]++;
+            }
+        }
+    }
+
+    private static int points(int goalsFor, int goalsAgainst) {
+        if (goalsFor > goalsAgainst) {
+            return POINTS_PER_WIN;
+        }
+        return goalsFor == goalsAgainst ? POINTS_PER_DRAW : 0;
+    }
+
+    private static ServiceException validationFailed(String message) {
+        return new ServiceException(
+            HttpStatus.BAD_REQUEST,
+            ClientErrorKey.VALIDATION_FAILED,
+            "League",
+            message
+        );
+    }
+
+    private static LocalDateTime now() {
+        return ZonedDateTime.now(GAME_ZONE).toLocalDateTime();
+    }
+}
@@ -12,4 +12,10 @@ import lombok.ToString;
 public class GetTeamsResponse {
     List<TeamDTO> teams;
     List<TeamDTO> teamsInvitedTo;   
+    // id to pass as after for the next page of teams, null on the last page
+    Long nextCursor;
+
+    public GetTeamsResponse(List<TeamDTO> teams, List<TeamDTO> teamsInvitedTo) {
+        this(teams, teamsInvitedTo, null);
+    }
 }
@@ -3,12 +3,17 @@ package com.example.tournaments_backend.team;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.example.tournaments_backend.cache.CacheRegions;
 import com.example.tournaments_backend.game.Game;
 import com.example.tournaments_backend.league.League;
 import com.example.tournaments_backend.player.Player;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -27,6 +32,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TEAM)
 @Getter
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -36,7 +43,7 @@ public class Team {
     @SequenceGenerator(
         name="team_sequence",
         sequenceName="team_sequence",
-        allocationSize = 1
+        allocationSize = 50
     )
     @GeneratedValue(
         strategy = GenerationType.SEQUENCE,
@@ -52,9 +59,11 @@ public class Team {
     private String logoUrl;
     @JsonIgnore
     @ManyToMany(mappedBy = "teams")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TEAM_LEAGUES)
     private Set<League> leagues = new HashSet<>();
     @JsonIgnore 
     @ManyToMany(mappedBy = "teams", cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TEAM_PLAYERS)
     private Set<Player> players = new HashSet<>();;
     @OneToMany(mappedBy = "homeTeam", cascade = CascadeType.ALL)
     @JsonManagedReference
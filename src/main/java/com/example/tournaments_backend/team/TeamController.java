@@ -1,5 +1,7 @@
 package com.example.tournaments_backend.team;
 
+import java.util.Optional;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -9,11 +11,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.security.core.Authentication;
 
 import com.example.tournaments_backend.exception.ErrorDetails;
 import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.pagination.CursorPage;
 import com.example.tournaments_backend.team_invite.CreateTeamInviteRequest;
 import com.example.tournaments_backend.team_invite.TeamInvite;
 import com.example.tournaments_backend.team_invite.TeamInviteDTO;
@@ -41,17 +45,22 @@ public class TeamController {
         this.teamInviteService = teamInviteService;
     }
 
-    @Operation(summary = "Get a teams a user belongs to", description = "Returns a teams")
+    @Operation(summary = "Get a teams a user belongs to", description = "Returns a page of the teams the user belongs to, ordered by id, and the teams the user was invited to")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved teams information", 
                      content = @Content(mediaType = "application/json", schema = @Schema(implementation = GetTeamsResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid - limit is not valid",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized - not authenticated",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
     })
     @GetMapping
-    public ResponseEntity<GetTeamsResponse> getTeams(Authentication authentication)
+    public ResponseEntity<GetTeamsResponse> getTeams(
+        Authentication authentication,
+        @Parameter(description = "Page size, at most " + CursorPage.MAX_LIMIT) @RequestParam(name = "limit", defaultValue = CursorPage.DEFAULT_LIMIT) int limit,
+        @Parameter(description = "Cursor from the previous page") @RequestParam("after") Optional<Long> after) throws ServiceException
     {
-        GetTeamsResponse response = teamService.getTeams(authentication);
+        GetTeamsResponse response = teamService.getTeams(authentication, limit, after);
         return ResponseEntity.ok(response);
     }
 
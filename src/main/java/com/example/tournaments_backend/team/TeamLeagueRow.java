@@ -0,0 +1,11 @@
+package com.example.tournaments_backend.team;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TeamLeagueRow {
+    private final Long teamId;
+    private final Long leagueId;
+}
@@ -0,0 +1,19 @@
+package com.example.tournaments_backend.team;
+
+import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.player.Position;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TeamMemberRow {
+    private final Long teamId;
+    private final Long playerId;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final AppUserRole appUserRole;
+    private final Position position;
+}
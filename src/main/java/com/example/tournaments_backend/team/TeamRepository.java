@@ -1,13 +1,35 @@
 package com.example.tournaments_backend.team;
 
+import java.util.Collection;
 import java.util.List;
 
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
-    @EntityGraph(attributePaths = {"leagues"})
-    List<Team> findByPlayers_Id(Long playerId);
+    // Keyset pagination over the ids of the teams a player is part of.
+    @Query("SELECT t.id FROM Team t JOIN t.players p WHERE p.id = :playerId AND t.id > :after ORDER BY t.id")
+    List<Long> findIdsByPlayerIdAfter(@Param("playerId") Long playerId, @Param("after") Long after, Pageable pageable);
+
+    // Projections used to build TeamDTOs for many teams in a fixed number of queries.
+    @Query("SELECT new com.example.tournaments_backend.team.TeamRow(t.id, t.name, t.logoUrl, t.owner.id) " +
+           "FROM Team t WHERE t.id IN :teamIds")
+    List<TeamRow> findRowsByIds(@Param("teamIds") Collection<Long> teamIds);
+
+    @Query("SELECT new com.example.tournaments_backend.team.TeamMemberRow(" +
+           "t.id, p.id, p.firstName, p.lastName, p.email, p.appUserRole, p.position) " +
+           "FROM Team t JOIN t.players p WHERE t.id IN :teamIds ORDER BY p.id")
+    List<TeamMemberRow> findMemberRowsByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
+    // leagues whose standings list the team for games it played, registered to them or not
+    @Query("SELECT DISTINCT g.league.id FROM Game g WHERE g.homeTeam.id = :teamId OR g.awayTeam.id = :teamId")
+    List<Long> findPlayedLeagueIdsByTeamId(@Param("teamId") Long teamId);
+
+    @Query("SELECT new com.example.tournaments_backend.team.TeamLeagueRow(t.id, l.id) " +
+           "FROM Team t JOIN t.leagues l WHERE t.id IN :teamIds ORDER BY l.id")
+    List<TeamLeagueRow> findLeagueRowsByTeamIds(@Param("teamIds") Collection<Long> teamIds);
 }
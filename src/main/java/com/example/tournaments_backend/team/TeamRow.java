@@ -0,0 +1,13 @@
+package com.example.tournaments_backend.team;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TeamRow {
+    private final Long id;
+    private final String name;
+    private final String logoUrl;
+    private final Long ownerId;
+}
@@ -3,10 +3,19 @@ package com.example.tournaments_backend.team;
 import lombok.AllArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -15,43 +24,59 @@ import org.springframework.transaction.annotation.Transactional;
 import com.example.tournaments_backend.exception.ClientErrorKey;
 import com.example.tournaments_backend.exception.ServiceException;
 import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.league.LeagueChangedEvent;
+import com.example.tournaments_backend.pagination.CursorPage;
 import com.example.tournaments_backend.player.Player;
 import com.example.tournaments_backend.player.PlayerDTO;
 import com.example.tournaments_backend.player.PlayerService;
 import com.example.tournaments_backend.team_invite.TeamInvite;
 import com.example.tournaments_backend.team_invite.TeamInviteDTO;
+import com.example.tournaments_backend.team_invite.TeamInviteRow;
 import com.example.tournaments_backend.team_invite.TeamInviteService;
 import com.example.tournaments_backend.team_invite.TeamInviteStatus;
-import com.example.tournaments_backend.app_user.AppUser;
-import com.example.tournaments_backend.app_user.AppUserService;
+import com.example.tournaments_backend.app_user.AppUserPrincipal;
+import com.example.tournaments_backend.app_user.AppUserPrincipalService;
 
 @Service
 @AllArgsConstructor
 public class TeamService {
     private final TeamRepository teamRepository;
-    private final AppUserService appUserService;
+    private final AppUserPrincipalService appUserPrincipalService;
     private final PlayerService playerService;
     private final TeamInviteService teamInviteService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * Pages through the teams the user is part of, ordered by id. The teams the user
+     * was invited to are bounded by the pending invites and returned in full.
+     */
     @Transactional
-    public GetTeamsResponse getTeams(Authentication authentication) {
-        String clientEmail = authentication.getName();
-        AppUser client = appUserService.getAppUserByEmail(clientEmail);
+    public GetTeamsResponse getTeams(Authentication authentication, int limit, Optional<Long> after) throws ServiceException {
+        Pageable pageable = CursorPage.request(limit);
+        AppUserPrincipal client = appUserPrincipalService.getPrincipal(authentication);
         Long userId = client.getId();
-        List<Team> teams = teamRepository.findByPlayers_Id(userId);
-        List<TeamDTO> teamsPartOfDTOs = getTeamDTOsWithInvites(teams);
+        List<Long> teamIds = teamRepository.findIdsByPlayerIdAfter(userId, CursorPage.after(after), pageable);
+        CursorPage<Long> page = CursorPage.of(teamIds, limit, Function.identity());
+        return buildGetTeamsResponse(client, authentication, page.getItems(), page.getNextCursor());
+    }
 
+    private GetTeamsResponse buildGetTeamsResponse(AppUserPrincipal client, Authentication authentication, List<Long> teamIds, Long nextCursor) {
+        Long userId = client.getId();
         // get the invites for current user
         List<TeamInvite> invitesForUser = client.isAdmin()? List.of() : teamInviteService.getAllInvitesByPlayerId(userId, authentication);
         // get team ids that user was invited to
         List<Long> teamIdsInvitedTo = invitesForUser.stream()
                                 .map(invite -> invite.getTeam().getId())
+                                .distinct()
                                 .collect(Collectors.toList());
-        // get the teams the user was invited to
-        List<Team> teamsInvitedTo = teamRepository.findAllById(teamIdsInvitedTo);
-        List<TeamDTO> teamsInvitedToDTOs = getTeamDTOsWithInvites(teamsInvitedTo);
+        // build both lists of teams from one batch of queries
+        Set<Long> allTeamIds = new LinkedHashSet<>(teamIds);
+        allTeamIds.addAll(teamIdsInvitedTo);
+        Map<Long, TeamDTO> teamDTOs = getTeamDTOsWithInvites(allTeamIds);
+        List<TeamDTO> teamsPartOfDTOs = collectTeamDTOs(teamIds, teamDTOs);
+        List<TeamDTO> teamsInvitedToDTOs = collectTeamDTOs(teamIdsInvitedTo, teamDTOs);
 
-        GetTeamsResponse response = new GetTeamsResponse(teamsPartOfDTOs, teamsInvitedToDTOs);
+        GetTeamsResponse response = new GetTeamsResponse(teamsPartOfDTOs, teamsInvitedToDTOs, nextCursor);
         return response;
     }
 
@@ -100,6 +125,7 @@ public class TeamService {
         Team team = getTeamById(id);
         for (League league : team.getLeagues()) {
             league.getTeams().remove(team);
+            eventPublisher.publishEvent(new LeagueChangedEvent(league.getId()));
         }
         for (Player player : team.getPlayers()) {
             player.getTeams().remove(team);
@@ -122,10 +148,22 @@ public class TeamService {
                             "Team",
                             "Team with given id not found."
                         ));
+        boolean renamed = !Objects.equals(oldTeam.getName(), teamRequest.getName());
         oldTeam.setName(teamRequest.getName());
         oldTeam.setLogoUrl(teamRequest.getLogoUrl());
         
-        return teamRepository.save(oldTeam);
+        Team teamInDB = teamRepository.save(oldTeam);
+        if (renamed) {
+            // standings carry the team's name
+            Set<Long> leagueIds = new LinkedHashSet<>(teamRepository.findPlayedLeagueIdsByTeamId(id));
+            for (League league : oldTeam.getLeagues()) {
+                leagueIds.add(league.getId());
+            }
+            for (Long leagueId : leagueIds) {
+                eventPublisher.publishEvent(new LeagueChangedEvent(leagueId));
+            }
+        }
+        return teamInDB;
     }
 
     @Transactional
@@ -162,36 +200,57 @@ public class TeamService {
         return teamDTO;
     }
 
-    private List<TeamDTO> getTeamDTOsWithInvites(List<Team> teams) {
-        if (teams.size() == 0) return List.of();
+    /**
+     * Builds the TeamDTOs (players, league ids, invites and invitees) of the given teams
+     * with four queries, however many teams there are.
+     */
+    private Map<Long, TeamDTO> getTeamDTOsWithInvites(Collection<Long> teamIds) {
+        if (teamIds.isEmpty()) return Map.of();
 
-        // get team ids
-        List<Long> teamIds = teams.stream()
-                                .map(Team::getId)
-                                .collect(Collectors.toList());
-        // get all the team invites
-        List<TeamInvite> invites = teamInviteService.getAllTeamInvites(teamIds);
-        // group team invites by teamId
-        Map<Long, List<TeamInvite>> groupedInvites = invites.stream()
-                .collect(Collectors.groupingBy(invite -> invite.getTeam().getId()));
-        // create TeamDTOs and add invites to each
-        List<TeamDTO> teamDTOs = new ArrayList<>();
-        for (Team team : teams) {
+        List<TeamRow> teamRows = teamRepository.findRowsByIds(teamIds);
+        // group players, league ids and invites by teamId
+        Map<Long, List<PlayerDTO>> playersByTeam = teamRepository.findMemberRowsByTeamIds(teamIds).stream()
+                .collect(Collectors.groupingBy(
+                    TeamMemberRow::getTeamId,
+                    Collectors.mapping(
+                        row -> new PlayerDTO(row.getPlayerId(), row.getFirstName(), row.getLastName(), row.getEmail(), row.getAppUserRole(), row.getPosition()),
+                        Collectors.toList())));
+        Map<Long, List<Long>> leagueIdsByTeam = teamRepository.findLeagueRowsByTeamIds(teamIds).stream()
+                .collect(Collectors.groupingBy(
+                    TeamLeagueRow::getTeamId,
+                    Collectors.mapping(TeamLeagueRow::getLeagueId, Collectors.toList())));
+        Map<Long, List<TeamInviteRow>> invitesByTeam = teamInviteService.getAllTeamInviteRows(teamIds).stream()
+                .collect(Collectors.groupingBy(TeamInviteRow::getTeamId));
+
+        Map<Long, TeamDTO> teamDTOs = new HashMap<>();
+        for (TeamRow team : teamRows) {
             Long teamId = team.getId();
-            // set the invites of the current team
-            List<TeamInvite> teamInvites = groupedInvites.getOrDefault(teamId, List.of());
-            TeamDTO teamDTO = new TeamDTO(team);
-            List<TeamInviteDTO> inviteDTOs = TeamInviteDTO.convert(teamInvites);
-            teamDTO.setInvites(inviteDTOs);
-            // set the players invited to the current team
-            List<Long> playerIds = teamInvites.stream()
-                                    .map(invite -> invite.getInvitee().getId())
-                                    .toList();
-            List<Player> players = playerService.getAllPlayersByIds(playerIds);
-            List<PlayerDTO> playerDTOs = PlayerDTO.convert(players);
-            teamDTO.setInvitees(playerDTOs);
-            teamDTOs.add(teamDTO);
+            List<TeamInviteDTO> inviteDTOs = new ArrayList<>();
+            List<PlayerDTO> inviteeDTOs = new ArrayList<>();
+            for (TeamInviteRow invite : invitesByTeam.getOrDefault(teamId, List.of())) {
+                PlayerDTO invitee = new PlayerDTO(invite.getInviteeId(), invite.getFirstName(), invite.getLastName(), invite.getEmail(), invite.getAppUserRole(), invite.getPosition());
+                inviteDTOs.add(new TeamInviteDTO(invite.getId(), invite.getStatus(), teamId, invitee, invite.getCreatedAt()));
+                inviteeDTOs.add(invitee);
+            }
+            TeamDTO teamDTO = TeamDTO.builder()
+                    .id(teamId)
+                    .name(team.getName())
+                    .logoUrl(team.getLogoUrl())
+                    .ownerId(team.getOwnerId())
+                    .playerDTOs(playersByTeam.getOrDefault(teamId, List.of()))
+                    .invites(inviteDTOs)
+                    .invitees(inviteeDTOs)
+                    .leagueIds(leagueIdsByTeam.getOrDefault(teamId, List.of()))
+                    .build();
+            teamDTOs.put(teamId, teamDTO);
         }
         return teamDTOs;
     }
-}
\ No newline at end of file
+
+    private static List<TeamDTO> collectTeamDTOs(List<Long> teamIds, Map<Long, TeamDTO> teamDTOs) {
+        return teamIds.stream()
+                .map(teamDTOs::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
@@ -30,7 +30,7 @@ public class TeamInvite {
     @SequenceGenerator(
         name="team_invite_sequence",
         sequenceName="team_invite_sequence",
-        allocationSize = 1
+        allocationSize = 50
     )
     @GeneratedValue(
         strategy = GenerationType.SEQUENCE,
@@ -26,6 +26,14 @@ public class TeamInviteDTO {
         this.createdAt = teamInvite.getCreatedAt();
     }
 
+    public TeamInviteDTO(Long id, TeamInviteStatus status, Long teamId, PlayerDTO player, LocalDateTime createdAt) {
+        this.id = id;
+        this.status = status;
+        this.teamId = teamId;
+        this.player = player;
+        this.createdAt = createdAt;
+    }
+
     public static List<TeamInviteDTO> convert(List<TeamInvite> invites) {
         if (invites == null || invites.size() == 0) return List.of();
         return invites
@@ -1,13 +1,23 @@
 package com.example.tournaments_backend.team_invite;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TeamInviteRepository extends JpaRepository<TeamInvite, Long> {
      List<TeamInvite> findAllByInviteeId(Long inviteeId);
      Optional<TeamInvite> findByTeamIdAndInviteeId(Long teamId, Long inviteeId);
-}
\ No newline at end of file
+     List<TeamInvite> findAllByTeamIdIn(Collection<Long> teamIds);
+
+     // The invites of several teams together with their invitees, in one query.
+     @Query("SELECT new com.example.tournaments_backend.team_invite.TeamInviteRow(" +
+            "i.id, i.team.id, i.status, i.createdAt, p.id, p.firstName, p.lastName, p.email, p.appUserRole, p.position) " +
+            "FROM TeamInvite i JOIN i.invitee p WHERE i.team.id IN :teamIds ORDER BY i.id")
+     List<TeamInviteRow> findRowsByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+}
@@ -0,0 +1,24 @@
+package com.example.tournaments_backend.team_invite;
+
+import java.time.LocalDateTime;
+
+import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.player.Position;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TeamInviteRow {
+    private final Long id;
+    private final Long teamId;
+    private final TeamInviteStatus status;
+    private final LocalDateTime createdAt;
+    private final Long inviteeId;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final AppUserRole appUserRole;
+    private final Position position;
+}
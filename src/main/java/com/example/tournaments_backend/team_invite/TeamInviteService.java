@@ -1,5 +1,6 @@
 package com.example.tournaments_backend.team_invite;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
@@ -8,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import com.example.tournaments_backend.app_user.AppUserPrincipalService;
 import com.example.tournaments_backend.email.EmailSender;
 import com.example.tournaments_backend.exception.ClientErrorKey;
 import com.example.tournaments_backend.exception.ServiceException;
@@ -26,6 +28,7 @@ public class TeamInviteService {
     private final TeamRepository teamRepository;
     private final PlayerRepository playerRepository;
     private final EmailSender emailSender;
+    private final AppUserPrincipalService appUserPrincipalService;
 
     @Transactional
     public TeamInvite addTeamInvite(CreateTeamInviteRequest request, Long teamId, Authentication authentication) throws ServiceException {
@@ -51,9 +54,7 @@ public class TeamInviteService {
                         ));
 
         // 3. Check if current user is the team owner
-        String currentUserEmail = authentication.getName();
-        String ownerEmail = team.getOwner().getEmail();
-        if (!currentUserEmail.equals(ownerEmail)) {
+        if (!appUserPrincipalService.isCaller(authentication, team.getOwner().getId())) {
             throw new ServiceException(
                 HttpStatus.FORBIDDEN, 
                 ClientErrorKey.NOT_TEAM_OWNER, 
@@ -114,11 +115,9 @@ public class TeamInviteService {
         }
 
         Player player = invite.getInvitee();
-        String currentUserEmail = authentication.getName();
-        String inviteeEmail = player.getEmail();
 
         // 3. Check if current user is the invitee
-        if (!currentUserEmail.equals(inviteeEmail)) {
+        if (!appUserPrincipalService.isCaller(authentication, player.getId())) {
             throw new ServiceException(
                 HttpStatus.FORBIDDEN, 
                 ClientErrorKey.USER_NOT_INVITED_TO_TEAM, 
@@ -163,11 +162,9 @@ public class TeamInviteService {
         }
 
         Player player = invite.getInvitee();
-        String currentUserEmail = authentication.getName();
-        String inviteeEmail = player.getEmail();
 
         // 3. Check if current user is the invitee
-        if (!currentUserEmail.equals(inviteeEmail)) {
+        if (!appUserPrincipalService.isCaller(authentication, player.getId())) {
             throw new ServiceException(
                 HttpStatus.FORBIDDEN, 
                 ClientErrorKey.USER_NOT_INVITED_TO_TEAM, 
@@ -205,9 +202,7 @@ public class TeamInviteService {
         }
 
         // 3. Check if current user is the team owner
-        String currentUserEmail = authentication.getName();
-        String ownerEmail = invite.getTeam().getOwner().getEmail();
-        if (!currentUserEmail.equals(ownerEmail)) {
+        if (!appUserPrincipalService.isCaller(authentication, invite.getTeam().getOwner().getId())) {
             throw new ServiceException(
                 HttpStatus.FORBIDDEN, 
                 ClientErrorKey.NOT_TEAM_OWNER, 
@@ -222,18 +217,22 @@ public class TeamInviteService {
     }
 
     public List<TeamInvite> getAllInvitesByPlayerId(Long playerId, Authentication authentication) throws ServiceException {
-        // 1. Check if Player exists
-        Player player = playerRepository
-            .findById(playerId)
-            .orElseThrow(() -> new ServiceException(
+        // 1. Check if Player exists, which it does if it is the current user
+        boolean isCurrentPlayer = appUserPrincipalService
+            .findPrincipal(authentication)
+            .map(principal -> principal.isPlayer() && principal.getId().equals(playerId))
+            .orElse(false);
+        if (!isCurrentPlayer && !playerRepository.existsById(playerId)) {
+            throw new ServiceException(
                 HttpStatus.NOT_FOUND, 
                 ClientErrorKey.USER_NOT_FOUND, 
                 "Player", 
                 "Player with given id not found."
-            ));
+            );
+        }
 
         // 2. Check if current user matches the player ID
-        if (!authentication.getName().equals(player.getEmail())) {
+        if (!isCurrentPlayer) {
             throw new ServiceException(
                 HttpStatus.FORBIDDEN, 
                 ClientErrorKey.UNAUTHORIZED_TO_ACCESS_TEAM_INVITES, 
@@ -246,7 +245,12 @@ public class TeamInviteService {
     }
 
     public List<TeamInvite> getAllTeamInvites(List<Long> teamIds) {
-        return teamInviteRepository.findAllById(teamIds);
+        return teamInviteRepository.findAllByTeamIdIn(teamIds);
+    }
+
+    public List<TeamInviteRow> getAllTeamInviteRows(Collection<Long> teamIds) {
+        if (teamIds.isEmpty()) return List.of();
+        return teamInviteRepository.findRowsByTeamIds(teamIds);
     }
 
     private String buildEmail(String name, String teamName, String acceptLink, String declineLink) {
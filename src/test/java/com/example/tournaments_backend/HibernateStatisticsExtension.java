@@ -0,0 +1,48 @@
+package com.example.tournaments_backend;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Resets Hibernate statistics before each test and resolves a {@link StatementCounter}
+ * test parameter, so integration tests can bound the queries of a service call.
+ */
+public class HibernateStatisticsExtension implements BeforeEachCallback, ParameterResolver {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        Statistics statistics = statistics(context);
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == StatementCounter.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        EntityManagerFactory entityManagerFactory = entityManagerFactory(extensionContext);
+        return new StatementCounter(
+            statistics(extensionContext),
+            SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory)
+        );
+    }
+
+    private static EntityManagerFactory entityManagerFactory(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(EntityManagerFactory.class);
+    }
+
+    private static Statistics statistics(ExtensionContext context) {
+        return entityManagerFactory(context).unwrap(SessionFactory.class).getStatistics();
+    }
+}
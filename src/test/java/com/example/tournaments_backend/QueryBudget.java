@@ -0,0 +1,21 @@
+package com.example.tournaments_backend;
+
+/**
+ * Upper bounds on the work Hibernate may do during one service call.
+ * Bounds that are not set are not checked.
+ */
+public record QueryBudget(long maxStatements, long maxEntityLoads, long maxCollectionFetches) {
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+
+    public static QueryBudget statements(long maxStatements) {
+        return new QueryBudget(maxStatements, UNBOUNDED, UNBOUNDED);
+    }
+
+    public QueryBudget entityLoads(long maxEntityLoads) {
+        return new QueryBudget(maxStatements, maxEntityLoads, maxCollectionFetches);
+    }
+
+    public QueryBudget collectionFetches(long maxCollectionFetches) {
+        return new QueryBudget(maxStatements, maxEntityLoads, maxCollectionFetches);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.tournaments_backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+
+import org.hibernate.stat.Statistics;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Measures the statements, entity loads and collection fetches of a single service
+ * call and fails the test when they exceed a {@link QueryBudget}.
+ */
+public class StatementCounter {
+    private final Statistics statistics;
+    private final EntityManager entityManager;
+
+    public StatementCounter(Statistics statistics, EntityManager entityManager) {
+        this.statistics = statistics;
+        this.entityManager = entityManager;
+    }
+
+    public <T> T measure(QueryBudget budget, Supplier<T> call) {
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        if (inTransaction) {
+            // write the test data now and start the call with an empty persistence context,
+            // so neither the setup inserts nor first-level cache hits skew the counts
+            entityManager.flush();
+            entityManager.clear();
+        }
+        statistics.clear();
+
+        T result = call.get();
+        if (inTransaction) {
+            // the writes of the call would otherwise only run at commit, which a
+            // rolled back test transaction never reaches
+            entityManager.flush();
+        }
+
+        long statements = statistics.getPrepareStatementCount();
+        long entityLoads = statistics.getEntityLoadCount();
+        long collectionFetches = statistics.getCollectionFetchCount();
+        assertThat(statements).as("prepared statements").isLessThanOrEqualTo(budget.maxStatements());
+        assertThat(entityLoads).as("entity loads").isLessThanOrEqualTo(budget.maxEntityLoads());
+        assertThat(collectionFetches).as("collection fetches").isLessThanOrEqualTo(budget.maxCollectionFetches());
+        return result;
+    }
+}
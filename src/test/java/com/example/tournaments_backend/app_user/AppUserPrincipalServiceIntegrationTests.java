@@ -0,0 +1,62 @@
+package com.example.tournaments_backend.app_user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.tournaments_backend.AbstractIntegrationTest;
+import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerRepository;
+import com.example.tournaments_backend.player.Position;
+
+@Transactional
+public class AppUserPrincipalServiceIntegrationTests extends AbstractIntegrationTest {
+
+    @Autowired
+    private AppUserPrincipalService appUserPrincipalService;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    // ─── getPrincipal ─────────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void getPrincipal_ShouldFlagPlayer_WhenUserIsPlayer() {
+        Player player = playerRepository.save(
+            new Player("John", "Doe", "principal-player@test.com", "password", AppUserRole.PLAYER, Position.STRIKER)
+        );
+
+        AppUserPrincipal result = appUserPrincipalService.getPrincipal(
+            new UsernamePasswordAuthenticationToken(player.getEmail(), null)
+        );
+
+        assertThat(result.getId()).isEqualTo(player.getId());
+        assertThat(result.getEmail()).isEqualTo("principal-player@test.com");
+        assertThat(result.getRole()).isEqualTo(AppUserRole.PLAYER);
+        assertThat(result.isPlayer()).isTrue();
+        assertThat(result.isAdmin()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void getPrincipal_ShouldNotFlagPlayer_WhenUserIsAdmin() {
+        AppUser admin = appUserRepository.save(
+            new AppUser("Jane", "Doe", "principal-admin@test.com", "password", AppUserRole.ADMIN)
+        );
+
+        AppUserPrincipal result = appUserPrincipalService.getPrincipal(
+            new UsernamePasswordAuthenticationToken(admin.getEmail(), null)
+        );
+
+        assertThat(result.getId()).isEqualTo(admin.getId());
+        assertThat(result.isPlayer()).isFalse();
+        assertThat(result.isAdmin()).isTrue();
+    }
+}
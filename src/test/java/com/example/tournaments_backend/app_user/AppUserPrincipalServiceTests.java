@@ -0,0 +1,144 @@
+package com.example.tournaments_backend.app_user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+public class AppUserPrincipalServiceTests {
+    private static final String EMAIL = "player@test.com";
+
+    @Mock
+    private AppUserRepository appUserRepository;
+
+    private AppUserPrincipalService appUserPrincipalService;
+
+    @BeforeEach
+    void setUp() {
+        appUserPrincipalService = new AppUserPrincipalService(appUserRepository, 100, 60_000);
+    }
+
+    private static Authentication authentication(String email) {
+        return new UsernamePasswordAuthenticationToken(email, null);
+    }
+
+    // ─── getPrincipal ─────────────────────────────────────────────────────────
+
+    @Test
+    void getPrincipal_ShouldQueryOnce_WhenCalledRepeatedly() {
+        // 1. Arrange
+        AppUserPrincipal principal = new AppUserPrincipal(1L, EMAIL, AppUserRole.PLAYER, true);
+        when(appUserRepository.findPrincipalByEmail(EMAIL)).thenReturn(Optional.of(principal));
+
+        // 2. Act
+        AppUserPrincipal first = appUserPrincipalService.getPrincipal(authentication(EMAIL));
+        AppUserPrincipal second = appUserPrincipalService.getPrincipal(authentication(EMAIL));
+
+        // 3. Assert
+        assertThat(first).isSameAs(principal);
+        assertThat(second).isSameAs(principal);
+        verify(appUserRepository, times(1)).findPrincipalByEmail(EMAIL);
+    }
+
+    @Test
+    void getPrincipal_ShouldThrowUsernameNotFoundException_WhenUserDoesNotExist() {
+        // 1. Arrange
+        when(appUserRepository.findPrincipalByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> appUserPrincipalService.getPrincipal(authentication(EMAIL)))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    @Test
+    void getPrincipal_ShouldNotCacheMissingUser_WhenUserSignsUpLater() {
+        // 1. Arrange
+        AppUserPrincipal principal = new AppUserPrincipal(1L, EMAIL, AppUserRole.PLAYER, true);
+        when(appUserRepository.findPrincipalByEmail(EMAIL))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(principal));
+
+        // 2. Act
+        Optional<AppUserPrincipal> before = appUserPrincipalService.findPrincipal(authentication(EMAIL));
+        Optional<AppUserPrincipal> after = appUserPrincipalService.findPrincipal(authentication(EMAIL));
+
+        // 3. Assert
+        assertThat(before).isEmpty();
+        assertThat(after).contains(principal);
+    }
+
+    // ─── evict ────────────────────────────────────────────────────────────────
+
+    @Test
+    void evict_ShouldReloadPrincipal_WhenUserWasChanged() {
+        // 1. Arrange
+        AppUserPrincipal player = new AppUserPrincipal(1L, EMAIL, AppUserRole.PLAYER, true);
+        AppUserPrincipal admin = new AppUserPrincipal(1L, EMAIL, AppUserRole.ADMIN, true);
+        when(appUserRepository.findPrincipalByEmail(EMAIL))
+                .thenReturn(Optional.of(player))
+                .thenReturn(Optional.of(admin));
+        appUserPrincipalService.getPrincipal(authentication(EMAIL));
+
+        // 2. Act
+        appUserPrincipalService.evict(1L);
+        AppUserPrincipal result = appUserPrincipalService.getPrincipal(authentication(EMAIL));
+
+        // 3. Assert
+        assertThat(result.isAdmin()).isTrue();
+        verify(appUserRepository, times(2)).findPrincipalByEmail(EMAIL);
+    }
+
+    @Test
+    void evict_ShouldKeepOtherUsers_WhenOneUserWasChanged() {
+        // 1. Arrange
+        String otherEmail = "other@test.com";
+        when(appUserRepository.findPrincipalByEmail(EMAIL))
+                .thenReturn(Optional.of(new AppUserPrincipal(1L, EMAIL, AppUserRole.PLAYER, true)));
+        when(appUserRepository.findPrincipalByEmail(otherEmail))
+                .thenReturn(Optional.of(new AppUserPrincipal(2L, otherEmail, AppUserRole.PLAYER, true)));
+        appUserPrincipalService.getPrincipal(authentication(EMAIL));
+        appUserPrincipalService.getPrincipal(authentication(otherEmail));
+
+        // 2. Act
+        appUserPrincipalService.evict(1L);
+        appUserPrincipalService.getPrincipal(authentication(otherEmail));
+
+        // 3. Assert
+        verify(appUserRepository, times(1)).findPrincipalByEmail(otherEmail);
+    }
+
+    // ─── isCaller ─────────────────────────────────────────────────────────────
+
+    @Test
+    void isCaller_ShouldMatchById_WhenUserExists() {
+        // 1. Arrange
+        when(appUserRepository.findPrincipalByEmail(EMAIL))
+                .thenReturn(Optional.of(new AppUserPrincipal(1L, EMAIL, AppUserRole.PLAYER, true)));
+
+        // 2. Act & 3. Assert
+        assertThat(appUserPrincipalService.isCaller(authentication(EMAIL), 1L)).isTrue();
+        assertThat(appUserPrincipalService.isCaller(authentication(EMAIL), 2L)).isFalse();
+    }
+
+    @Test
+    void isCaller_ShouldReturnFalse_WhenUserWasDeleted() {
+        // 1. Arrange
+        when(appUserRepository.findPrincipalByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        // 2. Act & 3. Assert
+        assertThat(appUserPrincipalService.isCaller(authentication(EMAIL), 1L)).isFalse();
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.tournaments_backend.bracket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.tournaments_backend.AbstractIntegrationTest;
+import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.game_stat.GameStat;
+import com.example.tournaments_backend.game_stat.GameStatRepository;
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.league.LeagueRepository;
+import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerRepository;
+import com.example.tournaments_backend.player.Position;
+import com.example.tournaments_backend.team.Team;
+import com.example.tournaments_backend.team.TeamRepository;
+
+import jakarta.persistence.EntityManager;
+
+@Transactional
+public class BracketServiceIntegrationTests extends AbstractIntegrationTest {
+
+    @Autowired
+    private BracketService bracketService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameStatRepository gameStatRepository;
+
+    @Autowired
+    private LeagueRepository leagueRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Player> players = new ArrayList<>();
+
+    // every team has one player, players.get(i) plays for the i-th team
+    private League buildLeague(int teamCount) {
+        League league = leagueRepository.save(League.builder()
+                .name("Cup")
+                .startDate(LocalDate.of(2025, 9, 6))
+                .durationInWeeks(8)
+                .build());
+        for (int i = 0; i < teamCount; i++) {
+            Player player = playerRepository.save(
+                new Player("John", "Doe", "cup" + i + "@test.com", "password", AppUserRole.PLAYER, Position.STRIKER)
+            );
+            Team team = new Team("Cup Team " + i);
+            team.setOwner(player);
+            team.addPlayer(player);
+            league.addTeam(teamRepository.save(team));
+            players.add(player);
+        }
+        entityManager.flush();
+        return league;
+    }
+
+    private BracketRequest request(Long leagueId, List<Long> seededTeamIds) {
+        return new BracketRequest(leagueId, seededTeamIds, LocalDateTime.now().plusDays(1).withHour(10).withMinute(0),
+            7, List.of("Field A", "Field B"), 90, 30);
+    }
+
+    // moves the game into the past and records goals for the given players
+    private void play(Long gameId, Player... scorers) {
+        Game game = gameRepository.findById(gameId).orElseThrow();
+        game.setGameDateTime(LocalDateTime.now().minusDays(2));
+        for (Player scorer : scorers) {
+            GameStat gameStat = new GameStat(GameStatType.GOAL, game.getGameDateTime().plusMinutes(10));
+            gameStat.setGame(game);
+            gameStat.setPlayer(scorer);
+            gameStatRepository.save(gameStat);
+        }
+        entityManager.flush();
+    }
+
+    private static BracketMatchDTO match(BracketDTO bracket, int match) {
+        return bracket.getMatches().stream().filter(m -> m.getMatch() == match).findFirst().orElseThrow();
+    }
+
+    // ─── createBracket ───────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void createBracket_ShouldCreateFirstRoundGamesAndAdvanceByes() throws ServiceException {
+        League league = buildLeague(6);
+
+        BracketDTO bracket = bracketService.createBracket(request(league.getId(), null));
+        entityManager.flush();
+
+        assertThat(bracket.getSize()).isEqualTo(8);
+        assertThat(bracket.getRounds()).isEqualTo(3);
+        assertThat(bracket.getMatches()).hasSize(7);
+        // seeds 1 and 2 have byes and already wait in the semi-finals
+        assertThat(match(bracket, 4).isBye()).isTrue();
+        assertThat(match(bracket, 2).getHomeTeamId()).isEqualTo(match(bracket, 4).getWinnerTeamId());
+        assertThat(match(bracket, 2).getGameId()).isNull();
+        assertThat(gameRepository.findByLeagueId(league.getId())).hasSize(2);
+        assertThat(match(bracket, 5).getGameId()).isNotNull();
+    }
+
+    @Test
+    void createBracket_ShouldThrowBadRequest_WhenSeededTeamIsNotInLeague() {
+        League league = buildLeague(4);
+
+        ServiceException ex = assertThrows(ServiceException.class, () ->
+            bracketService.createBracket(request(league.getId(), List.of(999_999L))));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.VALIDATION_FAILED);
+    }
+
+    @Test
+    void createBracket_ShouldThrowConflict_WhenLeagueAlreadyHasBracket() throws ServiceException {
+        League league = buildLeague(4);
+        bracketService.createBracket(request(league.getId(), null));
+        entityManager.flush();
+
+        ServiceException ex = assertThrows(ServiceException.class, () ->
+            bracketService.createBracket(request(league.getId(), null)));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.LEAGUE_ALREADY_SCHEDULED);
+    }
+
+    // ─── advanceBracket ──────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void advanceBracket_ShouldMoveGoalWinnersUpAndCreateFinal() throws ServiceException {
+        League league = buildLeague(4);
+        Long seed1 = league.getTeams().stream().map(Team::getId).min(Long::compare).orElseThrow();
+        BracketDTO bracket = bracketService.createBracket(request(league.getId(), List.of(seed1)));
+        entityManager.flush();
+        // match 2 is seed 1 (team 0) against seed 4 (team 3), match 3 is seed 2 (team 1) against seed 3 (team 2)
+        play(match(bracket, 2).getGameId(), players.get(3), players.get(0), players.get(3));
+        play(match(bracket, 3).getGameId(), players.get(1));
+
+        BracketDTO advanced = bracketService.advanceBracket(bracket.getId());
+        entityManager.flush();
+
+        assertThat(match(advanced, 2).getWinnerTeamId()).isEqualTo(match(advanced, 2).getAwayTeamId());
+        assertThat(match(advanced, 3).getWinnerTeamId()).isEqualTo(match(advanced, 3).getHomeTeamId());
+        assertThat(match(advanced, 1).getGameId()).isNotNull();
+        assertThat(advanced.isCompleted()).isFalse();
+        assertThat(bracketService.getBracket(bracket.getId()).getMatches())
+            .extracting(BracketMatchDTO::getGameId)
+            .doesNotContainNull();
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void advanceBracket_ShouldCreditGoalToOneTeam_WhenScorerIsOnBothRosters() throws ServiceException {
+        League league = buildLeague(4);
+        Long seed1 = league.getTeams().stream().map(Team::getId).min(Long::compare).orElseThrow();
+        BracketDTO bracket = bracketService.createBracket(request(league.getId(), List.of(seed1)));
+        entityManager.flush();
+        // team 0's player also joins team 3, the team it plays in match 2
+        Team team3 = teamRepository.findById(match(bracket, 2).getAwayTeamId()).orElseThrow();
+        team3.addPlayer(players.get(0));
+        entityManager.flush();
+        play(match(bracket, 2).getGameId(), players.get(0));
+
+        BracketDTO advanced = bracketService.advanceBracket(bracket.getId());
+
+        assertThat(match(advanced, 2).getWinnerTeamId()).isEqualTo(match(advanced, 2).getHomeTeamId());
+    }
+
+    // ─── decideMatch ─────────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void decideMatch_ShouldCrownChampion_WhenFinalEndsLevel() throws ServiceException {
+        League league = buildLeague(2);
+        BracketDTO bracket = bracketService.createBracket(request(league.getId(), null));
+        entityManager.flush();
+        play(match(bracket, 1).getGameId(), players.get(0), players.get(1));
+        assertThat(bracketService.advanceBracket(bracket.getId()).getChampionTeamId()).isNull();
+
+        BracketDTO decided = bracketService.decideMatch(bracket.getId(), 1, match(bracket, 1).getAwayTeamId());
+
+        assertThat(decided.getChampionTeamId()).isEqualTo(match(bracket, 1).getAwayTeamId());
+        assertThat(decided.isCompleted()).isTrue();
+        ServiceException ex = assertThrows(ServiceException.class, () ->
+            bracketService.decideMatch(bracket.getId(), 1, match(bracket, 1).getHomeTeamId()));
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.BRACKET_MATCH_DECIDED);
+    }
+
+    @Test
+    void decideMatch_ShouldThrowBadRequest_WhenGameHasNotEnded() throws ServiceException {
+        League league = buildLeague(2);
+        BracketDTO bracket = bracketService.createBracket(request(league.getId(), null));
+        entityManager.flush();
+
+        ServiceException ex = assertThrows(ServiceException.class, () ->
+            bracketService.decideMatch(bracket.getId(), 1, match(bracket, 1).getHomeTeamId()));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.GAME_NOT_ENDED);
+    }
+
+    // ─── getBracket ──────────────────────────────────────────────────────────
+
+    @Test
+    void getBracket_ShouldThrowNotFound_WhenBracketDoesNotExist() {
+        ServiceException ex = assertThrows(ServiceException.class, () -> bracketService.getBracket(999_999L));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.BRACKET_NOT_FOUND);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.tournaments_backend.bracket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class BracketTreeTests {
+
+    // team ids 101, 102, ... in seed order
+    private static List<Long> teams(int count) {
+        List<Long> teamIds = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            teamIds.add(100L + i);
+        }
+        return teamIds;
+    }
+
+    // ─── seed ────────────────────────────────────────────────────────────────
+
+    @Test
+    void seed_ShouldPairTopAndBottomSeedsInFirstRound() {
+        // 2. Act
+        BracketTree tree = BracketTree.seed(teams(8));
+
+        // 3. Assert
+        assertThat(tree.getSize()).isEqualTo(8);
+        assertThat(tree.getRoundCount()).isEqualTo(3);
+        for (int match = tree.firstMatch(0); match < 2 * tree.firstMatch(0); match++) {
+            long home = tree.getHomeTeamId(match) - 100;
+            long away = tree.getAwayTeamId(match) - 100;
+            assertThat(home + away).isEqualTo(9);
+        }
+        // seeds 1 and 2 are in different halves
+        assertThat(tree.getHomeTeamId(4)).isEqualTo(101L);
+        assertThat(tree.getHomeTeamId(6)).isEqualTo(102L);
+    }
+
+    @Test
+    void seed_ShouldGiveByesToTopSeeds_WhenTeamCountIsNotPowerOfTwo() {
+        // 2. Act
+        BracketTree tree = BracketTree.seed(teams(5));
+
+        // 3. Assert
+        assertThat(tree.getSize()).isEqualTo(8);
+        List<Long> byes = new ArrayList<>();
+        for (int match = 4; match < 8; match++) {
+            if (tree.isBye(match)) {
+                byes.add(tree.getHomeTeamId(match));
+            }
+        }
+        assertThat(byes).containsExactlyInAnyOrder(101L, 102L, 103L);
+        assertThat(tree.isBye(1)).isFalse();
+    }
+
+    @Test
+    void sizeFor_ShouldReturnNextPowerOfTwo() {
+        // 2. Act & 3. Assert
+        assertThat(BracketTree.sizeFor(2)).isEqualTo(2);
+        assertThat(BracketTree.sizeFor(3)).isEqualTo(4);
+        assertThat(BracketTree.sizeFor(256)).isEqualTo(256);
+        assertThat(BracketTree.sizeFor(257)).isEqualTo(512);
+        assertThat(BracketTree.sizeFor(4_096)).isEqualTo(4_096);
+        assertThatThrownBy(() -> BracketTree.sizeFor(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ─── round ───────────────────────────────────────────────────────────────
+
+    @Test
+    void round_ShouldCountUpFromFirstRoundToFinal() {
+        // 1. Arrange
+        BracketTree tree = BracketTree.seed(teams(16));
+
+        // 2. Act & 3. Assert
+        assertThat(tree.round(8)).isEqualTo(0);
+        assertThat(tree.round(15)).isEqualTo(0);
+        assertThat(tree.round(4)).isEqualTo(1);
+        assertThat(tree.round(2)).isEqualTo(2);
+        assertThat(tree.round(1)).isEqualTo(3);
+        assertThat(tree.firstMatch(3)).isEqualTo(1);
+    }
+
+    // ─── setWinner ───────────────────────────────────────────────────────────
+
+    @Test
+    void setWinner_ShouldMoveWinnerIntoNextMatch() {
+        // 1. Arrange
+        BracketTree tree = BracketTree.seed(teams(4));
+
+        // 2. Act
+        tree.setWinner(2, tree.getAwayTeamId(2));
+        tree.setWinner(3, tree.getHomeTeamId(3));
+
+        // 3. Assert
+        assertThat(tree.getHomeTeamId(1)).isEqualTo(104L);
+        assertThat(tree.getAwayTeamId(1)).isEqualTo(102L);
+        assertThat(tree.getChampionTeamId()).isEqualTo(BracketTree.NONE);
+    }
+
+    @Test
+    void setWinner_ShouldThrow_WhenTeamDoesNotPlayMatch() {
+        // 1. Arrange
+        BracketTree tree = BracketTree.seed(teams(4));
+
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> tree.setWinner(2, 102L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tree.setWinner(1, BracketTree.NONE)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ─── encode / decode ─────────────────────────────────────────────────────
+
+    @Test
+    void decode_ShouldRestoreEncodedTree() {
+        // 1. Arrange
+        BracketTree tree = BracketTree.seed(teams(4_000));
+        for (int match = tree.firstMatch(0); match < 2 * tree.firstMatch(0); match++) {
+            if (tree.isBye(match)) {
+                tree.setWinner(match, tree.getHomeTeamId(match));
+            }
+            else {
+                tree.setGameId(match, 50_000L + match);
+            }
+        }
+
+        // 2. Act
+        byte[] bytes = tree.encode();
+        BracketTree decoded = BracketTree.decode(bytes);
+
+        // 3. Assert
+        assertThat(decoded.getSize()).isEqualTo(4_096);
+        for (int match = 1; match <= tree.getMatchCount(); match++) {
+            assertThat(decoded.getHomeTeamId(match)).isEqualTo(tree.getHomeTeamId(match));
+            assertThat(decoded.getAwayTeamId(match)).isEqualTo(tree.getAwayTeamId(match));
+            assertThat(decoded.getWinnerTeamId(match)).isEqualTo(tree.getWinnerTeamId(match));
+            assertThat(decoded.getGameId(match)).isEqualTo(tree.getGameId(match));
+        }
+        assertThat(bytes.length).isLessThan(32 * 1024);
+    }
+}
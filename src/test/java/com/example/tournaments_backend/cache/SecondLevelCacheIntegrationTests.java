@@ -0,0 +1,130 @@
+package com.example.tournaments_backend.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.tournaments_backend.AbstractIntegrationTest;
+import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.league.LeagueRepository;
+import com.example.tournaments_backend.league.LeagueRequest;
+import com.example.tournaments_backend.league.LeagueService;
+import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerRepository;
+import com.example.tournaments_backend.player.Position;
+import com.example.tournaments_backend.team.Team;
+import com.example.tournaments_backend.team.TeamRepository;
+
+import jakarta.persistence.EntityManager;
+
+@Transactional
+public class SecondLevelCacheIntegrationTests extends AbstractIntegrationTest {
+
+    @Autowired
+    private SecondLevelCacheService secondLevelCacheService;
+
+    @Autowired
+    private LeagueService leagueService;
+
+    @Autowired
+    private LeagueRepository leagueRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private League buildLeague(String name) {
+        League league = leagueRepository.save(new League(name, LocalDate.now().plusWeeks(1), 4));
+        entityManager.flush();
+        entityManager.clear();
+        return league;
+    }
+
+    private CacheRegionStatsDTO regionStats(String region) {
+        return secondLevelCacheService.getCacheStats().getRegions().stream()
+                .filter(stats -> stats.getRegion().equals(region))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    // ─── getCacheStats ────────────────────────────────────────────────────────
+
+    @Test
+    void getCacheStats_ShouldReportEveryRegion_WhenNothingWasLoaded() {
+        CacheStatsDTO result = secondLevelCacheService.getCacheStats();
+
+        assertThat(result.isStatisticsEnabled()).isTrue();
+        assertThat(result.getRegions())
+                .extracting(CacheRegionStatsDTO::getRegion)
+                .containsExactlyElementsOf(CacheRegions.BOUNDED);
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void getCacheStats_ShouldCountMissThenHit_WhenLeagueIsLoadedTwice() {
+        League league = buildLeague("Cached League");
+
+        leagueService.getLeagueById(league.getId());
+        entityManager.clear();
+        League result = leagueService.getLeagueById(league.getId());
+
+        CacheRegionStatsDTO stats = regionStats(CacheRegions.LEAGUE);
+        assertThat(result.getName()).isEqualTo("Cached League");
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getHitRatio()).isEqualTo(0.5);
+    }
+
+    // ─── updateLeague ─────────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void updateLeague_ShouldNotReturnCachedLeague_WhenLeagueWasUpdated() {
+        League league = buildLeague("Old Name");
+        leagueService.getLeagueById(league.getId());
+        LeagueRequest request = LeagueRequest.builder()
+                .name("New Name")
+                .startDate(LocalDate.now().plusWeeks(2))
+                .durationInWeeks(6)
+                .build();
+
+        leagueService.updateLeague(league.getId(), request);
+        entityManager.flush();
+        entityManager.clear();
+        League result = leagueService.getLeagueById(league.getId());
+
+        assertThat(result.getName()).isEqualTo("New Name");
+        assertThat(result.getDurationInWeeks()).isEqualTo(6);
+    }
+
+    // ─── deleteLeagueById ─────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void deleteLeagueById_ShouldRemoveLeagueFromItsTeams_WhenLeagueHasTeams() {
+        Player owner = playerRepository.save(
+            new Player("John", "Doe", "cache-owner@test.com", "password", AppUserRole.PLAYER, Position.STRIKER)
+        );
+        Team team = new Team("Cached Team");
+        team.setOwner(owner);
+        team = teamRepository.save(team);
+        League league = leagueRepository.save(new League("Deleted League", LocalDate.now().plusWeeks(1), 4));
+        league.addTeam(team);
+
+        leagueService.deleteLeagueById(league.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(teamRepository.findById(team.getId()).orElseThrow().getLeagues()).isEmpty();
+    }
+}
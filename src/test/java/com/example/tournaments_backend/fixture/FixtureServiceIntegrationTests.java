@@ -0,0 +1,144 @@
+package com.example.tournaments_backend.fixture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.tournaments_backend.AbstractIntegrationTest;
+import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.league.LeagueRepository;
+import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerRepository;
+import com.example.tournaments_backend.player.Position;
+import com.example.tournaments_backend.team.Team;
+import com.example.tournaments_backend.team.TeamRepository;
+
+import jakarta.persistence.EntityManager;
+
+@Transactional
+public class FixtureServiceIntegrationTests extends AbstractIntegrationTest {
+
+    @Autowired
+    private FixtureService fixtureService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private LeagueRepository leagueRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private League buildLeague(int teamCount, int durationInWeeks) {
+        Player owner = playerRepository.save(
+            new Player("John", "Doe", "fixtures@test.com", "password", AppUserRole.PLAYER, Position.STRIKER)
+        );
+        League league = leagueRepository.save(League.builder()
+                .name("Fixture League")
+                .startDate(LocalDate.of(2025, 9, 6))
+                .durationInWeeks(durationInWeeks)
+                .build());
+        for (int i = 0; i < teamCount; i++) {
+            Team team = new Team("Fixture Team " + i);
+            team.setOwner(owner);
+            league.addTeam(teamRepository.save(team));
+        }
+        entityManager.flush();
+        return league;
+    }
+
+    private FixtureRequest request(FixtureFormat format, List<String> venues) {
+        return new FixtureRequest(format, venues, LocalTime.of(10, 0), 90, 30);
+    }
+
+    // ─── generateFixtures ────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void generateFixtures_ShouldScheduleDoubleRoundRobinWithoutClashes() throws ServiceException {
+        League league = buildLeague(6, 10);
+
+        FixtureScheduleDTO schedule = fixtureService.generateFixtures(
+            league.getId(), request(FixtureFormat.DOUBLE_ROUND_ROBIN, List.of("Field A", "Field B")));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(schedule.getRounds()).isEqualTo(10);
+        assertThat(schedule.getGames()).isEqualTo(30);
+        assertThat(schedule.getFirstGameDateTime()).isEqualTo(LocalDateTime.of(2025, 9, 6, 10, 0));
+        List<Game> games = gameRepository.findByLeagueId(league.getId());
+        assertThat(games).hasSize(30);
+        Set<String> teamSlots = new HashSet<>();
+        Set<String> venueSlots = new HashSet<>();
+        Set<String> pairings = new HashSet<>();
+        for (Game game : games) {
+            LocalDate day = game.getGameDateTime().toLocalDate();
+            assertThat(teamSlots.add(game.getHomeTeam().getId() + "@" + day)).isTrue();
+            assertThat(teamSlots.add(game.getAwayTeam().getId() + "@" + day)).isTrue();
+            assertThat(venueSlots.add(game.getAddress() + "@" + game.getGameDateTime())).isTrue();
+            assertThat(pairings.add(game.getHomeTeam().getId() + "-" + game.getAwayTeam().getId())).isTrue();
+            assertThat(game.getDurationInMinutes()).isEqualTo(90);
+        }
+        // three games a round on two fields, so the third kicks off after a game and a break
+        assertThat(games).extracting(game -> game.getGameDateTime().toLocalTime())
+            .containsOnly(LocalTime.of(10, 0), LocalTime.of(12, 0));
+        assertThat(schedule.getLastGameDateTime()).isBefore(LocalDateTime.of(2025, 11, 15, 0, 0));
+    }
+
+    @Test
+    void generateFixtures_ShouldThrowConflict_WhenLeagueAlreadyHasGames() throws ServiceException {
+        League league = buildLeague(4, 4);
+        fixtureService.generateFixtures(league.getId(), request(FixtureFormat.SINGLE_ROUND_ROBIN, List.of("Field A")));
+        entityManager.flush();
+
+        ServiceException ex = assertThrows(ServiceException.class, () ->
+            fixtureService.generateFixtures(league.getId(), request(FixtureFormat.SINGLE_ROUND_ROBIN, List.of("Field A"))));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.LEAGUE_ALREADY_SCHEDULED);
+    }
+
+    @Test
+    void generateFixtures_ShouldThrowBadRequest_WhenRoundsDoNotFitInLeague() {
+        // 16 teams need 30 rounds of a double round-robin, one league week has 7 days
+        League league = buildLeague(16, 4);
+
+        ServiceException ex = assertThrows(ServiceException.class, () ->
+            fixtureService.generateFixtures(league.getId(), request(FixtureFormat.DOUBLE_ROUND_ROBIN, List.of("Field A"))));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.VALIDATION_FAILED);
+    }
+
+    @Test
+    void generateFixtures_ShouldThrowNotFound_WhenLeagueDoesNotExist() {
+        ServiceException ex = assertThrows(ServiceException.class, () ->
+            fixtureService.generateFixtures(999_999L, request(FixtureFormat.SINGLE_ROUND_ROBIN, List.of("Field A"))));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.LEAGUE_NOT_FOUND);
+    }
+}
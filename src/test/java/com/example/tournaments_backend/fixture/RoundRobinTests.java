@@ -0,0 +1,114 @@
+package com.example.tournaments_backend.fixture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class RoundRobinTests {
+
+    // meetings[home][away] = number of games
+    private static int[][] meetings(RoundRobin roundRobin) {
+        int n = roundRobin.getTeamCount();
+        int[][] meetings = new int[n][n];
+        for (int game = 0; game < roundRobin.getGameCount(); game++) {
+            meetings[roundRobin.homeTeam(game)][roundRobin.awayTeam(game)]++;
+        }
+        return meetings;
+    }
+
+    // ─── generate ────────────────────────────────────────────────────────────
+
+    @Test
+    void generate_ShouldPairEveryTeamOnce_WhenSingleRoundRobin() {
+        for (int teamCount : new int[] {2, 3, 4, 7, 20}) {
+            // 2. Act
+            RoundRobin roundRobin = RoundRobin.generate(teamCount, 1);
+
+            // 3. Assert
+            int[][] meetings = meetings(roundRobin);
+            for (int a = 0; a < teamCount; a++) {
+                for (int b = a + 1; b < teamCount; b++) {
+                    assertThat(meetings[a][b] + meetings[b][a]).isEqualTo(1);
+                }
+            }
+            assertThat(roundRobin.getGameCount()).isEqualTo(teamCount * (teamCount - 1) / 2);
+        }
+    }
+
+    @Test
+    void generate_ShouldPlayEachTeamAtMostOncePerRound() {
+        for (int teamCount : new int[] {4, 5, 20}) {
+            // 2. Act
+            RoundRobin roundRobin = RoundRobin.generate(teamCount, 2);
+
+            // 3. Assert
+            int[] lastRound = new int[teamCount];
+            Arrays.fill(lastRound, -1);
+            for (int game = 0; game < roundRobin.getGameCount(); game++) {
+                int round = roundRobin.round(game);
+                assertThat(lastRound[roundRobin.homeTeam(game)]).isNotEqualTo(round);
+                assertThat(lastRound[roundRobin.awayTeam(game)]).isNotEqualTo(round);
+                lastRound[roundRobin.homeTeam(game)] = round;
+                lastRound[roundRobin.awayTeam(game)] = round;
+            }
+        }
+    }
+
+    @Test
+    void generate_ShouldPlayEachPairHomeAndAway_WhenDoubleRoundRobin() {
+        // 2. Act
+        RoundRobin roundRobin = RoundRobin.generate(20, 2);
+
+        // 3. Assert
+        assertThat(roundRobin.getRoundCount()).isEqualTo(38);
+        assertThat(roundRobin.getGameCount()).isEqualTo(380);
+        int[][] meetings = meetings(roundRobin);
+        for (int a = 0; a < 20; a++) {
+            for (int b = 0; b < 20; b++) {
+                assertThat(meetings[a][b]).isEqualTo(a == b ? 0 : 1);
+            }
+        }
+    }
+
+    @Test
+    void generate_ShouldAlternateHomeAndAwayWithFewestBreaks_WhenTeamCountIsEven() {
+        // 1. Arrange
+        int teamCount = 10;
+
+        // 2. Act
+        RoundRobin roundRobin = RoundRobin.generate(teamCount, 1);
+
+        // 3. Assert
+        boolean[][] home = new boolean[teamCount][roundRobin.getRoundCount()];
+        for (int game = 0; game < roundRobin.getGameCount(); game++) {
+            home[roundRobin.homeTeam(game)][roundRobin.round(game)] = true;
+        }
+        int breaks = 0;
+        for (int team = 0; team < teamCount; team++) {
+            for (int round = 1; round < roundRobin.getRoundCount(); round++) {
+                if (home[team][round] == home[team][round - 1]) breaks++;
+            }
+        }
+        assertThat(breaks).isEqualTo(teamCount - 2);
+    }
+
+    @Test
+    void generate_ShouldGiveEveryTeamOneBye_WhenTeamCountIsOdd() {
+        // 2. Act
+        RoundRobin roundRobin = RoundRobin.generate(5, 1);
+
+        // 3. Assert
+        assertThat(roundRobin.getRoundCount()).isEqualTo(5);
+        assertThat(roundRobin.getGamesPerRound()).isEqualTo(2);
+    }
+
+    @Test
+    void generate_ShouldThrow_WhenFewerThanTwoTeams() {
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> RoundRobin.generate(1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.tournaments_backend.game_stat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class GameStatDedupIndexTests {
+    private static final long WINDOW_MILLIS = 1_000L;
+
+    // ─── find ────────────────────────────────────────────────────────────────
+
+    @Test
+    void find_ShouldReturnRecordedGameStat_WhenWithinWindow() {
+        // 1. Arrange
+        GameStatDedupIndex index = new GameStatDedupIndex(WINDOW_MILLIS, 10);
+        UUID eventId = UUID.randomUUID();
+        GameStatDTO gameStat = new GameStatDTO();
+        index.record(eventId, gameStat, 0L);
+
+        // 2. Act
+        GameStatDTO result = index.find(eventId, WINDOW_MILLIS - 1);
+
+        // 3. Assert
+        assertThat(result).isSameAs(gameStat);
+    }
+
+    @Test
+    void find_ShouldReturnNull_WhenWindowHasPassed() {
+        // 1. Arrange
+        GameStatDedupIndex index = new GameStatDedupIndex(WINDOW_MILLIS, 10);
+        UUID eventId = UUID.randomUUID();
+        index.record(eventId, new GameStatDTO(), 0L);
+
+        // 2. Act
+        GameStatDTO result = index.find(eventId, WINDOW_MILLIS);
+
+        // 3. Assert
+        assertThat(result).isNull();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void find_ShouldReturnNull_WhenEventIdIsNull() {
+        // 1. Arrange
+        GameStatDedupIndex index = new GameStatDedupIndex(WINDOW_MILLIS, 10);
+        index.record(null, new GameStatDTO(), 0L);
+
+        // 2. Act
+        GameStatDTO result = index.find(null, 0L);
+
+        // 3. Assert
+        assertThat(result).isNull();
+        assertThat(index.size()).isZero();
+    }
+
+    // ─── record ──────────────────────────────────────────────────────────────
+
+    @Test
+    void record_ShouldDropEldestEntry_WhenIndexIsFull() {
+        // 1. Arrange
+        GameStatDedupIndex index = new GameStatDedupIndex(WINDOW_MILLIS, 2);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        // 2. Act
+        index.record(first, new GameStatDTO(), 0L);
+        index.record(second, new GameStatDTO(), 1L);
+        index.record(third, new GameStatDTO(), 2L);
+
+        // 3. Assert
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.find(first, 2L)).isNull();
+        assertThat(index.find(second, 2L)).isNotNull();
+        assertThat(index.find(third, 2L)).isNotNull();
+    }
+
+    @Test
+    void record_ShouldKeepFirstGameStat_WhenEventIdIsRecordedTwice() {
+        // 1. Arrange
+        GameStatDedupIndex index = new GameStatDedupIndex(WINDOW_MILLIS, 10);
+        UUID eventId = UUID.randomUUID();
+        GameStatDTO original = new GameStatDTO();
+
+        // 2. Act
+        index.record(eventId, original, 0L);
+        index.record(eventId, new GameStatDTO(), 1L);
+
+        // 3. Assert
+        assertThat(index.find(eventId, 1L)).isSameAs(original);
+    }
+}
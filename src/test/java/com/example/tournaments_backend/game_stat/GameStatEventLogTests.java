@@ -0,0 +1,119 @@
+package com.example.tournaments_backend.game_stat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GameStatEventLogTests {
+    private static final Long GAME_ID = 1L;
+    private static final Long OTHER_GAME_ID = 2L;
+    // room for two CREATED records, so the third starts a new segment
+    private static final int SEGMENT_BYTES = 2 * 87;
+
+    @TempDir
+    Path directory;
+
+    private static GameStatSnapshot snapshot(Long gameStatId, Long gameId, GameStatType type) {
+        return new GameStatSnapshot(gameStatId, gameId, 10L, 100L, 200L, 1000L, 100L, type, LocalDateTime.of(2025, 6, 30, 10, 0));
+    }
+
+    // ─── onGameStatEvent ─────────────────────────────────────────────────────
+
+    @Test
+    void onGameStatEvent_ShouldStartNewSegment_WhenActiveSegmentIsFull() throws IOException {
+        // 1. Arrange
+        GameStatEventLog log = new GameStatEventLog(directory, SEGMENT_BYTES);
+
+        // 2. Act
+        for (long id = 1; id <= 3; id++) {
+            log.onGameStatEvent(GameStatEvent.created(snapshot(id, GAME_ID, GameStatType.GOAL)));
+        }
+
+        // 3. Assert
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(path -> path.getFileName().toString()).sorted())
+                .containsExactly("00000000000000000001.log", "00000000000000000003.log");
+        }
+        List<GameStatLogEntryDTO> timeline = log.getTimeline(GAME_ID);
+        assertThat(timeline).extracting(GameStatLogEntryDTO::getSequence).containsExactly(1L, 2L, 3L);
+        assertThat(timeline).extracting(GameStatLogEntryDTO::getGameStatId).containsExactly(1L, 2L, 3L);
+        log.close();
+    }
+
+    @Test
+    void onGameStatEvent_ShouldContinueSequence_WhenLogIsReopened() throws IOException {
+        // 1. Arrange
+        GameStatEventLog log = new GameStatEventLog(directory, SEGMENT_BYTES);
+        for (long id = 1; id <= 3; id++) {
+            log.onGameStatEvent(GameStatEvent.created(snapshot(id, GAME_ID, GameStatType.GOAL)));
+        }
+        log.close();
+
+        // 2. Act
+        GameStatEventLog reopened = new GameStatEventLog(directory, SEGMENT_BYTES);
+        reopened.onGameStatEvent(GameStatEvent.deleted(snapshot(1L, GAME_ID, GameStatType.GOAL)));
+
+        // 3. Assert
+        assertThat(reopened.getLastSequence()).isEqualTo(4L);
+        List<GameStatLogEntryDTO> timeline = reopened.getTimeline(GAME_ID);
+        assertThat(timeline).extracting(GameStatLogEntryDTO::getSequence).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(timeline.get(3).getChangeType()).isEqualTo(GameStatChangeType.DELETED);
+        assertThat(timeline.get(3).getGameStatId()).isEqualTo(1L);
+        reopened.close();
+    }
+
+    // ─── getTimeline ─────────────────────────────────────────────────────────
+
+    @Test
+    void getTimeline_ShouldReturnGameChangesInOrder_WhenStatMovesToAnotherGame() throws IOException {
+        // 1. Arrange
+        GameStatEventLog log = new GameStatEventLog(directory, 1 << 16);
+        GameStatSnapshot goal = snapshot(1L, GAME_ID, GameStatType.GOAL);
+        GameStatSnapshot card = snapshot(2L, GAME_ID, GameStatType.YELLOW_CARD);
+        log.onGameStatEvent(GameStatEvent.created(goal));
+        log.onGameStatEvent(GameStatEvent.created(snapshot(3L, OTHER_GAME_ID, GameStatType.GOAL)));
+        log.onGameStatEvent(GameStatEvent.created(card));
+        log.onGameStatEvent(GameStatEvent.updated(card, snapshot(2L, GAME_ID, GameStatType.RED_CARD)));
+        log.onGameStatEvent(GameStatEvent.updated(goal, snapshot(1L, OTHER_GAME_ID, GameStatType.GOAL)));
+
+        // 2. Act
+        List<GameStatLogEntryDTO> timeline = log.getTimeline(GAME_ID);
+
+        // 3. Assert
+        assertThat(timeline).extracting(GameStatLogEntryDTO::getSequence).containsExactly(1L, 3L, 4L, 5L);
+        assertThat(timeline).extracting(GameStatLogEntryDTO::getChangeType).containsExactly(
+            GameStatChangeType.CREATED, GameStatChangeType.CREATED, GameStatChangeType.UPDATED, GameStatChangeType.DELETED);
+        assertThat(timeline.get(2).getType()).isEqualTo(GameStatType.RED_CARD);
+        log.close();
+    }
+
+    @Test
+    void getTimeline_ShouldReadGameRecordsAcrossSegments_WhenLogIsReopened() throws IOException {
+        // 1. Arrange
+        GameStatEventLog log = new GameStatEventLog(directory, SEGMENT_BYTES);
+        log.onGameStatEvent(GameStatEvent.created(snapshot(1L, GAME_ID, GameStatType.GOAL)));
+        log.onGameStatEvent(GameStatEvent.created(snapshot(2L, OTHER_GAME_ID, GameStatType.GOAL)));
+        log.onGameStatEvent(GameStatEvent.created(snapshot(3L, GAME_ID, GameStatType.YELLOW_CARD)));
+        log.close();
+
+        // 2. Act
+        GameStatEventLog reopened = new GameStatEventLog(directory, SEGMENT_BYTES);
+        reopened.onGameStatEvent(GameStatEvent.deleted(snapshot(1L, GAME_ID, GameStatType.GOAL)));
+        List<GameStatLogEntryDTO> timeline = reopened.getTimeline(GAME_ID);
+
+        // 3. Assert
+        assertThat(timeline).extracting(GameStatLogEntryDTO::getSequence).containsExactly(1L, 3L, 4L);
+        assertThat(timeline).extracting(GameStatLogEntryDTO::getChangeType).containsExactly(
+            GameStatChangeType.CREATED, GameStatChangeType.CREATED, GameStatChangeType.DELETED);
+        assertThat(reopened.getTimeline(OTHER_GAME_ID)).extracting(GameStatLogEntryDTO::getSequence).containsExactly(2L);
+        reopened.close();
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.tournaments_backend.game_stat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.tournaments_backend.AbstractIntegrationTest;
+import com.example.tournaments_backend.QueryBudget;
+import com.example.tournaments_backend.StatementCounter;
+import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.league.LeagueRepository;
+import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerRepository;
+import com.example.tournaments_backend.player.Position;
+import com.example.tournaments_backend.team.Team;
+import com.example.tournaments_backend.team.TeamRepository;
+
+@Transactional
+public class GameStatServiceIntegrationTests extends AbstractIntegrationTest {
+
+    @Autowired
+    private GameStatService gameStatService;
+
+    @Autowired
+    private GameStatRepository gameStatRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private LeagueRepository leagueRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    private Player buildPlayer(String email) {
+        return playerRepository.save(
+            new Player("John", "Doe", email, "password", AppUserRole.PLAYER, Position.STRIKER)
+        );
+    }
+
+    private Team buildTeam(String name, Player player) {
+        Team team = new Team(name);
+        team.setOwner(player);
+        team.addPlayer(player);
+        return teamRepository.save(team);
+    }
+
+    private Game buildActiveGame(Player homePlayer, Player awayPlayer, LocalDateTime now) {
+        Team homeTeam = buildTeam("Home", homePlayer);
+        Team awayTeam = buildTeam("Away", awayPlayer);
+        League league = leagueRepository.save(League.builder()
+                .name("Liga")
+                .startDate(LocalDate.now().minusWeeks(1))
+                .durationInWeeks(4)
+                .build());
+        league.addTeam(homeTeam);
+        league.addTeam(awayTeam);
+        Game game = new Game(now.minusMinutes(10), "Field 1", 90);
+        game.setLeague(league);
+        game.setHomeTeam(homeTeam);
+        game.setAwayTeam(awayTeam);
+        return gameRepository.save(game);
+    }
+
+    // ─── addGameStats ─────────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void addGameStats_ShouldUseBoundedNumberOfQueries_WhenCreatingManyStats(StatementCounter statementCounter) {
+        Player homePlayer = buildPlayer("home@test.com");
+        Player awayPlayer = buildPlayer("away@test.com");
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("America/Los_Angeles")).toLocalDateTime();
+        Game game = buildActiveGame(homePlayer, awayPlayer, now);
+
+        List<GameStatRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Player player = i % 2 == 0 ? homePlayer : awayPlayer;
+            requests.add(new GameStatRequest(game.getId(), player.getId(), GameStatType.GOAL, now, UUID.randomUUID()));
+        }
+
+        // games, players with their teams, at most three id blocks, then two JDBC batches of 50
+        GameStatCreateResponse result = statementCounter.measure(
+            QueryBudget.statements(7).collectionFetches(0),
+            () -> gameStatService.addGameStats(requests)
+        );
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(result.getSuccessfulCreates()).hasSize(100);
+        assertThat(gameStatRepository.count()).isEqualTo(100);
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void addGameStats_ShouldReportFailuresByIndex_WhenSomeRequestsAreInvalid() {
+        Player homePlayer = buildPlayer("home@test.com");
+        Player awayPlayer = buildPlayer("away@test.com");
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("America/Los_Angeles")).toLocalDateTime();
+        Game game = buildActiveGame(homePlayer, awayPlayer, now);
+        Long missingId = Long.MAX_VALUE;
+
+        List<GameStatRequest> requests = List.of(
+            new GameStatRequest(game.getId(), homePlayer.getId(), GameStatType.GOAL, now, null),
+            new GameStatRequest(missingId, homePlayer.getId(), GameStatType.GOAL, now, null),
+            new GameStatRequest(game.getId(), missingId, GameStatType.GOAL, now, null),
+            new GameStatRequest(game.getId(), awayPlayer.getId(), GameStatType.RED_CARD, now, null)
+        );
+
+        GameStatCreateResponse result = gameStatService.addGameStats(requests);
+
+        assertThat(result.getSuccessfulCreates())
+            .extracting(GameStatDTO::getType)
+            .containsExactly(GameStatType.GOAL, GameStatType.RED_CARD);
+        assertThat(result.getFailures())
+            .extracting(CreateFailure::getIndex)
+            .containsExactly(1, 2);
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void addGameStats_ShouldInsertOnce_WhenEventIdRepeatsWithinRequest() {
+        Player homePlayer = buildPlayer("home@test.com");
+        Player awayPlayer = buildPlayer("away@test.com");
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("America/Los_Angeles")).toLocalDateTime();
+        Game game = buildActiveGame(homePlayer, awayPlayer, now);
+        UUID eventId = UUID.randomUUID();
+        GameStatRequest request = new GameStatRequest(game.getId(), homePlayer.getId(), GameStatType.GOAL, now, eventId);
+
+        GameStatCreateResponse result = gameStatService.addGameStats(List.of(request, request));
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(result.getSuccessfulCreates()).hasSize(2);
+        assertThat(result.getSuccessfulCreates().get(1).getId()).isEqualTo(result.getSuccessfulCreates().get(0).getId());
+        assertThat(gameStatRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void addGameStats_ShouldThrowConflict_WhenEventIdIsOnlyInTheDatabase() {
+        Player homePlayer = buildPlayer("home@test.com");
+        Player awayPlayer = buildPlayer("away@test.com");
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("America/Los_Angeles")).toLocalDateTime();
+        Game game = buildActiveGame(homePlayer, awayPlayer, now);
+        UUID eventId = UUID.randomUUID();
+        GameStat stored = new GameStat(new GameStatRequest(game.getId(), homePlayer.getId(), GameStatType.GOAL, now, eventId));
+        stored.setGame(game);
+        stored.setPlayer(homePlayer);
+        gameStatRepository.saveAndFlush(stored);
+        List<GameStatRequest> requests = List.of(
+            new GameStatRequest(game.getId(), awayPlayer.getId(), GameStatType.GOAL, now, UUID.randomUUID()),
+            new GameStatRequest(game.getId(), homePlayer.getId(), GameStatType.GOAL, now, eventId)
+        );
+
+        // the violation aborts the test transaction, so the stored game stat cannot be replayed
+        ServiceException ex = assertThrows(ServiceException.class, () -> {
+            gameStatService.addGameStats(requests);
+        });
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.DUPLICATE_GAME_STAT_EVENT);
+    }
+
+    // ─── addGameStat ──────────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void addGameStat_ShouldThrowConflict_WhenEventIdIsAlreadyStored() {
+        Player homePlayer = buildPlayer("home@test.com");
+        Player awayPlayer = buildPlayer("away@test.com");
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("America/Los_Angeles")).toLocalDateTime();
+        Game game = buildActiveGame(homePlayer, awayPlayer, now);
+        UUID eventId = UUID.randomUUID();
+        GameStatRequest request = new GameStatRequest(game.getId(), homePlayer.getId(), GameStatType.GOAL, now, eventId);
+        // the test transaction never commits, so the dedup index misses and the unique constraint has to catch it
+        gameStatService.addGameStat(request);
+
+        ServiceException ex = assertThrows(ServiceException.class, () -> {
+            gameStatService.addGameStat(request);
+        });
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.DUPLICATE_GAME_STAT_EVENT);
+    }
+
+    // ─── updateGameStats ──────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void updateGameStats_ShouldUseBoundedNumberOfQueries_WhenUpdatingManyStats(StatementCounter statementCounter) {
+        Player homePlayer = buildPlayer("home@test.com");
+        Player awayPlayer = buildPlayer("away@test.com");
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("America/Los_Angeles")).toLocalDateTime();
+        Game game = buildActiveGame(homePlayer, awayPlayer, now);
+
+        List<GameStatUpdateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Player player = i % 2 == 0 ? homePlayer : awayPlayer;
+            GameStat gameStat = new GameStat(GameStatType.YELLOW_CARD, now);
+            gameStat.setGame(game);
+            gameStat.setPlayer(player);
+            gameStat = gameStatRepository.save(gameStat);
+            requests.add(new GameStatUpdateRequest(gameStat.getId(), game.getId(), player.getId(), GameStatType.GOAL, now));
+        }
+
+        // game stats, games and players with their teams, then the updates in one JDBC batch
+        GameStatUpdateResponse result = statementCounter.measure(
+            QueryBudget.statements(4).collectionFetches(0),
+            () -> gameStatService.updateGameStats(requests)
+        );
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(result.getSuccessfulUpdates()).hasSize(10).allSatisfy(gameStat -> assertThat(gameStat.getType()).isEqualTo(GameStatType.GOAL));
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.tournaments_backend.game_stat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerRepository;
+import com.example.tournaments_backend.player.Position;
+import com.example.tournaments_backend.team.Team;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+public class GameStatServiceTests {
+    @Mock
+    private GameStatRepository gameStatRepository;
+    @Mock
+    private GameRepository gameRepository;
+    @Mock
+    private PlayerRepository playerRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Object> publishedEvents = new ArrayList<>();
+    private GameStatDedupIndex dedupIndex;
+    private GameStatService gameStatService;
+    private LocalDateTime now;
+    private Game game;
+    private Player homePlayer;
+    private Player awayPlayer;
+
+    @BeforeEach
+    void setUp() {
+        dedupIndex = new GameStatDedupIndex(600_000, 1_000);
+        gameStatService = new GameStatService(
+            gameStatRepository, gameRepository, playerRepository, publishedEvents::add, dedupIndex, entityManager, transactionManager);
+
+        now = ZonedDateTime.now(ZoneId.of("America/Los_Angeles")).toLocalDateTime();
+        game = new Game(now.minusHours(1), "Field 1", 24 * 60);
+        game.setId(1L);
+        League league = new League("League", null, 10);
+        league.setId(1L);
+        game.setLeague(league);
+        Team homeTeam = new Team("Home");
+        homeTeam.setId(1L);
+        Team awayTeam = new Team("Away");
+        awayTeam.setId(2L);
+        game.setHomeTeam(homeTeam);
+        game.setAwayTeam(awayTeam);
+        homePlayer = new Player("Home", "Player", "home@test.com", "password", AppUserRole.PLAYER, Position.STRIKER);
+        homePlayer.setId(1L);
+        homeTeam.addPlayer(homePlayer);
+        awayPlayer = new Player("Away", "Player", "away@test.com", "password", AppUserRole.PLAYER, Position.STRIKER);
+        awayPlayer.setId(2L);
+        awayTeam.addPlayer(awayPlayer);
+    }
+
+    private GameStat stored(UUID eventId) {
+        GameStat gameStat = new GameStat(new GameStatRequest(game.getId(), homePlayer.getId(), GameStatType.GOAL, now, eventId));
+        gameStat.setId(42L);
+        gameStat.setGame(game);
+        gameStat.setPlayer(homePlayer);
+        return gameStat;
+    }
+
+    private static DataIntegrityViolationException eventIdViolation() {
+        return new DataIntegrityViolationException(
+            "duplicate key", new ConstraintViolationException("duplicate key", null, GameStat.EVENT_ID_CONSTRAINT));
+    }
+
+    // ─── addGameStat ──────────────────────────────────────────────────────────
+
+    @Test
+    void addGameStat_ShouldReturnStoredGameStat_WhenEventIdViolatesUniqueConstraint() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+        when(playerRepository.findById(homePlayer.getId())).thenReturn(Optional.of(homePlayer));
+        when(gameStatRepository.saveAll(anyCollection())).thenThrow(eventIdViolation());
+        when(gameStatRepository.findByEventIdIn(List.of(eventId))).thenReturn(List.of(stored(eventId)));
+
+        // Act
+        GameStatDTO result = gameStatService.addGameStat(
+            new GameStatRequest(game.getId(), homePlayer.getId(), GameStatType.GOAL, now, eventId));
+
+        // Assert
+        assertThat(result.getId()).isEqualTo(42L);
+        assertThat(dedupIndex.find(eventId)).isSameAs(result);
+        assertThat(publishedEvents).isEmpty();
+    }
+
+    @Test
+    void addGameStat_ShouldThrowConflict_WhenEventIdViolatesUniqueConstraintInCallersTransaction() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+        when(playerRepository.findById(homePlayer.getId())).thenReturn(Optional.of(homePlayer));
+        when(gameStatRepository.saveAll(anyCollection())).thenThrow(eventIdViolation());
+        GameStatRequest request = new GameStatRequest(game.getId(), homePlayer.getId(), GameStatType.GOAL, now, eventId);
+
+        // Act
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        ServiceException ex;
+        try {
+            ex = assertThrows(ServiceException.class, () -> gameStatService.addGameStat(request));
+        }
+        finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        // Assert
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.DUPLICATE_GAME_STAT_EVENT);
+        verify(gameStatRepository, never()).findByEventIdIn(anyCollection());
+    }
+
+    // ─── addGameStats ─────────────────────────────────────────────────────────
+
+    @Test
+    void addGameStats_ShouldReplayStoredGameStat_WhenEventIdViolatesUniqueConstraint() {
+        // Arrange
+        UUID storedEventId = UUID.randomUUID();
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(gameRepository.findAllById(anyCollection())).thenReturn(List.of(game));
+        when(playerRepository.findWithTeamsByIdIn(anyCollection())).thenReturn(List.of(homePlayer, awayPlayer));
+        when(gameStatRepository.saveAll(anyCollection()))
+            .thenThrow(eventIdViolation())
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(gameStatRepository.findByEventIdIn(anyCollection())).thenReturn(List.of(stored(storedEventId)));
+
+        // Act
+        GameStatCreateResponse result = gameStatService.addGameStats(List.of(
+            new GameStatRequest(game.getId(), awayPlayer.getId(), GameStatType.GOAL, now, UUID.randomUUID()),
+            new GameStatRequest(game.getId(), homePlayer.getId(), GameStatType.GOAL, now, storedEventId)
+        ));
+
+        // Assert
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(result.getSuccessfulCreates()).hasSize(2);
+        assertThat(result.getSuccessfulCreates().get(1).getId()).isEqualTo(42L);
+        assertThat(publishedEvents).hasSize(1);
+    }
+}
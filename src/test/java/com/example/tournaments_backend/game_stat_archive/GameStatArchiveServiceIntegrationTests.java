@@ -0,0 +1,160 @@
+package com.example.tournaments_backend.game_stat_archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.tournaments_backend.AbstractIntegrationTest;
+import com.example.tournaments_backend.QueryBudget;
+import com.example.tournaments_backend.StatementCounter;
+import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.game_stat.GameStat;
+import com.example.tournaments_backend.game_stat.GameStatRepository;
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.league.LeagueRepository;
+import com.example.tournaments_backend.pagination.CursorPage;
+import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerRepository;
+import com.example.tournaments_backend.player.Position;
+import com.example.tournaments_backend.team.Team;
+import com.example.tournaments_backend.team.TeamRepository;
+
+@Transactional
+public class GameStatArchiveServiceIntegrationTests extends AbstractIntegrationTest {
+
+    @Autowired
+    private GameStatArchiveService gameStatArchiveService;
+
+    @Autowired
+    private GameStatArchiveRepository gameStatArchiveRepository;
+
+    @Autowired
+    private GameStatRepository gameStatRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private LeagueRepository leagueRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    private Player buildPlayer(String email) {
+        return playerRepository.save(
+            new Player("John", "Doe", email, "password", AppUserRole.PLAYER, Position.STRIKER)
+        );
+    }
+
+    private Team buildTeam(String name, Player player) {
+        Team team = new Team(name);
+        team.setOwner(player);
+        team.addPlayer(player);
+        return teamRepository.save(team);
+    }
+
+    private Game buildGame(Player homePlayer, Player awayPlayer, LocalDateTime gameDateTime) {
+        Team homeTeam = buildTeam("Home", homePlayer);
+        Team awayTeam = buildTeam("Away", awayPlayer);
+        League league = leagueRepository.save(League.builder()
+                .name("Liga")
+                .startDate(LocalDate.now().minusWeeks(1))
+                .durationInWeeks(4)
+                .build());
+        league.addTeam(homeTeam);
+        league.addTeam(awayTeam);
+        Game game = new Game(gameDateTime, "Field 1", 90);
+        game.setLeague(league);
+        game.setHomeTeam(homeTeam);
+        game.setAwayTeam(awayTeam);
+        return gameRepository.save(game);
+    }
+
+    // ─── getGameHistory ───────────────────────────────────────────────────────
+
+    private Game buildEndedGameWithStats(Player homePlayer, Player awayPlayer, int statCount) {
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("America/Los_Angeles")).toLocalDateTime();
+        Game game = buildGame(homePlayer, awayPlayer, now.minusDays(1));
+        for (int i = 0; i < statCount; i++) {
+            GameStat gameStat = new GameStat(i % 3 == 0 ? GameStatType.GOAL : GameStatType.YELLOW_CARD, now.minusDays(1).plusMinutes(i));
+            gameStat.setGame(game);
+            gameStat.setPlayer(i % 2 == 0 ? homePlayer : awayPlayer);
+            gameStatRepository.save(gameStat);
+        }
+        return game;
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void getGameHistory_ShouldReadOneArchiveRow_WhenGameIsArchived(StatementCounter statementCounter) {
+        Player homePlayer = buildPlayer("home@test.com");
+        Player awayPlayer = buildPlayer("away@test.com");
+        Game game = buildEndedGameWithStats(homePlayer, awayPlayer, 30);
+        gameStatArchiveService.archiveEndedGames();
+        CursorPage<ArchivedGameStatDTO> firstPage = gameStatArchiveService.getGameHistory(game.getId(), 20, Optional.empty());
+
+        // the archive row only, no game, stat or player loads
+        CursorPage<ArchivedGameStatDTO> secondPage = statementCounter.measure(
+            QueryBudget.statements(1).entityLoads(1).collectionFetches(0),
+            () -> gameStatArchiveService.getGameHistory(game.getId(), 20, Optional.of(firstPage.getNextCursor()))
+        );
+
+        assertThat(firstPage.getItems()).hasSize(20);
+        assertThat(secondPage.getItems()).hasSize(10);
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(secondPage.getItems().get(0).getId()).isGreaterThan(firstPage.getNextCursor());
+        assertThat(secondPage.getItems()).extracting(ArchivedGameStatDTO::getPlayerId)
+            .containsOnly(homePlayer.getId(), awayPlayer.getId());
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void getGameHistory_ShouldReadLiveStatsWithoutArchiving_WhenGameIsNotArchivedYet() {
+        Player homePlayer = buildPlayer("home@test.com");
+        Player awayPlayer = buildPlayer("away@test.com");
+        Game game = buildEndedGameWithStats(homePlayer, awayPlayer, 30);
+
+        CursorPage<ArchivedGameStatDTO> firstPage = gameStatArchiveService.getGameHistory(game.getId(), 20, Optional.empty());
+        CursorPage<ArchivedGameStatDTO> secondPage = gameStatArchiveService.getGameHistory(game.getId(), 20, Optional.of(firstPage.getNextCursor()));
+
+        assertThat(firstPage.getItems()).hasSize(20);
+        assertThat(secondPage.getItems()).hasSize(10);
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(secondPage.getItems().get(0).getId()).isGreaterThan(firstPage.getNextCursor());
+        assertThat(gameStatArchiveRepository.existsById(game.getId())).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void getGameHistory_ShouldThrowServiceException_WhenGameHasNotEnded() {
+        Player homePlayer = buildPlayer("home@test.com");
+        Player awayPlayer = buildPlayer("away@test.com");
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("America/Los_Angeles")).toLocalDateTime();
+        Game game = buildGame(homePlayer, awayPlayer, now.minusMinutes(10));
+
+        ServiceException ex = assertThrows(ServiceException.class, () -> {
+            gameStatArchiveService.getGameHistory(game.getId(), 20, Optional.empty());
+        });
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.GAME_NOT_ENDED);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.tournaments_backend.game_stat_archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.tournaments_backend.game_stat.GameStatType;
+
+public class GameStatBlockTests {
+    private static final LocalDateTime KICKOFF = LocalDateTime.of(2025, 6, 30, 10, 0);
+
+    // ─── encode ──────────────────────────────────────────────────────────────
+
+    @Test
+    void encode_ShouldRoundTripEveryColumn_WhenDecoded() {
+        // 1. Arrange
+        List<ArchivedGameStatRow> rows = List.of(
+            new ArchivedGameStatRow(101L, GameStatType.GOAL, 7L, KICKOFF.plusMinutes(12)),
+            new ArchivedGameStatRow(150L, GameStatType.YELLOW_CARD, 3L, KICKOFF.plusMinutes(5)),
+            new ArchivedGameStatRow(151L, GameStatType.RED_CARD, 3_000_000_000L, null)
+        );
+
+        // 2. Act
+        GameStatBlock block = GameStatBlock.decode(GameStatBlock.encode(rows));
+
+        // 3. Assert
+        assertThat(block.size()).isEqualTo(3);
+        for (int i = 0; i < rows.size(); i++) {
+            assertThat(block.getId(i)).isEqualTo(rows.get(i).getId());
+            assertThat(block.getType(i)).isEqualTo(rows.get(i).getType());
+            assertThat(block.getPlayerId(i)).isEqualTo(rows.get(i).getPlayerId());
+            assertThat(block.getCreatedAt(i)).isEqualTo(rows.get(i).getCreatedAt());
+        }
+    }
+
+    @Test
+    void encode_ShouldUseFewBytesPerStat_WhenIdsAndTimesAreClose() {
+        // 1. Arrange
+        List<ArchivedGameStatRow> rows = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            rows.add(new ArchivedGameStatRow(1_000_000L + i, GameStatType.GOAL, 5_000L + i % 22, KICKOFF.plusSeconds(i * 5L)));
+        }
+
+        // 2. Act
+        byte[] bytes = GameStatBlock.encode(rows);
+
+        // 3. Assert
+        assertThat(bytes.length).isLessThan(rows.size() * 8);
+    }
+
+    // ─── indexAfter ──────────────────────────────────────────────────────────
+
+    @Test
+    void indexAfter_ShouldReturnFirstIndexPastId_WhenIdIsPresentOrMissing() {
+        // 1. Arrange
+        GameStatBlock block = GameStatBlock.decode(GameStatBlock.encode(List.of(
+            new ArchivedGameStatRow(10L, GameStatType.GOAL, 1L, KICKOFF),
+            new ArchivedGameStatRow(20L, GameStatType.GOAL, 1L, KICKOFF),
+            new ArchivedGameStatRow(30L, GameStatType.GOAL, 1L, KICKOFF)
+        )));
+
+        // 2. Act & Assert
+        assertThat(block.indexAfter(0L)).isEqualTo(0);
+        assertThat(block.indexAfter(20L)).isEqualTo(2);
+        assertThat(block.indexAfter(25L)).isEqualTo(2);
+        assertThat(block.indexAfter(30L)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.tournaments_backend.game_stat_buffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.tournaments_backend.game_stat.GameStatRequest;
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+public class GameStatBufferJournalTests {
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @TempDir
+    Path directory;
+
+    private static BufferedGameStat entry(long sequence) {
+        return new BufferedGameStat(sequence, new GameStatRequest(
+            1L, 2L, GameStatType.GOAL, LocalDateTime.of(2025, 6, 30, 10, 0), UUID.randomUUID()));
+    }
+
+    // ─── readPending ─────────────────────────────────────────────────────────
+
+    @Test
+    void readPending_ShouldReturnEntriesAfterCheckpoint_WhenJournalIsReopened() throws IOException {
+        // 1. Arrange
+        try (GameStatBufferJournal journal = new GameStatBufferJournal(directory, objectMapper, 1024 * 1024)) {
+            journal.append(entry(1));
+            journal.append(entry(2));
+            journal.append(entry(3));
+            journal.checkpoint(1);
+        }
+
+        // 2. Act
+        List<BufferedGameStat> pending;
+        try (GameStatBufferJournal journal = new GameStatBufferJournal(directory, objectMapper, 1024 * 1024)) {
+            pending = journal.readPending();
+        }
+
+        // 3. Assert
+        assertThat(pending).extracting(BufferedGameStat::getSequence).containsExactly(2L, 3L);
+        assertThat(pending.get(0).getRequest().getType()).isEqualTo(GameStatType.GOAL);
+    }
+
+    @Test
+    void readPending_ShouldDropTornLastLine_WhenAppendWasInterrupted() throws IOException {
+        // 1. Arrange
+        try (GameStatBufferJournal journal = new GameStatBufferJournal(directory, objectMapper, 1024 * 1024)) {
+            journal.append(entry(1));
+        }
+        Files.writeString(directory.resolve("game-stats-0000000000000000001.ndjson"), "{\"sequence\":2,\"requ",
+            StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (GameStatBufferJournal journal = new GameStatBufferJournal(directory, objectMapper, 1024 * 1024)) {
+            // 2. Act
+            List<BufferedGameStat> pending = journal.readPending();
+            journal.rewrite(pending);
+            journal.append(entry(2));
+
+            // 3. Assert
+            assertThat(pending).extracting(BufferedGameStat::getSequence).containsExactly(1L);
+            assertThat(journal.readPending()).extracting(BufferedGameStat::getSequence).containsExactly(1L, 2L);
+        }
+    }
+
+    // ─── prune ───────────────────────────────────────────────────────────────
+
+    @Test
+    void prune_ShouldDeleteOnlyCheckpointedSegments_WhenJournalKeepsGrowing() throws IOException {
+        // every entry starts a new segment
+        try (GameStatBufferJournal journal = new GameStatBufferJournal(directory, objectMapper, 1)) {
+            // 1. Arrange
+            journal.append(entry(1));
+            journal.append(entry(2));
+            journal.append(entry(3));
+            journal.checkpoint(2);
+
+            // 2. Act
+            journal.prune(2);
+            journal.append(entry(4));
+
+            // 3. Assert
+            assertThat(segmentCount()).isEqualTo(2);
+            assertThat(journal.readPending()).extracting(BufferedGameStat::getSequence).containsExactly(3L, 4L);
+        }
+    }
+
+    @Test
+    void prune_ShouldKeepSegment_WhenSomeOfItsEntriesAreNotCheckpointed() throws IOException {
+        try (GameStatBufferJournal journal = new GameStatBufferJournal(directory, objectMapper, 1024 * 1024)) {
+            // 1. Arrange
+            journal.append(entry(1));
+            journal.append(entry(2));
+            journal.checkpoint(1);
+
+            // 2. Act
+            journal.prune(1);
+
+            // 3. Assert
+            assertThat(segmentCount()).isEqualTo(1);
+            assertThat(journal.readPending()).extracting(BufferedGameStat::getSequence).containsExactly(2L);
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().matches("game-stats-\\d+\\.ndjson")).count();
+        }
+    }
+}
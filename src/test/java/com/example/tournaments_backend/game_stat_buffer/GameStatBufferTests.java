@@ -0,0 +1,175 @@
+package com.example.tournaments_backend.game_stat_buffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game_stat.GameStatCreateResponse;
+import com.example.tournaments_backend.game_stat.GameStatRequest;
+import com.example.tournaments_backend.game_stat.GameStatService;
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+public class GameStatBufferTests {
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final GameStatService gameStatService = mock(GameStatService.class);
+
+    @TempDir
+    Path directory;
+
+    private GameStatBuffer buffer(int capacity) throws IOException {
+        return new GameStatBuffer(gameStatService, objectMapper, directory, capacity, 100, 50L, 10L, 2, 1024 * 1024);
+    }
+
+    private static GameStatRequest request() {
+        return new GameStatRequest(1L, 2L, GameStatType.GOAL, LocalDateTime.of(2025, 6, 30, 10, 0), null);
+    }
+
+    // the writer runs on its own thread, so tests wait for it with a deadline
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    // ─── accept ──────────────────────────────────────────────────────────────
+
+    @Test
+    void accept_ShouldAcknowledgeInSequenceAndStore_WhenBufferHasRoom() throws Exception {
+        // 1. Arrange
+        when(gameStatService.addGameStats(anyList())).thenReturn(new GameStatCreateResponse(List.of(), List.of()));
+        GameStatBuffer buffer = buffer(10);
+
+        // 2. Act
+        GameStatAckDTO first = buffer.accept(request());
+        GameStatAckDTO second = buffer.accept(request());
+
+        // 3. Assert
+        assertThat(first.getSequence()).isEqualTo(1L);
+        assertThat(second.getSequence()).isEqualTo(2L);
+        assertThat(first.getEventId()).isNotNull().isNotEqualTo(second.getEventId());
+        awaitTrue(() -> buffer.getStatus().getCommittedSequence() == 2L);
+        assertThat(buffer.getStatus().getPending()).isZero();
+        buffer.shutdown();
+    }
+
+    @Test
+    void accept_ShouldThrowServiceException_WhenBufferIsFull() throws Exception {
+        // 1. Arrange
+        CountDownLatch databaseDown = new CountDownLatch(1);
+        when(gameStatService.addGameStats(anyList())).thenAnswer(invocation -> {
+            databaseDown.await();
+            return new GameStatCreateResponse(List.of(), List.of());
+        });
+        GameStatBuffer buffer = buffer(1);
+        buffer.accept(request());
+
+        // 2. Act & Assert
+        ServiceException ex = assertThrows(ServiceException.class, () -> {
+            buffer.accept(request());
+        });
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.WRITE_BUFFER_FULL);
+        databaseDown.countDown();
+        awaitTrue(() -> buffer.getStatus().getCommittedSequence() == 1L);
+        assertThat(buffer.accept(request()).getSequence()).isEqualTo(2L);
+        buffer.shutdown();
+    }
+
+    @Test
+    void accept_ShouldRejectWithoutJournaling_WhenGameIsInactive() throws Exception {
+        // 1. Arrange
+        doThrow(new ServiceException(HttpStatus.BAD_REQUEST, ClientErrorKey.GAME_INACTIVE, "Game", "Game is inactive."))
+            .when(gameStatService).validateGameStat(any());
+        GameStatBuffer buffer = buffer(10);
+
+        // 2. Act
+        ServiceException ex = assertThrows(ServiceException.class, () -> {
+            buffer.accept(request());
+        });
+
+        // 3. Assert
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.GAME_INACTIVE);
+        assertThat(buffer.getStatus().getAcceptedSequence()).isZero();
+        buffer.shutdown();
+    }
+
+    @Test
+    void accept_ShouldDeadLetterOnlyTheFailingGameStat_WhenABatchKeepsFailing() throws Exception {
+        // 1. Arrange
+        UUID poison = UUID.randomUUID();
+        CountDownLatch accepted = new CountDownLatch(1);
+        when(gameStatService.addGameStats(anyList())).thenAnswer(invocation -> {
+            accepted.await();
+            List<GameStatRequest> requests = invocation.getArgument(0);
+            if (requests.stream().anyMatch(request -> poison.equals(request.getEventId()))) {
+                throw new IllegalStateException("value too long for column");
+            }
+            return new GameStatCreateResponse(List.of(), List.of());
+        });
+        GameStatBuffer buffer = buffer(10);
+
+        // 2. Act
+        buffer.accept(request());
+        buffer.accept(new GameStatRequest(1L, 2L, GameStatType.GOAL, LocalDateTime.of(2025, 6, 30, 10, 0), poison));
+        buffer.accept(request());
+        accepted.countDown();
+
+        // 3. Assert
+        awaitTrue(() -> buffer.getStatus().getCommittedSequence() == 3L);
+        assertThat(buffer.getStatus().getDeadLettered()).isEqualTo(1L);
+        assertThat(Files.readString(directory.resolve("game-stats.dead-letter.ndjson"))).contains(poison.toString());
+        buffer.shutdown();
+    }
+
+    // ─── GameStatBuffer ──────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void constructor_ShouldReplayJournaledGameStats_WhenRestartedBeforeTheyWereStored() throws Exception {
+        // 1. Arrange
+        UUID eventId = UUID.randomUUID();
+        try (GameStatBufferJournal journal = new GameStatBufferJournal(directory, objectMapper, 1024 * 1024)) {
+            journal.append(new BufferedGameStat(7L, new GameStatRequest(
+                1L, 2L, GameStatType.RED_CARD, LocalDateTime.of(2025, 6, 30, 10, 0), eventId)));
+        }
+        when(gameStatService.addGameStats(anyList())).thenReturn(new GameStatCreateResponse(List.of(), List.of()));
+
+        // 2. Act
+        GameStatBuffer buffer = buffer(10);
+
+        // 3. Assert
+        awaitTrue(() -> buffer.getStatus().getCommittedSequence() == 7L);
+        ArgumentCaptor<List<GameStatRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(gameStatService).addGameStats(captor.capture());
+        assertThat(captor.getValue()).extracting(GameStatRequest::getEventId).containsExactly(eventId);
+        assertThat(buffer.accept(request()).getSequence()).isEqualTo(8L);
+        buffer.shutdown();
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.tournaments_backend.game_stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.GameRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class GameStreamServiceTests {
+    private static final Long GAME_ID = 1L;
+
+    // drain tasks are collected and run explicitly so tests control when subscribers are written to
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+
+    private GameStreamSubscriber subscriber(SseEmitter emitter, int bufferSize) {
+        return new GameStreamSubscriber(GAME_ID, emitter, bufferSize, pendingDrains::add);
+    }
+
+    private static void publish(GameStream stream, int count) {
+        for (int i = 0; i < count; i++) {
+            stream.publish(sequence -> new GameStreamMessage(sequence, stream.eventId(sequence), "CREATED", "{}"), 0L);
+        }
+    }
+
+    private List<String> drainAndCaptureEvents(SseEmitter emitter) throws IOException {
+        pendingDrains.forEach(Runnable::run);
+        ArgumentCaptor<SseEventBuilder> captor = ArgumentCaptor.forClass(SseEventBuilder.class);
+        verify(emitter, atLeastOnce()).send(captor.capture());
+        return captor.getAllValues().stream()
+                .map(event -> event.build().stream()
+                        .map(data -> data.getData().toString())
+                        .collect(Collectors.joining()))
+                .toList();
+    }
+
+    // ─── subscribe ───────────────────────────────────────────────────────────
+
+    @Test
+    void subscribe_ShouldThrowServiceException_WhenGameDoesNotExist() {
+        // 1. Arrange
+        GameRepository gameRepository = mock(GameRepository.class);
+        when(gameRepository.existsById(GAME_ID)).thenReturn(false);
+        GameStreamService gameStreamService = new GameStreamService(gameRepository, new ObjectMapper(), 16, 16, 10, 1000, 1000);
+
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> gameStreamService.subscribe(GAME_ID, null))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(ex -> {
+                    ServiceException se = (ServiceException) ex;
+                    assertThat(se.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+                    assertThat(se.getErrorKey()).isEqualTo(ClientErrorKey.GAME_NOT_FOUND);
+                });
+    }
+
+    @Test
+    void subscribe_ShouldThrowServiceException_WhenNodeIsAtCapacity() {
+        // 1. Arrange
+        GameRepository gameRepository = mock(GameRepository.class);
+        when(gameRepository.existsById(GAME_ID)).thenReturn(true);
+        GameStreamService gameStreamService = new GameStreamService(gameRepository, new ObjectMapper(), 16, 16, 1, 1000, 1000);
+        gameStreamService.subscribe(GAME_ID, null);
+
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> gameStreamService.subscribe(GAME_ID, null))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(ex -> {
+                    ServiceException se = (ServiceException) ex;
+                    assertThat(se.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    assertThat(se.getErrorKey()).isEqualTo(ClientErrorKey.STREAM_CAPACITY_EXCEEDED);
+                });
+        gameStreamService.shutdown();
+    }
+
+    // ─── GameStream ──────────────────────────────────────────────────────────
+
+    @Test
+    void subscribe_ShouldReplayOnlyMissedEvents_WhenLastEventIdIsRetained() throws IOException {
+        // 1. Arrange
+        GameStream stream = new GameStream(GAME_ID, 10, 0L);
+        publish(stream, 5);
+        SseEmitter emitter = mock(SseEmitter.class);
+
+        // 2. Act
+        stream.subscribe(subscriber(emitter, 10), stream.eventId(3), 0L);
+
+        // 3. Assert
+        List<String> events = drainAndCaptureEvents(emitter);
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0)).contains("id:" + stream.eventId(4));
+        assertThat(events.get(1)).contains("id:" + stream.eventId(5));
+    }
+
+    @Test
+    void subscribe_ShouldSendReset_WhenLastEventIdIsFromAnotherStream() throws IOException {
+        // 1. Arrange
+        GameStream stream = new GameStream(GAME_ID, 10, 42L);
+        publish(stream, 2);
+        SseEmitter emitter = mock(SseEmitter.class);
+
+        // 2. Act
+        stream.subscribe(subscriber(emitter, 10), "7-1", 0L);
+
+        // 3. Assert
+        List<String> events = drainAndCaptureEvents(emitter);
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0)).contains("event:" + GameStreamMessage.RESET);
+    }
+
+    @Test
+    void subscribe_ShouldSendReset_WhenMissedEventsWereDropped() throws IOException {
+        // 1. Arrange
+        GameStream stream = new GameStream(GAME_ID, 2, 0L);
+        publish(stream, 5);
+        SseEmitter emitter = mock(SseEmitter.class);
+
+        // 2. Act
+        stream.subscribe(subscriber(emitter, 10), stream.eventId(1), 0L);
+
+        // 3. Assert
+        List<String> events = drainAndCaptureEvents(emitter);
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0)).contains("event:" + GameStreamMessage.RESET);
+    }
+
+    @Test
+    void publish_ShouldEvictSubscriber_WhenItsBufferIsFull() throws IOException {
+        // 1. Arrange
+        GameStream stream = new GameStream(GAME_ID, 10, 0L);
+        SseEmitter slowEmitter = mock(SseEmitter.class);
+        GameStreamSubscriber slow = subscriber(slowEmitter, 2);
+        stream.subscribe(slow, null, 0L);
+        publish(stream, 2);
+
+        // 2. Act
+        List<GameStreamSubscriber> evicted = stream.publish(
+            sequence -> new GameStreamMessage(sequence, stream.eventId(sequence), "CREATED", "{}"), 0L);
+
+        // 3. Assert
+        assertThat(evicted).containsExactly(slow);
+        assertThat(stream.subscriberCount()).isZero();
+        verify(slowEmitter, never()).send(any(SseEventBuilder.class));
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.tournaments_backend.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.GameChangedEvent;
+import com.example.tournaments_backend.game_stat.GameStatEvent;
+import com.example.tournaments_backend.game_stat.GameStatSnapshot;
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.league.LeagueRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class LeaderboardServiceTests {
+    private static final Long LEAGUE_ID = 1L;
+    private static final Long GAME_ID = 5L;
+    private static final Long PLAYER_A = 100L;
+    private static final Long PLAYER_B = 200L;
+    private static final Long PLAYER_C = 300L;
+
+    @Mock
+    private LeagueRepository leagueRepository;
+    @Mock
+    private LeaderboardRepository leaderboardRepository;
+    @InjectMocks
+    private LeaderboardService leaderboardService;
+
+    private void mockLeague(List<LeaderboardStatRow> stats) {
+        when(leagueRepository.existsById(LEAGUE_ID)).thenReturn(true);
+        when(leaderboardRepository.findStatRowsByLeagueId(LEAGUE_ID)).thenReturn(stats);
+    }
+
+    private void mockNames() {
+        when(leaderboardRepository.findPlayerNamesByIds(anyCollection())).thenReturn(List.of(
+            new PlayerNameRow(PLAYER_A, "Ann", "A"),
+            new PlayerNameRow(PLAYER_B, "Bob", "B"),
+            new PlayerNameRow(PLAYER_C, "Cal", "C")
+        ));
+    }
+
+    private static GameStatSnapshot goal(Long id, Long playerId) {
+        return new GameStatSnapshot(id, GAME_ID, LEAGUE_ID, 10L, 20L, playerId, 10L, GameStatType.GOAL, LocalDateTime.now());
+    }
+
+    // ─── getLeaderboard ──────────────────────────────────────────────────────
+
+    @Test
+    void getLeaderboard_ShouldRankPlayersByCount_WithSharedRanksForTies() {
+        // 1. Arrange
+        mockLeague(List.of(
+            new LeaderboardStatRow(1L, GAME_ID, PLAYER_A, GameStatType.GOAL),
+            new LeaderboardStatRow(2L, GAME_ID, PLAYER_B, GameStatType.GOAL),
+            new LeaderboardStatRow(3L, GAME_ID, PLAYER_B, GameStatType.GOAL),
+            new LeaderboardStatRow(4L, GAME_ID, PLAYER_C, GameStatType.GOAL),
+            new LeaderboardStatRow(5L, GAME_ID, PLAYER_C, GameStatType.YELLOW_CARD)
+        ));
+        mockNames();
+
+        // 2. Act
+        LeaderboardDTO result = leaderboardService.getLeaderboard(LEAGUE_ID, GameStatType.GOAL, 10, PLAYER_C);
+
+        // 3. Assert
+        assertThat(result.getEntries()).extracting(LeaderboardEntryDTO::getPlayerId).containsExactly(PLAYER_B, PLAYER_A, PLAYER_C);
+        assertThat(result.getEntries()).extracting(LeaderboardEntryDTO::getRank).containsExactly(1, 2, 2);
+        assertThat(result.getEntries().get(0).getCount()).isEqualTo(2);
+        assertThat(result.getEntries().get(0).getFirstName()).isEqualTo("Bob");
+        assertThat(result.getPlayer().getRank()).isEqualTo(2);
+    }
+
+    @Test
+    void getLeaderboard_ShouldReturnOnlyLimitEntries_WhenLimitIsSmallerThanLeaderboard() {
+        // 1. Arrange
+        mockLeague(List.of(
+            new LeaderboardStatRow(1L, GAME_ID, PLAYER_A, GameStatType.RED_CARD),
+            new LeaderboardStatRow(2L, GAME_ID, PLAYER_B, GameStatType.RED_CARD)
+        ));
+        mockNames();
+
+        // 2. Act
+        LeaderboardDTO result = leaderboardService.getLeaderboard(LEAGUE_ID, GameStatType.RED_CARD, 1, null);
+
+        // 3. Assert
+        assertThat(result.getEntries()).hasSize(1);
+        assertThat(result.getPlayer()).isNull();
+    }
+
+    @Test
+    void getLeaderboard_ShouldThrowServiceException_WhenLimitIsOutOfRange() {
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> leaderboardService.getLeaderboard(LEAGUE_ID, GameStatType.GOAL, 0, null))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(ex -> {
+                    ServiceException se = (ServiceException) ex;
+                    assertThat(se.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                    assertThat(se.getErrorKey()).isEqualTo(ClientErrorKey.VALIDATION_FAILED);
+                });
+    }
+
+    @Test
+    void getLeaderboard_ShouldThrowServiceException_WhenLeagueDoesNotExist() {
+        // 1. Arrange
+        when(leagueRepository.existsById(LEAGUE_ID)).thenReturn(false);
+
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> leaderboardService.getLeaderboard(LEAGUE_ID, GameStatType.GOAL, 10, null))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(ex -> {
+                    ServiceException se = (ServiceException) ex;
+                    assertThat(se.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+                    assertThat(se.getErrorKey()).isEqualTo(ClientErrorKey.LEAGUE_NOT_FOUND);
+                });
+    }
+
+    // ─── onGameStatEvent ─────────────────────────────────────────────────────
+
+    @Test
+    void onGameStatEvent_ShouldReorderLeaderboard_WhenStatsAreWritten() {
+        // 1. Arrange
+        mockLeague(List.of(new LeaderboardStatRow(1L, GAME_ID, PLAYER_A, GameStatType.GOAL)));
+        mockNames();
+        leaderboardService.getLeaderboard(LEAGUE_ID, GameStatType.GOAL, 10, null);
+
+        // 2. Act
+        leaderboardService.onGameStatEvent(GameStatEvent.created(goal(2L, PLAYER_B)));
+        leaderboardService.onGameStatEvent(GameStatEvent.created(goal(3L, PLAYER_B)));
+        leaderboardService.onGameStatEvent(GameStatEvent.created(goal(3L, PLAYER_B)));
+        LeaderboardDTO afterCreate = leaderboardService.getLeaderboard(LEAGUE_ID, GameStatType.GOAL, 10, null);
+        leaderboardService.onGameStatEvent(GameStatEvent.deleted(goal(2L, PLAYER_B)));
+        leaderboardService.onGameStatEvent(GameStatEvent.deleted(goal(3L, PLAYER_B)));
+        LeaderboardDTO afterDelete = leaderboardService.getLeaderboard(LEAGUE_ID, GameStatType.GOAL, 10, null);
+
+        // 3. Assert
+        assertThat(afterCreate.getEntries()).extracting(LeaderboardEntryDTO::getPlayerId).containsExactly(PLAYER_B, PLAYER_A);
+        assertThat(afterCreate.getEntries().get(0).getCount()).isEqualTo(2);
+        assertThat(afterDelete.getEntries()).extracting(LeaderboardEntryDTO::getPlayerId).containsExactly(PLAYER_A);
+        verify(leaderboardRepository, times(1)).findStatRowsByLeagueId(LEAGUE_ID);
+    }
+
+    // ─── onGameChanged ───────────────────────────────────────────────────────
+
+    @Test
+    void onGameChanged_ShouldReloadLeaderboards_WhenGameInLeagueChanges() {
+        // 1. Arrange
+        mockLeague(List.of(new LeaderboardStatRow(1L, GAME_ID, PLAYER_A, GameStatType.GOAL)));
+        mockNames();
+        leaderboardService.getLeaderboard(LEAGUE_ID, GameStatType.GOAL, 10, null);
+
+        // 2. Act
+        leaderboardService.onGameChanged(new GameChangedEvent(GAME_ID, 99L));
+        leaderboardService.getLeaderboard(LEAGUE_ID, GameStatType.GOAL, 10, null);
+
+        // 3. Assert
+        verify(leaderboardRepository, times(2)).findStatRowsByLeagueId(LEAGUE_ID);
+    }
+
+    @Test
+    void onGameChanged_ShouldKeepLeaderboards_WhenGameHasNoStatsInThem() {
+        // 1. Arrange
+        mockLeague(List.of(new LeaderboardStatRow(1L, GAME_ID, PLAYER_A, GameStatType.GOAL)));
+        mockNames();
+        leaderboardService.getLeaderboard(LEAGUE_ID, GameStatType.GOAL, 10, null);
+
+        // 2. Act
+        leaderboardService.onGameChanged(new GameChangedEvent(GAME_ID + 1, null));
+        leaderboardService.getLeaderboard(LEAGUE_ID, GameStatType.GOAL, 10, null);
+
+        // 3. Assert
+        verify(leaderboardRepository, times(1)).findStatRowsByLeagueId(LEAGUE_ID);
+    }
+
+    // ─── evictPlayerName ─────────────────────────────────────────────────────
+
+    @Test
+    void evictPlayerName_ShouldReloadName_WhenPlayerIsRenamed() {
+        // 1. Arrange
+        mockLeague(List.of(new LeaderboardStatRow(1L, GAME_ID, PLAYER_A, GameStatType.GOAL)));
+        when(leaderboardRepository.findPlayerNamesByIds(anyCollection()))
+            .thenReturn(List.of(new PlayerNameRow(PLAYER_A, "Ann", "A")))
+            .thenReturn(List.of(new PlayerNameRow(PLAYER_A, "Anna", "A")));
+        leaderboardService.getLeaderboard(LEAGUE_ID, GameStatType.GOAL, 10, null);
+
+        // 2. Act
+        leaderboardService.evictPlayerName(PLAYER_A);
+        LeaderboardDTO result = leaderboardService.getLeaderboard(LEAGUE_ID, GameStatType.GOAL, 10, null);
+
+        // 3. Assert
+        assertThat(result.getEntries().get(0).getFirstName()).isEqualTo("Anna");
+    }
+}
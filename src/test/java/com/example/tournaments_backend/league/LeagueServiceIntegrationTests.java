@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,9 +14,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.tournaments_backend.AbstractIntegrationTest;
+import com.example.tournaments_backend.QueryBudget;
+import com.example.tournaments_backend.StatementCounter;
 import com.example.tournaments_backend.app_user.AppUserRole;
 import com.example.tournaments_backend.exception.ClientErrorKey;
 import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.pagination.CursorPage;
 import com.example.tournaments_backend.player.Player;
 import com.example.tournaments_backend.player.PlayerRepository;
 import com.example.tournaments_backend.player.Position;
@@ -83,7 +87,7 @@ public class LeagueServiceIntegrationTests extends AbstractIntegrationTest {
                 });
     }
 
-    // ─── getLeagues() ─────────────────────────────────────────────────────────
+    // ─── getLeagues(status, limit, after) ─────────────────────────────────────
 
     @Test
     @SuppressWarnings("null")
@@ -99,13 +103,11 @@ public class LeagueServiceIntegrationTests extends AbstractIntegrationTest {
                 .durationInWeeks(8)
                 .build());
 
-        List<League> result = leagueService.getLeagues();
+        List<League> result = leagueService.getLeagues(Optional.empty(), CursorPage.MAX_LIMIT, Optional.of(league1.getId() - 1)).getItems();
 
         assertThat(result).contains(league1, league2);
     }
 
-    // ─── getLeagues(LeagueStatus) ─────────────────────────────────────────────
-
     @Test
     @SuppressWarnings("null")
     void getLeagues_ShouldReturnOnlyNotStartedLeagues_WhenStatusIsNotStarted() {
@@ -120,7 +122,7 @@ public class LeagueServiceIntegrationTests extends AbstractIntegrationTest {
                 .durationInWeeks(4)
                 .build());
 
-        List<League> result = leagueService.getLeagues(LeagueStatus.NOT_STARTED);
+        List<League> result = leagueService.getLeagues(Optional.of(LeagueStatus.NOT_STARTED), CursorPage.MAX_LIMIT, Optional.of(notStarted.getId() - 1)).getItems();
 
         assertThat(result).contains(notStarted);
         assertThat(result).doesNotContain(ended);
@@ -140,7 +142,7 @@ public class LeagueServiceIntegrationTests extends AbstractIntegrationTest {
                 .durationInWeeks(4)
                 .build());
 
-        List<League> result = leagueService.getLeagues(LeagueStatus.IN_PROGRESS);
+        List<League> result = leagueService.getLeagues(Optional.of(LeagueStatus.IN_PROGRESS), CursorPage.MAX_LIMIT, Optional.of(inProgress.getId() - 1)).getItems();
 
         assertThat(result).contains(inProgress);
         assertThat(result).doesNotContain(notStarted);
@@ -160,12 +162,92 @@ public class LeagueServiceIntegrationTests extends AbstractIntegrationTest {
                 .durationInWeeks(8)
                 .build());
 
-        List<League> result = leagueService.getLeagues(LeagueStatus.ENDED);
+        List<League> result = leagueService.getLeagues(Optional.of(LeagueStatus.ENDED), CursorPage.MAX_LIMIT, Optional.of(ended.getId() - 1)).getItems();
 
         assertThat(result).contains(ended);
         assertThat(result).doesNotContain(inProgress);
     }
 
+    @Test
+    @SuppressWarnings("null")
+    void getLeagues_ShouldPageByIdWithNextCursor_WhenMoreLeaguesThanLimit() {
+        League league1 = leagueRepository.save(League.builder()
+                .name("Page 1")
+                .startDate(LocalDate.now().plusWeeks(1))
+                .durationInWeeks(4)
+                .build());
+        League league2 = leagueRepository.save(League.builder()
+                .name("Page 2")
+                .startDate(LocalDate.now().plusWeeks(1))
+                .durationInWeeks(4)
+                .build());
+        League league3 = leagueRepository.save(League.builder()
+                .name("Page 3")
+                .startDate(LocalDate.now().plusWeeks(1))
+                .durationInWeeks(4)
+                .build());
+
+        CursorPage<League> firstPage = leagueService.getLeagues(Optional.empty(), 2, Optional.of(league1.getId() - 1));
+        CursorPage<League> secondPage = leagueService.getLeagues(Optional.empty(), 2, Optional.of(firstPage.getNextCursor()));
+
+        assertThat(firstPage.getItems()).containsExactly(league1, league2);
+        assertThat(firstPage.getNextCursor()).isEqualTo(league2.getId());
+        assertThat(secondPage.getItems()).containsExactly(league3);
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void getLeagues_ShouldPageOnlyInProgressLeagues_WhenStatusIsInProgress() {
+        League inProgress1 = leagueRepository.save(League.builder()
+                .name("IN_PROGRESS 1")
+                .startDate(LocalDate.now().minusWeeks(2))
+                .durationInWeeks(8)
+                .build());
+        leagueRepository.save(League.builder()
+                .name("NOT_STARTED")
+                .startDate(LocalDate.now().plusWeeks(1))
+                .durationInWeeks(4)
+                .build());
+        League inProgress2 = leagueRepository.save(League.builder()
+                .name("IN_PROGRESS 2")
+                .startDate(LocalDate.now().minusWeeks(1))
+                .durationInWeeks(8)
+                .build());
+
+        CursorPage<League> result = leagueService.getLeagues(Optional.of(LeagueStatus.IN_PROGRESS), 1, Optional.of(inProgress1.getId()));
+
+        assertThat(result.getItems()).containsExactly(inProgress2);
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void getLeagues_ShouldUseBoundedNumberOfStatements_WhenLeaguesHaveTeamsAndPlayers(StatementCounter statementCounter) {
+        for (int i = 0; i < 5; i++) {
+            League league = leagueRepository.save(League.builder()
+                    .name("Budget " + i)
+                    .startDate(LocalDate.now().plusWeeks(1))
+                    .durationInWeeks(4)
+                    .build());
+            for (int j = 0; j < 3; j++) {
+                Player player = playerRepository.save(new Player(
+                        "Jane", "Doe", "budget" + i + "-" + j + "@test.com", "password", AppUserRole.PLAYER, Position.STRIKER));
+                Team team = new Team("Budget Team " + i + "-" + j);
+                team.setOwner(player);
+                team.addPlayer(player);
+                league.addTeam(teamRepository.save(team));
+            }
+        }
+
+        // page of league ids, then the leagues with their teams and players
+        CursorPage<LeagueDTO> result = statementCounter.measure(
+            QueryBudget.statements(2).collectionFetches(0),
+            () -> leagueService.getLeagues(Optional.empty(), 5, Optional.empty()).map(LeagueDTO::new)
+        );
+
+        assertThat(result.getItems()).allSatisfy(league -> assertThat(league.getTeams()).isNotEmpty());
+    }
+
     // ─── addTeamToLeague ──────────────────────────────────────────────────────
 
     @Test
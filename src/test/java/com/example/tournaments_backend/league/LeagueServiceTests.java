@@ -3,6 +3,7 @@ package com.example.tournaments_backend.league;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -13,7 +14,10 @@ import java.util.Optional;
 
 import com.example.tournaments_backend.exception.ClientErrorKey;
 import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.pagination.CursorPage;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 
 import com.example.tournaments_backend.team.Team;
@@ -31,6 +35,8 @@ public class LeagueServiceTests {
     private TeamService teamService;
     @Mock
     private LeagueRepository leagueRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private LeagueService leagueService;
 
@@ -100,22 +106,55 @@ public class LeagueServiceTests {
                 .startDate(LocalDate.now().plusWeeks(1))
                 .durationInWeeks(4)
                 .build();
+        league1.setId(1L);
         League league2 = League.builder()
                 .name("League B")
                 .startDate(LocalDate.now().minusWeeks(1))
                 .durationInWeeks(6)
                 .build();
-        List<League> allLeagues = List.of(league1, league2);
+        league2.setId(2L);
+
+        when(leagueRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(leagueRepository.findByIdInOrderByIdAsc(List.of(1L, 2L))).thenReturn(List.of(league1, league2));
+
+        // 2. Act
+        CursorPage<League> result = leagueService.getLeagues(Optional.empty(), 10, Optional.empty());
+
+        // 3. Assert
+        assertThat(result.getItems()).containsExactly(league1, league2);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getLeagues_ShouldReturnNextCursor_WhenMoreLeaguesThanLimit() {
+        // 1. Arrange
+        League league1 = League.builder().name("League A").startDate(LocalDate.now()).durationInWeeks(4).build();
+        league1.setId(1L);
+        League league2 = League.builder().name("League B").startDate(LocalDate.now()).durationInWeeks(4).build();
+        league2.setId(2L);
 
-        when(leagueRepository.findAll()).thenReturn(allLeagues);
+        when(leagueRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(leagueRepository.findByIdInOrderByIdAsc(List.of(1L, 2L))).thenReturn(List.of(league1, league2));
 
         // 2. Act
-        List<League> result = leagueService.getLeagues();
+        CursorPage<League> result = leagueService.getLeagues(Optional.empty(), 1, Optional.empty());
 
         // 3. Assert
-        assertThat(result).hasSize(2);
-        assertThat(result).containsExactlyInAnyOrder(league1, league2);
-        verify(leagueRepository).findAll();
+        assertThat(result.getItems()).containsExactly(league1);
+        assertThat(result.getNextCursor()).isEqualTo(1L);
+    }
+
+    @Test
+    void getLeagues_ShouldThrowServiceException_WhenLimitIsOutOfRange() {
+        // 2. Act & Assert
+        assertThatThrownBy(() -> leagueService.getLeagues(Optional.empty(), CursorPage.MAX_LIMIT + 1, Optional.empty()))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(ex -> {
+                    ServiceException serviceException = (ServiceException) ex;
+                    assertThat(serviceException.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                    assertThat(serviceException.getErrorKey()).isEqualTo(ClientErrorKey.VALIDATION_FAILED);
+                });
+        verify(leagueRepository, never()).findIdsAfter(any(), any());
     }
 
     @Test
@@ -126,16 +165,17 @@ public class LeagueServiceTests {
                 .startDate(LocalDate.now().plusWeeks(1))
                 .durationInWeeks(4)
                 .build();
+        league1.setId(1L);
 
-        when(leagueRepository.findByStartDateAfter(LocalDate.now())).thenReturn(List.of(league1));
+        when(leagueRepository.findNotStartedIdsAfter(eq(LocalDate.now()), eq(0L), any(Pageable.class))).thenReturn(List.of(1L));
+        when(leagueRepository.findByIdInOrderByIdAsc(List.of(1L))).thenReturn(List.of(league1));
 
         // 2. Act
-        List<League> result = leagueService.getLeagues(LeagueStatus.NOT_STARTED);
+        CursorPage<League> result = leagueService.getLeagues(Optional.of(LeagueStatus.NOT_STARTED), 10, Optional.empty());
 
         // 3. Assert
-        assertThat(result).hasSize(1);
-        assertThat(result).containsExactlyInAnyOrder(league1);
-        verify(leagueRepository).findByStartDateAfter(LocalDate.now());
+        assertThat(result.getItems()).containsExactly(league1);
+        verify(leagueRepository).findNotStartedIdsAfter(eq(LocalDate.now()), eq(0L), any(Pageable.class));
     }
 
     @Test
@@ -146,16 +186,17 @@ public class LeagueServiceTests {
                 .startDate(LocalDate.now().minusWeeks(2))
                 .durationInWeeks(4)
                 .build();
+        league1.setId(1L);
 
-        when(leagueRepository.findInProgressLeagues(LocalDate.now())).thenReturn(List.of(league1));
+        when(leagueRepository.findInProgressIdsAfter(eq(LocalDate.now()), eq(0L), any(Pageable.class))).thenReturn(List.of(1L));
+        when(leagueRepository.findByIdInOrderByIdAsc(List.of(1L))).thenReturn(List.of(league1));
 
         // 2. Act
-        List<League> result = leagueService.getLeagues(LeagueStatus.IN_PROGRESS);
+        CursorPage<League> result = leagueService.getLeagues(Optional.of(LeagueStatus.IN_PROGRESS), 10, Optional.empty());
 
         // 3. Assert
-        assertThat(result).hasSize(1);
-        assertThat(result).containsExactlyInAnyOrder(league1);
-        verify(leagueRepository).findInProgressLeagues(LocalDate.now());
+        assertThat(result.getItems()).containsExactly(league1);
+        verify(leagueRepository).findInProgressIdsAfter(eq(LocalDate.now()), eq(0L), any(Pageable.class));
     }
 
     @Test
@@ -166,16 +207,17 @@ public class LeagueServiceTests {
                 .startDate(LocalDate.now().minusWeeks(10))
                 .durationInWeeks(4)
                 .build();
+        league1.setId(1L);
 
-        when(leagueRepository.findEndedLeagues(LocalDate.now())).thenReturn(List.of(league1));
+        when(leagueRepository.findEndedIdsAfter(eq(LocalDate.now()), eq(0L), any(Pageable.class))).thenReturn(List.of(1L));
+        when(leagueRepository.findByIdInOrderByIdAsc(List.of(1L))).thenReturn(List.of(league1));
 
         // 2. Act
-        List<League> result = leagueService.getLeagues(LeagueStatus.ENDED);
+        CursorPage<League> result = leagueService.getLeagues(Optional.of(LeagueStatus.ENDED), 10, Optional.empty());
 
         // 3. Assert
-        assertThat(result).hasSize(1);
-        assertThat(result).containsExactlyInAnyOrder(league1);
-        verify(leagueRepository).findEndedLeagues(LocalDate.now());
+        assertThat(result.getItems()).containsExactly(league1);
+        verify(leagueRepository).findEndedIdsAfter(eq(LocalDate.now()), eq(0L), any(Pageable.class));
     }
 
     @Test
@@ -0,0 +1,177 @@
+package com.example.tournaments_backend.league_export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.tournaments_backend.AbstractIntegrationTest;
+import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.game_stat.GameStat;
+import com.example.tournaments_backend.game_stat.GameStatRepository;
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.league.LeagueRepository;
+import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerRepository;
+import com.example.tournaments_backend.player.Position;
+import com.example.tournaments_backend.team.Team;
+import com.example.tournaments_backend.team.TeamRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+@Transactional
+public class LeagueExportServiceIntegrationTests extends AbstractIntegrationTest {
+
+    @Autowired
+    private LeagueExportService leagueExportService;
+
+    @Autowired
+    private GameStatRepository gameStatRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private LeagueRepository leagueRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Player buildPlayer(String email) {
+        return playerRepository.save(
+            new Player("John", "Doe", email, "password", AppUserRole.PLAYER, Position.STRIKER)
+        );
+    }
+
+    private Team buildTeam(String name, Player player) {
+        Team team = new Team(name);
+        team.setOwner(player);
+        team.addPlayer(player);
+        return teamRepository.save(team);
+    }
+
+    // a league with two teams, one game and the given number of goals, flushed so JDBC reads see it
+    private League buildLeague(int goals) {
+        Player homePlayer = buildPlayer("home@test.com");
+        Player awayPlayer = buildPlayer("away@test.com");
+        Team homeTeam = buildTeam("Home, United", homePlayer);
+        Team awayTeam = buildTeam("Away", awayPlayer);
+        League league = leagueRepository.save(League.builder()
+                .name("Liga")
+                .startDate(LocalDate.of(2025, 6, 1))
+                .durationInWeeks(4)
+                .build());
+        league.addTeam(homeTeam);
+        league.addTeam(awayTeam);
+        Game game = new Game(LocalDateTime.of(2025, 6, 7, 10, 0), "Field 1", 90);
+        game.setLeague(league);
+        game.setHomeTeam(homeTeam);
+        game.setAwayTeam(awayTeam);
+        gameRepository.save(game);
+        for (int i = 0; i < goals; i++) {
+            GameStat gameStat = new GameStat(GameStatType.GOAL, LocalDateTime.of(2025, 6, 7, 10, i));
+            gameStat.setGame(game);
+            gameStat.setPlayer(i % 2 == 0 ? homePlayer : awayPlayer);
+            gameStatRepository.save(gameStat);
+        }
+        entityManager.flush();
+        return league;
+    }
+
+    private String export(Long leagueId, LeagueExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        leagueExportService.export(leagueId, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    // ─── export ──────────────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void export_ShouldWriteOneJsonRecordPerLine_WhenFormatIsNdjson() throws Exception {
+        League league = buildLeague(5);
+
+        String ndjson = export(league.getId(), LeagueExportFormat.NDJSON);
+
+        List<JsonNode> records = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            records.add(objectMapper.readTree(line));
+        }
+        assertThat(ndjson).endsWith("\n");
+        assertThat(records).extracting(record -> record.get("record").asText())
+            .containsExactly("league", "team", "team", "roster", "roster", "game",
+                "gameStat", "gameStat", "gameStat", "gameStat", "gameStat");
+        assertThat(records.get(0).get("id").asLong()).isEqualTo(league.getId());
+        assertThat(records.get(0).get("startDate").asText()).isEqualTo("2025-06-01");
+        assertThat(records.get(5).get("gameDateTime").asText()).isEqualTo("2025-06-07T10:00");
+        assertThat(records.get(6).get("type").asText()).isEqualTo("GOAL");
+        assertThat(records.get(3).get("firstName").asText()).isEqualTo("John");
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void export_ShouldWriteHeaderPerSectionAndQuoteFields_WhenFormatIsCsv() throws Exception {
+        League league = buildLeague(1);
+
+        String csv = export(league.getId(), LeagueExportFormat.CSV);
+
+        String[] lines = csv.split("\r\n");
+        assertThat(lines[0]).isEqualTo("record,id,name,startDate,durationInWeeks");
+        assertThat(lines[1]).isEqualTo("league," + league.getId() + ",Liga,2025-06-01,4");
+        assertThat(lines[2]).isEqualTo("record,id,name");
+        assertThat(csv).contains(",\"Home, United\"\r\n");
+        assertThat(lines[lines.length - 2]).isEqualTo("record,id,gameId,playerId,type,createdAt");
+        assertThat(lines[lines.length - 1]).startsWith("gameStat,").endsWith(",GOAL,2025-06-07T10:00");
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void export_ShouldWriteOnlyHeaders_WhenLeagueHasNoTeams() throws Exception {
+        League league = leagueRepository.save(League.builder()
+                .name("Empty")
+                .startDate(LocalDate.of(2025, 6, 1))
+                .durationInWeeks(4)
+                .build());
+        entityManager.flush();
+
+        String csv = export(league.getId(), LeagueExportFormat.CSV);
+
+        assertThat(csv.split("\r\n")).hasSize(6);
+    }
+
+    // ─── checkLeagueExists ───────────────────────────────────────────────────
+
+    @Test
+    void checkLeagueExists_ShouldThrowNotFound_WhenLeagueDoesNotExist() {
+        ServiceException ex = assertThrows(ServiceException.class, () -> leagueExportService.checkLeagueExists(999_999L));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.LEAGUE_NOT_FOUND);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.tournaments_backend.league_import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvImportReaderTests {
+
+    private static CsvImportReader reader(String csv) {
+        return new CsvImportReader(new BufferedReader(new StringReader(csv)));
+    }
+
+    // ─── next ────────────────────────────────────────────────────────────────
+
+    @Test
+    void next_ShouldUseColumnsOfLatestHeader() throws Exception {
+        // 1. Arrange
+        CsvImportReader reader = reader(
+            "record,email,firstName\r\n" +
+            "player,jane@test.com,Jane\r\n" +
+            "record,name,ownerEmail\r\n" +
+            "team,Tigers,jane@test.com\r\n");
+
+        // 2. Act
+        ImportRow player = reader.next();
+        ImportRow team = reader.next();
+        ImportRow end = reader.next();
+
+        // 3. Assert
+        assertThat(player.getRecord()).isEqualTo("player");
+        assertThat(player.getLine()).isEqualTo(2);
+        assertThat(player.get("firstName")).isEqualTo("Jane");
+        assertThat(team.getRecord()).isEqualTo("team");
+        assertThat(team.getLine()).isEqualTo(4);
+        assertThat(team.get("ownerEmail")).isEqualTo("jane@test.com");
+        assertThat(end).isNull();
+    }
+
+    @Test
+    void next_ShouldReadQuotedFieldsWithCommasQuotesAndLineBreaks() throws Exception {
+        // 1. Arrange
+        CsvImportReader reader = reader(
+            "record,name,address\n" +
+            "game,\"Home, United\",\"Field \"\"A\"\"\n2nd floor\"\n" +
+            "game,Away,Field B\n");
+
+        // 2. Act
+        ImportRow first = reader.next();
+        ImportRow second = reader.next();
+
+        // 3. Assert
+        assertThat(first.get("name")).isEqualTo("Home, United");
+        assertThat(first.get("address")).isEqualTo("Field \"A\"\n2nd floor");
+        assertThat(second.getLine()).isEqualTo(4);
+    }
+
+    @Test
+    void next_ShouldReadBlankFieldsAsNull() throws Exception {
+        // 1. Arrange
+        CsvImportReader reader = reader("record,email,position\nplayer,jane@test.com, \n");
+
+        // 2. Act
+        ImportRow row = reader.next();
+
+        // 3. Assert
+        assertThat(row.get("position")).isNull();
+    }
+
+    @Test
+    void next_ShouldThrowAndContinue_WhenRowHasWrongNumberOfFields() throws Exception {
+        // 1. Arrange
+        CsvImportReader reader = reader("record,name\nteam,Tigers,extra\nteam,Lions\n");
+
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> reader.next())
+                .isInstanceOf(ImportParseException.class)
+                .satisfies(ex -> assertThat(((ImportParseException) ex).getLine()).isEqualTo(2));
+        assertThat(reader.next().get("name")).isEqualTo("Lions");
+    }
+
+    @Test
+    void next_ShouldThrow_WhenRowComesBeforeHeader() {
+        // 1. Arrange
+        CsvImportReader reader = reader("team,Tigers\n");
+
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> reader.next())
+                .isInstanceOf(ImportParseException.class)
+                .hasMessageContaining("header");
+    }
+}
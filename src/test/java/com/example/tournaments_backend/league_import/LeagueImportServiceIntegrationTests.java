@@ -0,0 +1,190 @@
+package com.example.tournaments_backend.league_import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.tournaments_backend.AbstractIntegrationTest;
+import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.league_export.LeagueExportFormat;
+import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerRepository;
+import com.example.tournaments_backend.player.Position;
+import com.example.tournaments_backend.team.Team;
+
+import jakarta.persistence.EntityManager;
+
+@Transactional
+public class LeagueImportServiceIntegrationTests extends AbstractIntegrationTest {
+
+    @Autowired
+    private LeagueImportService leagueImportService;
+
+    @Autowired
+    private LeagueImportRepository leagueImportRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private LeagueImportReportDTO importFile(String content, LeagueExportFormat format, boolean dryRun) throws Exception {
+        LeagueImportReportDTO report = leagueImportService.importFile(
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, dryRun);
+        entityManager.clear();
+        return report;
+    }
+
+    private Long idByKey(List<NaturalKeyRow> rows) {
+        assertThat(rows).hasSize(1);
+        return rows.get(0).getId();
+    }
+
+    // ─── importFile ──────────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void importFile_ShouldCreateEverything_WhenCsvIsValid() throws Exception {
+        String csv =
+            "record,email,firstName,lastName,position\r\n" +
+            "player,owner@import.com,Olga,Owner,GOAL_KEEPER\r\n" +
+            "player,member@import.com,Max,Member,STRIKER\r\n" +
+            "record,name,ownerEmail\r\n" +
+            "team,Import Home,owner@import.com\r\n" +
+            "team,Import Away,member@import.com\r\n" +
+            "record,teamName,playerEmail\r\n" +
+            "roster,Import Home,member@import.com\r\n" +
+            "record,name,startDate,durationInWeeks\r\n" +
+            "league,Import League,2025-06-01,8\r\n" +
+            "record,leagueName,teamName\r\n" +
+            "leagueTeam,Import League,Import Home\r\n" +
+            "leagueTeam,Import League,Import Away\r\n" +
+            "record,leagueName,homeTeamName,awayTeamName,gameDateTime,address,durationInMinutes\r\n" +
+            "game,Import League,Import Home,Import Away,2025-06-07T10:00,\"Field 1, North\",90\r\n";
+
+        LeagueImportReportDTO report = importFile(csv, LeagueExportFormat.CSV, false);
+
+        assertThat(report.getErrorCount()).isZero();
+        assertThat(report.getRowsRead()).isEqualTo(9);
+        assertThat(report.getPlayers()).isEqualTo(2);
+        assertThat(report.getTeams()).isEqualTo(2);
+        assertThat(report.getRosterEntries()).isEqualTo(1);
+        assertThat(report.getLeagues()).isEqualTo(1);
+        assertThat(report.getLeagueTeams()).isEqualTo(2);
+        assertThat(report.getGames()).isEqualTo(1);
+
+        Team home = entityManager.find(Team.class, idByKey(leagueImportRepository.findTeamKeysByNames(List.of("Import Home"))));
+        assertThat(home.getOwner().getEmail()).isEqualTo("owner@import.com");
+        assertThat(home.getOwner().isEnabled()).isFalse();
+        assertThat(home.getPlayers()).extracting(Player::getEmail)
+            .containsExactlyInAnyOrder("owner@import.com", "member@import.com");
+        League league = entityManager.find(League.class, idByKey(leagueImportRepository.findLeagueKeysByNames(List.of("Import League"))));
+        assertThat(league.getTeams()).extracting(Team::getName).containsExactlyInAnyOrder("Import Home", "Import Away");
+        assertThat(league.getGames()).singleElement().satisfies(game -> {
+            assertThat(game.getAddress()).isEqualTo("Field 1, North");
+            assertThat(game.getHomeTeam().getName()).isEqualTo("Import Home");
+        });
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void importFile_ShouldReportBadRowsAndImportTheRest_WhenNdjsonHasErrors() throws Exception {
+        playerRepository.save(new Player("Ex", "Isting", "existing@import.com", "password", AppUserRole.PLAYER, Position.STRIKER));
+        entityManager.flush();
+        String ndjson =
+            "{\"record\":\"player\",\"email\":\"existing@import.com\",\"firstName\":\"Ex\",\"lastName\":\"Isting\"}\n" +
+            "{\"record\":\"player\",\"email\":\"new@import.com\",\"firstName\":\"New\",\"lastName\":\"Player\",\"position\":\"DEFENDER\"}\n" +
+            "not json\n" +
+            "{\"record\":\"team\",\"name\":\"Ndjson Team\",\"ownerEmail\":\"existing@import.com\"}\n" +
+            "{\"record\":\"team\",\"name\":\"Orphan Team\",\"ownerEmail\":\"nobody@import.com\"}\n" +
+            "{\"record\":\"roster\",\"teamName\":\"Ndjson Team\",\"playerEmail\":\"new@import.com\"}\n" +
+            "{\"record\":\"roster\",\"teamName\":\"Orphan Team\",\"playerEmail\":\"new@import.com\"}\n" +
+            "{\"record\":\"league\",\"name\":\"Ndjson League\",\"startDate\":\"2025-06-01\",\"durationInWeeks\":0}\n";
+
+        LeagueImportReportDTO report = importFile(ndjson, LeagueExportFormat.NDJSON, false);
+
+        assertThat(report.getRowsRead()).isEqualTo(8);
+        assertThat(report.getPlayers()).isEqualTo(1);
+        assertThat(report.getTeams()).isEqualTo(1);
+        assertThat(report.getRosterEntries()).isEqualTo(1);
+        assertThat(report.getLeagues()).isZero();
+        assertThat(report.getErrorCount()).isEqualTo(5);
+        assertThat(report.getErrors()).extracting(ImportErrorDTO::getLine).containsExactlyInAnyOrder(1L, 3L, 5L, 7L, 8L);
+        assertThat(report.getErrors()).extracting(ImportErrorDTO::getMessage)
+            .contains("A user with email existing@import.com already exists", "Player nobody@import.com not found", "Team Orphan Team not found");
+
+        Team team = entityManager.find(Team.class, idByKey(leagueImportRepository.findTeamKeysByNames(List.of("Ndjson Team"))));
+        assertThat(team.getPlayers()).extracting(Player::getEmail).containsExactlyInAnyOrder("existing@import.com", "new@import.com");
+        assertThat(leagueImportRepository.findTeamKeysByNames(List.of("Orphan Team"))).isEmpty();
+    }
+
+    @Test
+    void importFile_ShouldRejectRepeatedNames_WhenFileDefinesTeamTwice() throws Exception {
+        String csv =
+            "record,email,firstName,lastName,position\n" +
+            "player,twice@import.com,Tom,Twice,\n" +
+            "record,name,ownerEmail\n" +
+            "team,Twice Team,twice@import.com\n" +
+            "team,Twice Team,twice@import.com\n";
+
+        LeagueImportReportDTO report = importFile(csv, LeagueExportFormat.CSV, false);
+
+        assertThat(report.getTeams()).isEqualTo(1);
+        assertThat(report.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(5);
+            assertThat(error.getMessage()).isEqualTo("name Twice Team is already used on line 4");
+        });
+    }
+
+    @Test
+    void importFile_ShouldWriteNothing_WhenDryRun() throws Exception {
+        String csv =
+            "record,email,firstName,lastName,position\n" +
+            "player,dry@import.com,Dee,Dry,MIDFIELDER\n" +
+            "record,name,ownerEmail\n" +
+            "team,Dry Team,dry@import.com\n";
+
+        LeagueImportReportDTO report = importFile(csv, LeagueExportFormat.CSV, true);
+
+        assertThat(report.isDryRun()).isTrue();
+        assertThat(report.getPlayers()).isEqualTo(1);
+        assertThat(report.getTeams()).isEqualTo(1);
+        assertThat(leagueImportRepository.findUserKeysByEmails(List.of("dry@import.com"))).isEmpty();
+        assertThat(leagueImportRepository.findTeamKeysByNames(List.of("Dry Team"))).isEmpty();
+    }
+
+    @Test
+    void importFile_ShouldReportClashingGamesAsRowErrors_WhenDryRun() throws Exception {
+        String kickOff = ZonedDateTime.now(ZoneId.of("America/Los_Angeles")).toLocalDate().plusDays(7) + "T10:00";
+        String csv =
+            "record,email,firstName,lastName,position\n" +
+            "player,clash@import.com,Cleo,Clash,STRIKER\n" +
+            "record,name,ownerEmail\n" +
+            "team,Clash Home,clash@import.com\n" +
+            "team,Clash Away,clash@import.com\n" +
+            "team,Clash Third,clash@import.com\n" +
+            "record,name,startDate,durationInWeeks\n" +
+            "league,Clash League,2025-06-01,8\n" +
+            "record,leagueName,homeTeamName,awayTeamName,gameDateTime,address,durationInMinutes\n" +
+            "game,Clash League,Clash Home,Clash Away," + kickOff + ",Field 1,90\n" +
+            "game,Clash League,Clash Third,Clash Away," + kickOff + ",Field 2,90\n";
+
+        LeagueImportReportDTO report = importFile(csv, LeagueExportFormat.CSV, true);
+
+        assertThat(report.getGames()).isEqualTo(1);
+        assertThat(report.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(11);
+            assertThat(error.getMessage()).isEqualTo("Team Clash Away plays the game on line 10 at that time");
+        });
+    }
+}
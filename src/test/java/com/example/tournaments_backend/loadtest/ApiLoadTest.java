@@ -0,0 +1,324 @@
+package com.example.tournaments_backend.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.loadtest.LatencyRecorder.EndpointStats;
+import com.example.tournaments_backend.loadtest.LoadTestSeeder.SeedData;
+import com.example.tournaments_backend.loadtest.LoadTestSeeder.SeededStat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * End-to-end load test of the REST API against Postgres and a MailDev SMTP stand-in,
+ * both in Testcontainers. Tagged "load" and only run with the load-test profile:
+ *
+ *   ./mvnw -Pload-test test -Dloadtest.duration=60 -Dloadtest.concurrency=32
+ *
+ * Each scenario prints p50/p99 latency and throughput per endpoint and writes them
+ * to target/load-test/<scenario>.csv.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ApiLoadTest {
+    private final static Logger LOGGER = LoggerFactory.getLogger(ApiLoadTest.class);
+    private static final String PASSWORD = "password";
+    private static final String ADMIN_EMAIL = "admin@example.com";
+    private static final String ADMIN_PASSWORD = "admin123";
+
+    static final PostgreSQLContainer<?> postgres;
+    static final GenericContainer<?> maildev;
+
+    static {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        maildev = new GenericContainer<>("maildev/maildev:2.2.1")
+                .withExposedPorts(1025, 1080)
+                .waitingFor(Wait.forListeningPort());
+        maildev.start();
+    }
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> 20);
+        registry.add("spring.mail.host", maildev::getHost);
+        registry.add("spring.mail.port", () -> maildev.getMappedPort(1025));
+        registry.add("spring.mail.properties.mail.smtp.auth", () -> false);
+        registry.add("spring.mail.properties.mail.smtp.starttls.enable", () -> false);
+        // SQL and bind logging would dominate the measurements
+        registry.add("spring.jpa.show-sql", () -> false);
+        registry.add("logging.level.org.hibernate.orm.jdbc.bind", () -> "info");
+        registry.add("logging.level.org.hibernate.state", () -> "info");
+        registry.add("logging.level.org.springframework.security", () -> "info");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BCryptPasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private SeedData seedData;
+    private String adminToken;
+    private List<String> playerTokens;
+
+    @BeforeAll
+    void seed() throws Exception {
+        LoadTestVolumes volumes = LoadTestVolumes.fromSystemProperties();
+        seedData = new LoadTestSeeder(jdbcTemplate, volumes).seed(passwordEncoder.encode(PASSWORD));
+        adminToken = login(ADMIN_EMAIL, ADMIN_PASSWORD);
+        playerTokens = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            playerTokens.add(login(randomPlayerEmail(), PASSWORD));
+        }
+    }
+
+    @Test
+    void readMostly() throws Exception {
+        List<Operation> mix = List.of(
+            new Operation("GET /gamestats", 35, this::getGameStats),
+            new Operation("GET /leagues", 25, this::getLeagues),
+            new Operation("GET /teams", 25, this::getTeams),
+            new Operation("POST /auth/login", 5, this::postLogin),
+            new Operation("POST /gamestats", 7, this::postGameStat),
+            new Operation("PUT /gamestats/batchUpdate", 3, this::putGameStats)
+        );
+        run("read-mostly", mix);
+    }
+
+    @Test
+    void writeHeavy() throws Exception {
+        List<Operation> mix = List.of(
+            new Operation("POST /gamestats", 40, this::postGameStat),
+            new Operation("PUT /gamestats/batchUpdate", 20, this::putGameStats),
+            new Operation("GET /gamestats", 20, this::getGameStats),
+            new Operation("GET /leagues", 10, this::getLeagues),
+            new Operation("POST /auth/login", 10, this::postLogin)
+        );
+        run("write-heavy", mix);
+    }
+
+    // ─── scenario driver ──────────────────────────────────────────────────────
+
+    @FunctionalInterface
+    private interface Call {
+        HttpResponse<String> send() throws IOException, InterruptedException;
+    }
+
+    private record Operation(String endpoint, int weight, Call call) {}
+
+    private void run(String scenario, List<Operation> mix) throws Exception {
+        int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        long durationSeconds = Long.getLong("loadtest.duration", 60L);
+        int totalWeight = mix.stream().mapToInt(Operation::weight).sum();
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = pick(mix, totalWeight);
+                        long sent = System.nanoTime();
+                        boolean success;
+                        try {
+                            success = operation.call().send().statusCode() < 400;
+                        }
+                        catch (IOException e) {
+                            success = false;
+                        }
+                        recorder.record(operation.endpoint(), System.nanoTime() - sent, success);
+                    }
+                    return null;
+                });
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        List<EndpointStats> stats = recorder.summarize(elapsedSeconds);
+        report(scenario, concurrency, stats);
+        assertThat(stats).isNotEmpty();
+    }
+
+    private static Operation pick(List<Operation> mix, int totalWeight) {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : mix) {
+            roll -= operation.weight();
+            if (roll < 0) return operation;
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    private void report(String scenario, int concurrency, List<EndpointStats> stats) throws IOException {
+        StringBuilder table = new StringBuilder()
+                .append("\nLoad test '").append(scenario).append("' with ").append(concurrency).append(" clients\n")
+                .append(String.format("%-28s %8s %6s %10s %10s %10s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms"));
+        List<String> csv = new ArrayList<>();
+        csv.add("endpoint,requests,errors,throughput,p50_ms,p99_ms");
+        for (EndpointStats endpointStats : stats) {
+            table.append(endpointStats).append('\n');
+            csv.add(endpointStats.toCsv());
+        }
+        LOGGER.info("{}", table);
+        Path reportDir = Path.of("target", "load-test");
+        Files.createDirectories(reportDir);
+        Files.write(reportDir.resolve(scenario + ".csv"), csv);
+    }
+
+    // ─── operations ───────────────────────────────────────────────────────────
+
+    private HttpResponse<String> getGameStats() throws IOException, InterruptedException {
+        long gameId = random(seedData.gameIds());
+        return send(get("/api/v1/gamestats?gameId=" + gameId + "&limit=50", randomPlayerToken()));
+    }
+
+    private HttpResponse<String> getLeagues() throws IOException, InterruptedException {
+        long after = random(seedData.leagueIds()) - 1;
+        return send(get("/api/v1/leagues?limit=20&after=" + after, randomPlayerToken()));
+    }
+
+    private HttpResponse<String> getTeams() throws IOException, InterruptedException {
+        return send(get("/api/v1/teams", randomPlayerToken()));
+    }
+
+    private HttpResponse<String> postLogin() throws IOException, InterruptedException {
+        return send(post("/api/v1/auth/login", null, Map.of("email", randomPlayerEmail(), "password", PASSWORD)));
+    }
+
+    private HttpResponse<String> postGameStat() throws IOException, InterruptedException {
+        SeededStat stat = random(seedData.activeGameStats());
+        Map<String, Object> body = Map.of(
+            "gameId", stat.gameId(),
+            "playerId", stat.playerId(),
+            "type", randomType(),
+            "createdAt", now()
+        );
+        return send(post("/api/v1/gamestats", adminToken, body));
+    }
+
+    private HttpResponse<String> putGameStats() throws IOException, InterruptedException {
+        List<Map<String, Object>> body = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            SeededStat stat = random(seedData.activeGameStats());
+            body.add(Map.of(
+                "id", stat.id(),
+                "gameId", stat.gameId(),
+                "playerId", stat.playerId(),
+                "type", randomType(),
+                "createdAt", now()
+            ));
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/gamestats/batchUpdate"))
+                .header("Authorization", "Bearer " + adminToken)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        return send(request);
+    }
+
+    // ─── helpers ──────────────────────────────────────────────────────────────
+
+    private String login(String email, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(post("/api/v1/auth/login", null, Map.of("email", email, "password", password)));
+        assertThat(response.statusCode()).as("login of " + email).isEqualTo(200);
+        return objectMapper.readTree(response.body()).path("tokens").path("accessToken").asText();
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private String randomPlayerEmail() {
+        return random(seedData.playerEmails());
+    }
+
+    private String randomPlayerToken() {
+        return random(playerTokens);
+    }
+
+    private static String randomType() {
+        GameStatType[] types = GameStatType.values();
+        return types[ThreadLocalRandom.current().nextInt(types.length)].name();
+    }
+
+    private static String now() {
+        return ZonedDateTime.now(ZoneId.of("America/Los_Angeles")).toLocalDateTime().withNano(0).toString();
+    }
+
+    private static <T> T random(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.tournaments_backend.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects request latencies per endpoint and summarizes them as p50/p99 and throughput.
+ */
+public class LatencyRecorder {
+    private final Map<String, Samples> samplesByEndpoint = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        samplesByEndpoint.computeIfAbsent(endpoint, key -> new Samples()).add(latencyNanos, success);
+    }
+
+    public List<EndpointStats> summarize(double elapsedSeconds) {
+        List<EndpointStats> stats = new ArrayList<>();
+        new TreeMap<>(samplesByEndpoint).forEach((endpoint, samples) -> stats.add(samples.summarize(endpoint, elapsedSeconds)));
+        return stats;
+    }
+
+    public record EndpointStats(String endpoint, int requests, int errors, double throughput, double p50Millis, double p99Millis) {
+        public String toCsv() {
+            return String.format("%s,%d,%d,%.1f,%.2f,%.2f", endpoint, requests, errors, throughput, p50Millis, p99Millis);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-28s %8d %6d %10.1f %10.2f %10.2f", endpoint, requests, errors, throughput, p50Millis, p99Millis);
+        }
+    }
+
+    private static class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private int errors;
+
+        synchronized void add(long latencyNanos, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (!success) errors++;
+        }
+
+        synchronized EndpointStats summarize(String endpoint, double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new EndpointStats(
+                endpoint,
+                size,
+                errors,
+                size / elapsedSeconds,
+                percentile(sorted, 0.50) / 1_000_000.0,
+                percentile(sorted, 0.99) / 1_000_000.0
+            );
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)];
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.tournaments_backend.loadtest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.player.Position;
+
+/**
+ * Seeds the load test volumes with batched JDBC inserts. Seeded rows use ids from
+ * {@link #ID_BASE} up, far above what the sequences hand out during a run, so they
+ * never collide with rows the API creates.
+ */
+public class LoadTestSeeder {
+    static final long ID_BASE = 1_000_000_000L;
+    private static final int BATCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestVolumes volumes;
+
+    public LoadTestSeeder(JdbcTemplate jdbcTemplate, LoadTestVolumes volumes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.volumes = volumes;
+    }
+
+    public record SeededStat(long id, long gameId, long playerId) {}
+
+    public record SeedData(List<String> playerEmails, List<Long> leagueIds, List<Long> gameIds, List<SeededStat> activeGameStats) {}
+
+    public static String playerEmail(int index) {
+        return "load-player-" + index + "@test.com";
+    }
+
+    public SeedData seed(String passwordHash) {
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("America/Los_Angeles")).toLocalDateTime();
+        int playersPerTeam = volumes.playersPerTeam();
+        int teamsPerLeague = volumes.teamsPerLeague();
+
+        List<String> playerEmails = new ArrayList<>();
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> players = new ArrayList<>();
+        Position[] positions = Position.values();
+        for (int i = 0; i < volumes.players(); i++) {
+            playerEmails.add(playerEmail(i));
+            users.add(new Object[] { ID_BASE + i, "First" + i, "Last" + i, playerEmail(i), passwordHash, "PLAYER", false, true });
+            players.add(new Object[] { ID_BASE + i, positions[i % positions.length].name() });
+        }
+        insert("INSERT INTO app_user (id, first_name, last_name, email, password, app_user_role, locked, enabled) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", users);
+        insert("INSERT INTO player (player_id, position) VALUES (?, ?)", players);
+
+        List<Object[]> teams = new ArrayList<>();
+        List<Object[]> members = new ArrayList<>();
+        for (int t = 0; t < volumes.teams(); t++) {
+            teams.add(new Object[] { ID_BASE + t, ID_BASE + (long) t * playersPerTeam, "Load Team " + t });
+            for (int p = 0; p < playersPerTeam; p++) {
+                members.add(new Object[] { ID_BASE + (long) t * playersPerTeam + p, ID_BASE + t });
+            }
+        }
+        insert("INSERT INTO team (id, owner_id, name) VALUES (?, ?, ?)", teams);
+        insert("INSERT INTO team_player (player_id, team_id) VALUES (?, ?)", members);
+
+        List<Long> leagueIds = new ArrayList<>();
+        List<Object[]> leagues = new ArrayList<>();
+        List<Object[]> leagueTeams = new ArrayList<>();
+        for (int l = 0; l < volumes.leagues(); l++) {
+            leagueIds.add(ID_BASE + l);
+            leagues.add(new Object[] { ID_BASE + l, "Load League " + l, LocalDate.now().minusWeeks(2), 10 });
+            for (int t = 0; t < teamsPerLeague; t++) {
+                leagueTeams.add(new Object[] { ID_BASE + l, ID_BASE + (long) l * teamsPerLeague + t });
+            }
+        }
+        insert("INSERT INTO league (id, name, start_date, duration_in_weeks) VALUES (?, ?, ?, ?)", leagues);
+        insert("INSERT INTO league_team (league_id, team_id) VALUES (?, ?)", leagueTeams);
+
+        List<Long> gameIds = new ArrayList<>();
+        List<SeededStat> activeGameStats = new ArrayList<>();
+        List<Object[]> games = new ArrayList<>();
+        List<Object[]> stats = new ArrayList<>();
+        GameStatType[] types = GameStatType.values();
+        long statId = ID_BASE;
+        for (int l = 0; l < volumes.leagues(); l++) {
+            for (int g = 0; g < LoadTestVolumes.GAMES_PER_LEAGUE; g++) {
+                long gameId = ID_BASE + (long) l * LoadTestVolumes.GAMES_PER_LEAGUE + g;
+                int home = l * teamsPerLeague + g % teamsPerLeague;
+                int away = l * teamsPerLeague + (g % teamsPerLeague + 1 + (g / teamsPerLeague) % (teamsPerLeague - 1)) % teamsPerLeague;
+                boolean active = g < LoadTestVolumes.ACTIVE_GAMES_PER_LEAGUE;
+                // active games stay active for the whole run, the others have ended
+                LocalDateTime start = active ? now.minusMinutes(10) : now.minusDays(g + 1);
+                int duration = active ? 12 * 60 : 90;
+                games.add(new Object[] { gameId, ID_BASE + l, ID_BASE + home, ID_BASE + away, start, "Field " + g, duration });
+                gameIds.add(gameId);
+
+                for (int s = 0; s < volumes.statsPerGame(); s++) {
+                    int team = s % 2 == 0 ? home : away;
+                    long playerId = ID_BASE + (long) team * playersPerTeam + (s / 2) % playersPerTeam;
+                    stats.add(new Object[] { statId, types[s % types.length].name(), start.plusMinutes(s % 90), gameId, playerId });
+                    if (active) {
+                        activeGameStats.add(new SeededStat(statId, gameId, playerId));
+                    }
+                    statId++;
+                }
+            }
+        }
+        insert("INSERT INTO game (id, league_id, home_team_id, away_team_id, game_date_time, address, duration_in_minutes) VALUES (?, ?, ?, ?, ?, ?, ?)", games);
+        insert("INSERT INTO game_stat (id, type, created_at, game_id, player_id) VALUES (?, ?, ?, ?, ?)", stats);
+
+        return new SeedData(playerEmails, leagueIds, gameIds, activeGameStats);
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+}
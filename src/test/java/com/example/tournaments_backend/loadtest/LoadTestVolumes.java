@@ -0,0 +1,35 @@
+package com.example.tournaments_backend.loadtest;
+
+/**
+ * How much data the load test seeds. Defaults can be overridden with
+ * -Dloadtest.players, -Dloadtest.teams, -Dloadtest.leagues and -Dloadtest.gameStats.
+ */
+public record LoadTestVolumes(int players, int teams, int leagues, int gameStats) {
+    static final int GAMES_PER_LEAGUE = 20;
+    static final int ACTIVE_GAMES_PER_LEAGUE = 5;
+
+    public static LoadTestVolumes fromSystemProperties() {
+        return new LoadTestVolumes(
+            Integer.getInteger("loadtest.players", 10_000),
+            Integer.getInteger("loadtest.teams", 500),
+            Integer.getInteger("loadtest.leagues", 50),
+            Integer.getInteger("loadtest.gameStats", 100_000)
+        );
+    }
+
+    public int playersPerTeam() {
+        return players / teams;
+    }
+
+    public int teamsPerLeague() {
+        return teams / leagues;
+    }
+
+    public int games() {
+        return leagues * GAMES_PER_LEAGUE;
+    }
+
+    public int statsPerGame() {
+        return gameStats / games();
+    }
+}
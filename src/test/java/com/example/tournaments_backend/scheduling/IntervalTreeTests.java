@@ -0,0 +1,99 @@
+package com.example.tournaments_backend.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IntervalTreeTests {
+
+    private static List<Long> overlaps(IntervalTree tree, long start, long end, long excludeId) {
+        List<Long> ids = new ArrayList<>();
+        tree.forEachOverlap(start, end, excludeId, ids::add);
+        return ids;
+    }
+
+    // ─── forEachOverlap ──────────────────────────────────────────────────────
+
+    @Test
+    void forEachOverlap_ShouldTreatIntervalsAsHalfOpen() {
+        // 1. Arrange
+        IntervalTree tree = new IntervalTree();
+        tree.insert(100, 190, 1);
+
+        // 2. Act & 3. Assert
+        assertThat(overlaps(tree, 190, 280, -1)).isEmpty();
+        assertThat(overlaps(tree, 10, 100, -1)).isEmpty();
+        assertThat(overlaps(tree, 189, 280, -1)).containsExactly(1L);
+        assertThat(overlaps(tree, 120, 130, -1)).containsExactly(1L);
+    }
+
+    @Test
+    void forEachOverlap_ShouldSkipExcludedId() {
+        // 1. Arrange
+        IntervalTree tree = new IntervalTree();
+        tree.insert(100, 190, 1);
+        tree.insert(150, 240, 2);
+
+        // 2. Act & 3. Assert
+        assertThat(overlaps(tree, 160, 170, 1)).containsExactly(2L);
+    }
+
+    @Test
+    void forEachOverlap_ShouldMatchLinearScan_AfterRandomInsertsAndRemoves() {
+        // 1. Arrange
+        Random random = new Random(7);
+        IntervalTree tree = new IntervalTree();
+        Map<Long, long[]> live = new HashMap<>();
+        List<Long> ids = new ArrayList<>();
+
+        for (long id = 1; id <= 5_000; id++) {
+            // 2. Act
+            long start = random.nextInt(50_000);
+            long end = start + 20 + random.nextInt(70);
+            tree.insert(start, end, id);
+            live.put(id, new long[] {start, end});
+            ids.add(id);
+            if (random.nextInt(3) == 0) {
+                Long removed = ids.remove(random.nextInt(ids.size()));
+                assertThat(tree.remove(live.remove(removed)[0], removed)).isTrue();
+            }
+
+            // 3. Assert
+            if (id % 50 == 0) {
+                long queryStart = random.nextInt(50_000);
+                long queryEnd = queryStart + 1 + random.nextInt(200);
+                List<Long> expected = new ArrayList<>();
+                long latestEnd = Long.MIN_VALUE;
+                for (Map.Entry<Long, long[]> entry : live.entrySet()) {
+                    if (entry.getValue()[0] < queryEnd && entry.getValue()[1] > queryStart) {
+                        expected.add(entry.getKey());
+                        latestEnd = Math.max(latestEnd, entry.getValue()[1]);
+                    }
+                }
+                assertThat(overlaps(tree, queryStart, queryEnd, -1)).containsExactlyInAnyOrderElementsOf(expected);
+                assertThat(tree.latestOverlapEnd(queryStart, queryEnd, -1)).isEqualTo(latestEnd);
+                assertThat(tree.size()).isEqualTo(live.size());
+            }
+        }
+    }
+
+    // ─── remove ──────────────────────────────────────────────────────────────
+
+    @Test
+    void remove_ShouldReturnFalse_WhenBookingIsMissing() {
+        // 1. Arrange
+        IntervalTree tree = new IntervalTree();
+        tree.insert(100, 190, 1);
+
+        // 2. Act & 3. Assert
+        assertThat(tree.remove(100, 2)).isFalse();
+        assertThat(tree.remove(100, 1)).isTrue();
+        assertThat(tree.size()).isZero();
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.tournaments_backend.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameChangedEvent;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.league.LeagueChangedEvent;
+import com.example.tournaments_backend.league.LeagueRepository;
+import com.example.tournaments_backend.team.Team;
+
+@ExtendWith(MockitoExtension.class)
+public class SchedulingServiceTests {
+    private static final Long LEAGUE_ID = 1L;
+    private static final Long OTHER_LEAGUE_ID = 2L;
+    private static final Long TEAM_A = 10L;
+    private static final Long TEAM_B = 20L;
+    private static final Long TEAM_C = 30L;
+    private static final Long TEAM_D = 40L;
+    private static final LocalDateTime KICK_OFF = ZonedDateTime.now(ZoneId.of("America/Los_Angeles"))
+        .toLocalDateTime().plusDays(7).withHour(10).withMinute(0).withSecond(0).withNano(0);
+
+    @Mock
+    private SchedulingRepository schedulingRepository;
+    @Mock
+    private LeagueRepository leagueRepository;
+
+    private SchedulingService schedulingService;
+
+    @BeforeEach
+    void setUp() {
+        schedulingService = new SchedulingService(schedulingRepository, leagueRepository);
+    }
+
+    private static ScheduleBookingRow row(Long gameId, Long leagueId, String address, Long homeTeamId, Long awayTeamId, LocalDateTime start) {
+        return new ScheduleBookingRow(gameId, leagueId, address, homeTeamId, awayTeamId, start, 90);
+    }
+
+    private static Game game(Long gameId, String address, Long homeTeamId, Long awayTeamId, LocalDateTime start) {
+        League league = League.builder().name("League").build();
+        league.setId(LEAGUE_ID);
+        Team homeTeam = new Team("Home");
+        homeTeam.setId(homeTeamId);
+        Team awayTeam = new Team("Away");
+        awayTeam.setId(awayTeamId);
+        Game game = new Game(start, address, 90);
+        game.setId(gameId);
+        game.setLeague(league);
+        game.setHomeTeam(homeTeam);
+        game.setAwayTeam(awayTeam);
+        return game;
+    }
+
+    private void load(ScheduleBookingRow... rows) {
+        when(schedulingRepository.findBookingRowsFrom(any())).thenReturn(List.of(rows));
+        schedulingService.load();
+    }
+
+    // ─── reserve ─────────────────────────────────────────────────────────────
+
+    @Test
+    void reserve_ShouldThrowConflict_WhenVenueIsBooked() {
+        // 1. Arrange
+        load(row(1L, LEAGUE_ID, "Field 1", TEAM_A, TEAM_B, KICK_OFF));
+
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> schedulingService.reserve(game(2L, "Field 1", TEAM_C, TEAM_D, KICK_OFF.plusMinutes(60))))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(ex -> {
+                    ServiceException se = (ServiceException) ex;
+                    assertThat(se.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+                    assertThat(se.getErrorKey()).isEqualTo(ClientErrorKey.SCHEDULE_CONFLICT);
+                });
+    }
+
+    @Test
+    void reserve_ShouldThrowConflict_WhenTeamPlaysElsewhere() {
+        // 1. Arrange
+        load(row(1L, LEAGUE_ID, "Field 1", TEAM_A, TEAM_B, KICK_OFF));
+
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> schedulingService.reserve(game(2L, "Field 2", TEAM_C, TEAM_B, KICK_OFF)))
+                .isInstanceOf(ServiceException.class);
+    }
+
+    @Test
+    void reserve_ShouldAllowBackToBackGamesAndMovingAGame() throws ServiceException {
+        // 1. Arrange
+        load(row(1L, LEAGUE_ID, "Field 1", TEAM_A, TEAM_B, KICK_OFF));
+
+        // 2. Act
+        schedulingService.reserve(game(2L, "Field 1", TEAM_A, TEAM_C, KICK_OFF.plusMinutes(90)));
+        schedulingService.reserve(game(1L, "Field 1", TEAM_A, TEAM_B, KICK_OFF.minusMinutes(30)));
+
+        // 3. Assert
+        ScheduleAvailabilityDTO availability = schedulingService.checkAvailability(null, "Field 1", TEAM_C, TEAM_D, KICK_OFF.plusMinutes(60), 30);
+        assertThat(availability.isAvailable()).isTrue();
+    }
+
+    @Test
+    void reserveAll_ShouldBookNothing_WhenGamesInTheBatchClash() {
+        // 1. Arrange
+        load();
+
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> schedulingService.reserveAll(List.of(
+                game(1L, "Field 1", TEAM_A, TEAM_B, KICK_OFF),
+                game(2L, "Field 2", TEAM_C, TEAM_D, KICK_OFF),
+                game(3L, "Field 1", TEAM_C, TEAM_D, KICK_OFF.plusMinutes(120)),
+                game(4L, "Field 3", TEAM_A, TEAM_C, KICK_OFF.plusMinutes(30)))))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(ex -> assertThat(((ServiceException) ex).getStatus()).isEqualTo(HttpStatus.CONFLICT));
+        assertThat(schedulingService.checkAvailability(null, "Field 1", TEAM_A, TEAM_B, KICK_OFF, 90).isAvailable()).isTrue();
+        assertThat(schedulingService.checkAvailability(null, "Field 2", TEAM_C, TEAM_D, KICK_OFF, 90).isAvailable()).isTrue();
+    }
+
+    // ─── findConflicts ───────────────────────────────────────────────────────
+
+    @Test
+    void findConflicts_ShouldReportClashesPerGameWithoutBooking_WhenBatchOverlaps() throws ServiceException {
+        // 1. Arrange
+        load(row(1L, LEAGUE_ID, "Field 1", TEAM_A, TEAM_B, KICK_OFF));
+
+        // 2. Act
+        Map<Long, ScheduleConflictDTO> conflicts = schedulingService.findConflicts(List.of(
+            row(-2L, null, "Field 1", TEAM_C, TEAM_D, KICK_OFF.plusMinutes(30)),
+            row(-3L, null, "Field 2", TEAM_C, TEAM_D, KICK_OFF),
+            row(-4L, null, "Field 3", -1L, TEAM_D, KICK_OFF.plusMinutes(60))
+        ));
+
+        // 3. Assert
+        assertThat(conflicts).containsOnlyKeys(-2L, -4L);
+        assertThat(conflicts.get(-2L).getConflictingGameId()).isEqualTo(1L);
+        assertThat(conflicts.get(-4L).getConflictingGameId()).isEqualTo(-3L);
+        assertThat(conflicts.get(-4L).getTeamId()).isEqualTo(TEAM_D);
+        assertThat(schedulingService.checkAvailability(null, "Field 2", TEAM_C, TEAM_D, KICK_OFF, 90).isAvailable()).isTrue();
+    }
+
+    // ─── checkAvailability ───────────────────────────────────────────────────
+
+    @Test
+    void checkAvailability_ShouldSuggestLaterSlotsAndFreeVenues_WhenSlotIsTaken() throws ServiceException {
+        // 1. Arrange
+        load(
+            row(1L, LEAGUE_ID, "Field 1", TEAM_A, TEAM_B, KICK_OFF),
+            row(2L, LEAGUE_ID, "Field 1", TEAM_A, TEAM_B, KICK_OFF.plusMinutes(90)),
+            row(3L, OTHER_LEAGUE_ID, "Field 2", TEAM_A, TEAM_B, KICK_OFF.plusDays(1)),
+            row(4L, OTHER_LEAGUE_ID, "Field 3", TEAM_A, TEAM_B, KICK_OFF.plusMinutes(30))
+        );
+
+        // 2. Act
+        ScheduleAvailabilityDTO availability = schedulingService.checkAvailability(null, "Field 1", TEAM_C, TEAM_D, KICK_OFF, 90);
+
+        // 3. Assert
+        assertThat(availability.isAvailable()).isFalse();
+        assertThat(availability.getConflicts()).singleElement().satisfies(conflict -> {
+            assertThat(conflict.getConflictingGameId()).isEqualTo(1L);
+            assertThat(conflict.getType()).isEqualTo(ScheduleConflictType.VENUE);
+        });
+        assertThat(availability.getSuggestedStartTimes()).containsExactly(
+            KICK_OFF.plusMinutes(180), KICK_OFF.plusMinutes(270), KICK_OFF.plusMinutes(360));
+        assertThat(availability.getAlternativeAddresses()).containsExactly("Field 2");
+    }
+
+    @Test
+    void checkAvailability_ShouldThrowBadRequest_WhenDurationIsOutOfRange() {
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> schedulingService.checkAvailability(null, "Field 1", TEAM_A, TEAM_B, KICK_OFF, 500))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(ex -> assertThat(((ServiceException) ex).getErrorKey()).isEqualTo(ClientErrorKey.VALIDATION_FAILED));
+    }
+
+    // ─── onGameChanged / onLeagueChanged ─────────────────────────────────────
+
+    @Test
+    void onGameChanged_ShouldFreeSlot_WhenGameIsDeleted() throws ServiceException {
+        // 1. Arrange
+        load(row(1L, LEAGUE_ID, "Field 1", TEAM_A, TEAM_B, KICK_OFF));
+        when(schedulingRepository.findBookingRowById(1L)).thenReturn(Optional.empty());
+
+        // 2. Act
+        schedulingService.onGameChanged(new GameChangedEvent(1L, LEAGUE_ID));
+
+        // 3. Assert
+        assertThat(schedulingService.checkAvailability(null, "Field 1", TEAM_A, TEAM_B, KICK_OFF, 90).isAvailable()).isTrue();
+    }
+
+    @Test
+    void onLeagueChanged_ShouldIndexGamesAddedInBulk() throws ServiceException {
+        // 1. Arrange
+        load();
+        when(schedulingRepository.findBookingRowsByLeagueId(LEAGUE_ID)).thenReturn(List.of(
+            row(1L, LEAGUE_ID, "Field 1", TEAM_A, TEAM_B, KICK_OFF)
+        ));
+
+        // 2. Act
+        schedulingService.onLeagueChanged(new LeagueChangedEvent(LEAGUE_ID));
+
+        // 3. Assert
+        assertThat(schedulingService.checkAvailability(null, "Field 1", TEAM_C, TEAM_D, KICK_OFF, 90).isAvailable()).isFalse();
+    }
+
+    @Test
+    void onLeagueChanged_ShouldKeepBookingsOfOpenTransactions() throws ServiceException {
+        // 1. Arrange
+        load();
+        when(schedulingRepository.findBookingRowsByLeagueId(LEAGUE_ID)).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            schedulingService.reserve(game(1L, "Field 1", TEAM_A, TEAM_B, KICK_OFF));
+
+            // 2. Act
+            schedulingService.onLeagueChanged(new LeagueChangedEvent(LEAGUE_ID));
+
+            // 3. Assert
+            assertThat(schedulingService.checkAvailability(null, "Field 1", TEAM_C, TEAM_D, KICK_OFF, 90).isAvailable()).isFalse();
+        }
+        finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // ─── validateLeague ──────────────────────────────────────────────────────
+
+    @Test
+    void validateLeague_ShouldReportEachClashOnce() throws ServiceException {
+        // 1. Arrange
+        load(row(5L, OTHER_LEAGUE_ID, "Field 9", TEAM_C, TEAM_D, KICK_OFF.plusDays(1)));
+        when(leagueRepository.existsById(LEAGUE_ID)).thenReturn(true);
+        when(schedulingRepository.findBookingRowsByLeagueId(LEAGUE_ID)).thenReturn(List.of(
+            row(1L, LEAGUE_ID, "Field 1", TEAM_A, TEAM_B, KICK_OFF),
+            row(2L, LEAGUE_ID, "Field 1", TEAM_C, TEAM_D, KICK_OFF.plusMinutes(45)),
+            row(3L, LEAGUE_ID, "Field 2", TEAM_A, TEAM_C, KICK_OFF.plusDays(1))
+        ));
+
+        // 2. Act
+        LeagueScheduleValidationDTO validation = schedulingService.validateLeague(LEAGUE_ID);
+
+        // 3. Assert
+        assertThat(validation.getGamesChecked()).isEqualTo(3);
+        assertThat(validation.getConflicts()).extracting(ScheduleConflictDTO::getGameId, ScheduleConflictDTO::getConflictingGameId, ScheduleConflictDTO::getType)
+            .containsExactlyInAnyOrder(
+                tuple(1L, 2L, ScheduleConflictType.VENUE),
+                tuple(3L, 5L, ScheduleConflictType.TEAM)
+            );
+    }
+
+    @Test
+    void validateLeague_ShouldThrowNotFound_WhenLeagueDoesNotExist() {
+        // 1. Arrange
+        when(leagueRepository.existsById(LEAGUE_ID)).thenReturn(false);
+
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> schedulingService.validateLeague(LEAGUE_ID))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(ex -> assertThat(((ServiceException) ex).getStatus()).isEqualTo(HttpStatus.NOT_FOUND));
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.tournaments_backend.scoreboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameChangedEvent;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.game_stat.GameStat;
+import com.example.tournaments_backend.game_stat.GameStatEvent;
+import com.example.tournaments_backend.game_stat.GameStatRepository;
+import com.example.tournaments_backend.game_stat.GameStatSnapshot;
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerRepository;
+import com.example.tournaments_backend.team.Team;
+
+@ExtendWith(MockitoExtension.class)
+public class ScoreboardServiceTests {
+    private static final Long GAME_ID = 1L;
+    private static final Long HOME_TEAM_ID = 10L;
+    private static final Long AWAY_TEAM_ID = 20L;
+    private static final Long HOME_PLAYER_ID = 100L;
+    private static final Long AWAY_PLAYER_ID = 200L;
+
+    @Mock
+    private GameRepository gameRepository;
+    @Mock
+    private GameStatRepository gameStatRepository;
+    @Mock
+    private PlayerRepository playerRepository;
+    @InjectMocks
+    private ScoreboardService scoreboardService;
+
+    private static LocalDateTime now() {
+        return ZonedDateTime.now(ZoneId.of("America/Los_Angeles")).toLocalDateTime();
+    }
+
+    private static Game game(LocalDateTime start) {
+        Team homeTeam = new Team("Home");
+        homeTeam.setId(HOME_TEAM_ID);
+        Team awayTeam = new Team("Away");
+        awayTeam.setId(AWAY_TEAM_ID);
+        Game game = new Game(start, "123 Main St", 90);
+        game.setId(GAME_ID);
+        game.setHomeTeam(homeTeam);
+        game.setAwayTeam(awayTeam);
+        return game;
+    }
+
+    private static GameStat gameStat(Long id, GameStatType type, Long playerId) {
+        Player player = new Player();
+        player.setId(playerId);
+        GameStat gameStat = new GameStat(type, now());
+        gameStat.setId(id);
+        gameStat.setPlayer(player);
+        return gameStat;
+    }
+
+    private static GameStatSnapshot snapshot(Long id, GameStatType type, Long playerId, Long teamId) {
+        return new GameStatSnapshot(id, GAME_ID, 1L, HOME_TEAM_ID, AWAY_TEAM_ID, playerId, teamId, type, now());
+    }
+
+    private void mockGame(Game game, List<GameStat> gameStats) {
+        when(gameRepository.findById(GAME_ID)).thenReturn(Optional.of(game));
+        when(playerRepository.findIdsByTeamId(HOME_TEAM_ID)).thenReturn(List.of(HOME_PLAYER_ID));
+        when(playerRepository.findIdsByTeamId(AWAY_TEAM_ID)).thenReturn(List.of(AWAY_PLAYER_ID));
+        when(gameStatRepository.findByGame_Id(GAME_ID)).thenReturn(gameStats);
+    }
+
+    // ─── getScoreboard ───────────────────────────────────────────────────────
+
+    @Test
+    void getScoreboard_ShouldTallyStatsPerTeam_WhenGameIsLive() {
+        // 1. Arrange
+        mockGame(game(now().minusMinutes(30)), List.of(
+            gameStat(1L, GameStatType.GOAL, HOME_PLAYER_ID),
+            gameStat(2L, GameStatType.GOAL, HOME_PLAYER_ID),
+            gameStat(3L, GameStatType.YELLOW_CARD, AWAY_PLAYER_ID),
+            gameStat(4L, GameStatType.RED_CARD, AWAY_PLAYER_ID)
+        ));
+
+        // 2. Act
+        ScoreboardDTO result = scoreboardService.getScoreboard(GAME_ID);
+
+        // 3. Assert
+        assertThat(result.isLive()).isTrue();
+        assertThat(result.getHomeScore()).isEqualTo(2);
+        assertThat(result.getAwayScore()).isZero();
+        assertThat(result.getAwayYellowCards()).isEqualTo(1);
+        assertThat(result.getAwayRedCards()).isEqualTo(1);
+        assertThat(result.getEvents()).hasSize(4);
+    }
+
+    @Test
+    void getScoreboard_ShouldServeFromMemory_WhenGameIsLive() {
+        // 1. Arrange
+        mockGame(game(now().minusMinutes(30)), List.of());
+
+        // 2. Act
+        scoreboardService.getScoreboard(GAME_ID);
+        scoreboardService.getScoreboard(GAME_ID);
+
+        // 3. Assert
+        verify(gameRepository, times(1)).findById(GAME_ID);
+        verify(gameStatRepository, times(1)).findByGame_Id(GAME_ID);
+    }
+
+    @Test
+    void getScoreboard_ShouldNotCache_WhenGameHasEnded() {
+        // 1. Arrange
+        mockGame(game(now().minusDays(1)), List.of(gameStat(1L, GameStatType.GOAL, AWAY_PLAYER_ID)));
+
+        // 2. Act
+        ScoreboardDTO first = scoreboardService.getScoreboard(GAME_ID);
+        scoreboardService.getScoreboard(GAME_ID);
+
+        // 3. Assert
+        assertThat(first.isLive()).isFalse();
+        assertThat(first.getAwayScore()).isEqualTo(1);
+        verify(gameRepository, times(2)).findById(GAME_ID);
+    }
+
+    @Test
+    void getScoreboard_ShouldThrowServiceException_WhenGameDoesNotExist() {
+        // 1. Arrange
+        when(gameRepository.findById(GAME_ID)).thenReturn(Optional.empty());
+
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> scoreboardService.getScoreboard(GAME_ID))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(ex -> {
+                    ServiceException se = (ServiceException) ex;
+                    assertThat(se.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+                    assertThat(se.getErrorKey()).isEqualTo(ClientErrorKey.GAME_NOT_FOUND);
+                });
+    }
+
+    // ─── onGameStatEvent ─────────────────────────────────────────────────────
+
+    @Test
+    void onGameStatEvent_ShouldApplyCreateUpdateAndDelete_WhenBoardIsCached() {
+        // 1. Arrange
+        mockGame(game(now().minusMinutes(30)), List.of());
+        scoreboardService.getScoreboard(GAME_ID);
+        GameStatSnapshot goal = snapshot(1L, GameStatType.GOAL, HOME_PLAYER_ID, HOME_TEAM_ID);
+        GameStatSnapshot card = snapshot(1L, GameStatType.YELLOW_CARD, HOME_PLAYER_ID, HOME_TEAM_ID);
+
+        // 2. Act
+        scoreboardService.onGameStatEvent(GameStatEvent.created(goal));
+        scoreboardService.onGameStatEvent(GameStatEvent.created(goal));
+        ScoreboardDTO afterCreate = scoreboardService.getScoreboard(GAME_ID);
+        scoreboardService.onGameStatEvent(GameStatEvent.updated(goal, card));
+        ScoreboardDTO afterUpdate = scoreboardService.getScoreboard(GAME_ID);
+        scoreboardService.onGameStatEvent(GameStatEvent.deleted(card));
+        ScoreboardDTO afterDelete = scoreboardService.getScoreboard(GAME_ID);
+
+        // 3. Assert
+        assertThat(afterCreate.getHomeScore()).isEqualTo(1);
+        assertThat(afterUpdate.getHomeScore()).isZero();
+        assertThat(afterUpdate.getHomeYellowCards()).isEqualTo(1);
+        assertThat(afterDelete.getHomeYellowCards()).isZero();
+        assertThat(afterDelete.getEvents()).isEmpty();
+    }
+
+    // ─── onGameChanged ───────────────────────────────────────────────────────
+
+    @Test
+    void onGameChanged_ShouldReloadBoard_WhenGameIsEvicted() {
+        // 1. Arrange
+        mockGame(game(now().minusMinutes(30)), List.of());
+        scoreboardService.getScoreboard(GAME_ID);
+
+        // 2. Act
+        scoreboardService.onGameChanged(new GameChangedEvent(GAME_ID, 1L));
+        scoreboardService.getScoreboard(GAME_ID);
+
+        // 3. Assert
+        verify(gameRepository, times(2)).findById(GAME_ID);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.tournaments_backend.season_stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class LongIndexTests {
+
+    // ─── getOrAdd ────────────────────────────────────────────────────────────
+
+    @Test
+    void getOrAdd_newKeys_returnsIndexesInInsertionOrder() {
+        // 1. Arrange
+        LongIndex index = new LongIndex(8);
+
+        // 2. Act
+        int first = index.getOrAdd(42L);
+        int second = index.getOrAdd(-7L);
+        int again = index.getOrAdd(42L);
+
+        // 3. Assert
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+        assertThat(again).isZero();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.keyAt(1)).isEqualTo(-7L);
+    }
+
+    @Test
+    void getOrAdd_beyondExpectedSize_keepsEveryKey() {
+        // 1. Arrange
+        LongIndex index = new LongIndex(8);
+
+        // 2. Act
+        for (long key = 0; key < 10_000; key++) {
+            index.getOrAdd(key * 1_000_003L);
+        }
+
+        // 3. Assert
+        assertThat(index.size()).isEqualTo(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(index.indexOf(i * 1_000_003L)).isEqualTo(i);
+            assertThat(index.keyAt(i)).isEqualTo(i * 1_000_003L);
+        }
+    }
+
+    // ─── indexOf ─────────────────────────────────────────────────────────────
+
+    @Test
+    void indexOf_missingKey_returnsMinusOne() {
+        // 1. Arrange
+        LongIndex index = new LongIndex(8);
+        index.getOrAdd(1L);
+
+        // 2. Act & Assert
+        assertThat(index.indexOf(2L)).isEqualTo(-1);
+        assertThat(index.indexOf(0L)).isEqualTo(-1);
+    }
+}
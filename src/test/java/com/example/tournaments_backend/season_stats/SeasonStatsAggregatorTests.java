@@ -0,0 +1,161 @@
+package com.example.tournaments_backend.season_stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.tournaments_backend.game_stat.GameStatType;
+
+public class SeasonStatsAggregatorTests {
+    private static final long LEAGUE_A = 1L;
+    private static final long LEAGUE_B = 2L;
+    private static final long GAME_1 = 10L;
+    private static final long GAME_2 = 20L;
+    private static final long HOME = 100L;
+    private static final long AWAY = 200L;
+    private static final long OTHER = 300L;
+    private static final long PLAYER_A = 1000L;
+    private static final long PLAYER_B = 2000L;
+    private static final long PLAYER_C = 3000L;
+    private static final int GOAL = GameStatType.GOAL.ordinal();
+    private static final int YELLOW_CARD = GameStatType.YELLOW_CARD.ordinal();
+
+    private SeasonGames seasonGames;
+
+    @BeforeEach
+    void setUp() {
+        seasonGames = new SeasonGames(8, 8);
+        seasonGames.addGame(GAME_1, LEAGUE_A, HOME, AWAY);
+        seasonGames.addGame(GAME_2, LEAGUE_B, OTHER, HOME);
+        seasonGames.addRosterEntry(HOME, PLAYER_A);
+        seasonGames.addRosterEntry(AWAY, PLAYER_B);
+        seasonGames.addRosterEntry(OTHER, PLAYER_C);
+    }
+
+    // ─── accept ──────────────────────────────────────────────────────────────
+
+    @Test
+    void accept_countsPerPlayerTeamAndLeague() {
+        // 1. Arrange
+        SeasonStatsAggregator aggregator = new SeasonStatsAggregator(seasonGames, 8);
+
+        // 2. Act
+        aggregator.accept(PLAYER_A, GAME_1, GOAL);
+        aggregator.accept(PLAYER_A, GAME_2, GOAL);
+        aggregator.accept(PLAYER_B, GAME_1, GOAL);
+        aggregator.accept(PLAYER_B, GAME_1, YELLOW_CARD);
+        aggregator.accept(PLAYER_C, GAME_2, GOAL);
+
+        // 3. Assert
+        assertThat(aggregator.getEvents()).isEqualTo(5);
+        assertThat(aggregator.playerCount(PLAYER_A, GameStatType.GOAL)).isEqualTo(2);
+        assertThat(aggregator.playerCount(PLAYER_B, GameStatType.YELLOW_CARD)).isEqualTo(1);
+        assertThat(aggregator.teamCount(HOME, GameStatType.GOAL)).isEqualTo(2);
+        assertThat(aggregator.teamCount(AWAY, GameStatType.GOAL)).isEqualTo(1);
+        assertThat(aggregator.teamCount(OTHER, GameStatType.GOAL)).isEqualTo(1);
+        assertThat(aggregator.leagueCount(LEAGUE_A, GameStatType.GOAL)).isEqualTo(2);
+        assertThat(aggregator.leagueCount(LEAGUE_B, GameStatType.GOAL)).isEqualTo(2);
+        assertThat(aggregator.leagueCount(LEAGUE_A, GameStatType.RED_CARD)).isZero();
+    }
+
+    @Test
+    void accept_unknownGame_isSkipped() {
+        // 1. Arrange
+        SeasonStatsAggregator aggregator = new SeasonStatsAggregator(seasonGames, 8);
+
+        // 2. Act
+        aggregator.accept(PLAYER_A, 99L, GOAL);
+
+        // 3. Assert
+        assertThat(aggregator.getEvents()).isZero();
+        assertThat(aggregator.getSkipped()).isEqualTo(1);
+        assertThat(aggregator.playerCount(PLAYER_A, GameStatType.GOAL)).isZero();
+    }
+
+    @Test
+    void accept_playerOnNeitherRoster_countsPlayerAndLeagueOnly() {
+        // 1. Arrange
+        SeasonStatsAggregator aggregator = new SeasonStatsAggregator(seasonGames, 8);
+
+        // 2. Act
+        aggregator.accept(PLAYER_C, GAME_1, GOAL);
+
+        // 3. Assert
+        assertThat(aggregator.playerCount(PLAYER_C, GameStatType.GOAL)).isEqualTo(1);
+        assertThat(aggregator.leagueCount(LEAGUE_A, GameStatType.GOAL)).isEqualTo(1);
+        assertThat(aggregator.topTeams(GameStatType.GOAL, 10)).isEmpty();
+    }
+
+    @Test
+    void accept_manyPlayers_growsPastExpectedSize() {
+        // 1. Arrange
+        SeasonStatsAggregator aggregator = new SeasonStatsAggregator(seasonGames, 8);
+
+        // 2. Act
+        for (long player = 1; player <= 5_000; player++) {
+            aggregator.accept(player, GAME_1, GOAL);
+        }
+
+        // 3. Assert
+        assertThat(aggregator.getEvents()).isEqualTo(5_000);
+        assertThat(aggregator.playerCount(4_321L, GameStatType.GOAL)).isEqualTo(1);
+        assertThat(aggregator.leagueCount(LEAGUE_A, GameStatType.GOAL)).isEqualTo(5_000);
+    }
+
+    // ─── merge ───────────────────────────────────────────────────────────────
+
+    @Test
+    void merge_addsCountsOfBothPartitions() {
+        // 1. Arrange
+        SeasonStatsAggregator first = new SeasonStatsAggregator(seasonGames, 8);
+        SeasonStatsAggregator second = new SeasonStatsAggregator(seasonGames, 8);
+        first.accept(PLAYER_A, GAME_1, GOAL);
+        second.accept(PLAYER_A, GAME_2, GOAL);
+        second.accept(PLAYER_C, GAME_2, YELLOW_CARD);
+        second.accept(PLAYER_C, 99L, GOAL);
+
+        // 2. Act
+        SeasonStatsAggregator merged = first.merge(second);
+
+        // 3. Assert
+        assertThat(merged.getEvents()).isEqualTo(3);
+        assertThat(merged.getSkipped()).isEqualTo(1);
+        assertThat(merged.playerCount(PLAYER_A, GameStatType.GOAL)).isEqualTo(2);
+        assertThat(merged.playerCount(PLAYER_C, GameStatType.YELLOW_CARD)).isEqualTo(1);
+        assertThat(merged.teamCount(HOME, GameStatType.GOAL)).isEqualTo(2);
+        assertThat(merged.leagueCount(LEAGUE_B, GameStatType.YELLOW_CARD)).isEqualTo(1);
+    }
+
+    // ─── topPlayers ──────────────────────────────────────────────────────────
+
+    @Test
+    void topPlayers_ordersByCountThenId() {
+        // 1. Arrange
+        SeasonStatsAggregator aggregator = new SeasonStatsAggregator(seasonGames, 8);
+        aggregator.accept(PLAYER_C, GAME_2, GOAL);
+        aggregator.accept(PLAYER_C, GAME_2, GOAL);
+        aggregator.accept(PLAYER_B, GAME_1, GOAL);
+        aggregator.accept(PLAYER_A, GAME_1, GOAL);
+        aggregator.accept(PLAYER_A, GAME_1, YELLOW_CARD);
+
+        // 2. Act
+        List<SeasonStatEntryDTO> top = aggregator.topPlayers(GameStatType.GOAL, 2);
+
+        // 3. Assert
+        assertThat(top).extracting(SeasonStatEntryDTO::getId).containsExactly(PLAYER_C, PLAYER_A);
+        assertThat(top).extracting(SeasonStatEntryDTO::getCount).containsExactly(2, 1);
+    }
+
+    @Test
+    void topPlayers_noStatsOfType_returnsEmptyList() {
+        // 1. Arrange
+        SeasonStatsAggregator aggregator = new SeasonStatsAggregator(seasonGames, 8);
+        aggregator.accept(PLAYER_A, GAME_1, GOAL);
+
+        // 2. Act & Assert
+        assertThat(aggregator.topPlayers(GameStatType.RED_CARD, 10)).isEmpty();
+    }
+}
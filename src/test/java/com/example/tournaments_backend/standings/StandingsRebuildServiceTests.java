@@ -0,0 +1,185 @@
+package com.example.tournaments_backend.standings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.league.LeagueRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class StandingsRebuildServiceTests {
+    private static final Long LEAGUE_1 = 1L;
+    private static final Long LEAGUE_2 = 2L;
+    private static final Long TEAM_A = 10L;
+    private static final Long TEAM_B = 20L;
+    private static final Long PLAYER_A = 100L;
+
+    @Mock
+    private LeagueRepository leagueRepository;
+    @Mock
+    private StandingsRepository standingsRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StandingsService standingsService;
+    private StandingsRebuildService rebuildService;
+
+    @BeforeEach
+    void setUp() {
+        standingsService = new StandingsService(leagueRepository, standingsRepository);
+        rebuildService = new StandingsRebuildService(standingsService, standingsRepository, transactionManager, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rebuildService.shutdown();
+    }
+
+    private void mockLeague(Long leagueId, Long gameId, int goals) {
+        when(standingsRepository.findTeamRowsByLeagueId(leagueId)).thenReturn(List.of(
+            new StandingsTeamRow(TEAM_A, "Team A"),
+            new StandingsTeamRow(TEAM_B, "Team B")
+        ));
+        when(standingsRepository.findGameRowsByLeagueId(leagueId)).thenReturn(List.of(
+            new StandingsGameRow(gameId, TEAM_A, TEAM_B, LocalDateTime.now().minusDays(1))
+        ));
+        when(standingsRepository.streamStatRowsByLeagueId(leagueId)).thenAnswer(invocation ->
+            Stream.iterate(1L, id -> id + 1).limit(goals)
+                .map(id -> new StandingsStatRow(gameId * 100 + id, gameId, PLAYER_A, GameStatType.GOAL)));
+    }
+
+    // the rebuild runs on the fork-join pool, so tests wait for it with a deadline
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private void awaitFinished() throws InterruptedException {
+        awaitTrue(() -> rebuildService.getStatus().getState() != StandingsRebuildState.RUNNING);
+    }
+
+    // ─── startRebuild ────────────────────────────────────────────────────────
+
+    @Test
+    void startRebuild_ShouldRebuildEveryLeagueAndSwapThemIn() throws Exception {
+        // 1. Arrange
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(standingsRepository.findLeagueIds()).thenReturn(List.of(LEAGUE_1, LEAGUE_2));
+        when(standingsRepository.findRosterRowsByTeamIds(anyCollection())).thenReturn(List.of(new RosterRow(TEAM_A, PLAYER_A)));
+        mockLeague(LEAGUE_1, 1L, 2);
+        mockLeague(LEAGUE_2, 2L, 1);
+
+        // 2. Act
+        rebuildService.startRebuild();
+        awaitFinished();
+
+        // 3. Assert
+        StandingsRebuildStatusDTO status = rebuildService.getStatus();
+        assertThat(status.getState()).isEqualTo(StandingsRebuildState.COMPLETED);
+        assertThat(status.getLeagueCount()).isEqualTo(2);
+        assertThat(status.getLeaguesRebuilt()).isEqualTo(2);
+        assertThat(status.getStatsRead()).isEqualTo(3);
+        assertThat(status.getFinishedAt()).isNotNull();
+        LeagueStandingsDTO standings = standingsService.getStandings(LEAGUE_1);
+        assertThat(standings.getStandings().get(0).getTeamId()).isEqualTo(TEAM_A);
+        assertThat(standings.getStandings().get(0).getGoalsFor()).isEqualTo(2);
+        verify(leagueRepository, never()).existsById(any());
+    }
+
+    @Test
+    void startRebuild_ShouldReportFailure_WhenALeagueCannotBeRead() throws Exception {
+        // 1. Arrange
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(standingsRepository.findLeagueIds()).thenReturn(List.of(LEAGUE_1));
+        when(standingsRepository.findGameRowsByLeagueId(LEAGUE_1)).thenThrow(new IllegalStateException("connection reset"));
+
+        // 2. Act
+        rebuildService.startRebuild();
+        awaitFinished();
+
+        // 3. Assert
+        StandingsRebuildStatusDTO status = rebuildService.getStatus();
+        assertThat(status.getState()).isEqualTo(StandingsRebuildState.FAILED);
+        assertThat(status.getError()).isEqualTo("connection reset");
+    }
+
+    @Test
+    void startRebuild_ShouldReportFailure_WhenAnErrorIsThrown() throws Exception {
+        // 1. Arrange
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(standingsRepository.findLeagueIds()).thenThrow(new OutOfMemoryError("Java heap space"));
+
+        // 2. Act
+        rebuildService.startRebuild();
+        awaitFinished();
+
+        // 3. Assert
+        StandingsRebuildStatusDTO status = rebuildService.getStatus();
+        assertThat(status.getState()).isEqualTo(StandingsRebuildState.FAILED);
+        assertThat(status.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    void startRebuild_ShouldThrowConflict_WhenRebuildIsRunning() throws Exception {
+        // 1. Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(standingsRepository.findLeagueIds()).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+        rebuildService.startRebuild();
+
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> rebuildService.startRebuild())
+                .isInstanceOf(ServiceException.class)
+                .satisfies(ex -> {
+                    ServiceException se = (ServiceException) ex;
+                    assertThat(se.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+                    assertThat(se.getErrorKey()).isEqualTo(ClientErrorKey.STANDINGS_REBUILD_IN_PROGRESS);
+                });
+        release.countDown();
+        awaitFinished();
+        assertThat(rebuildService.getStatus().getState()).isEqualTo(StandingsRebuildState.COMPLETED);
+    }
+
+    // ─── getStatus ───────────────────────────────────────────────────────────
+
+    @Test
+    void getStatus_ShouldThrowNotFound_WhenNoRebuildWasStarted() {
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> rebuildService.getStatus())
+                .isInstanceOf(ServiceException.class)
+                .satisfies(ex -> {
+                    ServiceException se = (ServiceException) ex;
+                    assertThat(se.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+                    assertThat(se.getErrorKey()).isEqualTo(ClientErrorKey.STANDINGS_REBUILD_NOT_FOUND);
+                });
+    }
+}
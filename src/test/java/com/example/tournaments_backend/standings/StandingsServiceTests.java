@@ -0,0 +1,228 @@
+package com.example.tournaments_backend.standings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.GameChangedEvent;
+import com.example.tournaments_backend.game_stat.GameStatEvent;
+import com.example.tournaments_backend.game_stat.GameStatSnapshot;
+import com.example.tournaments_backend.game_stat.GameStatType;
+import com.example.tournaments_backend.league.LeagueChangedEvent;
+import com.example.tournaments_backend.league.LeagueRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class StandingsServiceTests {
+    private static final Long LEAGUE_ID = 1L;
+    private static final Long TEAM_A = 10L;
+    private static final Long TEAM_B = 20L;
+    private static final Long TEAM_C = 30L;
+    private static final Long PLAYER_A = 100L;
+    private static final Long PLAYER_B = 200L;
+
+    @Mock
+    private LeagueRepository leagueRepository;
+    @Mock
+    private StandingsRepository standingsRepository;
+    @InjectMocks
+    private StandingsService standingsService;
+
+    private static LocalDateTime now() {
+        return ZonedDateTime.now(ZoneId.of("America/Los_Angeles")).toLocalDateTime();
+    }
+
+    private void mockLeague(List<StandingsGameRow> games, List<StandingsStatRow> stats) {
+        when(leagueRepository.existsById(LEAGUE_ID)).thenReturn(true);
+        when(standingsRepository.findTeamRowsByLeagueId(LEAGUE_ID)).thenReturn(List.of(
+            new StandingsTeamRow(TEAM_A, "Team A"),
+            new StandingsTeamRow(TEAM_B, "Team B"),
+            new StandingsTeamRow(TEAM_C, "Team C")
+        ));
+        when(standingsRepository.findGameRowsByLeagueId(LEAGUE_ID)).thenReturn(games);
+        if (!games.isEmpty()) {
+            when(standingsRepository.findRosterRowsByTeamIds(anyCollection())).thenReturn(List.of(
+                new RosterRow(TEAM_A, PLAYER_A),
+                new RosterRow(TEAM_B, PLAYER_B)
+            ));
+            when(standingsRepository.findStatRowsByLeagueId(LEAGUE_ID)).thenReturn(stats);
+        }
+    }
+
+    private static GameStatSnapshot goal(Long id, Long gameId, Long playerId, Long teamId) {
+        return new GameStatSnapshot(id, gameId, LEAGUE_ID, TEAM_A, TEAM_B, playerId, teamId, GameStatType.GOAL, now());
+    }
+
+    private static StandingDTO row(LeagueStandingsDTO standings, Long teamId) {
+        return standings.getStandings().stream()
+                .filter(standing -> standing.getTeamId().equals(teamId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    // ─── getStandings ────────────────────────────────────────────────────────
+
+    @Test
+    void getStandings_ShouldRankTeamsByPoints_WhenGamesHaveBeenPlayed() {
+        // 1. Arrange
+        mockLeague(
+            List.of(new StandingsGameRow(1L, TEAM_A, TEAM_B, now().minusDays(1))),
+            List.of(
+                new StandingsStatRow(1L, 1L, PLAYER_A, GameStatType.GOAL),
+                new StandingsStatRow(2L, 1L, PLAYER_A, GameStatType.GOAL),
+                new StandingsStatRow(3L, 1L, PLAYER_B, GameStatType.GOAL),
+                new StandingsStatRow(4L, 1L, PLAYER_B, GameStatType.YELLOW_CARD)
+            )
+        );
+
+        // 2. Act
+        LeagueStandingsDTO result = standingsService.getStandings(LEAGUE_ID);
+
+        // 3. Assert
+        assertThat(result.getStandings()).extracting(StandingDTO::getTeamId).containsExactly(TEAM_A, TEAM_C, TEAM_B);
+        StandingDTO winner = row(result, TEAM_A);
+        assertThat(winner.getRank()).isEqualTo(1);
+        assertThat(winner.getWins()).isEqualTo(1);
+        assertThat(winner.getPoints()).isEqualTo(3);
+        assertThat(winner.getGoalDifference()).isEqualTo(1);
+        StandingDTO loser = row(result, TEAM_B);
+        assertThat(loser.getLosses()).isEqualTo(1);
+        assertThat(loser.getGoalsFor()).isEqualTo(1);
+        assertThat(loser.getYellowCards()).isEqualTo(1);
+        assertThat(row(result, TEAM_C).getPlayed()).isZero();
+    }
+
+    @Test
+    void getStandings_ShouldNotCountGame_WhenItHasNotStarted() {
+        // 1. Arrange
+        mockLeague(List.of(new StandingsGameRow(1L, TEAM_A, TEAM_B, now().plusDays(1))), List.of());
+
+        // 2. Act
+        LeagueStandingsDTO result = standingsService.getStandings(LEAGUE_ID);
+
+        // 3. Assert
+        assertThat(result.getStandings()).allSatisfy(standing -> assertThat(standing.getPlayed()).isZero());
+    }
+
+    @Test
+    void getStandings_ShouldThrowServiceException_WhenLeagueDoesNotExist() {
+        // 1. Arrange
+        when(leagueRepository.existsById(LEAGUE_ID)).thenReturn(false);
+
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> standingsService.getStandings(LEAGUE_ID))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(ex -> {
+                    ServiceException se = (ServiceException) ex;
+                    assertThat(se.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+                    assertThat(se.getErrorKey()).isEqualTo(ClientErrorKey.LEAGUE_NOT_FOUND);
+                });
+    }
+
+    // ─── onGameStatEvent ─────────────────────────────────────────────────────
+
+    @Test
+    void onGameStatEvent_ShouldUpdateTableIncrementally_WhenGoalsAreWritten() {
+        // 1. Arrange
+        mockLeague(List.of(new StandingsGameRow(1L, TEAM_A, TEAM_B, now().minusMinutes(10))), List.of());
+        LeagueStandingsDTO before = standingsService.getStandings(LEAGUE_ID);
+
+        // 2. Act
+        standingsService.onGameStatEvent(GameStatEvent.created(goal(1L, 1L, PLAYER_B, TEAM_B)));
+        standingsService.onGameStatEvent(GameStatEvent.created(goal(1L, 1L, PLAYER_B, TEAM_B)));
+        LeagueStandingsDTO afterGoal = standingsService.getStandings(LEAGUE_ID);
+        standingsService.onGameStatEvent(GameStatEvent.deleted(goal(1L, 1L, PLAYER_B, TEAM_B)));
+        LeagueStandingsDTO afterDelete = standingsService.getStandings(LEAGUE_ID);
+
+        // 3. Assert
+        assertThat(row(before, TEAM_A).getDraws()).isEqualTo(1);
+        assertThat(row(afterGoal, TEAM_B).getWins()).isEqualTo(1);
+        assertThat(row(afterGoal, TEAM_B).getGoalsFor()).isEqualTo(1);
+        assertThat(row(afterGoal, TEAM_A).getLosses()).isEqualTo(1);
+        assertThat(row(afterDelete, TEAM_A).getDraws()).isEqualTo(1);
+        assertThat(row(afterDelete, TEAM_B).getPoints()).isEqualTo(1);
+        verify(standingsRepository, times(1)).findGameRowsByLeagueId(LEAGUE_ID);
+    }
+
+    @Test
+    void onGameStatEvent_ShouldReloadStandings_WhenGameIsUnknown() {
+        // 1. Arrange
+        mockLeague(List.of(new StandingsGameRow(1L, TEAM_A, TEAM_B, now().minusMinutes(10))), List.of());
+        standingsService.getStandings(LEAGUE_ID);
+
+        // 2. Act
+        standingsService.onGameStatEvent(GameStatEvent.created(goal(1L, 2L, PLAYER_A, TEAM_A)));
+        standingsService.getStandings(LEAGUE_ID);
+
+        // 3. Assert
+        verify(standingsRepository, times(2)).findGameRowsByLeagueId(LEAGUE_ID);
+    }
+
+    // ─── onGameChanged ───────────────────────────────────────────────────────
+
+    @Test
+    void onGameChanged_ShouldReloadStandings_WhenGameInLeagueChanges() {
+        // 1. Arrange
+        mockLeague(List.of(new StandingsGameRow(1L, TEAM_A, TEAM_B, now().minusMinutes(10))), List.of());
+        standingsService.getStandings(LEAGUE_ID);
+
+        // 2. Act
+        standingsService.onGameChanged(new GameChangedEvent(1L, 99L));
+        standingsService.getStandings(LEAGUE_ID);
+
+        // 3. Assert
+        verify(standingsRepository, times(2)).findGameRowsByLeagueId(LEAGUE_ID);
+    }
+
+    // ─── replaceAll ──────────────────────────────────────────────────────────
+
+    @Test
+    void replaceAll_ShouldServeRebuiltStandings_WhenNothingChangedDuringRebuild() {
+        // 1. Arrange
+        LeagueStandings rebuilt = new LeagueStandings(LEAGUE_ID, List.of(new StandingsTeamRow(TEAM_A, "Team A")), List.of());
+        standingsService.beginRebuild();
+
+        // 2. Act
+        standingsService.replaceAll(Map.of(LEAGUE_ID, rebuilt));
+        LeagueStandingsDTO result = standingsService.getStandings(LEAGUE_ID);
+
+        // 3. Assert
+        assertThat(result.getStandings()).extracting(StandingDTO::getTeamId).containsExactly(TEAM_A);
+        verify(leagueRepository, never()).existsById(LEAGUE_ID);
+    }
+
+    @Test
+    void replaceAll_ShouldReloadLeague_WhenItChangedDuringRebuild() {
+        // 1. Arrange
+        mockLeague(List.of(), List.of());
+        LeagueStandings rebuilt = new LeagueStandings(LEAGUE_ID, List.of(new StandingsTeamRow(TEAM_A, "Team A")), List.of());
+        standingsService.beginRebuild();
+        standingsService.onLeagueChanged(new LeagueChangedEvent(LEAGUE_ID));
+
+        // 2. Act
+        standingsService.replaceAll(Map.of(LEAGUE_ID, rebuilt));
+        LeagueStandingsDTO result = standingsService.getStandings(LEAGUE_ID);
+
+        // 3. Assert
+        assertThat(result.getStandings()).extracting(StandingDTO::getTeamId).containsExactlyInAnyOrder(TEAM_A, TEAM_B, TEAM_C);
+        verify(standingsRepository, times(1)).findTeamRowsByLeagueId(LEAGUE_ID);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.tournaments_backend.swiss;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SwissPairingTests {
+
+    // plays the round with random results and returns how many times each team played
+    private static int[] play(SwissPairing pairing, SwissRound round, int teamCount, Random random) {
+        int[] games = new int[teamCount];
+        for (int game = 0; game < round.getGameCount(); game++) {
+            int home = round.homeTeam(game);
+            int away = round.awayTeam(game);
+            games[home]++;
+            games[away]++;
+            int result = random.nextInt(3);
+            pairing.addGame(home, away, result == 0 ? 3 : result == 1 ? 1 : 0, result == 2 ? 3 : result == 1 ? 1 : 0);
+        }
+        if (round.getByeTeam() != SwissPairing.NO_TEAM) {
+            games[round.getByeTeam()]++;
+            pairing.addBye(round.getByeTeam(), 3);
+        }
+        return games;
+    }
+
+    // ─── pairRound ───────────────────────────────────────────────────────────
+
+    @Test
+    void pairRound_ShouldPairEveryTeamOnceWithoutRematches() {
+        for (int teamCount : new int[] {8, 9, 200, 5_001}) {
+            // 1. Arrange
+            SwissPairing pairing = new SwissPairing(teamCount);
+            Random random = new Random(teamCount);
+
+            for (int roundNumber = 0; roundNumber < 5; roundNumber++) {
+                // 2. Act
+                SwissRound round = pairing.pairRound(Long.MAX_VALUE);
+
+                // 3. Assert
+                assertThat(round.getRematches()).isZero();
+                for (int game = 0; game < round.getGameCount(); game++) {
+                    assertThat(pairing.havePlayed(round.homeTeam(game), round.awayTeam(game))).isFalse();
+                }
+                assertThat(play(pairing, round, teamCount, random)).containsOnly(1);
+            }
+        }
+    }
+
+    @Test
+    void pairRound_ShouldPairWithinScoreGroupTopHalfAgainstBottomHalf() {
+        // 1. Arrange
+        SwissPairing pairing = new SwissPairing(8);
+        // teams 0..3 won, 4..7 lost
+        for (int team = 0; team < 4; team++) {
+            pairing.addGame(team, team + 4, 3, 0);
+        }
+
+        // 2. Act
+        SwissRound round = pairing.pairRound(Long.MAX_VALUE);
+
+        // 3. Assert
+        for (int game = 0; game < round.getGameCount(); game++) {
+            int low = Math.min(round.homeTeam(game), round.awayTeam(game));
+            int high = Math.max(round.homeTeam(game), round.awayTeam(game));
+            assertThat(high - low).isEqualTo(2);
+            assertThat(low % 4).isLessThan(2);
+        }
+    }
+
+    @Test
+    void pairRound_ShouldBacktrack_WhenGreedyPairingRunsIntoRematch() {
+        // 1. Arrange
+        SwissPairing pairing = new SwissPairing(4);
+        // 1 and 3 met in a game that gave no points, so all four share a score group
+        // and greedy would pair 0-2 and then 1-3
+        pairing.addGame(1, 3, 0, 0);
+
+        // 2. Act
+        SwissRound round = pairing.pairRound(Long.MAX_VALUE);
+
+        // 3. Assert
+        assertThat(round.getRematches()).isZero();
+        for (int game = 0; game < round.getGameCount(); game++) {
+            assertThat(pairing.havePlayed(round.homeTeam(game), round.awayTeam(game))).isFalse();
+        }
+    }
+
+    @Test
+    void pairRound_ShouldAllowRematches_WhenNoOtherPairingExists() {
+        // 1. Arrange
+        SwissPairing pairing = new SwissPairing(2);
+        pairing.addGame(0, 1, 3, 0);
+
+        // 2. Act
+        SwissRound round = pairing.pairRound(Long.MAX_VALUE);
+
+        // 3. Assert
+        assertThat(round.getGameCount()).isEqualTo(1);
+        assertThat(round.getRematches()).isEqualTo(1);
+    }
+
+    @Test
+    void pairRound_ShouldGiveByeToLowestRankedTeamWithoutBye() {
+        // 1. Arrange
+        SwissPairing pairing = new SwissPairing(5);
+        pairing.addGame(0, 1, 3, 0);
+        pairing.addGame(2, 3, 3, 0);
+        pairing.addBye(4, 3);
+
+        // 2. Act
+        SwissRound round = pairing.pairRound(Long.MAX_VALUE);
+
+        // 3. Assert
+        assertThat(round.getByeTeam()).isEqualTo(3);
+        assertThat(round.getGameCount()).isEqualTo(2);
+    }
+
+    @Test
+    void pairRound_ShouldGiveHomeToTeamWithFewerHomeGames() {
+        // 1. Arrange
+        SwissPairing pairing = new SwissPairing(4);
+        pairing.addGame(0, 2, 3, 0);
+        pairing.addGame(3, 1, 0, 3);
+
+        // 2. Act
+        SwissRound round = pairing.pairRound(Long.MAX_VALUE);
+
+        // 3. Assert
+        for (int game = 0; game < round.getGameCount(); game++) {
+            // 0 and 3 were at home, 1 and 2 away
+            assertThat(round.homeTeam(game)).isIn(1, 2);
+        }
+    }
+
+    @Test
+    void constructor_ShouldThrow_WhenFewerThanTwoTeams() {
+        // 2. Act & 3. Assert
+        assertThatThrownBy(() -> new SwissPairing(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.tournaments_backend.swiss;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.tournaments_backend.AbstractIntegrationTest;
+import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.exception.ClientErrorKey;
+import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.game.Game;
+import com.example.tournaments_backend.game.GameRepository;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.league.LeagueRepository;
+import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerRepository;
+import com.example.tournaments_backend.player.Position;
+import com.example.tournaments_backend.team.Team;
+import com.example.tournaments_backend.team.TeamRepository;
+
+import jakarta.persistence.EntityManager;
+
+@Transactional
+public class SwissServiceIntegrationTests extends AbstractIntegrationTest {
+
+    @Autowired
+    private SwissService swissService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private LeagueRepository leagueRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private League buildLeague(int teamCount) {
+        Player owner = playerRepository.save(
+            new Player("John", "Doe", "swiss@test.com", "password", AppUserRole.PLAYER, Position.STRIKER)
+        );
+        League league = leagueRepository.save(League.builder()
+                .name("Swiss Open")
+                .startDate(LocalDate.of(2025, 9, 6))
+                .durationInWeeks(8)
+                .build());
+        for (int i = 0; i < teamCount; i++) {
+            Team team = new Team("Swiss Team " + i);
+            team.setOwner(owner);
+            league.addTeam(teamRepository.save(team));
+        }
+        entityManager.flush();
+        return league;
+    }
+
+    private SwissRoundRequest request(LocalDate day) {
+        return new SwissRoundRequest(LocalDateTime.of(day, LocalTime.of(10, 0)), List.of("Field A", "Field B"), 90, 30);
+    }
+
+    // ─── pairNextRound ───────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void pairNextRound_ShouldCreateOneGamePerPairing() throws ServiceException {
+        League league = buildLeague(6);
+
+        SwissRoundDTO round = swissService.pairNextRound(league.getId(), request(LocalDate.of(2030, 9, 6)));
+        entityManager.flush();
+
+        assertThat(round.getRound()).isEqualTo(1);
+        assertThat(round.getByeTeamId()).isNull();
+        assertThat(round.getRematches()).isZero();
+        assertThat(round.getPairings()).hasSize(3);
+        List<Game> games = gameRepository.findByLeagueId(league.getId());
+        assertThat(games).hasSize(3);
+        // three games on two fields, so the third kicks off after a game and a break
+        assertThat(round.getPairings()).extracting(SwissPairingDTO::getGameDateTime)
+            .containsExactly(LocalDateTime.of(2030, 9, 6, 10, 0), LocalDateTime.of(2030, 9, 6, 10, 0), LocalDateTime.of(2030, 9, 6, 12, 0));
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void pairNextRound_ShouldAvoidRematchesAndRotateBye_WhenEarlierRoundHasEnded() throws ServiceException {
+        League league = buildLeague(5);
+        SwissRoundDTO first = swissService.pairNextRound(league.getId(), request(LocalDate.now().minusDays(7)));
+        entityManager.flush();
+
+        SwissRoundDTO second = swissService.pairNextRound(league.getId(), request(LocalDate.now().plusDays(7)));
+        entityManager.flush();
+
+        assertThat(second.getRound()).isEqualTo(2);
+        assertThat(second.getByeTeamId()).isNotNull().isNotEqualTo(first.getByeTeamId());
+        Set<String> pairs = new HashSet<>();
+        for (SwissPairingDTO pairing : first.getPairings()) {
+            pairs.add(Math.min(pairing.getHomeTeamId(), pairing.getAwayTeamId()) + "-" + Math.max(pairing.getHomeTeamId(), pairing.getAwayTeamId()));
+        }
+        for (SwissPairingDTO pairing : second.getPairings()) {
+            assertThat(pairs.add(Math.min(pairing.getHomeTeamId(), pairing.getAwayTeamId()) + "-" + Math.max(pairing.getHomeTeamId(), pairing.getAwayTeamId()))).isTrue();
+        }
+    }
+
+    @Test
+    void pairNextRound_ShouldThrowConflict_WhenGameHasNotEnded() throws ServiceException {
+        League league = buildLeague(4);
+        swissService.pairNextRound(league.getId(), request(LocalDate.now().plusDays(7)));
+        entityManager.flush();
+
+        ServiceException ex = assertThrows(ServiceException.class, () ->
+            swissService.pairNextRound(league.getId(), request(LocalDate.now().plusDays(14))));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.SWISS_ROUND_IN_PROGRESS);
+    }
+
+    @Test
+    void pairNextRound_ShouldThrowNotFound_WhenLeagueDoesNotExist() {
+        ServiceException ex = assertThrows(ServiceException.class, () ->
+            swissService.pairNextRound(999_999L, request(LocalDate.now().plusDays(7))));
+
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(ex.getErrorKey()).isEqualTo(ClientErrorKey.LEAGUE_NOT_FOUND);
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,13 +15,17 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.tournaments_backend.AbstractIntegrationTest;
+import com.example.tournaments_backend.QueryBudget;
+import com.example.tournaments_backend.StatementCounter;
 import com.example.tournaments_backend.app_user.AppUserRole;
 import com.example.tournaments_backend.exception.ClientErrorKey;
 import com.example.tournaments_backend.exception.ServiceException;
 import com.example.tournaments_backend.player.Player;
 import com.example.tournaments_backend.player.PlayerRepository;
 import com.example.tournaments_backend.player.Position;
+import com.example.tournaments_backend.team_invite.TeamInvite;
 import com.example.tournaments_backend.team_invite.TeamInviteRepository;
+import com.example.tournaments_backend.team_invite.TeamInviteStatus;
 
 @Transactional
 public class TeamServiceIntegrationTests extends AbstractIntegrationTest {
@@ -180,4 +185,48 @@ public class TeamServiceIntegrationTests extends AbstractIntegrationTest {
 
         assertThat(result.getPlayerDTOs()).noneMatch(p -> p.getId().equals(owner.getId()));
     }
+
+    // ─── getTeams ─────────────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void getTeams_ShouldUseBoundedNumberOfStatements_WhenUserIsOnManyTeams(StatementCounter statementCounter) {
+        Player user = buildPlayer("user@test.com");
+        Player owner = buildPlayer("owner@test.com");
+        for (int i = 0; i < 30; i++) {
+            Team team = new Team("Team " + i);
+            team.setOwner(user);
+            team.addPlayer(user);
+            Team savedTeam = teamRepository.save(team);
+            Player invitee = buildPlayer("invitee" + i + "@test.com");
+            TeamInvite invite = new TeamInvite();
+            invite.setTeam(savedTeam);
+            invite.setInvitee(invitee);
+            invite.setStatus(TeamInviteStatus.PENDING);
+            invite.setCreatedAt(LocalDateTime.now());
+            teamInviteRepository.save(invite);
+        }
+        for (int i = 0; i < 5; i++) {
+            Team team = new Team("Other Team " + i);
+            team.setOwner(owner);
+            Team savedTeam = teamRepository.save(team);
+            TeamInvite invite = new TeamInvite();
+            invite.setTeam(savedTeam);
+            invite.setInvitee(user);
+            invite.setStatus(TeamInviteStatus.PENDING);
+            invite.setCreatedAt(LocalDateTime.now());
+            teamInviteRepository.save(invite);
+        }
+        var auth = new UsernamePasswordAuthenticationToken(user.getEmail(), null);
+
+        // user, page of team ids, user's invites (player + invites), then teams, players, leagues and invites
+        GetTeamsResponse result = statementCounter.measure(
+            QueryBudget.statements(8).collectionFetches(0),
+            () -> teamService.getTeams(auth, 50, Optional.empty())
+        );
+
+        assertThat(result.getTeams()).hasSize(30);
+        assertThat(result.getTeams()).allSatisfy(team -> assertThat(team.getInvitees()).hasSize(1));
+        assertThat(result.getTeamsInvitedTo()).hasSize(5);
+    }
 }
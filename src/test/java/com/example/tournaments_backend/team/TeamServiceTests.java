@@ -3,8 +3,10 @@ package com.example.tournaments_backend.team;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -16,20 +18,29 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 
-import com.example.tournaments_backend.app_user.AppUser;
-import com.example.tournaments_backend.app_user.AppUserService;
+import com.example.tournaments_backend.app_user.AppUserPrincipal;
+import com.example.tournaments_backend.app_user.AppUserPrincipalService;
+import com.example.tournaments_backend.app_user.AppUserRole;
 import com.example.tournaments_backend.exception.ClientErrorKey;
 import com.example.tournaments_backend.exception.ServiceException;
+import com.example.tournaments_backend.league.League;
+import com.example.tournaments_backend.league.LeagueChangedEvent;
 import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerDTO;
 import com.example.tournaments_backend.player.PlayerService;
+import com.example.tournaments_backend.player.Position;
 import com.example.tournaments_backend.team_invite.TeamInvite;
+import com.example.tournaments_backend.team_invite.TeamInviteRow;
 import com.example.tournaments_backend.team_invite.TeamInviteService;
 import com.example.tournaments_backend.team_invite.TeamInviteStatus;
 
@@ -39,11 +50,13 @@ public class TeamServiceTests {
     @Mock
     private TeamRepository teamRepository;
     @Mock
-    private AppUserService appUserService;
+    private AppUserPrincipalService appUserPrincipalService;
     @Mock
     private PlayerService playerService;
     @Mock
     private TeamInviteService teamInviteService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private TeamService teamService;
 
@@ -164,6 +177,30 @@ public class TeamServiceTests {
         verify(teamRepository).save(oldTeam);
     }
 
+    @Test
+    @SuppressWarnings("null")
+    void updateTeam_ShouldPublishLeagueChanged_WhenTeamIsRenamed() {
+        // 1. Arrange
+        Team oldTeam = new Team("Old Name");
+        League league = League.builder().name("League").build();
+        league.setId(7L);
+        oldTeam.getLeagues().add(league);
+        TeamRequest updateRequest = new TeamRequest("New Name", null, List.of(), LocalDateTime.now());
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(oldTeam));
+        when(teamRepository.save(any(Team.class))).thenReturn(oldTeam);
+        when(teamRepository.findPlayedLeagueIdsByTeamId(1L)).thenReturn(List.of(3L, 7L));
+
+        // 2. Act
+        teamService.updateTeam(1L, updateRequest);
+
+        // 3. Assert
+        ArgumentCaptor<LeagueChangedEvent> events = ArgumentCaptor.forClass(LeagueChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(LeagueChangedEvent::getLeagueId)
+                .containsExactly(3L, 7L);
+    }
+
     @Test
     void updateTeam_ShouldThrowServiceException_WhenTeamDoesNotExist() {
         // 1. Arrange
@@ -281,21 +318,13 @@ public class TeamServiceTests {
         String email = "player@test.com";
         Authentication auth = new UsernamePasswordAuthenticationToken(email, null);
 
-        AppUser mockUser = mock(AppUser.class);
-        when(mockUser.getId()).thenReturn(1L);
-        when(mockUser.isAdmin()).thenReturn(false);
-        when(appUserService.getAppUserByEmail(email)).thenReturn(mockUser);
-
-        Player mockOwner = mock(Player.class);
-        when(mockOwner.getId()).thenReturn(2L);
-
-        Team myTeam = new Team("My Team");
-        myTeam.setOwner(mockOwner);
+        AppUserPrincipal principal = new AppUserPrincipal(1L, email, AppUserRole.PLAYER, true);
+        when(appUserPrincipalService.getPrincipal(auth)).thenReturn(principal);
 
         Team invitedTeam = new Team("Invited Team");
-        invitedTeam.setOwner(mockOwner);
+        invitedTeam.setId(20L);
 
-        when(teamRepository.findByPlayers_Id(1L)).thenReturn(List.of(myTeam));
+        when(teamRepository.findIdsByPlayerIdAfter(eq(1L), eq(0L), any(Pageable.class))).thenReturn(List.of(10L));
 
         Player mockInvitee = mock(Player.class);
         TeamInvite invite = new TeamInvite();
@@ -304,15 +333,24 @@ public class TeamServiceTests {
         invite.setInvitee(mockInvitee);
 
         when(teamInviteService.getAllInvitesByPlayerId(1L, auth)).thenReturn(List.of(invite));
-        when(teamRepository.findAllById(any())).thenReturn(List.of(invitedTeam));
-        when(teamInviteService.getAllTeamInvites(any())).thenReturn(List.of());
-        when(playerService.getAllPlayersByIds(any())).thenReturn(List.of());
+        when(teamRepository.findRowsByIds(Set.of(10L, 20L))).thenReturn(List.of(
+            new TeamRow(10L, "My Team", null, 2L),
+            new TeamRow(20L, "Invited Team", null, 2L)
+        ));
+        when(teamRepository.findMemberRowsByTeamIds(any())).thenReturn(List.of());
+        when(teamRepository.findLeagueRowsByTeamIds(any())).thenReturn(List.of());
+        when(teamInviteService.getAllTeamInviteRows(any())).thenReturn(List.of(
+            new TeamInviteRow(5L, 20L, TeamInviteStatus.PENDING, LocalDateTime.now(), 1L, "John", "Doe", email, AppUserRole.PLAYER, Position.STRIKER)
+        ));
 
         // 2. Act
-        GetTeamsResponse result = teamService.getTeams(auth);
+        GetTeamsResponse result = teamService.getTeams(auth, 10, Optional.empty());
 
         // 3. Assert
-        assertThat(result.getTeams()).hasSize(1);
-        assertThat(result.getTeamsInvitedTo()).hasSize(1);
+        assertThat(result.getTeams()).extracting(TeamDTO::getId).containsExactly(10L);
+        assertThat(result.getTeamsInvitedTo()).extracting(TeamDTO::getId).containsExactly(20L);
+        assertThat(result.getTeamsInvitedTo().get(0).getInvitees()).extracting(PlayerDTO::getId).containsExactly(1L);
+        assertThat(result.getNextCursor()).isNull();
+        verify(playerService, never()).getAllPlayersByIds(any());
     }
 }
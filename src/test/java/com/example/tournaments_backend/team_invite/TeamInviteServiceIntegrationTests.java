@@ -0,0 +1,102 @@
+package com.example.tournaments_backend.team_invite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.tournaments_backend.AbstractIntegrationTest;
+import com.example.tournaments_backend.QueryBudget;
+import com.example.tournaments_backend.StatementCounter;
+import com.example.tournaments_backend.app_user.AppUserRole;
+import com.example.tournaments_backend.player.Player;
+import com.example.tournaments_backend.player.PlayerRepository;
+import com.example.tournaments_backend.player.Position;
+import com.example.tournaments_backend.team.Team;
+import com.example.tournaments_backend.team.TeamRepository;
+
+@Transactional
+public class TeamInviteServiceIntegrationTests extends AbstractIntegrationTest {
+
+    @Autowired
+    private TeamInviteService teamInviteService;
+
+    @Autowired
+    private TeamInviteRepository teamInviteRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    private Player buildPlayer(String email) {
+        return playerRepository.save(
+            new Player("John", "Doe", email, "password", AppUserRole.PLAYER, Position.STRIKER)
+        );
+    }
+
+    // ─── addAll ───────────────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void addAll_ShouldInsertInvitesInBatches_WhenInvitingManyPlayers(StatementCounter statementCounter) {
+        Player owner = buildPlayer("owner@test.com");
+        Team team = new Team("Team A");
+        team.setOwner(owner);
+        Team savedTeam = teamRepository.save(team);
+        List<TeamInvite> invites = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            TeamInvite invite = new TeamInvite();
+            invite.setTeam(savedTeam);
+            invite.setInvitee(buildPlayer("invitee" + i + "@test.com"));
+            invite.setStatus(TeamInviteStatus.PENDING);
+            invite.setCreatedAt(LocalDateTime.now());
+            invites.add(invite);
+        }
+
+        // at most two id blocks from the sequence, then one batched insert
+        List<TeamInvite> result = statementCounter.measure(
+            QueryBudget.statements(3),
+            () -> teamInviteService.addAll(invites)
+        );
+
+        assertThat(result).hasSize(30).allSatisfy(invite -> assertThat(invite.getId()).isNotNull());
+    }
+
+    // ─── accepInvite ──────────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("null")
+    void accepInvite_ShouldUseBoundedNumberOfQueries_WhenInviteIsPending(StatementCounter statementCounter) {
+        Player owner = buildPlayer("owner@test.com");
+        Player invitee = buildPlayer("invitee@test.com");
+        Team team = new Team("Team A");
+        team.setOwner(owner);
+        team.addPlayer(owner);
+        team = teamRepository.save(team);
+        TeamInvite invite = new TeamInvite();
+        invite.setTeam(team);
+        invite.setInvitee(invitee);
+        invite.setStatus(TeamInviteStatus.PENDING);
+        invite.setCreatedAt(LocalDateTime.now());
+        Long inviteId = teamInviteRepository.save(invite).getId();
+        var auth = new UsernamePasswordAuthenticationToken(invitee.getEmail(), null);
+
+        // invite, invitee and team, their players/teams/leagues collections,
+        // then the invite update and the team_player insert
+        AcceptTeamInviteResponse result = statementCounter.measure(
+            QueryBudget.statements(8).entityLoads(5).collectionFetches(3),
+            () -> teamInviteService.accepInvite(inviteId, auth)
+        );
+
+        assertThat(result.getTeamInvite().getStatus()).isEqualTo(TeamInviteStatus.ACCEPTED);
+        assertThat(result.getUpdatedTeam().getPlayerDTOs()).anyMatch(p -> p.getId().equals(invitee.getId()));
+    }
+}